@@ -0,0 +1,170 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.AlmacenDiario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.PoliticaSincronizacion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Carga concurrente sobre el servicio de solicitudes con hilos de plataforma y con hilos virtuales.
+ *
+ * Cada invocación es una ráfaga de {@code concurrencia} peticiones simultáneas; cada petición
+ * registra, clasifica, asigna y atiende una solicitud, como una secuencia de llamadas HTTP.
+ * PLATAFORMA usa un pool fijo de {@value #HILOS_PLATAFORMA} hilos, el máximo por defecto de
+ * Tomcat; VIRTUALES usa un hilo virtual por petición, como con
+ * {@code spring.threads.virtual.enabled=true}. Con el diario cada guardado se sincroniza a disco
+ * (SIEMPRE), que es la espera de E/S que los hilos virtuales pueden solapar.
+ *
+ * Throughput da ráfagas por segundo (peticiones por segundo = ráfagas x concurrencia) y
+ * SampleTime la distribución del tiempo de una ráfaga: su p99 acota por arriba el p99 de
+ * latencia de una petición individual.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EjecucionHilosBenchmark {
+
+    public enum Hilos { PLATAFORMA, VIRTUALES }
+
+    public enum Persistencia { MEMORIA, DIARIO }
+
+    private static final int HILOS_PLATAFORMA = 200;
+    /** Peticiones simultáneas por docente, por debajo de su límite de solicitudes en atención */
+    private static final int PETICIONES_POR_DOCENTE = 5;
+
+    @Param({"PLATAFORMA", "VIRTUALES"})
+    Hilos hilos;
+
+    @Param({"MEMORIA", "DIARIO"})
+    Persistencia persistencia;
+
+    @Param({"1000", "10000"})
+    int concurrencia;
+
+    private ExecutorService ejecutor;
+    private Path directorio;
+    private AlmacenDiario almacen;
+    private SolicitudApplicationService service;
+    private UUID coordinador;
+    private UUID[] solicitantes;
+    private UUID[] docentes;
+    private Future<?>[] pendientes;
+
+    @Setup(Level.Trial)
+    public void crearEjecutor() {
+        ejecutor = hilos == Hilos.PLATAFORMA
+                ? Executors.newFixedThreadPool(HILOS_PLATAFORMA)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        pendientes = new Future<?>[concurrencia];
+    }
+
+    /** Repositorios nuevos en cada iteración para que su crecimiento no domine la medición. */
+    @Setup(Level.Iteration)
+    public void preparar() throws IOException {
+        SolicitudRepository solicitudRepository;
+        UsuarioRepository usuarioRepository;
+        if (persistencia == Persistencia.DIARIO) {
+            directorio = Files.createTempDirectory("ejecucion-hilos");
+            almacen = AlmacenDiario.abrir(directorio, 64 * 1024 * 1024, PoliticaSincronizacion.SIEMPRE,
+                    Duration.ofMillis(100), Duration.ZERO);
+            solicitudRepository = almacen.solicitudes();
+            usuarioRepository = almacen.usuarios();
+        } else {
+            solicitudRepository = new InMemorySolicitudRepository();
+            usuarioRepository = new InMemoryUsuarioRepository();
+        }
+        service = new SolicitudApplicationService(solicitudRepository, usuarioRepository,
+                new SolicitudDomainService(), new RegistroCargaTrabajo(solicitudRepository, usuarioRepository), new MetricasSolicitudes(true));
+
+        // Los usuarios se guardan en una sola escritura para no sincronizar el diario una vez por usuario
+        List<Usuario> usuarios = new ArrayList<>();
+        Usuario coordinadora = Usuario.crear("Coordinadora", Rol.COORDINADOR);
+        usuarios.add(coordinadora);
+        coordinador = coordinadora.id().value();
+        solicitantes = new UUID[concurrencia];
+        for (int i = 0; i < concurrencia; i++) {
+            Usuario estudiante = Usuario.crear("Estudiante " + i, Rol.ESTUDIANTE);
+            usuarios.add(estudiante);
+            solicitantes[i] = estudiante.id().value();
+        }
+        docentes = new UUID[concurrencia / PETICIONES_POR_DOCENTE];
+        for (int i = 0; i < docentes.length; i++) {
+            Usuario docente = Usuario.crear("Docente " + i, Rol.DOCENTE);
+            usuarios.add(docente);
+            docentes[i] = docente.id().value();
+        }
+        usuarioRepository.saveAll(usuarios);
+    }
+
+    @Benchmark
+    public int rafaga() throws Exception {
+        for (int i = 0; i < concurrencia; i++) {
+            UUID solicitante = solicitantes[i];
+            UUID docente = docentes[i / PETICIONES_POR_DOCENTE];
+            pendientes[i] = ejecutor.submit(() -> atender(solicitante, docente));
+        }
+        for (Future<?> pendiente : pendientes) {
+            pendiente.get();
+        }
+        return concurrencia;
+    }
+
+    @TearDown(Level.Iteration)
+    public void cerrarAlmacen() throws IOException {
+        if (almacen == null) return;
+        almacen.close();
+        almacen = null;
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrarEjecutor() {
+        ejecutor.close();
+    }
+
+    private void atender(UUID solicitante, UUID docente) {
+        UUID id = service.crearSolicitud(solicitante, "Estudiante", CanalOrigen.CSU,
+                "Solicitud de cupo en periodo de matrícula").id().value();
+        service.clasificarSolicitud(id, TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+        service.asignarResponsable(id, docente, coordinador);
+        service.marcarAtendida(id, docente, "Cupo asignado");
+    }
+}
@@ -0,0 +1,105 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rutas de {@link SolicitudApplicationService} sobre los repositorios en memoria.
+ *
+ * Cada invocación lleva solicitudes desde el registro hasta la atención, lo que devuelve los
+ * cupos de pendientes y de atención: los límites de negocio nunca se alcanzan y el costo medido
+ * es el de las búsquedas, validaciones y guardados. Los repositorios se vacían en cada iteración
+ * para que su crecimiento no domine la medición.
+ *
+ * - cicloIndividual: una llamada al servicio por transición, como los endpoints individuales.
+ * - cicloEnLote: {@value #LOTE} solicitudes registradas y triadas con los endpoints por lotes.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SolicitudApplicationServiceBenchmark {
+
+    private static final int LOTE = 50;
+    private static final int DOCENTES = 5;
+
+    private SolicitudApplicationService service;
+    private UUID coordinador;
+    private UUID solicitante;
+    private UUID[] docentes;
+    private List<NuevaSolicitud> nuevas;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        InMemorySolicitudRepository solicitudRepository = new InMemorySolicitudRepository();
+        InMemoryUsuarioRepository usuarioRepository = new InMemoryUsuarioRepository();
+        service = new SolicitudApplicationService(solicitudRepository, usuarioRepository,
+                new SolicitudDomainService(), new RegistroCargaTrabajo(solicitudRepository, usuarioRepository), new MetricasSolicitudes(true));
+
+        coordinador = usuarioRepository.save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+        solicitante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE)).id().value();
+        docentes = new UUID[DOCENTES];
+        for (int i = 0; i < DOCENTES; i++) {
+            docentes[i] = usuarioRepository.save(Usuario.crear("Docente " + i, Rol.DOCENTE)).id().value();
+        }
+        nuevas = new ArrayList<>(LOTE);
+        for (int i = 0; i < LOTE; i++) {
+            UUID estudiante = usuarioRepository.save(Usuario.crear("Estudiante " + i, Rol.ESTUDIANTE)).id().value();
+            nuevas.add(new NuevaSolicitud(estudiante, "Estudiante " + i, CanalOrigen.CSU,
+                    "Solicitud de cupo en periodo de matrícula"));
+        }
+    }
+
+    @Benchmark
+    public Solicitud cicloIndividual() {
+        UUID id = service.crearSolicitud(solicitante, "Estudiante", CanalOrigen.SAC,
+                "Solicitud de homologación de asignaturas").id().value();
+        service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador);
+        service.priorizarSolicitud(id, Prioridad.ALTA, "Cierre de semestre cercano", coordinador);
+        service.asignarResponsable(id, docentes[0], coordinador);
+        return service.marcarAtendida(id, docentes[0], "Homologación revisada");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public Solicitud cicloEnLote() {
+        List<ComandoTransicion> comandos = new ArrayList<>(LOTE * 3);
+        List<ResultadoLote<Solicitud>> creadas = service.crearSolicitudesEnLote(nuevas);
+        for (int i = 0; i < creadas.size(); i++) {
+            UUID id = creadas.get(i).valor().id().value();
+            comandos.add(new ComandoTransicion.Clasificar(id, TipoSolicitud.SOLICITUD_CUPOS));
+            comandos.add(new ComandoTransicion.Priorizar(id, Prioridad.MEDIA, "Periodo de matrícula en curso"));
+            comandos.add(new ComandoTransicion.AsignarResponsable(id, docentes[i % DOCENTES]));
+        }
+        service.aplicarTransicionesEnLote(coordinador, comandos);
+
+        Solicitud ultima = null;
+        for (int i = 0; i < creadas.size(); i++) {
+            ultima = service.marcarAtendida(creadas.get(i).valor().id().value(), docentes[i % DOCENTES], "Cupo asignado");
+        }
+        return ultima;
+    }
+}
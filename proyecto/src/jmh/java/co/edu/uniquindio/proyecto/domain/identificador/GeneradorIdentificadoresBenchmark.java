@@ -0,0 +1,75 @@
+package co.edu.uniquindio.proyecto.domain.identificador;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el generador actual ({@link GeneradorIdentificadores#ALEATORIO}) contra {@link GeneradorUuidV7}.
+ *
+ * - generar: rendimiento con varios hilos pidiendo identificadores a la vez.
+ * - insertarEnIndice: costo de insertar identificadores nuevos en un índice ordenado como los de
+ *   {@code InMemorySolicitudRepository}, que ya contiene {@value #PRECARGADOS} identificadores.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+public class GeneradorIdentificadoresBenchmark {
+
+    public enum Generador { ALEATORIO, UUID_V7 }
+
+    private static final int PRECARGADOS = 100_000;
+    private static final int INSERCIONES = 1_000;
+
+    @Param({"ALEATORIO", "UUID_V7"})
+    Generador tipo;
+
+    private GeneradorIdentificadores generador;
+    private NavigableSet<SolicitudId> indice;
+
+    @Setup(Level.Trial)
+    public void crearGenerador() {
+        generador = tipo == Generador.ALEATORIO ? GeneradorIdentificadores.ALEATORIO : new GeneradorUuidV7();
+    }
+
+    @Setup(Level.Iteration)
+    public void precargarIndice() {
+        indice = new ConcurrentSkipListSet<>();
+        for (int i = 0; i < PRECARGADOS; i++) {
+            indice.add(new SolicitudId(generador.siguiente()));
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public UUID generar() {
+        return generador.siguiente();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(INSERCIONES)
+    public int insertarEnIndice() {
+        for (int i = 0; i < INSERCIONES; i++) {
+            indice.add(new SolicitudId(generador.siguiente()));
+        }
+        return indice.size();
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.uniquindio.proyecto.domain.service;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validaciones de {@link SolicitudDomainService} según la cantidad de solicitudes existentes.
+ *
+ * Las variantes que reciben la lista recorren todas las solicitudes del sistema; las que reciben
+ * el conteo son las que usa la capa de aplicación y sirven de referencia de costo constante.
+ * El solicitante y el docente medidos tienen solicitudes pendientes pero sin llegar a su límite,
+ * de modo que la validación siempre pasa.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolicitudDomainServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int existentes;
+
+    private final SolicitudDomainService domainService = new SolicitudDomainService();
+    private List<Solicitud> solicitudes;
+    private Usuario solicitante;
+    private Usuario docente;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        solicitante = Usuario.crear("Estudiante", Rol.ESTUDIANTE);
+        docente = Usuario.crear("Docente", Rol.DOCENTE);
+        Usuario otroDocente = Usuario.crear("Otro docente", Rol.DOCENTE);
+        UsuarioReferencia coordinador = new UsuarioReferencia(Usuario.crear("Coordinadora", Rol.COORDINADOR).id().value(), "Coordinadora");
+        UsuarioReferencia solicitanteRef = new UsuarioReferencia(solicitante.id().value(), solicitante.nombre());
+        UsuarioReferencia otro = new UsuarioReferencia(Usuario.crear("Otro", Rol.ESTUDIANTE).id().value(), "Otro");
+        DescripcionSolicitud descripcion = new DescripcionSolicitud("Solicitud existente para la medición");
+
+        solicitudes = new ArrayList<>(existentes);
+        for (int i = 0; i < existentes; i++) {
+            // Tres solicitudes pendientes del solicitante medido y tres en atención del docente medido
+            Solicitud solicitud = Solicitud.crear(i < 3 ? solicitanteRef : otro, CanalOrigen.CSU, descripcion);
+            if (i % 2 == 0) {
+                solicitud.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+                solicitud.asignarResponsable(i < 6 ? docente : otroDocente, coordinador);
+            }
+            solicitudes.add(solicitud);
+        }
+    }
+
+    @Benchmark
+    public Usuario validarCrearSolicitudRecorriendo() {
+        domainService.validarCrearSolicitud(solicitante, solicitudes);
+        return solicitante;
+    }
+
+    @Benchmark
+    public Usuario validarCrearSolicitudConConteo() {
+        domainService.validarCrearSolicitud(solicitante, 3L);
+        return solicitante;
+    }
+
+    @Benchmark
+    public Usuario validarAsignarResponsableRecorriendo() {
+        domainService.validarAsignarResponsable(docente, solicitudes);
+        return docente;
+    }
+
+    @Benchmark
+    public Usuario validarAsignarResponsableConConteo() {
+        domainService.validarAsignarResponsable(docente, 3L);
+        return docente;
+    }
+}
@@ -0,0 +1,140 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.application.NuevaSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.CrearSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudDetalleResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudResponse;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura y escritura JSON de la API: camino anterior contra DTOs tipados.
+ *
+ * - leerMapa / leerDto: cuerpo de creación de solicitud leído como {@code Map} y convertido a mano,
+ *   contra leído directo al record con un lector preparado.
+ * - escribirDetalle / escribirResumen: solicitud cerrada con su historial contra la vista resumida.
+ * - ndjsonPorLinea / ndjsonSecuencia: {@value #LINEAS} solicitudes serializadas a un arreglo de bytes
+ *   por línea, contra un solo generador que escribe directo a la salida.
+ *
+ * Mide el tiempo por operación. Los bytes asignados por petición salen de {@code gc.alloc.rate.norm}
+ * con el perfilador gc; aún no hay resultados registrados de ninguno de los dos caminos, así que
+ * la diferencia de asignaciones está por medir. Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializacionBenchmark {
+
+    private static final int LINEAS = 1_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ObjectReader lectorCrear = jsonMapper.readerFor(CrearSolicitudRequest.class);
+    private final ObjectWriter escritorNdjson = jsonMapper.writerFor(SolicitudResponse.class)
+            .withRootValueSeparator("\n")
+            .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    private final OutputStream salida = OutputStream.nullOutputStream();
+
+    private byte[] cuerpoCrear;
+    private Solicitud cerrada;
+    private List<Solicitud> solicitudes;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        cuerpoCrear = ("{\"solicitanteId\":\"" + UUID.randomUUID() + "\",\"nombreSolicitante\":\"Estudiante\","
+                + "\"canalOrigen\":\"csu\",\"descripcion\":\"Solicitud de cupo en periodo de matrícula\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        UsuarioReferencia estudiante = new UsuarioReferencia(UUID.randomUUID(), "Estudiante");
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        UsuarioReferencia docenteRef = new UsuarioReferencia(docente.id().value(), docente.nombre());
+        solicitudes = new ArrayList<>(LINEAS);
+        for (int i = 0; i < LINEAS; i++) {
+            Solicitud solicitud = Solicitud.crear(estudiante, CanalOrigen.CSU,
+                    new DescripcionSolicitud("Solicitud de cupo número " + i));
+            solicitud.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+            solicitud.priorizar(Prioridad.MEDIA, new JustificacionPrioridad("Periodo de matrícula en curso"), coordinador);
+            solicitud.asignarResponsable(docente, coordinador);
+            solicitud.marcarAtendida(docenteRef, "Cupo asignado");
+            solicitud.cerrar(docenteRef, "Cupo confirmado");
+            solicitudes.add(solicitud);
+        }
+        cerrada = solicitudes.get(0);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public NuevaSolicitud leerMapa() {
+        Map<String, Object> payload = jsonMapper.readValue(cuerpoCrear, Map.class);
+        return new NuevaSolicitud(
+                UUID.fromString((String) payload.get("solicitanteId")),
+                (String) payload.get("nombreSolicitante"),
+                CanalOrigen.valueOf(((String) payload.get("canalOrigen")).toUpperCase()),
+                (String) payload.get("descripcion"));
+    }
+
+    @Benchmark
+    public NuevaSolicitud leerDto() {
+        CrearSolicitudRequest request = lectorCrear.readValue(cuerpoCrear);
+        return request.aNuevaSolicitud();
+    }
+
+    @Benchmark
+    public byte[] escribirDetalle() {
+        return jsonMapper.writeValueAsBytes(SolicitudDetalleResponse.desde(cerrada));
+    }
+
+    @Benchmark
+    public byte[] escribirResumen() {
+        return jsonMapper.writeValueAsBytes(SolicitudResponse.desde(cerrada));
+    }
+
+    @Benchmark
+    public int ndjsonPorLinea() throws IOException {
+        for (Solicitud solicitud : solicitudes) {
+            salida.write(jsonMapper.writeValueAsBytes(SolicitudResponse.desde(solicitud)));
+            salida.write('\n');
+        }
+        return solicitudes.size();
+    }
+
+    @Benchmark
+    public int ndjsonSecuencia() throws IOException {
+        try (SequenceWriter secuencia = escritorNdjson.writeValues(salida)) {
+            for (Solicitud solicitud : solicitudes) {
+                secuencia.write(SolicitudResponse.desde(solicitud));
+            }
+        }
+        salida.write('\n');
+        return solicitudes.size();
+    }
+}
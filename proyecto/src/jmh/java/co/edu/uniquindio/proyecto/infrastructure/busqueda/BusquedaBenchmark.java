@@ -0,0 +1,88 @@
+package co.edu.uniquindio.proyecto.infrastructure.busqueda;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de búsqueda en el índice de descripciones según la cantidad de solicitudes.
+ *
+ * - terminoRaro: un término presente en pocas descripciones.
+ * - terminoComun: un término presente en una de cada diez descripciones.
+ * - dosTerminosConFiltro: intersección de un término común y uno medio, filtrada por estado y tipo.
+ *
+ * Ejecutar con {@code ./gradlew jmh}. Al poblar se imprime la memoria usada por el índice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BusquedaBenchmark {
+
+    private static final String[] COMUNES = {"homologacion", "cancelacion", "certificado", "cupo", "reintegro",
+            "matricula", "calificacion", "validacion", "transferencia", "adicion"};
+    private static final String[] MATERIAS = {"calculo", "algebra", "fisica", "quimica", "programacion",
+            "estadistica", "ingles", "etica", "biologia", "contabilidad", "economia", "dibujo", "redes",
+            "electronica", "literatura", "filosofia", "historia", "geometria", "termodinamica", "mecanica"};
+
+    @Param({"1000", "1000000"})
+    int solicitudes;
+
+    private IndiceDescripciones indice;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long antes = runtime.totalMemory() - runtime.freeMemory();
+
+        indice = new IndiceDescripciones();
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        TipoSolicitud[] tipos = TipoSolicitud.values();
+        SplittableRandom azar = new SplittableRandom(42);
+        for (int i = 0; i < solicitudes; i++) {
+            String descripcion = "Solicitud de " + COMUNES[azar.nextInt(COMUNES.length)] + " de "
+                    + MATERIAS[azar.nextInt(MATERIAS.length)] + " grupo g" + azar.nextInt(2000)
+                    + " semestre s" + azar.nextInt(10);
+            Solicitud solicitud = Solicitud.crear(coordinador, CanalOrigen.CSU, new DescripcionSolicitud(descripcion));
+            if (i % 2 == 0) solicitud.clasificar(tipos[i % tipos.length], coordinador);
+            indice.solicitudGuardada(solicitud.copiaConVersion(1));
+        }
+
+        System.gc();
+        long despues = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%nÍndice: %d documentos, %d términos, ~%d MiB (incluye las solicitudes de prueba)%n",
+                indice.cantidadDocumentos(), indice.cantidadTerminos(), (despues - antes) >> 20);
+    }
+
+    @Benchmark
+    public List<Coincidencia> terminoRaro() {
+        return indice.buscar("g1234", null, null, 20);
+    }
+
+    @Benchmark
+    public List<Coincidencia> terminoComun() {
+        return indice.buscar("homologacion", null, null, 20);
+    }
+
+    @Benchmark
+    public List<Coincidencia> dosTerminosConFiltro() {
+        return indice.buscar("homologación cálculo", EstadoSolicitud.CLASIFICADA, TipoSolicitud.SOLICITUD_CUPOS, 20);
+    }
+}
@@ -0,0 +1,83 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memoria y costo de las solicitudes registradas de un usuario.
+ *
+ * - agregar: registrar una solicitud más (con el perfilador gc, bytes asignados por registro).
+ * - pagina: leer 50 referencias del medio, armando sus etiquetas.
+ *
+ * Al poblar se imprimen los bytes retenidos por referencia, comparados con la lista de
+ * {@link UsuarioReferencia} con etiqueta ya armada que se guardaba antes.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReferenciasSolicitudesBenchmark {
+
+    @Param({"1000", "100000"})
+    int referencias;
+
+    private Usuario usuario;
+    private SolicitudId[] ids;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        ids = new SolicitudId[referencias];
+        for (int i = 0; i < referencias; i++) {
+            ids[i] = SolicitudId.newId();
+        }
+
+        long antes = usada();
+        usuario = Usuario.crear("Estudiante", Rol.ESTUDIANTE);
+        usuario = usuario.conSolicitudesRegistradas(List.of(ids));
+        long compacta = usada() - antes;
+
+        // Lo que se retenía antes: una referencia con UUID y etiqueta propios por solicitud
+        antes = usada();
+        List<UsuarioReferencia> lista = new ArrayList<>();
+        for (SolicitudId id : ids) {
+            lista.add(new UsuarioReferencia(new UUID(id.value().getMostSignificantBits(),
+                    id.value().getLeastSignificantBits()), "Solicitud #" + id.value().toString().substring(0, 8)));
+        }
+        long anterior = usada() - antes;
+        System.out.printf("%nBytes por referencia: %.1f compacta, %.1f lista de UsuarioReferencia (%d)%n",
+                (double) compacta / referencias, (double) anterior / referencias, lista.size());
+    }
+
+    @Benchmark
+    public Usuario agregar() {
+        return usuario = usuario.conSolicitudRegistrada(ids[siguiente++ % referencias]);
+    }
+
+    @Benchmark
+    public List<UsuarioReferencia> pagina() {
+        return usuario.solicitudesRegistradas(referencias / 2, 50);
+    }
+
+    private static long usada() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,101 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de la entidad {@link Solicitud} sin persistencia.
+ *
+ * - cicloCompleto: crear y recorrer todas las transiciones hasta cerrar.
+ * - leerHistorial: {@link Solicitud#historial()} sobre una solicitud cerrada.
+ * - copiar: copia completa que hacen los repositorios al guardar y al leer.
+ *
+ * La solicitud cerrada se reconstituye con {@code entradasHistorial} entradas: con el historial
+ * compartido, leer y copiar no deben crecer con ese parámetro.
+ *
+ * Ejecutar con {@code ./gradlew jmh}; el perfilador gc informa las asignaciones por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SolicitudCicloVidaBenchmark {
+
+    @Param({"6", "1000"})
+    int entradasHistorial;
+
+    private UsuarioReferencia estudiante;
+    private UsuarioReferencia coordinador;
+    private Usuario docente;
+    private UsuarioReferencia docenteRef;
+    private DescripcionSolicitud descripcion;
+    private JustificacionPrioridad justificacion;
+    private Solicitud cerrada;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        estudiante = referencia(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        coordinador = referencia(Usuario.crear("Coordinadora", Rol.COORDINADOR));
+        docente = Usuario.crear("Docente", Rol.DOCENTE);
+        docenteRef = referencia(docente);
+        descripcion = new DescripcionSolicitud("Solicitud de homologación de asignaturas");
+        justificacion = new JustificacionPrioridad("Cierre de semestre cercano");
+        cerrada = conHistorial(cicloCompleto(), entradasHistorial);
+    }
+
+    @Benchmark
+    public Solicitud cicloCompleto() {
+        Solicitud solicitud = Solicitud.crear(estudiante, CanalOrigen.CSU, descripcion);
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        solicitud.priorizar(Prioridad.ALTA, justificacion, coordinador);
+        solicitud.asignarResponsable(docente, coordinador);
+        solicitud.marcarAtendida(docenteRef, "Homologación revisada");
+        solicitud.cerrar(docenteRef, "Homologación aprobada");
+        return solicitud;
+    }
+
+    @Benchmark
+    public List<EntradaHistorial> leerHistorial() {
+        return cerrada.historial();
+    }
+
+    @Benchmark
+    public Solicitud copiar() {
+        return cerrada.copia();
+    }
+
+    /** Solicitud cerrada con su historial rellenado hasta {@code entradas} entradas. */
+    private Solicitud conHistorial(Solicitud solicitud, int entradas) {
+        List<EntradaHistorial> historial = new ArrayList<>(solicitud.historial());
+        while (historial.size() < entradas) {
+            historial.add(new EntradaHistorial(UUID.randomUUID(), solicitud.fechaRegistro(), "OBSERVACION",
+                    docenteRef, "Seguimiento " + historial.size()));
+        }
+        return Solicitud.reconstituir(solicitud.id(), solicitud.solicitante(), solicitud.canalOrigen(),
+                solicitud.fechaRegistro(), solicitud.descripcion(), solicitud.tipoSolicitud(), solicitud.prioridad(),
+                solicitud.justificacionPrioridad(), solicitud.estado(), solicitud.responsable(), historial,
+                solicitud.version());
+    }
+
+    private static UsuarioReferencia referencia(Usuario usuario) {
+        return new UsuarioReferencia(usuario.id().value(), usuario.nombre());
+    }
+}
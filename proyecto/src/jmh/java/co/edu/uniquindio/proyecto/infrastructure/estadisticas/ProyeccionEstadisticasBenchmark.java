@@ -0,0 +1,63 @@
+package co.edu.uniquindio.proyecto.infrastructure.estadisticas;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de consultar la proyección de estadísticas según la cantidad de solicitudes contadas.
+ *
+ * - porEstado: conteo por una dimensión.
+ * - estadoPorPrioridad: tabla cruzada de dos dimensiones.
+ *
+ * Ejecutar con {@code ./gradlew jmh}; el tiempo no debe crecer con {@code solicitudes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProyeccionEstadisticasBenchmark {
+
+    @Param({"1000", "1000000"})
+    int solicitudes;
+
+    private ProyeccionEstadisticas proyeccion;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        proyeccion = new ProyeccionEstadisticas();
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        CanalOrigen[] canales = CanalOrigen.values();
+        TipoSolicitud[] tipos = TipoSolicitud.values();
+        for (int i = 0; i < solicitudes; i++) {
+            Solicitud solicitud = Solicitud.crear(coordinador, canales[i % canales.length],
+                    new DescripcionSolicitud("Solicitud número " + i));
+            if (i % 3 != 0) solicitud.clasificar(tipos[i % tipos.length], coordinador);
+            proyeccion.solicitudGuardada(solicitud.copiaConVersion(1));
+        }
+    }
+
+    @Benchmark
+    public TablaEstadisticas porEstado() {
+        return proyeccion.tabla(List.of(DimensionEstadistica.ESTADO));
+    }
+
+    @Benchmark
+    public TablaEstadisticas estadoPorPrioridad() {
+        return proyeccion.tabla(List.of(DimensionEstadistica.ESTADO, DimensionEstadistica.PRIORIDAD));
+    }
+}
@@ -0,0 +1,80 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo que paga la petición por una transición con trabajo posterior.
+ *
+ * - sincrono: el hilo de la petición ejecuta el manejador (trabajo simulado de {@code trabajo} unidades).
+ * - publicar: el hilo de la petición solo publica en el bus; el mismo manejador corre en segundo plano.
+ *
+ * Con cuatro productores y ESPERAR, mientras los manejadores alcanzan a consumir el costo de
+ * publicar es el del compare-and-swap del cursor; si no alcanzan, la espera refleja la contrapresión.
+ * Al terminar se imprimen los descartados y el retraso de cada manejador.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class BusEventosBenchmark {
+
+    @Param({"100", "1000"})
+    int trabajo;
+
+    private BusEventos bus;
+    private ManejadorEventos manejador;
+    private EventoSolicitud evento;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        manejador = lote -> {
+            for (int i = 0; i < lote.size(); i++) {
+                Blackhole.consumeCPU(trabajo);
+            }
+        };
+        bus = new BusEventos(8192, 256, PoliticaSaturacion.ESPERAR, Duration.ofMillis(10), List.of(manejador));
+        bus.iniciar();
+        UsuarioReferencia usuario = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+        evento = new EventoSolicitud(UUID.randomUUID(), TipoEventoSolicitud.CLASIFICADA, new SolicitudId(UUID.randomUUID()),
+                usuario, 2, Instant.now(), usuario, "Tipo: HOMOLOGACION");
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        bus.close();
+        EstadisticasBus estadisticas = bus.estadisticas();
+        System.out.printf("%nPublicados %d, descartados %d, consumidores %s%n",
+                estadisticas.publicados(), estadisticas.descartados(), estadisticas.consumidores());
+    }
+
+    @Benchmark
+    public void sincrono() {
+        manejador.manejar(List.of(evento));
+    }
+
+    @Benchmark
+    public boolean publicar() {
+        return bus.publicar(evento);
+    }
+}
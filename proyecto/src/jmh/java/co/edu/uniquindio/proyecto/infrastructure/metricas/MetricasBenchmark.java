@@ -0,0 +1,83 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+import co.edu.uniquindio.proyecto.application.RegistroCargaTrabajo;
+import co.edu.uniquindio.proyecto.application.SolicitudApplicationService;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepositoryMedido;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepositoryMedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sobrecosto de las métricas.
+ *
+ * - registrar: un registro en el histograma con varios hilos escribiendo a la vez.
+ * - ciclo: el mismo ciclo que {@code SolicitudApplicationServiceBenchmark.cicloIndividual},
+ *   con las métricas habilitadas y deshabilitadas; la diferencia es el costo de medir.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricasBenchmark {
+
+    @Param({"true", "false"})
+    boolean habilitadas;
+
+    private final HistogramaLogaritmico histograma = new HistogramaLogaritmico();
+    private SolicitudApplicationService service;
+    private UUID coordinador;
+    private UUID solicitante;
+    private UUID docente;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        MetricasSolicitudes metricas = new MetricasSolicitudes(habilitadas);
+        InMemorySolicitudRepository solicitudes = new InMemorySolicitudRepository();
+        InMemoryUsuarioRepository usuarios = new InMemoryUsuarioRepository();
+        service = new SolicitudApplicationService(
+                new SolicitudRepositoryMedido(solicitudes, metricas), new UsuarioRepositoryMedido(usuarios, metricas),
+                new SolicitudDomainService(), new RegistroCargaTrabajo(solicitudes, usuarios), metricas);
+        coordinador = usuarios.save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+        solicitante = usuarios.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE)).id().value();
+        docente = usuarios.save(Usuario.crear("Docente", Rol.DOCENTE)).id().value();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public HistogramaLogaritmico registrar() {
+        histograma.registrar(ThreadLocalRandom.current().nextLong(1_000, 10_000_000));
+        return histograma;
+    }
+
+    @Benchmark
+    public Solicitud ciclo() {
+        UUID id = service.crearSolicitud(solicitante, "Estudiante", CanalOrigen.SAC,
+                "Solicitud de homologación de asignaturas").id().value();
+        service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador);
+        service.priorizarSolicitud(id, Prioridad.ALTA, "Cierre de semestre cercano", coordinador);
+        service.asignarResponsable(id, docente, coordinador);
+        return service.marcarAtendida(id, docente, "Homologación revisada");
+    }
+}
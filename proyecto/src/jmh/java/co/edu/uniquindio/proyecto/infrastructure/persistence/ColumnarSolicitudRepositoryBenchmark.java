@@ -0,0 +1,161 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Memoria y costo de consulta del repositorio por columnas frente al repositorio en memoria,
+ * con solicitudes repartidas en todas las etapas de su ciclo de vida (1 a 6 entradas de historial).
+ *
+ * - contar*: cuántas solicitudes EN_ATENCION de prioridad ALTA hay.
+ * - contarPorEstado: conteo por estado de todas las solicitudes, solo en columnas.
+ * - pagina*: primera página de 50 solicitudes de un solicitante, materializadas.
+ * - buscarPorId*: una solicitud por id.
+ *
+ * Al poblar se imprimen los bytes retenidos por solicitud en cada repositorio.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnarSolicitudRepositoryBenchmark {
+
+    private static final FiltroSolicitudes ALTAS_EN_ATENCION =
+            new FiltroSolicitudes(EstadoSolicitud.EN_ATENCION, null, Prioridad.ALTA, null, null);
+
+    @Param({"100000", "500000"})
+    int solicitudes;
+
+    private ColumnarSolicitudRepository columnar;
+    private InMemorySolicitudRepository memoria;
+    private UUID solicitante;
+    private SolicitudId[] ids;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        Random random = new Random(42);
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+        List<Usuario> docentes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            docentes.add(Usuario.crear("Docente " + i, Rol.DOCENTE));
+        }
+        List<UsuarioReferencia> solicitantes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            solicitantes.add(new UsuarioReferencia(UUID.randomUUID(), "Estudiante " + i));
+        }
+        solicitante = solicitantes.getFirst().value();
+        JustificacionPrioridad justificacion = new JustificacionPrioridad("Afecta el calendario académico");
+
+        long antes = usada();
+        columnar = new ColumnarSolicitudRepository();
+        ids = new SolicitudId[solicitudes];
+        for (int i = 0; i < solicitudes; i++) {
+            Solicitud solicitud = columnar.save(Solicitud.crear(solicitantes.get(random.nextInt(solicitantes.size())),
+                    CanalOrigen.values()[random.nextInt(CanalOrigen.values().length)],
+                    new DescripcionSolicitud("Solicitud número " + i + " sobre el proceso académico del estudiante")));
+            ids[i] = solicitud.id();
+            int pasos = random.nextInt(6);
+            if (pasos > 0) {
+                solicitud.clasificar(TipoSolicitud.values()[random.nextInt(TipoSolicitud.values().length)], coordinador);
+                solicitud = columnar.save(solicitud);
+            }
+            if (pasos > 1) {
+                solicitud.priorizar(Prioridad.values()[random.nextInt(Prioridad.values().length)], justificacion, coordinador);
+                solicitud = columnar.save(solicitud);
+            }
+            if (pasos > 2) {
+                solicitud.asignarResponsable(docentes.get(random.nextInt(docentes.size())), coordinador);
+                solicitud = columnar.save(solicitud);
+            }
+            if (pasos > 3) {
+                solicitud.marcarAtendida(solicitud.responsable(), "Se respondió al estudiante");
+                solicitud = columnar.save(solicitud);
+            }
+            if (pasos > 4) {
+                solicitud.cerrar(solicitud.responsable(), "Cerrada sin novedades");
+                columnar.save(solicitud);
+            }
+        }
+        long enColumnas = usada() - antes;
+
+        antes = usada();
+        memoria = new InMemorySolicitudRepository();
+        try (Stream<Solicitud> todas = columnar.stream(FiltroSolicitudes.todas())) {
+            todas.forEach(memoria::restaurar);
+        }
+        long enMemoria = usada() - antes;
+        System.out.printf("%nBytes por solicitud: %.1f en columnas, %.1f en memoria%n",
+                (double) enColumnas / solicitudes, (double) enMemoria / solicitudes);
+    }
+
+    @Benchmark
+    public long contarColumnas() {
+        return columnar.contar(ALTAS_EN_ATENCION);
+    }
+
+    @Benchmark
+    public long contarMemoria() {
+        try (Stream<Solicitud> filtradas = memoria.stream(ALTAS_EN_ATENCION)) {
+            return filtradas.count();
+        }
+    }
+
+    @Benchmark
+    public Map<EstadoSolicitud, Long> contarPorEstado() {
+        return columnar.contarPorEstado(FiltroSolicitudes.todas());
+    }
+
+    @Benchmark
+    public List<Solicitud> paginaColumnas() {
+        return columnar.findPage(FiltroSolicitudes.porSolicitante(solicitante), null, 50);
+    }
+
+    @Benchmark
+    public List<Solicitud> paginaMemoria() {
+        return memoria.findPage(FiltroSolicitudes.porSolicitante(solicitante), null, 50);
+    }
+
+    @Benchmark
+    public Solicitud buscarPorIdColumnas() {
+        return columnar.findById(ids[siguiente++ % solicitudes]).orElseThrow();
+    }
+
+    @Benchmark
+    public Solicitud buscarPorIdMemoria() {
+        return memoria.findById(ids[siguiente++ % solicitudes]).orElseThrow();
+    }
+
+    private static long usada() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.application.RegistroCargaTrabajo;
+import co.edu.uniquindio.proyecto.application.SolicitudApplicationService;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Llamadas a repositorios y latencia del ciclo de vida de una solicitud con y sin la caché de usuarios.
+ *
+ * Cada invocación registra una solicitud y la lleva hasta ATENDIDA con las llamadas individuales
+ * del servicio. Al terminar se imprimen las llamadas a repositorios por operación que registró
+ * {@link MetricasSolicitudes}: con la caché, las búsquedas de usuarios repetidas desaparecen.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UsuarioRepositoryCacheadoBenchmark {
+
+    private static final int DOCENTES = 5;
+
+    @Param({"false", "true"})
+    boolean cache;
+
+    private MetricasSolicitudes metricas;
+    private UsuarioRepositoryCacheado cacheado;
+    private SolicitudApplicationService service;
+    private UUID coordinador;
+    private UUID solicitante;
+    private UUID[] docentes;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void crearMetricas() {
+        metricas = new MetricasSolicitudes(true);
+    }
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        SolicitudRepository solicitudRepository = new SolicitudRepositoryMedido(new InMemorySolicitudRepository(), metricas);
+        UsuarioRepository usuarioRepository = new UsuarioRepositoryMedido(new InMemoryUsuarioRepository(), metricas);
+        if (cache) {
+            cacheado = new UsuarioRepositoryCacheado(usuarioRepository, 10_000);
+            usuarioRepository = cacheado;
+        }
+        service = new SolicitudApplicationService(solicitudRepository, usuarioRepository, new SolicitudDomainService(),
+                new RegistroCargaTrabajo(solicitudRepository, usuarioRepository), metricas);
+
+        coordinador = usuarioRepository.save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+        solicitante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE)).id().value();
+        docentes = new UUID[DOCENTES];
+        for (int i = 0; i < DOCENTES; i++) {
+            docentes[i] = usuarioRepository.save(Usuario.crear("Docente " + i, Rol.DOCENTE)).id().value();
+        }
+    }
+
+    @Benchmark
+    public Solicitud cicloIndividual() {
+        UUID docente = docentes[siguiente++ % DOCENTES];
+        UUID id = service.crearSolicitud(solicitante, "Estudiante", CanalOrigen.SAC,
+                "Solicitud de homologación de asignaturas").id().value();
+        service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador);
+        service.priorizarSolicitud(id, Prioridad.ALTA, "Cierre de semestre cercano", coordinador);
+        service.asignarResponsable(id, docente, coordinador);
+        return service.marcarAtendida(id, docente, "Homologación revisada");
+    }
+
+    @TearDown(Level.Trial)
+    public void informar() {
+        System.out.printf("%nLlamadas a repositorios por operación (caché %s):%n", cache ? "activa" : "inactiva");
+        metricas.resumen().forEach((operacion, resumen) ->
+                System.out.printf("  %-22s %.2f%n", operacion, resumen.llamadasRepositorio().media()));
+        if (cacheado != null) System.out.println("  " + cacheado.estadisticas());
+    }
+}
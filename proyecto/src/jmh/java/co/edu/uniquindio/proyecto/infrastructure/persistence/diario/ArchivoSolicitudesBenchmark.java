@@ -0,0 +1,111 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tamaño en disco y costo de búsqueda del archivo de solicitudes cerradas.
+ *
+ * - buscarArchivada: una solicitud archivada por id (una búsqueda binaria y un bloque descomprimido).
+ * - buscarAusente: un id que no está; el rango de cada segmento lo descarta sin leer bloques.
+ *
+ * Al poblar se imprimen los bytes en disco por solicitud frente a su codificación sin comprimir.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArchivoSolicitudesBenchmark {
+
+    @Param({"16", "64", "256"})
+    int solicitudesPorBloque;
+
+    @Param({"100000"})
+    int solicitudes;
+
+    private Path directorio;
+    private ArchivoSolicitudes archivo;
+    private SolicitudId[] ids;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void poblar() throws IOException {
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        List<Solicitud> cerradas = new ArrayList<>(solicitudes);
+        long sinComprimir = 0;
+        for (int i = 0; i < solicitudes; i++) {
+            Solicitud solicitud = Solicitud.crear(new UsuarioReferencia(UUID.randomUUID(), "Estudiante " + (i % 5000)),
+                    CanalOrigen.CSU, new DescripcionSolicitud("Solicitud número " + i + " sobre el proceso académico"));
+            solicitud.clasificar(TipoSolicitud.values()[i % TipoSolicitud.values().length], coordinador);
+            solicitud.asignarResponsable(docente, coordinador);
+            solicitud.marcarAtendida(solicitud.responsable(), "Se respondió al estudiante");
+            solicitud.cerrar(solicitud.responsable(), "Cerrada sin novedades");
+            cerradas.add(solicitud);
+
+            CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor();
+            CodificadorBinario.escribirSolicitud(escritor, solicitud);
+            sinComprimir += escritor.bytes().length;
+        }
+        ids = cerradas.stream().map(Solicitud::id).toArray(SolicitudId[]::new);
+
+        directorio = Files.createTempDirectory("archivo-bench");
+        archivo = ArchivoSolicitudes.abrir(directorio, solicitudesPorBloque);
+        // Varios segmentos, como dejarían pasos de archivado sucesivos
+        int porSegmento = 10_000;
+        for (int desde = 0; desde < solicitudes; desde += porSegmento) {
+            archivo.archivar(cerradas.subList(desde, Math.min(solicitudes, desde + porSegmento)));
+        }
+        System.out.printf("%nBytes por solicitud: %.1f en disco, %.1f sin comprimir (%d segmentos)%n",
+                (double) archivo.bytesEnDisco() / solicitudes, (double) sinComprimir / solicitudes,
+                archivo.cantidadSegmentos());
+    }
+
+    @TearDown(Level.Trial)
+    public void eliminar() throws IOException {
+        archivo.close();
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path ruta : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(ruta);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Solicitud> buscarArchivada() {
+        return archivo.buscar(ids[siguiente++ % solicitudes]);
+    }
+
+    @Benchmark
+    public Optional<Solicitud> buscarAusente() {
+        return archivo.buscar(SolicitudId.newId());
+    }
+}
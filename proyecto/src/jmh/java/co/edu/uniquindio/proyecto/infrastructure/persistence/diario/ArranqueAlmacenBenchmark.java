@@ -0,0 +1,114 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tiempo de arranque del almacenamiento durable según la cantidad de solicitudes persistidas.
+ *
+ * Compara reproducir el diario completo contra cargar la instantánea y reproducir solo la cola
+ * (1 % de solicitudes registradas después de la instantánea). Cada solicitud aporta tres
+ * eventos: registro, clasificación y priorización.
+ *
+ * Ejecutar con {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArranqueAlmacenBenchmark {
+
+    public enum Arranque { DIARIO_COMPLETO, INSTANTANEA_Y_COLA }
+
+    private static final int TAMANO_SEGMENTO = 64 * 1024 * 1024;
+
+    @Param({"1000", "10000", "100000"})
+    int solicitudes;
+
+    @Param({"DIARIO_COMPLETO", "INSTANTANEA_Y_COLA"})
+    Arranque arranque;
+
+    private Path directorio;
+    private AlmacenDiario almacen;
+
+    @Setup(Level.Trial)
+    public void poblar() throws IOException {
+        directorio = Files.createTempDirectory("arranque-almacen");
+        try (AlmacenDiario poblado = abrir()) {
+            Usuario coordinador = poblado.usuarios().save(Usuario.crear("Coordinadora", Rol.COORDINADOR));
+            UsuarioReferencia referencia = new UsuarioReferencia(coordinador.id().value(), coordinador.nombre());
+
+            int cola = arranque == Arranque.INSTANTANEA_Y_COLA ? Math.max(1, solicitudes / 100) : 0;
+            for (int i = 0; i < solicitudes - cola; i++) {
+                registrar(poblado, referencia, i);
+            }
+            if (arranque == Arranque.INSTANTANEA_Y_COLA) {
+                poblado.tomarInstantanea();
+            }
+            for (int i = solicitudes - cola; i < solicitudes; i++) {
+                registrar(poblado, referencia, i);
+            }
+        }
+    }
+
+    @Benchmark
+    public long arrancar() throws IOException {
+        almacen = abrir();
+        return almacen.eventosReproducidos();
+    }
+
+    @TearDown(Level.Invocation)
+    public void cerrar() throws IOException {
+        almacen.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void eliminar() throws IOException {
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    /** Sin instantáneas automáticas: cerrar no modifica lo que mide la siguiente invocación. */
+    private AlmacenDiario abrir() throws IOException {
+        return AlmacenDiario.abrir(directorio, TAMANO_SEGMENTO, PoliticaSincronizacion.NUNCA,
+                Duration.ofSeconds(1), Duration.ZERO);
+    }
+
+    private static void registrar(AlmacenDiario almacen, UsuarioReferencia coordinador, int indice) {
+        UsuarioReferencia solicitante = new UsuarioReferencia(UUID.randomUUID(), "Estudiante " + indice);
+        Solicitud solicitud = almacen.solicitudes().save(Solicitud.crear(solicitante, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud de cupo número " + indice)));
+        solicitud.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+        solicitud = almacen.solicitudes().save(solicitud);
+        solicitud.priorizar(Prioridad.MEDIA, new JustificacionPrioridad("Prioridad para medir el arranque"), coordinador);
+        almacen.solicitudes().save(solicitud);
+    }
+}
@@ -0,0 +1,87 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo del monitor de vencimientos según la cantidad de plazos en curso.
+ *
+ * - reprogramar: un guardado que cancela el plazo de una solicitud y programa otro.
+ * - avanzarUnSegundo: un tick del reloj con los plazos repartidos en tres días.
+ *
+ * Ejecutar con {@code ./gradlew jmh}; ninguno de los dos debe crecer con {@code solicitudes}.
+ * Al poblar se imprime la memoria usada por el monitor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MonitorVencimientosBenchmark {
+
+    @Param({"1000", "1000000"})
+    int solicitudes;
+
+    private MonitorVencimientos monitor;
+    private Solicitud[] guardadas;
+    private long[] versiones;
+    private Instant reloj;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void poblar() {
+        Runtime runtime = Runtime.getRuntime();
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        guardadas = new Solicitud[solicitudes];
+        versiones = new long[solicitudes];
+        for (int i = 0; i < solicitudes; i++) {
+            Solicitud solicitud = Solicitud.crear(coordinador, CanalOrigen.CSU, new DescripcionSolicitud("Solicitud número " + i));
+            if (i % 2 == 0) solicitud.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+            guardadas[i] = solicitud;
+            versiones[i] = 1;
+        }
+        System.gc();
+        long antes = runtime.totalMemory() - runtime.freeMemory();
+
+        // Plazos de 1 a 72 horas para que haya temporizadores en todos los niveles de la rueda
+        reloj = Instant.now();
+        monitor = new MonitorVencimientos(new PlazosAtencion(Duration.ofHours(1), Duration.ofHours(24),
+                Duration.ofHours(72), Duration.ofHours(8)), Duration.ofSeconds(1), reloj, List.of());
+        for (Solicitud solicitud : guardadas) {
+            monitor.solicitudGuardada(solicitud.copiaConVersion(1));
+        }
+
+        System.gc();
+        long despues = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%nMonitor: %d plazos en curso, ~%d MiB%n", monitor.cantidadPendientes(), (despues - antes) >> 20);
+    }
+
+    @Benchmark
+    public void reprogramar() {
+        int i = siguiente;
+        siguiente = (i + 1) % solicitudes;
+        monitor.solicitudGuardada(guardadas[i].copiaConVersion(++versiones[i]));
+    }
+
+    @Benchmark
+    public int avanzarUnSegundo() {
+        reloj = reloj.plusSeconds(1);
+        return monitor.avanzarHasta(reloj);
+    }
+}
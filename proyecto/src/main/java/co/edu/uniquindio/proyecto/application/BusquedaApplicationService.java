@@ -0,0 +1,64 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.busqueda.Coincidencia;
+import co.edu.uniquindio.proyecto.infrastructure.busqueda.IndiceDescripciones;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.OperacionSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Búsqueda de solicitudes por palabras de su descripción.
+ */
+@Service
+public class BusquedaApplicationService {
+
+    /** Longitud máxima de una consulta; una descripción tiene como máximo 1000 caracteres */
+    public static final int LONGITUD_MAXIMA_CONSULTA = 200;
+
+    private final SolicitudRepository solicitudRepository;
+    private final IndiceDescripciones indice;
+    private final MetricasSolicitudes metricas;
+
+    public BusquedaApplicationService(SolicitudRepository solicitudRepository, IndiceDescripciones indice,
+                                      MetricasSolicitudes metricas) {
+        this.solicitudRepository = solicitudRepository;
+        this.indice = indice;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Solicitudes cuya descripción contiene todas las palabras de la consulta, de la más a la
+     * menos relevante. Mayúsculas, tildes y palabras vacías ("de", "la", ...) no cuentan.
+     * @param estado Estado exigido, o null para no filtrar
+     * @param tipo Tipo exigido, o null para no filtrar
+     * @param limite Cantidad máxima, entre 1 y {@value SolicitudApplicationService#LIMITE_MAXIMO_PAGINA}
+     */
+    public List<ResultadoBusqueda> buscar(String consulta, EstadoSolicitud estado, TipoSolicitud tipo, int limite) {
+        return metricas.medir(OperacionSolicitud.BUSCAR, () -> {
+            if (consulta == null || consulta.isBlank()) throw new DomainException("La consulta es obligatoria");
+            if (consulta.length() > LONGITUD_MAXIMA_CONSULTA) {
+                throw new DomainException("La consulta no puede superar " + LONGITUD_MAXIMA_CONSULTA + " caracteres");
+            }
+            if (limite < 1 || limite > SolicitudApplicationService.LIMITE_MAXIMO_PAGINA) {
+                throw new DomainException("El límite de resultados debe estar entre 1 y "
+                        + SolicitudApplicationService.LIMITE_MAXIMO_PAGINA);
+            }
+
+            List<Coincidencia> coincidencias = indice.buscar(consulta, estado, tipo, limite);
+            List<ResultadoBusqueda> resultados = new ArrayList<>(coincidencias.size());
+            for (Coincidencia coincidencia : coincidencias) {
+                // Solo se leen del repositorio las solicitudes que se devuelven
+                solicitudRepository.findById(coincidencia.id())
+                        .ifPresent(solicitud -> resultados.add(new ResultadoBusqueda(solicitud, coincidencia.puntaje())));
+            }
+            return resultados;
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.OyenteSolicitudes;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Índice de las solicitudes por atender de los coordinadores (REGISTRADA y CLASIFICADA),
+ * ordenadas por prioridad (ALTA primero, sin prioridad al final) y luego por antigüedad.
+ *
+ * Se actualiza con cada guardado del repositorio; recorrer las primeras N cuesta O(N + log n)
+ * sobre la lista ordenada, sin consultar el repositorio.
+ */
+@Component
+public class ColaTriaje implements OyenteSolicitudes {
+
+    private static final Comparator<Clave> ORDEN = Comparator.comparingInt(Clave::prioridad)
+            .thenComparing(Clave::fechaRegistro)
+            .thenComparing(clave -> clave.id().value());
+
+    private final ConcurrentSkipListSet<Clave> ordenadas = new ConcurrentSkipListSet<>(ORDEN);
+    /** Última versión vista de cada solicitud, esté o no en la cola */
+    private final ConcurrentHashMap<SolicitudId, Entrada> conocidas = new ConcurrentHashMap<>();
+
+    private record Clave(int prioridad, Instant fechaRegistro, SolicitudId id) {
+    }
+
+    /** {@code clave} es null cuando la solicitud ya no está en la cola. */
+    private record Entrada(long version, Clave clave) {
+    }
+
+    @Override
+    public void solicitudGuardada(Solicitud guardada) {
+        Clave clave = enCola(guardada.estado()) ? clave(guardada) : null;
+        conocidas.compute(guardada.id(), (id, previa) -> {
+            if (previa != null && previa.version() >= guardada.version()) return previa;
+            if (previa != null && previa.clave() != null) ordenadas.remove(previa.clave());
+            if (clave != null) ordenadas.add(clave);
+            // Las que salieron de la cola conservan la versión para descartar avisos atrasados
+            return new Entrada(guardada.version(), clave);
+        });
+    }
+
+    @Override
+    public void solicitudEliminada(SolicitudId id) {
+        Entrada previa = conocidas.remove(id);
+        if (previa != null && previa.clave() != null) ordenadas.remove(previa.clave());
+    }
+
+    /**
+     * Recorre los ids de la cola en orden de atención; refleja los cambios concurrentes.
+     */
+    public Iterator<SolicitudId> recorrer() {
+        Iterator<Clave> claves = ordenadas.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return claves.hasNext();
+            }
+
+            @Override
+            public SolicitudId next() {
+                return claves.next().id();
+            }
+        };
+    }
+
+    private static boolean enCola(EstadoSolicitud estado) {
+        return estado == EstadoSolicitud.REGISTRADA || estado == EstadoSolicitud.CLASIFICADA;
+    }
+
+    private static Clave clave(Solicitud solicitud) {
+        Prioridad prioridad = solicitud.prioridad();
+        int orden = prioridad == null ? Prioridad.values().length : prioridad.ordinal();
+        return new Clave(orden, solicitud.fechaRegistro(), solicitud.id());
+    }
+}
@@ -0,0 +1,23 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+
+import java.util.UUID;
+
+/**
+ * Transición de coordinación sobre una solicitud, aplicada dentro de un lote.
+ */
+public sealed interface ComandoTransicion {
+
+    UUID solicitudId();
+
+    record Clasificar(UUID solicitudId, TipoSolicitud tipo) implements ComandoTransicion {
+    }
+
+    record Priorizar(UUID solicitudId, Prioridad prioridad, String justificacion) implements ComandoTransicion {
+    }
+
+    record AsignarResponsable(UUID solicitudId, UUID responsableId) implements ComandoTransicion {
+    }
+}
@@ -0,0 +1,12 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+
+import java.util.UUID;
+
+/**
+ * Datos para registrar una solicitud dentro de un lote.
+ */
+public record NuevaSolicitud(UUID solicitanteId, String nombreSolicitante,
+                             CanalOrigen canalOrigen, String descripcion) {
+}
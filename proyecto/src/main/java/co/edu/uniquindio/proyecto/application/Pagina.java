@@ -0,0 +1,20 @@
+package co.edu.uniquindio.proyecto.application;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado paginado por cursor.
+ * @param elementos Elementos de la página en orden
+ * @param siguienteCursor Cursor para pedir la página siguiente, o null si no hay más
+ */
+public record Pagina<T>(List<T> elementos, String siguienteCursor) {
+
+    /**
+     * Misma página con cada elemento transformado, conservando el cursor.
+     */
+    public <R> Pagina<R> map(Function<? super T, ? extends R> transformar) {
+        List<R> transformados = elementos.stream().<R>map(transformar).toList();
+        return new Pagina<>(transformados, siguienteCursor);
+    }
+}
@@ -0,0 +1,214 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import static co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService.MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE;
+
+/**
+ * Contadores de carga de trabajo por usuario, mantenidos de forma incremental.
+ *
+ * Lleva por solicitante la cantidad de solicitudes pendientes y por docente la cantidad de
+ * solicitudes EN_ATENCION, de modo que las validaciones de límites de
+ * {@link SolicitudDomainService} se resuelven en O(1) sin recorrer todas las solicitudes.
+ *
+ * Los cupos se toman con {@code reservar*}, que valida y cuenta en una sola operación atómica
+ * por usuario: dos operaciones concurrentes sobre el mismo docente o solicitante nunca pasan
+ * ambas la validación con el mismo conteo, y operaciones sobre usuarios distintos no se bloquean
+ * entre sí. Si la transición no llega a persistirse el cupo se devuelve con {@code liberar*}.
+ *
+ * Los docentes activos se agrupan además por su carga, en una cubeta por cada nivel de 0 al
+ * límite, para encontrar el menos cargado sin recorrerlos a todos: se revisan a lo sumo
+ * {@code MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE + 1} cubetas y se toma el primer docente de la
+ * primera que no esté vacía. La cubeta de un docente solo cambia dentro del {@code compute} de
+ * su contador, así que cubeta y contador nunca se contradicen.
+ *
+ * Liberar un cupo que no estaba reservado no deja el contador en negativo: se queda en cero,
+ * para que un error de contabilidad nunca amplíe el límite del usuario.
+ */
+@Component
+public class RegistroCargaTrabajo {
+
+    private final ConcurrentHashMap<UUID, Integer> pendientesPorSolicitante = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Integer> enAtencionPorDocente = new ConcurrentHashMap<>();
+
+    /** Docentes que pueden recibir asignaciones automáticas */
+    private final Set<UUID> docentesHabilitados = ConcurrentHashMap.newKeySet();
+    /** Posición i: docentes habilitados con i solicitudes EN_ATENCION; la última agrupa a los que están en el límite */
+    private final ConcurrentSkipListSet<UUID>[] docentesPorCarga;
+
+    @SuppressWarnings("unchecked")
+    public RegistroCargaTrabajo(SolicitudRepository solicitudRepository, UsuarioRepository usuarioRepository) {
+        docentesPorCarga = new ConcurrentSkipListSet[MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE + 1];
+        for (int carga = 0; carga < docentesPorCarga.length; carga++) {
+            docentesPorCarga[carga] = new ConcurrentSkipListSet<>();
+        }
+
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            if (!SolicitudDomainService.esPendiente(estado)) continue;
+            for (Solicitud solicitud : solicitudRepository.findByEstado(estado)) {
+                ajustar(pendientesPorSolicitante, solicitud.solicitante().value(), 1);
+                if (estado == EstadoSolicitud.EN_ATENCION && solicitud.responsable() != null) {
+                    ajustar(enAtencionPorDocente, solicitud.responsable().value(), 1);
+                }
+            }
+        }
+        for (Usuario usuario : usuarioRepository.findAll()) {
+            if (usuario.rol() == Rol.DOCENTE && usuario.activo()) {
+                habilitarDocente(usuario.id().value());
+            }
+        }
+    }
+
+    /**
+     * Cantidad de solicitudes pendientes (REGISTRADA, CLASIFICADA o EN_ATENCION) del solicitante.
+     */
+    public int pendientesDe(UUID solicitanteId) {
+        return pendientesPorSolicitante.getOrDefault(solicitanteId, 0);
+    }
+
+    /**
+     * Cantidad de solicitudes EN_ATENCION asignadas al docente.
+     */
+    public int enAtencionDe(UUID docenteId) {
+        return enAtencionPorDocente.getOrDefault(docenteId, 0);
+    }
+
+    /**
+     * Valida y reserva de forma atómica un cupo de solicitud pendiente para el solicitante.
+     * @param solicitanteId Solicitante que registra la solicitud
+     * @param validacion Recibe el conteo actual y lanza una excepción si no hay cupo
+     */
+    public void reservarPendiente(UUID solicitanteId, IntConsumer validacion) {
+        // La validación corre dentro del compute: si lanza, el contador queda intacto
+        pendientesPorSolicitante.compute(solicitanteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            validacion.accept(cantidad);
+            return cantidad + 1;
+        });
+    }
+
+    /**
+     * Devuelve un cupo de solicitud pendiente, ya sea porque la solicitud dejó de estar
+     * pendiente o porque la reserva no llegó a persistirse.
+     */
+    public void liberarPendiente(UUID solicitanteId) {
+        ajustar(pendientesPorSolicitante, solicitanteId, -1);
+    }
+
+    /**
+     * Valida y reserva de forma atómica un cupo de atención para el docente.
+     * @param docenteId Docente que será asignado como responsable
+     * @param validacion Recibe el conteo actual y lanza una excepción si no hay cupo
+     */
+    public void reservarEnAtencion(UUID docenteId, IntConsumer validacion) {
+        enAtencionPorDocente.compute(docenteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            validacion.accept(cantidad);
+            return moverDocente(id, cantidad, cantidad + 1);
+        });
+    }
+
+    /**
+     * Devuelve un cupo de atención del docente.
+     */
+    public void liberarEnAtencion(UUID docenteId) {
+        enAtencionPorDocente.compute(docenteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            return moverDocente(id, cantidad, Math.max(0, cantidad - 1));
+        });
+    }
+
+    /**
+     * Reserva un cupo de atención para el docente habilitado con menos solicitudes EN_ATENCION
+     * que aún no llegó al límite; entre docentes con la misma carga elige siempre en el mismo orden.
+     * @param disponible Se evalúa dentro de la reserva, en el mismo {@code compute} que
+     *                   {@link #deshabilitarDocente}; los docentes que rechaza se deshabilitan
+     *                   y se prueba el siguiente
+     * @return El docente reservado, o vacío si ninguno tiene cupo
+     */
+    public Optional<UUID> reservarDocenteMenosCargado(Predicate<UUID> disponible) {
+        for (int carga = 0; carga < MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE; carga++) {
+            for (UUID candidato : docentesPorCarga[carga]) {
+                if (reservarSiTieneCarga(candidato, carga, disponible)) return Optional.of(candidato);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Permite que el docente reciba asignaciones automáticas; se llama al crearlo o activarlo.
+     */
+    public void habilitarDocente(UUID docenteId) {
+        enAtencionPorDocente.compute(docenteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            if (docentesHabilitados.add(id)) docentesPorCarga[cubeta(cantidad)].add(id);
+            return actual;
+        });
+    }
+
+    /**
+     * Deja de ofrecer el docente para asignaciones automáticas; se llama al desactivarlo.
+     * Sus solicitudes EN_ATENCION siguen contando.
+     */
+    public void deshabilitarDocente(UUID docenteId) {
+        enAtencionPorDocente.compute(docenteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            if (docentesHabilitados.remove(id)) docentesPorCarga[cubeta(cantidad)].remove(id);
+            return actual;
+        });
+    }
+
+    private boolean reservarSiTieneCarga(UUID docenteId, int cargaEsperada, Predicate<UUID> disponible) {
+        boolean[] reservado = new boolean[1];
+        enAtencionPorDocente.compute(docenteId, (id, actual) -> {
+            int cantidad = actual == null ? 0 : actual;
+            // Otra operación cambió su carga desde que se leyó la cubeta: se sigue con el próximo candidato
+            if (cantidad != cargaEsperada || !docentesHabilitados.contains(id)) return actual;
+            if (!disponible.test(id)) {
+                docentesHabilitados.remove(id);
+                docentesPorCarga[cubeta(cantidad)].remove(id);
+                return actual;
+            }
+            reservado[0] = true;
+            return moverDocente(id, cantidad, cantidad + 1);
+        });
+        return reservado[0];
+    }
+
+    /** Cambia la cubeta del docente si está habilitado; debe llamarse dentro del compute de su contador. */
+    private Integer moverDocente(UUID docenteId, int anterior, int nueva) {
+        if (docentesHabilitados.contains(docenteId) && cubeta(anterior) != cubeta(nueva)) {
+            docentesPorCarga[cubeta(anterior)].remove(docenteId);
+            docentesPorCarga[cubeta(nueva)].add(docenteId);
+        }
+        // Al llegar a cero se elimina la entrada para no acumular usuarios inactivos
+        return nueva == 0 ? null : nueva;
+    }
+
+    private static int cubeta(int carga) {
+        return Math.max(0, Math.min(carga, MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE));
+    }
+
+    private static void ajustar(ConcurrentHashMap<UUID, Integer> contadores, UUID usuarioId, int delta) {
+        // compute es atómico por clave; al llegar a cero se elimina la entrada para no acumular usuarios inactivos
+        contadores.compute(usuarioId, (id, actual) -> {
+            int cantidad = Math.max(0, (actual == null ? 0 : actual) + delta);
+            return cantidad == 0 ? null : cantidad;
+        });
+    }
+}
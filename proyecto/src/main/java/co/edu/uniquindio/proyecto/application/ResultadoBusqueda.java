@@ -0,0 +1,10 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+/**
+ * Solicitud encontrada por una búsqueda de texto.
+ * @param puntaje Relevancia de la descripción para la consulta; mayor es más relevante
+ */
+public record ResultadoBusqueda(Solicitud solicitud, double puntaje) {
+}
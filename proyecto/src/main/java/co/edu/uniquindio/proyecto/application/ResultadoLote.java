@@ -0,0 +1,31 @@
+package co.edu.uniquindio.proyecto.application;
+
+import java.util.function.Function;
+
+/**
+ * Resultado de un elemento de una operación por lotes.
+ * @param indice Posición del elemento en el lote recibido
+ * @param valor Resultado del elemento, o null si falló
+ * @param error Motivo del fallo, o null si tuvo éxito
+ */
+public record ResultadoLote<T>(int indice, T valor, String error) {
+
+    public static <T> ResultadoLote<T> exito(int indice, T valor) {
+        return new ResultadoLote<>(indice, valor, null);
+    }
+
+    public static <T> ResultadoLote<T> fallo(int indice, String error) {
+        return new ResultadoLote<>(indice, null, error);
+    }
+
+    public boolean exitoso() {
+        return error == null;
+    }
+
+    /**
+     * Mismo resultado con el valor transformado; los fallos se conservan tal cual.
+     */
+    public <R> ResultadoLote<R> map(Function<? super T, ? extends R> transformar) {
+        return new ResultadoLote<>(indice, valor == null ? null : transformar.apply(valor), error);
+    }
+}
@@ -1,119 +1,466 @@
 package co.edu.uniquindio.proyecto.application;
 
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
 import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
 import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
 import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.exception.VersionMismatch;
 import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
 import co.edu.uniquindio.proyecto.domain.valueObject.*;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.*;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.OperacionSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.FiltroSolicitudes;
 import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
 import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class SolicitudApplicationService {
 
+    /** Tamaño máximo de página aceptado en los listados paginados */
+    public static final int LIMITE_MAXIMO_PAGINA = 500;
+    /** Cantidad máxima de solicitudes aceptadas en un registro por lotes */
+    public static final int LIMITE_MAXIMO_LOTE = 1000;
+
     private final SolicitudRepository solicitudRepository;
     private final UsuarioRepository usuarioRepository;
     private final SolicitudDomainService domainService;
+    private final RegistroCargaTrabajo cargaTrabajo;
+    private final MetricasSolicitudes metricas;
 
     public SolicitudApplicationService(
             SolicitudRepository solicitudRepository,
             UsuarioRepository usuarioRepository,
-            SolicitudDomainService domainService) {
+            SolicitudDomainService domainService,
+            RegistroCargaTrabajo cargaTrabajo,
+            MetricasSolicitudes metricas) {
         this.solicitudRepository = solicitudRepository;
         this.usuarioRepository = usuarioRepository;
         this.domainService = domainService;
+        this.cargaTrabajo = cargaTrabajo;
+        this.metricas = metricas;
     }
 
     public Solicitud crearSolicitud(UUID solicitanteId, String nombreSolicitante, 
                                      CanalOrigen canalOrigen, String descripcion) {
-        if (solicitanteId == null) throw new DomainException("El ID del solicitante es obligatorio");
-        if (nombreSolicitante == null || nombreSolicitante.isBlank()) {
-            throw new DomainException("El nombre del solicitante es obligatorio");
-        }
-        if (canalOrigen == null) throw new DomainException("El canal de origen es obligatorio");
-        if (descripcion == null || descripcion.isBlank()) {
-            throw new DomainException("La descripción es obligatoria");
-        }
+        return metricas.medir(OperacionSolicitud.CREAR, () -> {
+            validarDatosSolicitud(solicitanteId, nombreSolicitante, canalOrigen, descripcion);
+
+            IdentificacionUsuario idSolicitante = new IdentificacionUsuario(solicitanteId);
+            Usuario solicitante = usuarioRepository.findById(idSolicitante)
+                    .orElseThrow(() -> new DomainException("Solicitante no encontrado"));
+
+            UsuarioReferencia solicitanteRef = new UsuarioReferencia(solicitanteId, nombreSolicitante);
+            DescripcionSolicitud descripcionVO = new DescripcionSolicitud(descripcion);
+
+            cargaTrabajo.reservarPendiente(solicitanteId,
+                    pendientes -> domainService.validarCrearSolicitud(solicitante, pendientes));
+            Solicitud guardada;
+            try {
+                guardada = solicitudRepository.save(Solicitud.crear(solicitanteRef, canalOrigen, descripcionVO));
+            } catch (RuntimeException e) {
+                cargaTrabajo.liberarPendiente(solicitanteId);
+                throw e;
+            }
 
-        IdentificacionUsuario idSolicitante = new IdentificacionUsuario(solicitanteId);
-        Usuario solicitante = usuarioRepository.findById(idSolicitante)
-                .orElseThrow(() -> new DomainException("Solicitante no encontrado"));
+            // Igual que en el lote: el solicitante solo referencia solicitudes ya guardadas
+            try {
+                registrarEnSolicitantes(Map.of(idSolicitante, solicitante), Map.of(idSolicitante, List.of(guardada.id())));
+            } catch (RuntimeException e) {
+                solicitudRepository.delete(guardada);
+                cargaTrabajo.liberarPendiente(solicitanteId);
+                throw e;
+            }
+            return guardada;
+        });
+    }
+
+    /**
+     * Registra un lote de solicitudes como una sola unidad de trabajo.
+     *
+     * Los solicitantes se buscan una sola vez para todo el lote y el límite de solicitudes
+     * pendientes se aplica acumulando las del mismo lote. Cada elemento se valida por separado:
+     * los que no cumplen las reglas se informan como fallidos sin afectar al resto, y los válidos
+     * se guardan juntos con {@code saveAll}, que las guarda todas o ninguna. Solo después se
+     * registran en sus solicitantes; si guardar los solicitantes falla, las solicitudes del lote
+     * se eliminan y sus cupos de pendientes se liberan.
+     * @param lote Solicitudes a registrar, como máximo {@value #LIMITE_MAXIMO_LOTE}
+     * @return Un resultado por elemento, en el mismo orden del lote
+     */
+    public List<ResultadoLote<Solicitud>> crearSolicitudesEnLote(List<NuevaSolicitud> lote) {
+        return metricas.medir(OperacionSolicitud.CREAR_LOTE, () -> {
+            if (lote == null || lote.isEmpty()) throw new DomainException("El lote debe contener al menos una solicitud");
+            if (lote.size() > LIMITE_MAXIMO_LOTE) {
+                throw new DomainException("El lote no puede superar " + LIMITE_MAXIMO_LOTE + " solicitudes");
+            }
+
+            Set<IdentificacionUsuario> ids = new HashSet<>();
+            for (NuevaSolicitud nueva : lote) {
+                if (nueva != null && nueva.solicitanteId() != null) ids.add(new IdentificacionUsuario(nueva.solicitanteId()));
+            }
+            Map<IdentificacionUsuario, Usuario> solicitantes = usuarioRepository.findAllById(ids);
 
-        List<Solicitud> solicitudesExistentes = solicitudRepository.findAll();
-        domainService.validarCrearSolicitud(solicitante, solicitudesExistentes);
+            List<ResultadoLote<Solicitud>> resultados = new ArrayList<>(lote.size());
+            List<Solicitud> creadas = new ArrayList<>();
+            List<Integer> indicesCreadas = new ArrayList<>();
+            for (int i = 0; i < lote.size(); i++) {
+                NuevaSolicitud nueva = lote.get(i);
+                resultados.add(null);
+                try {
+                    if (nueva == null) throw new DomainException("La solicitud es obligatoria");
+                    validarDatosSolicitud(nueva.solicitanteId(), nueva.nombreSolicitante(),
+                            nueva.canalOrigen(), nueva.descripcion());
+                    Usuario solicitante = solicitantes.get(new IdentificacionUsuario(nueva.solicitanteId()));
+                    if (solicitante == null) throw new DomainException("Solicitante no encontrado");
+                    UsuarioReferencia solicitanteRef = new UsuarioReferencia(nueva.solicitanteId(), nueva.nombreSolicitante());
+                    DescripcionSolicitud descripcionVO = new DescripcionSolicitud(nueva.descripcion());
 
-        UsuarioReferencia solicitanteRef = new UsuarioReferencia(solicitanteId, nombreSolicitante);
-        DescripcionSolicitud descripcionVO = new DescripcionSolicitud(descripcion);
+                    // El contador ya incluye las reservas de los elementos anteriores del lote
+                    cargaTrabajo.reservarPendiente(nueva.solicitanteId(),
+                            pendientes -> domainService.validarCrearSolicitud(solicitante, pendientes));
+                    creadas.add(Solicitud.crear(solicitanteRef, nueva.canalOrigen(), descripcionVO));
+                    indicesCreadas.add(i);
+                } catch (DomainException e) {
+                    metricas.registrarRechazo(OperacionSolicitud.CREAR_LOTE, e);
+                    resultados.set(i, ResultadoLote.fallo(i, e.getMessage()));
+                }
+            }
 
-        Solicitud solicitud = Solicitud.crear(solicitanteRef, canalOrigen, descripcionVO);
-        
-        solicitante.agregarSolicitudRegistrada(new UsuarioReferencia(
-                solicitud.id().value(), 
-                "Solicitud #" + solicitud.id().value().toString().substring(0, 8)
-        ));
-        usuarioRepository.save(solicitante);
+            List<Solicitud> guardadas;
+            try {
+                guardadas = solicitudRepository.saveAll(creadas);
+            } catch (RuntimeException e) {
+                liberarPendientes(creadas);
+                throw e;
+            }
 
-        return solicitudRepository.save(solicitud);
+            Map<IdentificacionUsuario, List<SolicitudId>> porSolicitante = new LinkedHashMap<>();
+            for (Solicitud guardada : guardadas) {
+                porSolicitante.computeIfAbsent(new IdentificacionUsuario(guardada.solicitante().value()),
+                        id -> new ArrayList<>()).add(guardada.id());
+            }
+            try {
+                registrarEnSolicitantes(solicitantes, porSolicitante);
+            } catch (RuntimeException e) {
+                for (Solicitud guardada : guardadas) {
+                    solicitudRepository.delete(guardada);
+                }
+                liberarPendientes(guardadas);
+                throw e;
+            }
+
+            for (int j = 0; j < guardadas.size(); j++) {
+                int indice = indicesCreadas.get(j);
+                resultados.set(indice, ResultadoLote.exito(indice, guardadas.get(j)));
+            }
+            return resultados;
+        });
     }
 
     public Solicitud clasificarSolicitud(UUID solicitudId, TipoSolicitud tipo, UUID coordinadorId) {
-        Solicitud solicitud = obtenerSolicitud(solicitudId);
-        UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
-        
-        solicitud.clasificar(tipo, coordinador);
-        return solicitudRepository.save(solicitud);
+        return clasificarSolicitud(solicitudId, tipo, coordinadorId, null);
+    }
+
+    /**
+     * Las transiciones que reciben {@code versionEsperada} solo se aplican si la solicitud está en esa
+     * versión (null no exige ninguna).
+     * @throws VersionMismatch si la solicitud está en otra versión
+     */
+    public Solicitud clasificarSolicitud(UUID solicitudId, TipoSolicitud tipo, UUID coordinadorId, Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.CLASIFICAR, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+            UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
+
+            solicitud.clasificar(tipo, coordinador);
+            return solicitudRepository.save(solicitud);
+        });
     }
 
     public Solicitud priorizarSolicitud(UUID solicitudId, Prioridad prioridad, 
                                         String justificacion, UUID coordinadorId) {
-        Solicitud solicitud = obtenerSolicitud(solicitudId);
-        UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
-        
-        JustificacionPrioridad justificacionVO = new JustificacionPrioridad(justificacion);
-        solicitud.priorizar(prioridad, justificacionVO, coordinador);
-        return solicitudRepository.save(solicitud);
+        return priorizarSolicitud(solicitudId, prioridad, justificacion, coordinadorId, null);
+    }
+
+    public Solicitud priorizarSolicitud(UUID solicitudId, Prioridad prioridad, String justificacion,
+                                        UUID coordinadorId, Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.PRIORIZAR, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+            UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
+
+            JustificacionPrioridad justificacionVO = new JustificacionPrioridad(justificacion);
+            solicitud.priorizar(prioridad, justificacionVO, coordinador);
+            return solicitudRepository.save(solicitud);
+        });
     }
 
     public Solicitud asignarResponsable(UUID solicitudId, UUID responsableId, UUID coordinadorId) {
-        Solicitud solicitud = obtenerSolicitud(solicitudId);
-        
-        IdentificacionUsuario idResponsable = new IdentificacionUsuario(responsableId);
-        Usuario responsable = usuarioRepository.findById(idResponsable)
-                .orElseThrow(() -> new DomainException("Responsable no encontrado"));
-        
-        List<Solicitud> solicitudesExistentes = solicitudRepository.findAll();
-        domainService.validarAsignarResponsable(responsable, solicitudesExistentes);
-        
-        UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
-        solicitud.asignarResponsable(responsable, coordinador);
-        return solicitudRepository.save(solicitud);
+        return asignarResponsable(solicitudId, responsableId, coordinadorId, null);
+    }
+
+    public Solicitud asignarResponsable(UUID solicitudId, UUID responsableId, UUID coordinadorId, Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.ASIGNAR_RESPONSABLE, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+
+            IdentificacionUsuario idResponsable = new IdentificacionUsuario(responsableId);
+            Usuario responsable = usuarioRepository.findById(idResponsable)
+                    .orElseThrow(() -> new DomainException("Responsable no encontrado"));
+
+            UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
+
+            // El cupo del docente se reserva antes de la transición y se devuelve si el guardado
+            // falla, p. ej. porque otro coordinador asignó la misma solicitud primero
+            cargaTrabajo.reservarEnAtencion(responsableId,
+                    enAtencion -> domainService.validarAsignarResponsable(responsable, enAtencion));
+            try {
+                solicitud.asignarResponsable(responsable, coordinador);
+                return solicitudRepository.save(solicitud);
+            } catch (RuntimeException e) {
+                cargaTrabajo.liberarEnAtencion(responsableId);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Asigna la solicitud al docente activo con menos solicitudes EN_ATENCION que aún tiene cupo.
+     * El docente sale de las cubetas de carga de {@link RegistroCargaTrabajo}, sin recorrer
+     * solicitudes. Que esté activo se comprueba dentro de la reserva: como desactivar lo
+     * deshabilita antes de guardarlo, un docente que se desactiva no puede reservarse después.
+     * @throws BusinessRuleViolation si ningún docente activo tiene cupo de atención
+     */
+    public Solicitud asignarAutomaticamente(UUID solicitudId, UUID coordinadorId) {
+        return asignarAutomaticamente(solicitudId, coordinadorId, null);
+    }
+
+    public Solicitud asignarAutomaticamente(UUID solicitudId, UUID coordinadorId, Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.ASIGNAR_AUTOMATICAMENTE, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+            if (solicitud.estado() != EstadoSolicitud.CLASIFICADA) {
+                throw new BusinessRuleViolation("Solo se puede asignar responsable en estado CLASIFICADA");
+            }
+            UsuarioReferencia coordinador = obtenerReferenciaUsuario(coordinadorId);
+
+            Usuario[] elegido = new Usuario[1];
+            UUID docenteId = cargaTrabajo.reservarDocenteMenosCargado(id -> {
+                // Si el registro no estaba al día con este usuario, se retira y se prueba el siguiente
+                elegido[0] = usuarioRepository.findById(new IdentificacionUsuario(id)).orElse(null);
+                return elegido[0] != null && elegido[0].activo() && elegido[0].rol() == Rol.DOCENTE;
+            }).orElseThrow(() -> new BusinessRuleViolation("Ningún docente activo tiene cupo de atención"));
+            try {
+                solicitud.asignarResponsable(elegido[0], coordinador);
+                return solicitudRepository.save(solicitud);
+            } catch (RuntimeException e) {
+                cargaTrabajo.liberarEnAtencion(docenteId);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Aplica un lote de transiciones de coordinación (clasificar, priorizar y asignar responsable).
+     *
+     * El coordinador y los responsables se buscan una sola vez para todo el lote, cada solicitud
+     * se carga una sola vez aunque reciba varios comandos, y los comandos de una misma solicitud
+     * se aplican en el orden del lote. Un comando que no cumple las reglas se informa como fallido
+     * sin afectar a los demás; las solicitudes modificadas se guardan juntas con {@code saveAll}.
+     * Si otra operación modificó una solicitud mientras tanto, sus comandos se informan como
+     * fallidos, se liberan los cupos que reservaron y se guardan las demás.
+     * @param coordinadorId Coordinador que realiza las transiciones
+     * @param comandos Transiciones a aplicar, como máximo {@value #LIMITE_MAXIMO_LOTE}
+     * @return Un resultado por comando, en el mismo orden, con el estado final de la solicitud
+     */
+    public List<ResultadoLote<Solicitud>> aplicarTransicionesEnLote(UUID coordinadorId, List<ComandoTransicion> comandos) {
+        return metricas.medir(OperacionSolicitud.TRANSICIONES_LOTE, () -> {
+            if (coordinadorId == null) throw new DomainException("El ID del coordinador es obligatorio");
+            if (comandos == null || comandos.isEmpty()) throw new DomainException("El lote debe contener al menos un comando");
+            if (comandos.size() > LIMITE_MAXIMO_LOTE) {
+                throw new DomainException("El lote no puede superar " + LIMITE_MAXIMO_LOTE + " comandos");
+            }
+
+            Set<IdentificacionUsuario> idsUsuarios = new HashSet<>();
+            idsUsuarios.add(new IdentificacionUsuario(coordinadorId));
+            for (ComandoTransicion comando : comandos) {
+                if (comando instanceof ComandoTransicion.AsignarResponsable asignar && asignar.responsableId() != null) {
+                    idsUsuarios.add(new IdentificacionUsuario(asignar.responsableId()));
+                }
+            }
+            Map<IdentificacionUsuario, Usuario> usuarios = usuarioRepository.findAllById(idsUsuarios);
+            Usuario coordinadorUsuario = usuarios.get(new IdentificacionUsuario(coordinadorId));
+            if (coordinadorUsuario == null) throw new DomainException("Usuario no encontrado");
+            UsuarioReferencia coordinador = new UsuarioReferencia(coordinadorUsuario.id().value(), coordinadorUsuario.nombre());
+
+            // Cada solicitud se carga una vez; null marca las que no existen
+            Map<UUID, Solicitud> solicitudes = new HashMap<>();
+            Map<UUID, Solicitud> modificadas = new LinkedHashMap<>();
+            Map<UUID, List<UUID>> reservasEnAtencion = new HashMap<>();
+            List<ResultadoLote<Solicitud>> resultados = new ArrayList<>(comandos.size());
+            for (int i = 0; i < comandos.size(); i++) {
+                ComandoTransicion comando = comandos.get(i);
+                resultados.add(null);
+                try {
+                    if (comando == null || comando.solicitudId() == null) {
+                        throw new DomainException("El ID de la solicitud es obligatorio");
+                    }
+                    Solicitud solicitud = solicitudes.computeIfAbsent(comando.solicitudId(),
+                            id -> solicitudRepository.findById(new SolicitudId(id)).orElse(null));
+                    if (solicitud == null) throw new DomainException("Solicitud no encontrada");
+
+                    switch (comando) {
+                        case ComandoTransicion.Clasificar c -> solicitud.clasificar(c.tipo(), coordinador);
+                        case ComandoTransicion.Priorizar p -> solicitud.priorizar(p.prioridad(),
+                                new JustificacionPrioridad(p.justificacion()), coordinador);
+                        case ComandoTransicion.AsignarResponsable a -> {
+                            Usuario responsable = a.responsableId() == null ? null
+                                    : usuarios.get(new IdentificacionUsuario(a.responsableId()));
+                            if (responsable == null) throw new DomainException("Responsable no encontrado");
+                            cargaTrabajo.reservarEnAtencion(a.responsableId(),
+                                    enAtencion -> domainService.validarAsignarResponsable(responsable, enAtencion));
+                            try {
+                                solicitud.asignarResponsable(responsable, coordinador);
+                            } catch (RuntimeException e) {
+                                cargaTrabajo.liberarEnAtencion(a.responsableId());
+                                throw e;
+                            }
+                            reservasEnAtencion.computeIfAbsent(comando.solicitudId(), id -> new ArrayList<>())
+                                    .add(a.responsableId());
+                        }
+                    }
+                    modificadas.put(comando.solicitudId(), solicitud);
+                    resultados.set(i, ResultadoLote.exito(i, solicitud));
+                } catch (DomainException e) {
+                    metricas.registrarRechazo(OperacionSolicitud.TRANSICIONES_LOTE, e);
+                    resultados.set(i, ResultadoLote.fallo(i, e.getMessage()));
+                }
+            }
+
+            // Cada conflicto implica una solicitud ya desactualizada, así que el conjunto a guardar se reduce
+            List<Solicitud> guardadas = null;
+            while (guardadas == null) {
+                descartarDesactualizadas(modificadas, reservasEnAtencion, resultados);
+                try {
+                    guardadas = solicitudRepository.saveAll(new ArrayList<>(modificadas.values()));
+                } catch (ConcurrencyConflict e) {
+                    // Otra operación la modificó entre la comprobación y el guardado: se vuelve a comprobar
+                } catch (RuntimeException e) {
+                    for (UUID id : modificadas.keySet()) {
+                        liberarEnAtencion(reservasEnAtencion.get(id));
+                    }
+                    throw e;
+                }
+            }
+
+            // Los resultados exitosos apuntan a la instancia modificada; se cambian por la guardada
+            Map<UUID, Solicitud> porId = new HashMap<>();
+            for (Solicitud guardada : guardadas) {
+                porId.put(guardada.id().value(), guardada);
+            }
+            for (int i = 0; i < resultados.size(); i++) {
+                ResultadoLote<Solicitud> resultado = resultados.get(i);
+                if (resultado.exitoso()) {
+                    resultados.set(i, ResultadoLote.exito(i, porId.get(resultado.valor().id().value())));
+                }
+            }
+            return resultados;
+        });
     }
 
     public Solicitud marcarAtendida(UUID solicitudId, UUID responsableId, String observacion) {
-        Solicitud solicitud = obtenerSolicitud(solicitudId);
-        UsuarioReferencia responsable = obtenerReferenciaUsuario(responsableId);
-        
-        solicitud.marcarAtendida(responsable, observacion);
-        return solicitudRepository.save(solicitud);
+        return marcarAtendida(solicitudId, responsableId, observacion, null);
+    }
+
+    public Solicitud marcarAtendida(UUID solicitudId, UUID responsableId, String observacion, Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.MARCAR_ATENDIDA, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+            UsuarioReferencia responsable = obtenerReferenciaUsuario(responsableId);
+
+            solicitud.marcarAtendida(responsable, observacion);
+            Solicitud guardada = solicitudRepository.save(solicitud);
+            cargaTrabajo.liberarEnAtencion(guardada.responsable().value());
+            cargaTrabajo.liberarPendiente(guardada.solicitante().value());
+            return guardada;
+        });
     }
 
     public Solicitud cerrarSolicitud(UUID solicitudId, UUID responsableId, String observacionCierre) {
-        Solicitud solicitud = obtenerSolicitud(solicitudId);
-        UsuarioReferencia responsable = obtenerReferenciaUsuario(responsableId);
-        
-        solicitud.cerrar(responsable, observacionCierre);
-        return solicitudRepository.save(solicitud);
+        return cerrarSolicitud(solicitudId, responsableId, observacionCierre, null);
+    }
+
+    public Solicitud cerrarSolicitud(UUID solicitudId, UUID responsableId, String observacionCierre,
+                                     Long versionEsperada) {
+        return metricas.medir(OperacionSolicitud.CERRAR, () -> {
+            Solicitud solicitud = obtenerSolicitud(solicitudId, versionEsperada);
+            UsuarioReferencia responsable = obtenerReferenciaUsuario(responsableId);
+
+            solicitud.cerrar(responsable, observacionCierre);
+            return solicitudRepository.save(solicitud);
+        });
     }
 
     public Solicitud obtenerSolicitud(UUID solicitudId) {
-        SolicitudId id = new SolicitudId(solicitudId);
-        return solicitudRepository.findById(id)
-                .orElseThrow(() -> new DomainException("Solicitud no encontrada"));
+        return metricas.medir(OperacionSolicitud.CONSULTAR, () -> {
+            SolicitudId id = new SolicitudId(solicitudId);
+            return solicitudRepository.findById(id)
+                    .orElseThrow(() -> new DomainException("Solicitud no encontrada"));
+        });
+    }
+
+    /**
+     * Versión actual de la solicitud, leída sin materializarla ni copiar su historial.
+     */
+    public long consultarVersion(UUID solicitudId) {
+        return metricas.medir(OperacionSolicitud.CONSULTAR_VERSION, () ->
+                solicitudRepository.findVersionById(new SolicitudId(solicitudId))
+                        .orElseThrow(() -> new DomainException("Solicitud no encontrada")));
+    }
+
+    /**
+     * Carga la solicitud para una transición. Si después otra operación la guarda primero, el
+     * compare-and-swap del guardado la rechaza igual que sin versión esperada.
+     */
+    private Solicitud obtenerSolicitud(UUID solicitudId, Long versionEsperada) {
+        Solicitud solicitud = obtenerSolicitud(solicitudId);
+        if (versionEsperada != null && solicitud.version() != versionEsperada) {
+            throw new VersionMismatch("La solicitud " + solicitudId + " está en la versión " + solicitud.version()
+                    + " y se esperaba la " + versionEsperada);
+        }
+        return solicitud;
+    }
+
+    /**
+     * Página del historial de una solicitud en orden cronológico. El historial solo crece, así que
+     * el cursor es la posición de la siguiente entrada y sigue siendo válido aunque se agreguen más.
+     * @param desde Posición de la primera entrada (paginación por desplazamiento); se ignora si hay cursor
+     * @param cursor Cursor devuelto por la página anterior, o null
+     * @param limite Tamaño de página, entre 1 y {@value #LIMITE_MAXIMO_PAGINA}
+     */
+    public Pagina<EntradaHistorial> consultarHistorial(UUID solicitudId, int desde, String cursor, int limite) {
+        return metricas.medir(OperacionSolicitud.CONSULTAR_HISTORIAL, () -> {
+            if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+                throw new DomainException("El límite de página debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+            }
+            int inicio = cursor == null || cursor.isBlank() ? desde : decodificarPosicion(cursor);
+            if (inicio < 0) throw new DomainException("La posición inicial del historial no puede ser negativa");
+
+            Solicitud solicitud = solicitudRepository.findById(new SolicitudId(solicitudId))
+                    .orElseThrow(() -> new DomainException("Solicitud no encontrada"));
+            List<EntradaHistorial> entradas = solicitud.historial(inicio, limite);
+            int siguiente = inicio + entradas.size();
+            return new Pagina<>(entradas, siguiente < solicitud.cantidadHistorial() ? Integer.toString(siguiente) : null);
+        });
     }
 
     public List<Solicitud> listarSolicitudes() {
@@ -124,6 +471,129 @@ public class SolicitudApplicationService {
         return solicitudRepository.findBySolicitanteId(solicitanteId);
     }
 
+    /**
+     * Lista una página de solicitudes por cursor (keyset): el costo depende del tamaño
+     * de la página y no del total de solicitudes almacenadas.
+     * @param filtro Criterios de filtrado
+     * @param cursor Cursor devuelto por la página anterior, o null para empezar
+     * @param limite Tamaño de página, entre 1 y {@value #LIMITE_MAXIMO_PAGINA}
+     */
+    public Pagina<Solicitud> listarSolicitudes(FiltroSolicitudes filtro, String cursor, int limite) {
+        return metricas.medir(OperacionSolicitud.LISTAR, () -> {
+            if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+                throw new DomainException("El límite de página debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+            }
+            SolicitudId despuesDe = decodificarCursor(cursor);
+
+            // Se pide un elemento de más para saber si existe una página siguiente
+            List<Solicitud> solicitudes = solicitudRepository.findPage(filtro, despuesDe, limite + 1);
+            if (solicitudes.size() <= limite) {
+                return new Pagina<>(solicitudes, null);
+            }
+            List<Solicitud> pagina = solicitudes.subList(0, limite);
+            return new Pagina<>(pagina, pagina.get(limite - 1).id().value().toString());
+        });
+    }
+
+    public Pagina<Solicitud> listarSolicitudesPorSolicitante(UUID solicitanteId, String cursor, int limite) {
+        return listarSolicitudes(FiltroSolicitudes.porSolicitante(solicitanteId), cursor, limite);
+    }
+
+    /**
+     * Recorre las solicitudes que cumplen el filtro sin cargarlas todas en memoria.
+     * El stream debe cerrarse o consumirse por completo dentro de la misma petición.
+     */
+    public Stream<Solicitud> recorrerSolicitudes(FiltroSolicitudes filtro) {
+        return solicitudRepository.stream(filtro);
+    }
+
+    /**
+     * Quita del lote las solicitudes cuya versión almacenada ya no es la cargada: sus comandos
+     * pasan a fallidos y sus cupos en atención se liberan, porque no llegarán a guardarse.
+     */
+    private void descartarDesactualizadas(Map<UUID, Solicitud> modificadas, Map<UUID, List<UUID>> reservasEnAtencion,
+                                          List<ResultadoLote<Solicitud>> resultados) {
+        Iterator<Solicitud> pendientes = modificadas.values().iterator();
+        while (pendientes.hasNext()) {
+            Solicitud solicitud = pendientes.next();
+            if (solicitudRepository.findVersionById(solicitud.id()).orElse(-1) == solicitud.version()) continue;
+
+            pendientes.remove();
+            liberarEnAtencion(reservasEnAtencion.get(solicitud.id().value()));
+            for (int i = 0; i < resultados.size(); i++) {
+                ResultadoLote<Solicitud> resultado = resultados.get(i);
+                if (resultado.exitoso() && resultado.valor().id().equals(solicitud.id())) {
+                    resultados.set(i, ResultadoLote.fallo(i, "La solicitud fue modificada por otra operación"));
+                }
+            }
+        }
+    }
+
+    private void liberarEnAtencion(List<UUID> responsables) {
+        if (responsables == null) return;
+        responsables.forEach(cargaTrabajo::liberarEnAtencion);
+    }
+
+    /**
+     * Agrega las solicitudes a las registradas por cada solicitante. Los usuarios son inmutables y
+     * se guardan con compare-and-swap: si otra operación guardó a alguno entre la lectura y el
+     * guardado, se vuelven a leer y se reintenta; cada conflicto implica que la otra sí se guardó.
+     * @param leidos Solicitantes ya leídos, para el primer intento
+     */
+    private void registrarEnSolicitantes(Map<IdentificacionUsuario, Usuario> leidos,
+                                         Map<IdentificacionUsuario, List<SolicitudId>> porSolicitante) {
+        Map<IdentificacionUsuario, Usuario> actuales = leidos;
+        while (true) {
+            List<Usuario> actualizados = new ArrayList<>(porSolicitante.size());
+            for (Map.Entry<IdentificacionUsuario, List<SolicitudId>> registro : porSolicitante.entrySet()) {
+                Usuario solicitante = actuales.get(registro.getKey());
+                if (solicitante == null) throw new DomainException("Solicitante no encontrado");
+                actualizados.add(solicitante.conSolicitudesRegistradas(registro.getValue()));
+            }
+            try {
+                usuarioRepository.saveAll(actualizados);
+                return;
+            } catch (ConcurrencyConflict e) {
+                actuales = usuarioRepository.findAllById(porSolicitante.keySet());
+            }
+        }
+    }
+
+    private void liberarPendientes(List<Solicitud> solicitudes) {
+        for (Solicitud solicitud : solicitudes) {
+            cargaTrabajo.liberarPendiente(solicitud.solicitante().value());
+        }
+    }
+
+    private static SolicitudId decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return new SolicitudId(UUID.fromString(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Cursor de paginación inválido");
+        }
+    }
+
+    private static int decodificarPosicion(String cursor) {
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new DomainException("Cursor de paginación inválido");
+        }
+    }
+
+    private static void validarDatosSolicitud(UUID solicitanteId, String nombreSolicitante,
+                                              CanalOrigen canalOrigen, String descripcion) {
+        if (solicitanteId == null) throw new DomainException("El ID del solicitante es obligatorio");
+        if (nombreSolicitante == null || nombreSolicitante.isBlank()) {
+            throw new DomainException("El nombre del solicitante es obligatorio");
+        }
+        if (canalOrigen == null) throw new DomainException("El canal de origen es obligatorio");
+        if (descripcion == null || descripcion.isBlank()) {
+            throw new DomainException("La descripción es obligatoria");
+        }
+    }
+
     private UsuarioReferencia obtenerReferenciaUsuario(UUID usuarioId) {
         IdentificacionUsuario id = new IdentificacionUsuario(usuarioId);
         Usuario usuario = usuarioRepository.findById(id)
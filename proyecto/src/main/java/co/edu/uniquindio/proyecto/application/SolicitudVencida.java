@@ -0,0 +1,12 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.time.Instant;
+
+/**
+ * Solicitud que superó el plazo de atención de su estado actual.
+ * @param venceEn Momento en que se cumplió el plazo
+ */
+public record SolicitudVencida(Solicitud solicitud, Instant venceEn) {
+}
@@ -0,0 +1,83 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.OperacionSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.vencimientos.MonitorVencimientos;
+import co.edu.uniquindio.proyecto.infrastructure.vencimientos.Vencimiento;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Consulta de las solicitudes que los coordinadores deben atender primero y de las que ya
+ * superaron su plazo de atención.
+ */
+@Service
+public class TriajeApplicationService {
+
+    private final SolicitudRepository solicitudRepository;
+    private final ColaTriaje colaTriaje;
+    private final MonitorVencimientos monitorVencimientos;
+    private final MetricasSolicitudes metricas;
+
+    public TriajeApplicationService(SolicitudRepository solicitudRepository, ColaTriaje colaTriaje,
+                                    MonitorVencimientos monitorVencimientos, MetricasSolicitudes metricas) {
+        this.solicitudRepository = solicitudRepository;
+        this.colaTriaje = colaTriaje;
+        this.monitorVencimientos = monitorVencimientos;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Primeras solicitudes por atender (REGISTRADA y CLASIFICADA), por prioridad y antigüedad.
+     * Usa el índice de {@link ColaTriaje} y solo lee del repositorio las solicitudes que devuelve.
+     * @param limite Cantidad máxima, entre 1 y {@value SolicitudApplicationService#LIMITE_MAXIMO_PAGINA}
+     */
+    public List<Solicitud> consultarCola(int limite) {
+        return metricas.medir(OperacionSolicitud.CONSULTAR_COLA, () -> {
+            if (limite < 1 || limite > SolicitudApplicationService.LIMITE_MAXIMO_PAGINA) {
+                throw new DomainException("El límite de la cola debe estar entre 1 y "
+                        + SolicitudApplicationService.LIMITE_MAXIMO_PAGINA);
+            }
+            List<Solicitud> primeras = new ArrayList<>(limite);
+            Iterator<SolicitudId> ids = colaTriaje.recorrer();
+            while (primeras.size() < limite && ids.hasNext()) {
+                // Una transición concurrente puede haberla sacado de la cola después de leer el índice
+                solicitudRepository.findById(ids.next())
+                        .filter(solicitud -> solicitud.estado() == EstadoSolicitud.REGISTRADA
+                                || solicitud.estado() == EstadoSolicitud.CLASIFICADA)
+                        .ifPresent(primeras::add);
+            }
+            return primeras;
+        });
+    }
+
+    /**
+     * Solicitudes que superaron el plazo de atención de su estado, en el orden en que vencieron.
+     * Usa la lista de {@link MonitorVencimientos} y solo lee del repositorio las que devuelve.
+     * @param limite Cantidad máxima, entre 1 y {@value SolicitudApplicationService#LIMITE_MAXIMO_PAGINA}
+     */
+    public List<SolicitudVencida> consultarVencidas(int limite) {
+        return metricas.medir(OperacionSolicitud.CONSULTAR_VENCIDAS, () -> {
+            if (limite < 1 || limite > SolicitudApplicationService.LIMITE_MAXIMO_PAGINA) {
+                throw new DomainException("El límite de vencidas debe estar entre 1 y "
+                        + SolicitudApplicationService.LIMITE_MAXIMO_PAGINA);
+            }
+            List<SolicitudVencida> vencidas = new ArrayList<>(limite);
+            for (Vencimiento vencimiento : monitorVencimientos.vencidas(limite)) {
+                // Una transición concurrente puede haberla cambiado de estado después de leer la lista
+                solicitudRepository.findById(vencimiento.id())
+                        .filter(solicitud -> solicitud.estado() == vencimiento.estado())
+                        .ifPresent(solicitud -> vencidas.add(new SolicitudVencida(solicitud, vencimiento.venceEn())));
+            }
+            return vencidas;
+        });
+    }
+}
@@ -2,6 +2,7 @@ package co.edu.uniquindio.proyecto.application;
 
 import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
 import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
 import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
 import org.springframework.stereotype.Service;
@@ -12,9 +13,11 @@ import java.util.List;
 public class UsuarioApplicationService {
 
     private final UsuarioRepository usuarioRepository;
+    private final RegistroCargaTrabajo cargaTrabajo;
 
-    public UsuarioApplicationService(UsuarioRepository usuarioRepository) {
+    public UsuarioApplicationService(UsuarioRepository usuarioRepository, RegistroCargaTrabajo cargaTrabajo) {
         this.usuarioRepository = usuarioRepository;
+        this.cargaTrabajo = cargaTrabajo;
     }
 
     public Usuario crearUsuario(String nombre, Rol rol) {
@@ -25,8 +28,9 @@ public class UsuarioApplicationService {
             throw new IllegalArgumentException("El rol es obligatorio");
         }
 
-        Usuario usuario = Usuario.crear(nombre, rol);
-        return usuarioRepository.save(usuario);
+        Usuario usuario = usuarioRepository.save(Usuario.crear(nombre, rol));
+        if (rol == Rol.DOCENTE) cargaTrabajo.habilitarDocente(usuario.id().value());
+        return usuario;
     }
 
     public Usuario obtenerUsuario(IdentificacionUsuario id) {
@@ -34,19 +38,47 @@ public class UsuarioApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
     }
 
+    /**
+     * Solicitudes registradas por el usuario, por páginas y en orden de registro.
+     * @param desde Posición de la primera, si no hay cursor
+     * @param cursor Cursor de la página anterior, o null
+     * @param limite Tamaño de página, entre 1 y {@value SolicitudApplicationService#LIMITE_MAXIMO_PAGINA}
+     */
+    public Pagina<UsuarioReferencia> consultarSolicitudesRegistradas(IdentificacionUsuario id, int desde,
+                                                                      String cursor, int limite) {
+        if (limite < 1 || limite > SolicitudApplicationService.LIMITE_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("El límite de página debe estar entre 1 y "
+                    + SolicitudApplicationService.LIMITE_MAXIMO_PAGINA);
+        }
+        int inicio;
+        try {
+            inicio = cursor == null || cursor.isBlank() ? desde : Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido");
+        }
+        if (inicio < 0) throw new IllegalArgumentException("La posición inicial no puede ser negativa");
+
+        Usuario usuario = obtenerUsuario(id);
+        List<UsuarioReferencia> referencias = usuario.solicitudesRegistradas(inicio, limite);
+        int siguiente = inicio + referencias.size();
+        return new Pagina<>(referencias,
+                siguiente < usuario.cantidadSolicitudesRegistradas() ? Integer.toString(siguiente) : null);
+    }
+
     public List<Usuario> listarUsuarios() {
         return usuarioRepository.findAll();
     }
 
     public void desactivarUsuario(IdentificacionUsuario id) {
         Usuario usuario = obtenerUsuario(id);
-        usuario.desactivar();
-        usuarioRepository.save(usuario);
+        // Primero deja de ofrecerse para asignación automática y después se persiste inactivo
+        if (usuario.rol() == Rol.DOCENTE) cargaTrabajo.deshabilitarDocente(id.value());
+        if (usuario.activo()) usuarioRepository.save(usuario.desactivado());
     }
 
     public void activarUsuario(IdentificacionUsuario id) {
         Usuario usuario = obtenerUsuario(id);
-        usuario.activar();
-        usuarioRepository.save(usuario);
+        if (!usuario.activo()) usuarioRepository.save(usuario.activado());
+        if (usuario.rol() == Rol.DOCENTE) cargaTrabajo.habilitarDocente(id.value());
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.proyecto.domain.exception;
+
+/**
+ * Se lanza cuando se intenta guardar un agregado a partir de una versión que ya
+ * fue modificada por otra operación concurrente.
+ */
+public class ConcurrencyConflict extends DomainException {
+    public ConcurrencyConflict(String message) { super(message); }
+}
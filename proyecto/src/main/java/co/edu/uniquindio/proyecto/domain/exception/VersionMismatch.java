@@ -0,0 +1,9 @@
+package co.edu.uniquindio.proyecto.domain.exception;
+
+/**
+ * Se lanza cuando el cliente exige modificar una versión concreta del agregado
+ * y la versión almacenada ya es otra.
+ */
+public class VersionMismatch extends ConcurrencyConflict {
+    public VersionMismatch(String message) { super(message); }
+}
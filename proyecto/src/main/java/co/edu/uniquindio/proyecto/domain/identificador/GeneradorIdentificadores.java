@@ -0,0 +1,15 @@
+package co.edu.uniquindio.proyecto.domain.identificador;
+
+import java.util.UUID;
+
+/**
+ * Fuente de identificadores para las entidades del dominio.
+ */
+@FunctionalInterface
+public interface GeneradorIdentificadores {
+
+    /** UUID versión 4 con {@link UUID#randomUUID()}: sin orden y respaldado por {@code SecureRandom}. */
+    GeneradorIdentificadores ALEATORIO = UUID::randomUUID;
+
+    UUID siguiente();
+}
@@ -0,0 +1,65 @@
+package co.edu.uniquindio.proyecto.domain.identificador;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Genera UUID versión 7 (RFC 9562): los 48 bits altos son el instante Unix en milisegundos,
+ * de modo que los identificadores quedan ordenados por momento de creación y los índices
+ * ordenados reciben inserciones casi siempre al final.
+ *
+ * Distribución de bits: milisegundos (48), versión (4), contador (42, repartido en los 12 bits
+ * de rand_a y los 30 bits altos de rand_b), variante (2) y 32 bits aleatorios.
+ *
+ * Cada hilo lleva su propio último milisegundo y contador, y usa {@link ThreadLocalRandom},
+ * por lo que generar no toca estado compartido. Dentro de un hilo los valores son estrictamente
+ * crecientes aunque el reloj retroceda; entre hilos quedan ordenados por milisegundo.
+ */
+public final class GeneradorUuidV7 implements GeneradorIdentificadores {
+
+    private static final int BITS_CONTADOR = 42;
+    private static final long CONTADOR_MAXIMO = (1L << BITS_CONTADOR) - 1;
+    /** Al empezar un milisegundo el contador se siembra con el bit alto en cero para dejar margen. */
+    private static final long SEMILLA_MAXIMA = CONTADOR_MAXIMO >>> 1;
+
+    private final LongSupplier reloj;
+    private final ThreadLocal<Estado> estado = ThreadLocal.withInitial(Estado::new);
+
+    public GeneradorUuidV7() {
+        this(System::currentTimeMillis);
+    }
+
+    GeneradorUuidV7(LongSupplier reloj) {
+        this.reloj = reloj;
+    }
+
+    @Override
+    public UUID siguiente() {
+        Estado actual = estado.get();
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        long ahora = reloj.getAsLong();
+        if (ahora > actual.milisegundo) {
+            actual.milisegundo = ahora;
+            actual.contador = aleatorio.nextLong() & SEMILLA_MAXIMA;
+        } else if (++actual.contador > CONTADOR_MAXIMO) {
+            // Contador agotado en este milisegundo: se toma el siguiente para no perder el orden
+            actual.milisegundo++;
+            actual.contador = aleatorio.nextLong() & SEMILLA_MAXIMA;
+        }
+
+        long masSignificativos = (actual.milisegundo << 16)
+                | 0x7000L
+                | (actual.contador >>> 30);
+        long menosSignificativos = 0x8000_0000_0000_0000L
+                | ((actual.contador & 0x3FFF_FFFFL) << 32)
+                | (aleatorio.nextInt() & 0xFFFF_FFFFL);
+        return new UUID(masSignificativos, menosSignificativos);
+    }
+
+    private static final class Estado {
+        long milisegundo = Long.MIN_VALUE;
+        long contador;
+    }
+}
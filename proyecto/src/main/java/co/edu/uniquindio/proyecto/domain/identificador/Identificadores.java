@@ -0,0 +1,34 @@
+package co.edu.uniquindio.proyecto.domain.identificador;
+
+import java.util.UUID;
+
+/**
+ * Punto único desde el que las fábricas del dominio obtienen identificadores nuevos
+ * ({@code SolicitudId.newId()}, {@code IdentificacionUsuario.newId()} y el historial de la solicitud).
+ *
+ * Por defecto usa {@link GeneradorUuidV7}; {@link #usar} permite reemplazarlo, por ejemplo en
+ * pruebas o benchmarks.
+ */
+public final class Identificadores {
+
+    private static volatile GeneradorIdentificadores generador = new GeneradorUuidV7();
+
+    private Identificadores() {
+    }
+
+    public static UUID nuevo() {
+        return generador.siguiente();
+    }
+
+    public static GeneradorIdentificadores actual() {
+        return generador;
+    }
+
+    /**
+     * Reemplaza el generador para todas las fábricas del dominio.
+     */
+    public static void usar(GeneradorIdentificadores nuevo) {
+        if (nuevo == null) throw new IllegalArgumentException("El generador de identificadores es obligatorio");
+        generador = nuevo;
+    }
+}
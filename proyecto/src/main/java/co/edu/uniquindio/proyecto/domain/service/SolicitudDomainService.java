@@ -25,7 +25,7 @@ public class SolicitudDomainService {
     private static final int MAX_SOLICITUDES_PENDIENTES_POR_SOLICITANTE = 5;
     
     /** Máximo de solicitudes en atención que puede tener un docente */
-    private static final int MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE = 10;
+    public static final int MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE = 10;
 
     /**
      * Valida que un solicitante pueda crear una nueva solicitud.
@@ -39,17 +39,31 @@ public class SolicitudDomainService {
         if (solicitante == null) {
             throw new BusinessRuleViolation("El solicitante no puede ser null");
         }
-        if (!solicitante.activo()) {
-            throw new BusinessRuleViolation("El solicitante debe estar activo");
-        }
 
         long solicitudesPendientes = solicitudesExistentes.stream()
                 .filter(s -> s.solicitante().value().equals(solicitante.id().value()))
-                .filter(s -> s.estado() == EstadoSolicitud.REGISTRADA || 
-                             s.estado() == EstadoSolicitud.CLASIFICADA ||
-                             s.estado() == EstadoSolicitud.EN_ATENCION)
+                .filter(s -> esPendiente(s.estado()))
                 .count();
 
+        validarCrearSolicitud(solicitante, solicitudesPendientes);
+    }
+
+    /**
+     * Valida que un solicitante pueda crear una nueva solicitud a partir del número
+     * de solicitudes pendientes que ya tiene, sin recorrer las solicitudes existentes.
+     *
+     * @param solicitante Usuario que desea crear la solicitud
+     * @param solicitudesPendientes Cantidad de solicitudes pendientes del solicitante
+     * @throws BusinessRuleViolation si el solicitante no puede crear más solicitudes
+     */
+    public void validarCrearSolicitud(Usuario solicitante, long solicitudesPendientes) {
+        if (solicitante == null) {
+            throw new BusinessRuleViolation("El solicitante no puede ser null");
+        }
+        if (!solicitante.activo()) {
+            throw new BusinessRuleViolation("El solicitante debe estar activo");
+        }
+
         if (solicitudesPendientes >= MAX_SOLICITUDES_PENDIENTES_POR_SOLICITANTE) {
             throw new BusinessRuleViolation("Un solicitante no puede tener más de " + 
                     MAX_SOLICITUDES_PENDIENTES_POR_SOLICITANTE + " solicitudes pendientes");
@@ -68,12 +82,6 @@ public class SolicitudDomainService {
         if (responsable == null) {
             throw new BusinessRuleViolation("El responsable no puede ser null");
         }
-        if (!responsable.activo()) {
-            throw new BusinessRuleViolation("El responsable debe estar activo");
-        }
-        if (responsable.rol() != Rol.DOCENTE) {
-            throw new BusinessRuleViolation("Solo un docente puede ser asignado como responsable");
-        }
 
         long solicitudesEnAtencion = solicitudesExistentes.stream()
                 .filter(s -> s.responsable() != null)
@@ -81,6 +89,28 @@ public class SolicitudDomainService {
                 .filter(s -> s.estado() == EstadoSolicitud.EN_ATENCION)
                 .count();
 
+        validarAsignarResponsable(responsable, solicitudesEnAtencion);
+    }
+
+    /**
+     * Valida que se pueda asignar un responsable a partir del número de solicitudes
+     * que ya tiene en atención, sin recorrer las solicitudes existentes.
+     *
+     * @param responsable Usuario que será asignado como responsable
+     * @param solicitudesEnAtencion Cantidad de solicitudes EN_ATENCION del responsable
+     * @throws BusinessRuleViolation si el responsable no puede ser asignado
+     */
+    public void validarAsignarResponsable(Usuario responsable, long solicitudesEnAtencion) {
+        if (responsable == null) {
+            throw new BusinessRuleViolation("El responsable no puede ser null");
+        }
+        if (!responsable.activo()) {
+            throw new BusinessRuleViolation("El responsable debe estar activo");
+        }
+        if (responsable.rol() != Rol.DOCENTE) {
+            throw new BusinessRuleViolation("Solo un docente puede ser asignado como responsable");
+        }
+
         if (solicitudesEnAtencion >= MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE) {
             throw new BusinessRuleViolation("Un docente no puede tener más de " + 
                     MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE + " solicitudes en atención");
@@ -98,4 +128,15 @@ public class SolicitudDomainService {
             throw new BusinessRuleViolation("Los estados no pueden ser null");
         }
     }
+
+    /**
+     * Indica si una solicitud en el estado dado cuenta como pendiente para su solicitante.
+     * @param estado Estado de la solicitud
+     * @return true si el estado es REGISTRADA, CLASIFICADA o EN_ATENCION
+     */
+    public static boolean esPendiente(EstadoSolicitud estado) {
+        return estado == EstadoSolicitud.REGISTRADA ||
+               estado == EstadoSolicitud.CLASIFICADA ||
+               estado == EstadoSolicitud.EN_ATENCION;
+    }
 }
@@ -1,6 +1,7 @@
 package co.edu.uniquindio.proyecto.domain.valueObject;
 
 import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.identificador.Identificadores;
 import java.util.UUID;
 
 public record IdentificacionUsuario(UUID value) {
@@ -11,6 +12,6 @@ public record IdentificacionUsuario(UUID value) {
     }
 
     public static IdentificacionUsuario newId() {
-        return new IdentificacionUsuario(UUID.randomUUID());
+        return new IdentificacionUsuario(Identificadores.nuevo());
     }
 }
\ No newline at end of file
@@ -1,14 +1,24 @@
 package co.edu.uniquindio.proyecto.domain.valueObject;
 
 import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.identificador.Identificadores;
 import java.util.UUID;
 
-public record SolicitudId(UUID value) {
+public record SolicitudId(UUID value) implements Comparable<SolicitudId> {
     public SolicitudId {
         if (value == null) throw new DomainException("SolicitudId no puede ser null");
     }
 
     public static SolicitudId newId() {
-        return new SolicitudId(UUID.randomUUID());
+        return new SolicitudId(Identificadores.nuevo());
     }
-}
\ No newline at end of file
+
+    /**
+     * Orden total por UUID; es el orden de los listados paginados por cursor. Con los
+     * identificadores versión 7 coincide con el orden de creación.
+     */
+    @Override
+    public int compareTo(SolicitudId otro) {
+        return value.compareTo(otro.value);
+    }
+}
@@ -0,0 +1,54 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.infrastructure.estadisticas.DimensionEstadistica;
+import co.edu.uniquindio.proyecto.infrastructure.estadisticas.ProyeccionEstadisticas;
+import co.edu.uniquindio.proyecto.infrastructure.estadisticas.TablaEstadisticas;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller con los conteos de solicitudes por estado, tipo, prioridad y canal.
+ *
+ * Endpoints disponibles:
+ * - GET /api/estadisticas?por=estado&por=prioridad - Tabla cruzada por las dimensiones indicadas
+ */
+@RestController
+@RequestMapping("/api/estadisticas")
+public class EstadisticasController {
+
+    private final ProyeccionEstadisticas proyeccion;
+
+    public EstadisticasController(ProyeccionEstadisticas proyeccion) {
+        this.proyeccion = proyeccion;
+    }
+
+    /**
+     * Cuenta las solicitudes agrupadas por las dimensiones indicadas.
+     * @param por Dimensiones (estado, tipo, prioridad, canal), en el orden de las columnas; sin ellas solo el total
+     * @return Tabla con una fila por combinación de valores que tiene solicitudes
+     */
+    @GetMapping
+    public ResponseEntity<TablaEstadisticas> obtenerEstadisticas(
+            @RequestParam(required = false) List<String> por) {
+        List<DimensionEstadistica> dimensiones = por == null ? List.of()
+                : por.stream().map(EstadisticasController::dimension).toList();
+        return ResponseEntity.ok(proyeccion.tabla(dimensiones));
+    }
+
+    /**
+     * @throws IllegalArgumentException si el nombre no es una dimensión, que se responde con 400
+     */
+    private static DimensionEstadistica dimension(String nombre) {
+        try {
+            return DimensionEstadistica.valueOf(nombre.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Dimensión desconocida: " + nombre
+                    + "; se admiten estado, tipo, prioridad y canal");
+        }
+    }
+}
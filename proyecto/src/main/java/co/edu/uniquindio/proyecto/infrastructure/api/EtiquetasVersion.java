@@ -0,0 +1,62 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.domain.exception.VersionMismatch;
+
+/**
+ * ETags derivados de la versión de un agregado: {@code "<version>"}.
+ *
+ * La versión cambia con cada modificación, así que basta compararla con la etiqueta del cliente
+ * para decidir un 304 sin cargar ni serializar el recurso. If-None-Match usa la comparación
+ * débil (ignora {@code W/}); If-Match, la fuerte.
+ */
+final class EtiquetasVersion {
+
+    private static final String DEBIL = "W/";
+
+    private EtiquetasVersion() {
+    }
+
+    static String de(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Si alguna etiqueta de un If-None-Match corresponde a la versión; {@code *} corresponde a cualquiera.
+     * @param ifNoneMatch Valor de la cabecera, o null si no se envió
+     */
+    static boolean coincide(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) return false;
+        for (String etiqueta : ifNoneMatch.split(",")) {
+            etiqueta = etiqueta.trim();
+            if (etiqueta.equals("*")) return true;
+            if (etiqueta.startsWith(DEBIL)) etiqueta = etiqueta.substring(DEBIL.length());
+            if (versionDe(etiqueta) == version) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Versión que exige un If-Match; null si no se envió o es {@code *}.
+     * Solo se admite una etiqueta fuerte: una débil o una lista nunca coinciden.
+     * @throws VersionMismatch si la etiqueta no es una versión
+     */
+    static Long versionExigida(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        long version = versionDe(ifMatch.trim());
+        if (version < 0) throw new VersionMismatch("If-Match no corresponde a ninguna versión: " + ifMatch);
+        return version;
+    }
+
+    /** Versión de una etiqueta fuerte {@code "<version>"}, o -1 si no tiene esa forma. */
+    private static long versionDe(String etiqueta) {
+        int fin = etiqueta.length() - 1;
+        if (fin < 2 || etiqueta.charAt(0) != '"' || etiqueta.charAt(fin) != '"') return -1;
+        long version = 0;
+        for (int i = 1; i < fin; i++) {
+            char c = etiqueta.charAt(i);
+            if (c < '0' || c > '9' || version > (Long.MAX_VALUE - 9) / 10) return -1;
+            version = version * 10 + (c - '0');
+        }
+        return version;
+    }
+}
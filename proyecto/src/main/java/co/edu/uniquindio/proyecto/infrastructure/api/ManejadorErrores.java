@@ -0,0 +1,44 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.exception.VersionMismatch;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Traduce a respuestas HTTP las excepciones que requieren un código distinto de 500.
+ */
+@RestControllerAdvice
+public class ManejadorErrores {
+
+    /**
+     * Otra operación modificó la solicitud entre la lectura y el guardado: 409 Conflict,
+     * el cliente puede volver a consultar el recurso y reintentar.
+     */
+    @ExceptionHandler(ConcurrencyConflict.class)
+    public ResponseEntity<Map<String, String>> conflictoConcurrencia(ConcurrencyConflict e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+
+    /**
+     * El If-Match del cliente no corresponde a la versión actual: 412 Precondition Failed,
+     * el cliente debe volver a consultar el recurso antes de reintentar.
+     */
+    @ExceptionHandler(VersionMismatch.class)
+    public ResponseEntity<Map<String, String>> versionNoCoincide(VersionMismatch e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of("error", e.getMessage()));
+    }
+
+    /**
+     * Un parámetro de la petición no es válido, p. ej. un filtro con un valor desconocido:
+     * 400 Bad Request con el motivo.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> argumentoNoValido(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+}
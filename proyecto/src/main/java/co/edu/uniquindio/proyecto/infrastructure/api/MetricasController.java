@@ -0,0 +1,65 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.infrastructure.eventos.BusEventos;
+import co.edu.uniquindio.proyecto.infrastructure.eventos.EstadisticasBus;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.OperacionSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.EstadisticasCache;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepositoryCacheado;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST Controller que expone las métricas de las operaciones sobre solicitudes.
+ *
+ * Endpoints disponibles:
+ * - GET /api/metricas - Latencia (microsegundos), llamadas a repositorios y rechazos por operación
+ * - GET /api/metricas/cache-usuarios - Aciertos, fallos y desalojos de la caché de usuarios
+ * - GET /api/metricas/eventos - Eventos publicados y descartados, y retraso de cada manejador
+ */
+@RestController
+@RequestMapping("/api/metricas")
+public class MetricasController {
+
+    private final MetricasSolicitudes metricas;
+    private final UsuarioRepositoryCacheado usuarioRepository;
+    private final BusEventos busEventos;
+
+    public MetricasController(MetricasSolicitudes metricas, UsuarioRepositoryCacheado usuarioRepository,
+                              BusEventos busEventos) {
+        this.metricas = metricas;
+        this.usuarioRepository = usuarioRepository;
+        this.busEventos = busEventos;
+    }
+
+    /**
+     * Resumen de las operaciones ejecutadas desde el arranque.
+     * @return Métricas por operación
+     */
+    @GetMapping
+    public ResponseEntity<Map<OperacionSolicitud, MetricasSolicitudes.MetricasOperacion>> obtenerMetricas() {
+        return ResponseEntity.ok(metricas.resumen());
+    }
+
+    /**
+     * Estado de la caché de usuarios desde el arranque.
+     * @return Contadores y ocupación de la caché
+     */
+    @GetMapping("/cache-usuarios")
+    public ResponseEntity<EstadisticasCache> obtenerCacheUsuarios() {
+        return ResponseEntity.ok(usuarioRepository.estadisticas());
+    }
+
+    /**
+     * Estado del bus de eventos de transiciones desde el arranque.
+     * @return Contadores del bus y de cada manejador
+     */
+    @GetMapping("/eventos")
+    public ResponseEntity<EstadisticasBus> obtenerEventos() {
+        return ResponseEntity.ok(busEventos.estadisticas());
+    }
+}
@@ -1,29 +1,70 @@
 package co.edu.uniquindio.proyecto.infrastructure.api;
 
+import co.edu.uniquindio.proyecto.application.BusquedaApplicationService;
+import co.edu.uniquindio.proyecto.application.Pagina;
+import co.edu.uniquindio.proyecto.application.ResultadoLote;
 import co.edu.uniquindio.proyecto.application.SolicitudApplicationService;
+import co.edu.uniquindio.proyecto.application.TriajeApplicationService;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.AsignarAutomaticamenteRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.AsignarResponsableRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.AtenderSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.CerrarSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.ClasificarSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.CrearSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.PriorizarSolicitudRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.ResultadoBusquedaResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudDetalleResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudVencidaResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.TransicionesLoteRequest;
 import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.FiltroSolicitudes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * REST Controller para la gestión de solicitudes (PQRS).
  * Expone los endpoints de la API para el ciclo de vida completo de una solicitud.
- * 
+ * Las respuestas usan la vista resumida, sin historial; solo GET /{id}?historial=true lo incluye.
+ *
+ * GET /{id} y las transiciones individuales devuelven la versión de la solicitud como ETag.
+ * GET /{id} con If-None-Match responde 304 sin cargar la solicitud si la versión no cambió, y
+ * las transiciones con If-Match solo se aplican sobre esa versión (si no, 412).
+ *
  * Endpoints disponibles:
  * - POST /api/solicitudes - Crear nueva solicitud
- * - GET /api/solicitudes - Listar todas las solicitudes
- * - GET /api/solicitudes/{id} - Obtener solicitud por ID
- * - GET /api/solicitudes/solicitante/{id} - Listar solicitudes de un solicitante
+ * - POST /api/solicitudes/batch - Crear un lote de solicitudes, con resultado por elemento
+ * - POST /api/solicitudes/transiciones - Clasificar, priorizar y asignar responsable en lote (coordinador)
+ * - GET /api/solicitudes - Listar solicitudes paginadas por cursor, con filtros
+ * - GET /api/solicitudes/stream - Recorrer solicitudes como NDJSON, con filtros
+ * - GET /api/solicitudes/cola - Próximas solicitudes a atender, por prioridad y antigüedad
+ * - GET /api/solicitudes/vencidas - Solicitudes que superaron el plazo de atención de su estado
+ * - GET /api/solicitudes/buscar?q=... - Buscar por palabras de la descripción, con filtros de estado y tipo
+ * - GET /api/solicitudes/{id} - Obtener solicitud por ID, opcionalmente con su historial
+ * - GET /api/solicitudes/{id}/historial - Historial paginado de una solicitud
+ * - GET /api/solicitudes/solicitante/{id} - Listar solicitudes de un solicitante, paginadas
+ * - GET /api/solicitudes/solicitante/{id}/stream - Recorrer solicitudes de un solicitante como NDJSON
  * - PUT /api/solicitudes/{id}/clasificar - Clasificar solicitud (coordinador)
  * - PUT /api/solicitudes/{id}/priorizar - Priorizar solicitud (coordinador)
  * - PUT /api/solicitudes/{id}/asignar-responsable - Asignar responsable (coordinador)
+ * - PUT /api/solicitudes/{id}/asignar-automaticamente - Asignar al docente con menos carga (coordinador)
  * - PUT /api/solicitudes/{id}/atender - Marcar como atendida (docente)
  * - PUT /api/solicitudes/{id}/cerrar - Cerrar solicitud (docente)
  */
@@ -31,142 +72,360 @@ import java.util.UUID;
 @RequestMapping("/api/solicitudes")
 public class SolicitudController {
 
+    private static final String LIMITE_POR_DEFECTO = "50";
+    private static final int LINEAS_POR_FLUSH = 256;
+
     private final SolicitudApplicationService solicitudService;
+    private final TriajeApplicationService triajeService;
+    private final BusquedaApplicationService busquedaService;
+    /** Escritor NDJSON: resuelve el serializador una sola vez y separa cada valor con un salto de línea */
+    private final ObjectWriter escritorNdjson;
 
-    public SolicitudController(SolicitudApplicationService solicitudService) {
+    public SolicitudController(SolicitudApplicationService solicitudService, TriajeApplicationService triajeService,
+                               BusquedaApplicationService busquedaService, JsonMapper jsonMapper) {
         this.solicitudService = solicitudService;
+        this.triajeService = triajeService;
+        this.busquedaService = busquedaService;
+        this.escritorNdjson = jsonMapper.writerFor(SolicitudResponse.class)
+                .withRootValueSeparator("\n")
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
     }
 
     /**
      * Crea una nueva solicitud en el sistema.
-     * @param payload Datos de la solicitud (solicitanteId, nombreSolicitante, canalOrigen, descripcion)
+     * @param request Datos de la solicitud (solicitanteId, nombreSolicitante, canalOrigen, descripcion)
      * @return Solicitud creada
      */
     @PostMapping
-    public ResponseEntity<Solicitud> crearSolicitud(@RequestBody Map<String, Object> payload) {
-        UUID solicitanteId = UUID.fromString((String) payload.get("solicitanteId"));
-        String nombreSolicitante = (String) payload.get("nombreSolicitante");
-        String canalStr = (String) payload.get("canalOrigen");
-        String descripcion = (String) payload.get("descripcion");
-
-        CanalOrigen canalOrigen = CanalOrigen.valueOf(canalStr.toUpperCase());
-
+    public ResponseEntity<SolicitudResponse> crearSolicitud(@RequestBody CrearSolicitudRequest request) {
         Solicitud solicitud = solicitudService.crearSolicitud(
-                solicitanteId, nombreSolicitante, canalOrigen, descripcion
+                request.solicitanteId(), request.nombreSolicitante(), request.canalOrigen(), request.descripcion()
         );
-        return ResponseEntity.ok(solicitud);
+        return ResponseEntity.ok(SolicitudResponse.desde(solicitud));
+    }
+
+    /**
+     * Crea un lote de solicitudes en una sola operación.
+     * Los elementos inválidos se informan en su posición sin impedir el registro de los demás.
+     * @param request Lista de solicitudes con los mismos campos que la creación individual
+     * @return Un resultado por elemento, en el orden recibido
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ResultadoLote<SolicitudResponse>>> crearSolicitudesEnLote(
+            @RequestBody List<CrearSolicitudRequest> request) {
+        List<ResultadoLote<Solicitud>> resultados = solicitudService.crearSolicitudesEnLote(
+                request.stream().map(item -> item == null ? null : item.aNuevaSolicitud()).toList());
+        return ResponseEntity.ok(resumir(resultados));
     }
 
     /**
-     * Lista todas las solicitudes del sistema.
-     * @return Lista de solicitudes
+     * Aplica en una sola operación un lote de transiciones de coordinación.
+     * Cada comando indica su {@code accion} (clasificar, priorizar o asignar-responsable),
+     * el {@code solicitudId} y los mismos campos que el endpoint individual correspondiente.
+     * Los comandos fallidos se informan en su posición sin impedir que se apliquen los demás.
+     * @param request Datos (coordinadorId, comandos)
+     * @return Un resultado por comando, en el orden recibido
+     */
+    @PostMapping("/transiciones")
+    public ResponseEntity<List<ResultadoLote<SolicitudResponse>>> aplicarTransiciones(
+            @RequestBody TransicionesLoteRequest request) {
+        List<ResultadoLote<Solicitud>> resultados = solicitudService.aplicarTransicionesEnLote(
+                request.coordinadorId(), request.aComandos());
+        return ResponseEntity.ok(resumir(resultados));
+    }
+
+    /**
+     * Lista una página de solicitudes, opcionalmente filtradas.
+     * Para la página siguiente se envía el {@code siguienteCursor} de la respuesta.
+     * @param estado Filtro por estado (opcional)
+     * @param tipo Filtro por tipo (opcional)
+     * @param prioridad Filtro por prioridad (opcional)
+     * @param canalOrigen Filtro por canal de origen (opcional)
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Tamaño de página
+     * @return Página de solicitudes
      */
     @GetMapping
-    public ResponseEntity<List<Solicitud>> listarSolicitudes() {
-        return ResponseEntity.ok(solicitudService.listarSolicitudes());
+    public ResponseEntity<Pagina<SolicitudResponse>> listarSolicitudes(
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) String prioridad,
+            @RequestParam(required = false) String canalOrigen,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        FiltroSolicitudes filtro = filtro(estado, tipo, prioridad, canalOrigen);
+        return ResponseEntity.ok(solicitudService.listarSolicitudes(filtro, cursor, limite).map(SolicitudResponse::desde));
+    }
+
+    /**
+     * Próximas solicitudes que deben atender los coordinadores (REGISTRADA y CLASIFICADA),
+     * ordenadas por prioridad (ALTA primero, sin prioridad al final) y luego por antigüedad.
+     * @param limite Cantidad máxima de solicitudes
+     * @return Solicitudes en orden de atención
+     */
+    @GetMapping("/cola")
+    public ResponseEntity<List<SolicitudResponse>> consultarCola(
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        return ResponseEntity.ok(triajeService.consultarCola(limite).stream().map(SolicitudResponse::desde).toList());
     }
 
     /**
-     * Lista las solicitudes de un solicitante específico.
+     * Solicitudes que llevan en REGISTRADA, CLASIFICADA o EN_ATENCION más que el plazo de su
+     * prioridad, en el orden en que vencieron.
+     * @param limite Cantidad máxima de solicitudes
+     * @return Solicitudes vencidas con el momento en que vencieron
+     */
+    @GetMapping("/vencidas")
+    public ResponseEntity<List<SolicitudVencidaResponse>> consultarVencidas(
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        return ResponseEntity.ok(triajeService.consultarVencidas(limite).stream()
+                .map(SolicitudVencidaResponse::desde).toList());
+    }
+
+    /**
+     * Busca solicitudes cuya descripción contiene todas las palabras de la consulta, sin
+     * distinguir mayúsculas ni tildes, ordenadas por relevancia.
+     * @param q Palabras a buscar
+     * @param estado Estado exigido (opcional)
+     * @param tipo Tipo exigido (opcional)
+     * @param limite Cantidad máxima de resultados
+     * @return Solicitudes encontradas con su puntaje
+     */
+    @GetMapping("/buscar")
+    public ResponseEntity<List<ResultadoBusquedaResponse>> buscar(
+            @RequestParam String q,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        FiltroSolicitudes filtro = filtro(estado, tipo, null, null);
+        return ResponseEntity.ok(busquedaService.buscar(q, filtro.estado(), filtro.tipo(), limite).stream()
+                .map(ResultadoBusquedaResponse::desde).toList());
+    }
+
+    /**
+     * Recorre las solicitudes, opcionalmente filtradas, escribiendo una por línea (NDJSON)
+     * a medida que se leen, sin construir la lista completa en memoria.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> recorrerSolicitudes(
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) String prioridad,
+            @RequestParam(required = false) String canalOrigen) {
+        FiltroSolicitudes filtro = filtro(estado, tipo, prioridad, canalOrigen);
+        return ndjson(filtro);
+    }
+
+    /**
+     * Lista una página de solicitudes de un solicitante específico.
      * @param solicitanteId UUID del solicitante
-     * @return Lista de solicitudes del solicitante
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Tamaño de página
+     * @return Página de solicitudes del solicitante
      */
     @GetMapping("/solicitante/{solicitanteId}")
-    public ResponseEntity<List<Solicitud>> listarPorSolicitante(@PathVariable UUID solicitanteId) {
-        return ResponseEntity.ok(solicitudService.listarSolicitudesPorSolicitante(solicitanteId));
+    public ResponseEntity<Pagina<SolicitudResponse>> listarPorSolicitante(
+            @PathVariable UUID solicitanteId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        return ResponseEntity.ok(solicitudService.listarSolicitudesPorSolicitante(solicitanteId, cursor, limite)
+                .map(SolicitudResponse::desde));
+    }
+
+    /**
+     * Recorre las solicitudes de un solicitante como NDJSON.
+     * @param solicitanteId UUID del solicitante
+     */
+    @GetMapping(value = "/solicitante/{solicitanteId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> recorrerPorSolicitante(@PathVariable UUID solicitanteId) {
+        return ndjson(FiltroSolicitudes.porSolicitante(solicitanteId));
     }
 
     /**
      * Clasifica una solicitud con un tipo específico.
      * Solo aplicable cuando la solicitud está en estado REGISTRADA.
      * @param id UUID de la solicitud
-     * @param payload Datos (tipo, coordinadorId)
+     * @param request Datos (tipo, coordinadorId)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
      * @return Solicitud actualizada
      */
     @PutMapping("/{id}/clasificar")
-    public ResponseEntity<Solicitud> clasificar(@PathVariable UUID id, @RequestBody Map<String, Object> payload) {
-        String tipoStr = (String) payload.get("tipo");
-        UUID coordinadorId = UUID.fromString((String) payload.get("coordinadorId"));
-
-        TipoSolicitud tipo = TipoSolicitud.valueOf(tipoStr.toUpperCase());
-        Solicitud solicitud = solicitudService.clasificarSolicitud(id, tipo, coordinadorId);
-        return ResponseEntity.ok(solicitud);
+    public ResponseEntity<SolicitudResponse> clasificar(@PathVariable UUID id, @RequestBody ClasificarSolicitudRequest request,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.clasificarSolicitud(id, request.tipo(), request.coordinadorId(),
+                EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
     }
 
     /**
      * Asigna una prioridad a la solicitud.
      * Solo aplicable cuando la solicitud está en estado CLASIFICADA.
      * @param id UUID de la solicitud
-     * @param payload Datos (prioridad, justificacion, coordinadorId)
+     * @param request Datos (prioridad, justificacion, coordinadorId)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
      * @return Solicitud actualizada
      */
     @PutMapping("/{id}/priorizar")
-    public ResponseEntity<Solicitud> priorizar(@PathVariable UUID id, @RequestBody Map<String, Object> payload) {
-        String prioridadStr = (String) payload.get("prioridad");
-        String justificacion = (String) payload.get("justificacion");
-        UUID coordinadorId = UUID.fromString((String) payload.get("coordinadorId"));
-
-        Prioridad prioridad = Prioridad.valueOf(prioridadStr.toUpperCase());
-        Solicitud solicitud = solicitudService.priorizarSolicitud(id, prioridad, justificacion, coordinadorId);
-        return ResponseEntity.ok(solicitud);
+    public ResponseEntity<SolicitudResponse> priorizar(@PathVariable UUID id, @RequestBody PriorizarSolicitudRequest request,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.priorizarSolicitud(id, request.prioridad(), request.justificacion(),
+                request.coordinadorId(), EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
     }
 
     /**
      * Asigna un docente como responsable de la solicitud.
      * Solo aplicable cuando la solicitud está en estado CLASIFICADA.
      * @param id UUID de la solicitud
-     * @param payload Datos (responsableId, coordinadorId)
+     * @param request Datos (responsableId, coordinadorId)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
      * @return Solicitud actualizada
      */
     @PutMapping("/{id}/asignar-responsable")
-    public ResponseEntity<Solicitud> asignarResponsable(@PathVariable UUID id, @RequestBody Map<String, Object> payload) {
-        UUID responsableId = UUID.fromString((String) payload.get("responsableId"));
-        UUID coordinadorId = UUID.fromString((String) payload.get("coordinadorId"));
+    public ResponseEntity<SolicitudResponse> asignarResponsable(@PathVariable UUID id,
+                                                                @RequestBody AsignarResponsableRequest request,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.asignarResponsable(id, request.responsableId(), request.coordinadorId(),
+                EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
+    }
 
-        Solicitud solicitud = solicitudService.asignarResponsable(id, responsableId, coordinadorId);
-        return ResponseEntity.ok(solicitud);
+    /**
+     * Asigna la solicitud al docente activo con menos solicitudes en atención.
+     * Solo aplicable cuando la solicitud está en estado CLASIFICADA.
+     * @param id UUID de la solicitud
+     * @param request Datos (coordinadorId)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
+     * @return Solicitud actualizada, con el docente asignado como responsable
+     */
+    @PutMapping("/{id}/asignar-automaticamente")
+    public ResponseEntity<SolicitudResponse> asignarAutomaticamente(@PathVariable UUID id,
+                                                                    @RequestBody AsignarAutomaticamenteRequest request,
+                                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.asignarAutomaticamente(id, request.coordinadorId(),
+                EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
     }
 
     /**
      * Marca la solicitud como atendida.
      * Solo aplicable cuando la solicitud está en estado EN_ATENCION.
      * @param id UUID de la solicitud
-     * @param payload Datos (responsableId, observacion)
+     * @param request Datos (responsableId, observacion)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
      * @return Solicitud actualizada
      */
     @PutMapping("/{id}/atender")
-    public ResponseEntity<Solicitud> marcarAtendida(@PathVariable UUID id, @RequestBody Map<String, Object> payload) {
-        UUID responsableId = UUID.fromString((String) payload.get("responsableId"));
-        String observacion = (String) payload.get("observacion");
-
-        Solicitud solicitud = solicitudService.marcarAtendida(id, responsableId, observacion);
-        return ResponseEntity.ok(solicitud);
+    public ResponseEntity<SolicitudResponse> marcarAtendida(@PathVariable UUID id, @RequestBody AtenderSolicitudRequest request,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.marcarAtendida(id, request.responsableId(), request.observacion(),
+                EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
     }
 
     /**
      * Cierra la solicitud con una observación final.
      * Solo aplicable cuando la solicitud está en estado ATENDIDA.
      * @param id UUID de la solicitud
-     * @param payload Datos (responsableId, observacionCierre)
+     * @param request Datos (responsableId, observacionCierre)
+     * @param ifMatch ETag de la versión sobre la que se aplica (opcional)
      * @return Solicitud actualizada
      */
     @PutMapping("/{id}/cerrar")
-    public ResponseEntity<Solicitud> cerrar(@PathVariable UUID id, @RequestBody Map<String, Object> payload) {
-        UUID responsableId = UUID.fromString((String) payload.get("responsableId"));
-        String observacionCierre = (String) payload.get("observacionCierre");
-
-        Solicitud solicitud = solicitudService.cerrarSolicitud(id, responsableId, observacionCierre);
-        return ResponseEntity.ok(solicitud);
+    public ResponseEntity<SolicitudResponse> cerrar(@PathVariable UUID id, @RequestBody CerrarSolicitudRequest request,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = solicitudService.cerrarSolicitud(id, request.responsableId(), request.observacionCierre(),
+                EtiquetasVersion.versionExigida(ifMatch));
+        return conEtiqueta(solicitud);
     }
 
     /**
      * Obtiene una solicitud por su identificador.
      * @param id UUID de la solicitud
-     * @return Solicitud encontrada
+     * @param historial Si se incluye el historial de la solicitud
+     * @param ifNoneMatch ETags que ya tiene el cliente (opcional)
+     * @return Solicitud encontrada, resumida o con su historial, o 304 si el cliente ya tiene su versión
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Solicitud> obtenerSolicitud(@PathVariable UUID id) {
+    public ResponseEntity<?> obtenerSolicitud(@PathVariable UUID id,
+                                              @RequestParam(defaultValue = "false") boolean historial,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = solicitudService.consultarVersion(id);
+            if (EtiquetasVersion.coincide(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EtiquetasVersion.de(version)).build();
+            }
+        }
         Solicitud solicitud = solicitudService.obtenerSolicitud(id);
-        return ResponseEntity.ok(solicitud);
+        return ResponseEntity.ok().eTag(EtiquetasVersion.de(solicitud.version()))
+                .body(historial ? SolicitudDetalleResponse.desde(solicitud) : SolicitudResponse.desde(solicitud));
+    }
+
+    /**
+     * Lista el historial de una solicitud por páginas, en orden cronológico.
+     * @param id UUID de la solicitud
+     * @param desde Posición de la primera entrada, si no se envía cursor
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Tamaño de página
+     * @return Página de entradas del historial
+     */
+    @GetMapping("/{id}/historial")
+    public ResponseEntity<Pagina<SolicitudDetalleResponse.Entrada>> consultarHistorial(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int desde,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = LIMITE_POR_DEFECTO) int limite) {
+        return ResponseEntity.ok(solicitudService.consultarHistorial(id, desde, cursor, limite)
+                .map(SolicitudDetalleResponse.Entrada::desde));
+    }
+
+    private static ResponseEntity<SolicitudResponse> conEtiqueta(Solicitud solicitud) {
+        return ResponseEntity.ok().eTag(EtiquetasVersion.de(solicitud.version())).body(SolicitudResponse.desde(solicitud));
+    }
+
+    private static List<ResultadoLote<SolicitudResponse>> resumir(List<ResultadoLote<Solicitud>> resultados) {
+        return resultados.stream().map(resultado -> resultado.map(SolicitudResponse::desde)).toList();
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(FiltroSolicitudes filtro) {
+        StreamingResponseBody cuerpo = salida -> {
+            // Un solo generador para toda la respuesta: cada solicitud se escribe directo a la salida
+            try (Stream<Solicitud> solicitudes = solicitudService.recorrerSolicitudes(filtro);
+                 SequenceWriter secuencia = escritorNdjson.writeValues(salida)) {
+                Iterator<Solicitud> iterador = solicitudes.iterator();
+                int escritas = 0;
+                while (iterador.hasNext()) {
+                    secuencia.write(SolicitudResponse.desde(iterador.next()));
+                    if (++escritas % LINEAS_POR_FLUSH == 0) secuencia.flush();
+                }
+                secuencia.flush();
+                // El separador va entre valores; NDJSON termina también la última línea
+                if (escritas > 0) salida.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(cuerpo);
+    }
+
+    private static FiltroSolicitudes filtro(String estado, String tipo, String prioridad, String canalOrigen) {
+        return new FiltroSolicitudes(
+                valorDe(EstadoSolicitud.class, "estado", estado),
+                valorDe(TipoSolicitud.class, "tipo", tipo),
+                valorDe(Prioridad.class, "prioridad", prioridad),
+                valorDe(CanalOrigen.class, "canalOrigen", canalOrigen),
+                null
+        );
+    }
+
+    /**
+     * Constante del enum con ese nombre, sin distinguir mayúsculas; null si el parámetro no vino.
+     * @throws IllegalArgumentException si no corresponde a ninguna, que se responde con 400
+     */
+    private static <E extends Enum<E>> E valorDe(Class<E> tipo, String parametro, String valor) {
+        if (valor == null) return null;
+        try {
+            return Enum.valueOf(tipo, valor.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor no válido para " + parametro + ": " + valor);
+        }
     }
 }
@@ -1,14 +1,18 @@
 package co.edu.uniquindio.proyecto.infrastructure.api;
 
+import co.edu.uniquindio.proyecto.application.Pagina;
 import co.edu.uniquindio.proyecto.application.UsuarioApplicationService;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.CrearUsuarioRequest;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.SolicitudRegistradaResponse;
+import co.edu.uniquindio.proyecto.infrastructure.api.dto.UsuarioResponse;
 import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
 import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
-import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -19,8 +23,11 @@ import java.util.UUID;
  * - POST /api/usuarios - Crear usuario
  * - GET /api/usuarios - Listar todos los usuarios
  * - GET /api/usuarios/{id} - Obtener usuario por ID
+ * - GET /api/usuarios/{id}/solicitudes - Solicitudes registradas por el usuario, paginadas
  * - PUT /api/usuarios/{id}/activar - Activar usuario
  * - PUT /api/usuarios/{id}/desactivar - Desactivar usuario
+ *
+ * GET /{id} devuelve la versión del usuario como ETag y responde 304 a un If-None-Match vigente.
  */
 @RestController
 @RequestMapping("/api/usuarios")
@@ -34,17 +41,13 @@ public class UsuarioController {
 
     /**
      * Crea un nuevo usuario en el sistema.
-     * @param payload Mapa con los datos del usuario (nombre, rol)
+     * @param request Datos del usuario (nombre, rol)
      * @return Usuario creado
      */
     @PostMapping
-    public ResponseEntity<Usuario> crearUsuario(@RequestBody Map<String, Object> payload) {
-        String nombre = (String) payload.get("nombre");
-        String rolStr = (String) payload.get("rol");
-        Rol rol = Rol.valueOf(rolStr.toUpperCase());
-
-        Usuario usuario = usuarioService.crearUsuario(nombre, rol);
-        return ResponseEntity.ok(usuario);
+    public ResponseEntity<UsuarioResponse> crearUsuario(@RequestBody CrearUsuarioRequest request) {
+        Usuario usuario = usuarioService.crearUsuario(request.nombre(), request.rol());
+        return ResponseEntity.ok(UsuarioResponse.desde(usuario));
     }
 
     /**
@@ -52,8 +55,8 @@ public class UsuarioController {
      * @return Lista de usuarios
      */
     @GetMapping
-    public ResponseEntity<List<Usuario>> listarUsuarios() {
-        return ResponseEntity.ok(usuarioService.listarUsuarios());
+    public ResponseEntity<List<UsuarioResponse>> listarUsuarios() {
+        return ResponseEntity.ok(usuarioService.listarUsuarios().stream().map(UsuarioResponse::desde).toList());
     }
 
     /**
@@ -81,12 +84,36 @@ public class UsuarioController {
     /**
      * Obtiene un usuario por su identificador.
      * @param id UUID del usuario
-     * @return Usuario encontrado
+     * @param ifNoneMatch ETags que ya tiene el cliente (opcional)
+     * @return Usuario encontrado, o 304 si el cliente ya tiene su versión
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Usuario> obtenerUsuario(@PathVariable UUID id) {
+    public ResponseEntity<UsuarioResponse> obtenerUsuario(@PathVariable UUID id,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         IdentificacionUsuario identificacion = new IdentificacionUsuario(id);
         Usuario usuario = usuarioService.obtenerUsuario(identificacion);
-        return ResponseEntity.ok(usuario);
+        long version = usuario.version();
+        if (EtiquetasVersion.coincide(ifNoneMatch, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EtiquetasVersion.de(version)).build();
+        }
+        return ResponseEntity.ok().eTag(EtiquetasVersion.de(version)).body(UsuarioResponse.desde(usuario));
+    }
+
+    /**
+     * Lista las solicitudes registradas por un usuario, por páginas y en orden de registro.
+     * @param id UUID del usuario
+     * @param desde Posición de la primera solicitud, si no se envía cursor
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Tamaño de página
+     * @return Página de referencias a solicitudes
+     */
+    @GetMapping("/{id}/solicitudes")
+    public ResponseEntity<Pagina<SolicitudRegistradaResponse>> consultarSolicitudesRegistradas(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int desde,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limite) {
+        return ResponseEntity.ok(usuarioService.consultarSolicitudesRegistradas(new IdentificacionUsuario(id), desde, cursor, limite)
+                .map(SolicitudRegistradaResponse::desde));
     }
 }
@@ -0,0 +1,6 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import java.util.UUID;
+
+public record AsignarAutomaticamenteRequest(UUID coordinadorId) {
+}
@@ -0,0 +1,11 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.UUID;
+
+public record ClasificarSolicitudRequest(
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) TipoSolicitud tipo,
+        UUID coordinadorId) {
+}
@@ -0,0 +1,21 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.application.NuevaSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.UUID;
+
+/**
+ * Datos para crear una solicitud, individual o dentro de un lote.
+ */
+public record CrearSolicitudRequest(
+        UUID solicitanteId,
+        String nombreSolicitante,
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) CanalOrigen canalOrigen,
+        String descripcion) {
+
+    public NuevaSolicitud aNuevaSolicitud() {
+        return new NuevaSolicitud(solicitanteId, nombreSolicitante, canalOrigen, descripcion);
+    }
+}
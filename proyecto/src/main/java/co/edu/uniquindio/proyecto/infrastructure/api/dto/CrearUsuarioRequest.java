@@ -0,0 +1,9 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record CrearUsuarioRequest(
+        String nombre,
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) Rol rol) {
+}
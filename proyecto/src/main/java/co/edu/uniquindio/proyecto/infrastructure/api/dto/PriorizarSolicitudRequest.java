@@ -0,0 +1,12 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.UUID;
+
+public record PriorizarSolicitudRequest(
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) Prioridad prioridad,
+        String justificacion,
+        UUID coordinadorId) {
+}
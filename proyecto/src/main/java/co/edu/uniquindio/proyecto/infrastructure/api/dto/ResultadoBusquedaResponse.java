@@ -0,0 +1,14 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.application.ResultadoBusqueda;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * Resumen de una solicitud encontrada más su puntaje de relevancia, en el mismo objeto JSON.
+ */
+public record ResultadoBusquedaResponse(@JsonUnwrapped SolicitudResponse solicitud, double puntaje) {
+
+    public static ResultadoBusquedaResponse desde(ResultadoBusqueda resultado) {
+        return new ResultadoBusquedaResponse(SolicitudResponse.desde(resultado.solicitud()), resultado.puntaje());
+    }
+}
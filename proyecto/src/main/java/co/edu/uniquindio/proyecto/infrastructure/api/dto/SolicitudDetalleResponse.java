@@ -0,0 +1,34 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Vista completa de una solicitud: los campos del resumen más el historial, en el mismo objeto JSON.
+ */
+public record SolicitudDetalleResponse(@JsonUnwrapped SolicitudResponse solicitud, List<Entrada> historial) {
+
+    public static SolicitudDetalleResponse desde(Solicitud solicitud) {
+        List<EntradaHistorial> historial = solicitud.historial();
+        List<Entrada> entradas = new ArrayList<>(historial.size());
+        for (EntradaHistorial entrada : historial) {
+            entradas.add(Entrada.desde(entrada));
+        }
+        return new SolicitudDetalleResponse(SolicitudResponse.desde(solicitud), entradas);
+    }
+
+    public record Entrada(UUID id, Instant fechaHora, String accion, UUID usuarioId, String nombreUsuario,
+                          String observacion) {
+
+        public static Entrada desde(EntradaHistorial entrada) {
+            return new Entrada(entrada.id(), entrada.fechaHora(), entrada.accion(),
+                    entrada.usuarioResponsable().value(), entrada.usuarioResponsable().nombre(), entrada.observacion());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+
+import java.util.UUID;
+
+/**
+ * Solicitud registrada por un usuario: su id y la etiqueta corta con que se muestra.
+ */
+public record SolicitudRegistradaResponse(UUID id, String etiqueta) {
+
+    public static SolicitudRegistradaResponse desde(UsuarioReferencia referencia) {
+        return new SolicitudRegistradaResponse(referencia.value(), referencia.nombre());
+    }
+}
@@ -0,0 +1,48 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Vista resumida de una solicitud, sin el historial: es la respuesta por defecto de la API.
+ */
+public record SolicitudResponse(
+        UUID id,
+        UUID solicitanteId,
+        String nombreSolicitante,
+        CanalOrigen canalOrigen,
+        String descripcion,
+        Instant fechaRegistro,
+        TipoSolicitud tipoSolicitud,
+        Prioridad prioridad,
+        String justificacionPrioridad,
+        EstadoSolicitud estado,
+        UUID responsableId,
+        String nombreResponsable,
+        long version) {
+
+    public static SolicitudResponse desde(Solicitud solicitud) {
+        UsuarioReferencia responsable = solicitud.responsable();
+        return new SolicitudResponse(
+                solicitud.id().value(),
+                solicitud.solicitante().value(),
+                solicitud.solicitante().nombre(),
+                solicitud.canalOrigen(),
+                solicitud.descripcion().value(),
+                solicitud.fechaRegistro(),
+                solicitud.tipoSolicitud(),
+                solicitud.prioridad(),
+                solicitud.justificacionPrioridad() == null ? null : solicitud.justificacionPrioridad().value(),
+                solicitud.estado(),
+                responsable == null ? null : responsable.value(),
+                responsable == null ? null : responsable.nombre(),
+                solicitud.version());
+    }
+}
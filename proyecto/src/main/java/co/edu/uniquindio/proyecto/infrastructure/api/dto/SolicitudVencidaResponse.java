@@ -0,0 +1,16 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.application.SolicitudVencida;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.time.Instant;
+
+/**
+ * Resumen de una solicitud vencida más el momento en que venció, en el mismo objeto JSON.
+ */
+public record SolicitudVencidaResponse(@JsonUnwrapped SolicitudResponse solicitud, Instant venceEn) {
+
+    public static SolicitudVencidaResponse desde(SolicitudVencida vencida) {
+        return new SolicitudVencidaResponse(SolicitudResponse.desde(vencida.solicitud()), vencida.venceEn());
+    }
+}
@@ -0,0 +1,60 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.application.ComandoTransicion;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lote de transiciones de un coordinador. Cada comando indica su tipo en el campo {@code accion}.
+ */
+public record TransicionesLoteRequest(UUID coordinadorId, List<Comando> comandos) {
+
+    public List<ComandoTransicion> aComandos() {
+        return comandos == null ? null : comandos.stream().map(comando -> comando == null ? null : comando.aComando()).toList();
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "accion")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Clasificar.class, name = "clasificar"),
+            @JsonSubTypes.Type(value = Priorizar.class, name = "priorizar"),
+            @JsonSubTypes.Type(value = AsignarResponsable.class, name = "asignar-responsable")
+    })
+    public sealed interface Comando {
+        ComandoTransicion aComando();
+    }
+
+    public record Clasificar(
+            UUID solicitudId,
+            @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) TipoSolicitud tipo) implements Comando {
+
+        @Override
+        public ComandoTransicion aComando() {
+            return new ComandoTransicion.Clasificar(solicitudId, tipo);
+        }
+    }
+
+    public record Priorizar(
+            UUID solicitudId,
+            @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES) Prioridad prioridad,
+            String justificacion) implements Comando {
+
+        @Override
+        public ComandoTransicion aComando() {
+            return new ComandoTransicion.Priorizar(solicitudId, prioridad, justificacion);
+        }
+    }
+
+    public record AsignarResponsable(UUID solicitudId, UUID responsableId) implements Comando {
+
+        @Override
+        public ComandoTransicion aComando() {
+            return new ComandoTransicion.AsignarResponsable(solicitudId, responsableId);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.uniquindio.proyecto.infrastructure.api.dto;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+
+import java.util.UUID;
+
+/**
+ * Vista de un usuario con la cantidad de solicitudes registradas en lugar de sus referencias.
+ */
+public record UsuarioResponse(UUID id, String nombre, Rol rol, boolean activo, int solicitudesRegistradas,
+                              long version) {
+
+    public static UsuarioResponse desde(Usuario usuario) {
+        return new UsuarioResponse(usuario.id().value(), usuario.nombre(), usuario.rol(), usuario.activo(),
+                usuario.cantidadSolicitudesRegistradas(), usuario.version());
+    }
+}
@@ -0,0 +1,10 @@
+package co.edu.uniquindio.proyecto.infrastructure.busqueda;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+
+/**
+ * Solicitud que contiene todos los términos de una búsqueda.
+ * @param puntaje Relevancia BM25 de la descripción para la consulta; mayor es más relevante
+ */
+public record Coincidencia(SolicitudId id, double puntaje) {
+}
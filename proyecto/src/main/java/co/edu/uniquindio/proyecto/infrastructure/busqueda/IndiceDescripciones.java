@@ -0,0 +1,249 @@
+package co.edu.uniquindio.proyecto.infrastructure.busqueda;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.OyenteSolicitudes;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre las descripciones de las solicitudes.
+ *
+ * Cada solicitud recibe un número de documento al verse por primera vez; como la descripción
+ * no cambia, solo se indexa entonces. Por término se guarda un arreglo creciente de enteros con
+ * el documento en los bits altos y la frecuencia del término (hasta 15) en los
+ * {@value #BITS_FRECUENCIA} bajos, ordenado por documento. Estado y tipo se guardan por documento
+ * en arreglos de bytes y se actualizan en cada guardado, para filtrar sin leer el repositorio.
+ *
+ * Una búsqueda devuelve los documentos que contienen todos los términos, intersecando desde la
+ * lista más corta, ordenados por BM25. Escrituras y búsquedas se coordinan con un candado de
+ * lectura y escritura: las búsquedas no se bloquean entre sí.
+ */
+@Component
+public class IndiceDescripciones implements OyenteSolicitudes {
+
+    private static final int BITS_FRECUENCIA = 4;
+    private static final int FRECUENCIA_MAXIMA = (1 << BITS_FRECUENCIA) - 1;
+    private static final byte ELIMINADO = -1;
+    private static final byte SIN_TIPO = -1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int CAPACIDAD_INICIAL = 1024;
+
+    private static final Comparator<Coincidencia> POR_PUNTAJE = Comparator.comparingDouble(Coincidencia::puntaje);
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<SolicitudId, Integer> documentos = new HashMap<>();
+
+    private SolicitudId[] ids = new SolicitudId[CAPACIDAD_INICIAL];
+    private long[] versiones = new long[CAPACIDAD_INICIAL];
+    private byte[] estados = new byte[CAPACIDAD_INICIAL];
+    private byte[] tipos = new byte[CAPACIDAD_INICIAL];
+    private short[] longitudes = new short[CAPACIDAD_INICIAL];
+    private int cantidad;
+    private int vigentes;
+    private long sumaLongitudes;
+
+    /** Documentos de un término: {@code documento << BITS_FRECUENCIA | frecuencia}, en orden creciente */
+    private static final class Postings {
+        private int[] entradas = new int[2];
+        private int tamano;
+
+        private void agregar(int entrada) {
+            if (tamano == entradas.length) entradas = Arrays.copyOf(entradas, tamano + (tamano >> 1) + 1);
+            entradas[tamano++] = entrada;
+        }
+    }
+
+    @Override
+    public void solicitudGuardada(Solicitud guardada) {
+        candado.writeLock().lock();
+        try {
+            Integer documento = documentos.get(guardada.id());
+            if (documento == null) {
+                documento = indexar(guardada);
+            } else if (versiones[documento] >= guardada.version() || estados[documento] == ELIMINADO) {
+                return;
+            }
+            versiones[documento] = guardada.version();
+            estados[documento] = (byte) guardada.estado().ordinal();
+            tipos[documento] = guardada.tipoSolicitud() == null ? SIN_TIPO : (byte) guardada.tipoSolicitud().ordinal();
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void solicitudEliminada(SolicitudId id) {
+        candado.writeLock().lock();
+        try {
+            // El documento se conserva marcado para que un aviso atrasado no vuelva a indexarlo
+            Integer documento = documentos.get(id);
+            if (documento == null || estados[documento] == ELIMINADO) return;
+            estados[documento] = ELIMINADO;
+            vigentes--;
+            sumaLongitudes -= longitudes[documento];
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Solicitudes cuya descripción contiene todos los términos de la consulta, de mayor a menor puntaje.
+     * @param estado Estado exigido, o null para no filtrar
+     * @param tipo Tipo exigido, o null para no filtrar
+     * @param limite Cantidad máxima de coincidencias
+     */
+    public List<Coincidencia> buscar(String consulta, EstadoSolicitud estado, TipoSolicitud tipo, int limite) {
+        List<String> terminos = new ArrayList<>(new LinkedHashSet<>(NormalizadorTexto.terminos(consulta)));
+        if (terminos.isEmpty() || limite < 1) return List.of();
+
+        candado.readLock().lock();
+        try {
+            Postings[] listas = new Postings[terminos.size()];
+            for (int i = 0; i < listas.length; i++) {
+                listas[i] = postings.get(terminos.get(i));
+                if (listas[i] == null) return List.of();
+            }
+            Arrays.sort(listas, Comparator.comparingInt(lista -> lista.tamano));
+
+            double[] idf = new double[listas.length];
+            for (int i = 0; i < listas.length; i++) {
+                idf[i] = Math.log(1 + (vigentes - listas[i].tamano + 0.5) / (listas[i].tamano + 0.5));
+            }
+            double longitudMedia = vigentes == 0 ? 1 : (double) sumaLongitudes / vigentes;
+            byte estadoBuscado = estado == null ? ELIMINADO : (byte) estado.ordinal();
+            byte tipoBuscado = tipo == null ? SIN_TIPO : (byte) tipo.ordinal();
+
+            Postings menor = listas[0];
+            PriorityQueue<Coincidencia> mejores = new PriorityQueue<>(Math.min(limite, menor.tamano) + 1, POR_PUNTAJE);
+            int[] cursores = new int[listas.length];
+            siguiente:
+            for (int i = 0; i < menor.tamano; i++) {
+                int documento = menor.entradas[i] >>> BITS_FRECUENCIA;
+                byte estadoDocumento = estados[documento];
+                if (estadoDocumento == ELIMINADO || (estado != null && estadoDocumento != estadoBuscado)
+                        || (tipo != null && tipos[documento] != tipoBuscado)) {
+                    continue;
+                }
+
+                double normalizacion = K1 * (1 - B + B * longitudes[documento] / longitudMedia);
+                int frecuencia = menor.entradas[i] & FRECUENCIA_MAXIMA;
+                double puntaje = idf[0] * frecuencia * (K1 + 1) / (frecuencia + normalizacion);
+                for (int t = 1; t < listas.length; t++) {
+                    int posicion = avanzar(listas[t], cursores[t], documento);
+                    cursores[t] = posicion;
+                    if (posicion == listas[t].tamano) break siguiente;
+                    int entrada = listas[t].entradas[posicion];
+                    if (entrada >>> BITS_FRECUENCIA != documento) continue siguiente;
+                    frecuencia = entrada & FRECUENCIA_MAXIMA;
+                    puntaje += idf[t] * frecuencia * (K1 + 1) / (frecuencia + normalizacion);
+                }
+
+                // Solo se crea la coincidencia si entra entre las mejores
+                if (mejores.size() < limite) {
+                    mejores.add(new Coincidencia(ids[documento], puntaje));
+                } else if (puntaje > mejores.peek().puntaje()) {
+                    mejores.poll();
+                    mejores.add(new Coincidencia(ids[documento], puntaje));
+                }
+            }
+
+            List<Coincidencia> resultado = new ArrayList<>(mejores);
+            resultado.sort(POR_PUNTAJE.reversed());
+            return resultado;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /** Cantidad de solicitudes indexadas y no eliminadas. */
+    public int cantidadDocumentos() {
+        candado.readLock().lock();
+        try {
+            return vigentes;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /** Cantidad de términos distintos del índice. */
+    public int cantidadTerminos() {
+        candado.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Primera posición desde {@code desde} cuyo documento es mayor o igual al buscado:
+     * búsqueda exponencial y luego binaria, para saltar rápido en listas largas.
+     */
+    private static int avanzar(Postings lista, int desde, int documento) {
+        int[] entradas = lista.entradas;
+        int limite = lista.tamano;
+        int minimo = documento << BITS_FRECUENCIA;
+        if (desde >= limite || entradas[desde] >= minimo) return desde;
+
+        int paso = 1;
+        int bajo = desde;
+        int alto = desde + 1;
+        while (alto < limite && entradas[alto] < minimo) {
+            bajo = alto;
+            paso <<= 1;
+            alto = desde + paso;
+        }
+        alto = Math.min(alto, limite);
+        // Invariante: entradas[bajo] < minimo y (alto == limite o entradas[alto] >= minimo)
+        while (alto - bajo > 1) {
+            int medio = (bajo + alto) >>> 1;
+            if (entradas[medio] < minimo) bajo = medio;
+            else alto = medio;
+        }
+        return alto;
+    }
+
+    private int indexar(Solicitud solicitud) {
+        int documento = cantidad++;
+        if (documento == ids.length) crecer();
+        documentos.put(solicitud.id(), documento);
+        ids[documento] = solicitud.id();
+
+        List<String> terminos = NormalizadorTexto.terminos(solicitud.descripcion().value());
+        Map<String, Integer> frecuencias = new HashMap<>();
+        for (String termino : terminos) {
+            frecuencias.merge(termino, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> frecuencia : frecuencias.entrySet()) {
+            postings.computeIfAbsent(frecuencia.getKey(), termino -> new Postings())
+                    .agregar(documento << BITS_FRECUENCIA | Math.min(frecuencia.getValue(), FRECUENCIA_MAXIMA));
+        }
+        longitudes[documento] = (short) terminos.size();
+        sumaLongitudes += terminos.size();
+        vigentes++;
+        return documento;
+    }
+
+    private void crecer() {
+        int capacidad = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacidad);
+        versiones = Arrays.copyOf(versiones, capacidad);
+        estados = Arrays.copyOf(estados, capacidad);
+        tipos = Arrays.copyOf(tipos, capacidad);
+        longitudes = Arrays.copyOf(longitudes, capacidad);
+    }
+}
@@ -0,0 +1,66 @@
+package co.edu.uniquindio.proyecto.infrastructure.busqueda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Convierte texto en español en los términos del índice: minúsculas, sin tildes ni diéresis
+ * (la ñ se conserva), separado por cualquier carácter que no sea letra o dígito y sin palabras
+ * vacías ni términos de un solo carácter.
+ */
+public final class NormalizadorTexto {
+
+    private static final int LONGITUD_MINIMA = 2;
+
+    /** Palabras vacías más frecuentes, ya sin tildes */
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+            "de", "la", "que", "el", "en", "y", "a", "los", "se", "del", "las", "un", "por", "con", "no",
+            "una", "su", "para", "es", "al", "lo", "como", "mas", "pero", "sus", "le", "ya", "o", "este", "si",
+            "porque", "esta", "entre", "cuando", "muy", "sin", "sobre", "tambien", "me", "hasta", "hay",
+            "donde", "quien", "desde", "todo", "nos", "durante", "todos", "uno", "les", "ni", "contra",
+            "otros", "ese", "eso", "ante", "ellos", "e", "esto", "mi", "antes", "algunos", "unos", "yo",
+            "otro", "otras", "otra", "tanto", "esa", "estos", "mucho", "quienes", "nada", "muchos", "cual",
+            "poco", "ella", "estar", "estas", "algunas", "algo", "nosotros", "mis", "tu", "te", "ti", "tus",
+            "ellas", "os", "ha", "he", "han", "son", "fue", "ser", "era", "soy", "solo");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Términos del texto en orden de aparición, con repeticiones.
+     */
+    public static List<String> terminos(String texto) {
+        List<String> terminos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        for (int i = 0; i < texto.length(); i++) {
+            char plegado = plegar(texto.charAt(i));
+            if (plegado != 0) {
+                actual.append(plegado);
+            } else if (!actual.isEmpty()) {
+                agregar(terminos, actual);
+            }
+        }
+        if (!actual.isEmpty()) agregar(terminos, actual);
+        return terminos;
+    }
+
+    private static void agregar(List<String> terminos, StringBuilder actual) {
+        String termino = actual.toString();
+        actual.setLength(0);
+        if (termino.length() >= LONGITUD_MINIMA && !PALABRAS_VACIAS.contains(termino)) terminos.add(termino);
+    }
+
+    /** Carácter en minúscula y sin tilde, o 0 si separa términos. */
+    private static char plegar(char c) {
+        char minuscula = Character.toLowerCase(c);
+        return switch (minuscula) {
+            case 'á', 'à', 'ä', 'â' -> 'a';
+            case 'é', 'è', 'ë', 'ê' -> 'e';
+            case 'í', 'ì', 'ï', 'î' -> 'i';
+            case 'ó', 'ò', 'ö', 'ô' -> 'o';
+            case 'ú', 'ù', 'ü', 'û' -> 'u';
+            default -> Character.isLetterOrDigit(minuscula) ? minuscula : 0;
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Historial inmutable de una solicitud que comparte su almacenamiento entre copias.
+ *
+ * Cada instancia ve un prefijo de tamaño fijo de un bloque de solo agregado. Agregar escribe en
+ * el mismo bloque si esta instancia es la que llegó más lejos (reclama la posición con CAS);
+ * si otra copia ya agregó por su cuenta, se copia el prefijo a un bloque nuevo. Así las copias
+ * que hace la persistencia y las vistas que se entregan cuestan O(1), sin importar la longitud.
+ */
+public final class HistorialSolicitud {
+
+    private static final int CAPACIDAD_INICIAL = 8;
+
+    private static final HistorialSolicitud VACIO = new HistorialSolicitud(new Bloque(new EntradaHistorial[0], 0), 0);
+
+    /** Entradas escritas una sola vez; {@code ocupadas} es la posición más lejana reclamada. */
+    private static final class Bloque {
+        private final EntradaHistorial[] entradas;
+        private final AtomicInteger ocupadas;
+
+        private Bloque(EntradaHistorial[] entradas, int ocupadas) {
+            this.entradas = entradas;
+            this.ocupadas = new AtomicInteger(ocupadas);
+        }
+    }
+
+    private final Bloque bloque;
+    private final int tamano;
+    private final Vista vista = new Vista();
+
+    private HistorialSolicitud(Bloque bloque, int tamano) {
+        this.bloque = bloque;
+        this.tamano = tamano;
+    }
+
+    public static HistorialSolicitud vacio() {
+        return VACIO;
+    }
+
+    /**
+     * Historial con las entradas dadas. Si la lista ya es una vista de un historial, se reutiliza sin copiar.
+     */
+    public static HistorialSolicitud de(List<EntradaHistorial> entradas) {
+        if (entradas instanceof Vista existente) return existente.historial();
+        EntradaHistorial[] copia = entradas.toArray(new EntradaHistorial[0]);
+        for (EntradaHistorial entrada : copia) Objects.requireNonNull(entrada, "entrada de historial");
+        return new HistorialSolicitud(new Bloque(copia, copia.length), copia.length);
+    }
+
+    /**
+     * Historial con la entrada agregada al final; esta instancia no cambia.
+     */
+    public HistorialSolicitud agregar(EntradaHistorial entrada) {
+        return agregarTodas(List.of(entrada));
+    }
+
+    /**
+     * Historial con las entradas agregadas al final, en orden; esta instancia no cambia.
+     */
+    public HistorialSolicitud agregarTodas(List<EntradaHistorial> nuevas) {
+        int cantidad = nuevas.size();
+        if (cantidad == 0) return this;
+        int nuevoTamano = tamano + cantidad;
+
+        if (nuevoTamano <= bloque.entradas.length && bloque.ocupadas.compareAndSet(tamano, nuevoTamano)) {
+            // Las posiciones [tamano, nuevoTamano) quedaron reservadas para esta rama
+            for (int i = 0; i < cantidad; i++) {
+                bloque.entradas[tamano + i] = Objects.requireNonNull(nuevas.get(i), "entrada de historial");
+            }
+            return new HistorialSolicitud(bloque, nuevoTamano);
+        }
+
+        EntradaHistorial[] entradas = Arrays.copyOf(bloque.entradas,
+                Math.max(CAPACIDAD_INICIAL, Math.max(nuevoTamano, tamano * 2)));
+        for (int i = 0; i < cantidad; i++) {
+            entradas[tamano + i] = Objects.requireNonNull(nuevas.get(i), "entrada de historial");
+        }
+        return new HistorialSolicitud(new Bloque(entradas, nuevoTamano), nuevoTamano);
+    }
+
+    public int tamano() {
+        return tamano;
+    }
+
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    /**
+     * Lista inmutable con las entradas de este historial; no copia y su {@code subList} tampoco.
+     */
+    public List<EntradaHistorial> vista() {
+        return vista;
+    }
+
+    /**
+     * Entradas {@code [desde, desde + limite)}, recortadas al final del historial.
+     */
+    public List<EntradaHistorial> pagina(int desde, int limite) {
+        if (desde < 0 || limite < 0) throw new IndexOutOfBoundsException("desde y limite no pueden ser negativos");
+        int inicio = Math.min(desde, tamano);
+        return vista.subList(inicio, (int) Math.min(tamano, (long) inicio + limite));
+    }
+
+    private final class Vista extends AbstractList<EntradaHistorial> implements RandomAccess {
+
+        private HistorialSolicitud historial() {
+            return HistorialSolicitud.this;
+        }
+
+        @Override
+        public EntradaHistorial get(int indice) {
+            Objects.checkIndex(indice, tamano);
+            return bloque.entradas[indice];
+        }
+
+        @Override
+        public int size() {
+            return tamano;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ids de las solicitudes registradas por un usuario, en orden de registro. Es inmutable.
+ *
+ * Cada id ocupa dos {@code long} consecutivos de un arreglo que crece 1,5 veces al llenarse:
+ * 16 bytes por referencia, sin objetos por elemento. La etiqueta "Solicitud #xxxxxxxx" de cada
+ * referencia se arma solo al leer una página.
+ *
+ * Agregar devuelve una instancia nueva que comparte el arreglo: cada instancia solo ve sus
+ * primeras {@code cantidad} referencias, y la primera que agrega a partir de una cantidad
+ * reclama las posiciones libres que siguen. Si otra ya las reclamó, o no caben, se copia el
+ * arreglo; así agregar sigue siendo O(1) amortizado y una posición nunca se escribe dos veces.
+ */
+final class ReferenciasSolicitudes {
+
+    static final ReferenciasSolicitudes VACIAS = new ReferenciasSolicitudes(new Arreglo(new long[0], 0), 0);
+    private static final int CAPACIDAD_INICIAL = 8;
+
+    /** Arreglo compartido y cantidad de referencias ya escritas en él. */
+    private record Arreglo(long[] bits, AtomicInteger usadas) {
+        Arreglo(long[] bits, int usadas) {
+            this(bits, new AtomicInteger(usadas));
+        }
+    }
+
+    private final Arreglo arreglo;
+    private final int cantidad;
+
+    private ReferenciasSolicitudes(Arreglo arreglo, int cantidad) {
+        this.arreglo = arreglo;
+        this.cantidad = cantidad;
+    }
+
+    ReferenciasSolicitudes con(List<SolicitudId> solicitudIds) {
+        if (solicitudIds.isEmpty()) return this;
+        int nuevaCantidad = cantidad + solicitudIds.size();
+
+        Arreglo destino = arreglo;
+        if (nuevaCantidad * 2 > destino.bits().length || !destino.usadas().compareAndSet(cantidad, nuevaCantidad)) {
+            int capacidad = Math.max(CAPACIDAD_INICIAL, Math.max(nuevaCantidad, cantidad + (cantidad >> 1)));
+            // Solo se copian las referencias de esta instancia; lo que sigue puede ser de otra rama
+            long[] bits = new long[capacidad * 2];
+            System.arraycopy(arreglo.bits(), 0, bits, 0, cantidad * 2);
+            destino = new Arreglo(bits, nuevaCantidad);
+        }
+        int posicion = cantidad * 2;
+        for (SolicitudId solicitudId : solicitudIds) {
+            UUID id = solicitudId.value();
+            destino.bits()[posicion++] = id.getMostSignificantBits();
+            destino.bits()[posicion++] = id.getLeastSignificantBits();
+        }
+        return new ReferenciasSolicitudes(destino, nuevaCantidad);
+    }
+
+    int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Referencias {@code [desde, desde + limite)}, recortadas al final.
+     */
+    List<UsuarioReferencia> pagina(int desde, int limite) {
+        if (desde < 0 || limite < 0) throw new IndexOutOfBoundsException("desde y limite no pueden ser negativos");
+        long[] bits = arreglo.bits();
+        int fin = (int) Math.min(cantidad, (long) desde + limite);
+        List<UsuarioReferencia> pagina = new ArrayList<>(Math.max(0, fin - desde));
+        for (int i = desde; i < fin; i++) {
+            pagina.add(referencia(new UUID(bits[i * 2], bits[i * 2 + 1])));
+        }
+        return pagina;
+    }
+
+    /** Referencia con la etiqueta corta que se muestra de una solicitud. */
+    static UsuarioReferencia referencia(UUID solicitudId) {
+        return new UsuarioReferencia(solicitudId, "Solicitud #" + solicitudId.toString().substring(0, 8));
+    }
+}
@@ -2,14 +2,13 @@ package co.edu.uniquindio.proyecto.infrastructure.entity;
 
 import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
 import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.identificador.Identificadores;
 import co.edu.uniquindio.proyecto.domain.valueObject.*;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.*;
 
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Entidad que representa una solicitud (PQR) en el sistema.
@@ -39,7 +38,14 @@ public class Solicitud {
     private EstadoSolicitud estado;
     private UsuarioReferencia responsable;
 
-    private final List<EntradaHistorial> historial = new ArrayList<>();
+    /** Compartido con las copias: cada transición lo reemplaza por uno con la entrada agregada. */
+    private HistorialSolicitud historial = HistorialSolicitud.vacio();
+
+    /** Versión persistida; la incrementa el repositorio en cada guardado exitoso. */
+    private final long version;
+
+    /** Cantidad de entradas del historial que ya estaban guardadas cuando se obtuvo esta instancia. */
+    private final int historialGuardado;
 
     public Solicitud(SolicitudId id,
                      UsuarioReferencia solicitante,
@@ -60,9 +66,54 @@ public class Solicitud {
         this.descripcion = descripcion;
 
         this.estado = EstadoSolicitud.REGISTRADA;
+        this.version = 0;
+        this.historialGuardado = 0;
         registrarHistorial("REGISTRAR_SOLICITUD", solicitante, "Solicitud registrada");
     }
 
+    private Solicitud(Solicitud origen, long version) {
+        this.id = origen.id;
+        this.solicitante = origen.solicitante;
+        this.canalOrigen = origen.canalOrigen;
+        this.fechaRegistro = origen.fechaRegistro;
+        this.tipoSolicitud = origen.tipoSolicitud;
+        this.descripcion = origen.descripcion;
+        this.prioridad = origen.prioridad;
+        this.justificacionPrioridad = origen.justificacionPrioridad;
+        this.estado = origen.estado;
+        this.responsable = origen.responsable;
+        this.historial = origen.historial;
+        this.version = version;
+        this.historialGuardado = origen.historial.tamano();
+    }
+
+    private Solicitud(SolicitudId id, UsuarioReferencia solicitante, CanalOrigen canalOrigen, Instant fechaRegistro,
+                      DescripcionSolicitud descripcion, TipoSolicitud tipoSolicitud, Prioridad prioridad,
+                      JustificacionPrioridad justificacionPrioridad, EstadoSolicitud estado,
+                      UsuarioReferencia responsable, List<EntradaHistorial> historial, long version) {
+        if (id == null) throw new DomainException("Solicitud.id es obligatorio");
+        if (solicitante == null) throw new DomainException("Solicitud.solicitante es obligatorio");
+        if (canalOrigen == null) throw new DomainException("Solicitud.canalOrigen es obligatorio");
+        if (fechaRegistro == null) throw new DomainException("Solicitud.fechaRegistro es obligatorio");
+        if (descripcion == null) throw new DomainException("Solicitud.descripcion es obligatoria");
+        if (estado == null) throw new DomainException("Solicitud.estado es obligatorio");
+        if (historial == null || historial.isEmpty()) throw new DomainException("Solicitud.historial no puede estar vacío");
+
+        this.id = id;
+        this.solicitante = solicitante;
+        this.canalOrigen = canalOrigen;
+        this.fechaRegistro = fechaRegistro;
+        this.descripcion = descripcion;
+        this.tipoSolicitud = tipoSolicitud;
+        this.prioridad = prioridad;
+        this.justificacionPrioridad = justificacionPrioridad;
+        this.estado = estado;
+        this.responsable = responsable;
+        this.historial = HistorialSolicitud.de(historial);
+        this.version = version;
+        this.historialGuardado = this.historial.tamano();
+    }
+
     /**
      * Factory method para crear una nueva solicitud.
      + solicitante Referencia del usuario que crea la solicitud
@@ -80,6 +131,20 @@ public class Solicitud {
         );
     }
 
+    /**
+     * Reconstruye una solicitud ya existente a partir de su estado persistido,
+     * sin volver a aplicar las reglas de transición ni registrar historial.
+     * Uso exclusivo de la capa de persistencia.
+     */
+    public static Solicitud reconstituir(SolicitudId id, UsuarioReferencia solicitante, CanalOrigen canalOrigen,
+                                         Instant fechaRegistro, DescripcionSolicitud descripcion,
+                                         TipoSolicitud tipoSolicitud, Prioridad prioridad,
+                                         JustificacionPrioridad justificacionPrioridad, EstadoSolicitud estado,
+                                         UsuarioReferencia responsable, List<EntradaHistorial> historial, long version) {
+        return new Solicitud(id, solicitante, canalOrigen, fechaRegistro, descripcion, tipoSolicitud, prioridad,
+                justificacionPrioridad, estado, responsable, historial, version);
+    }
+
     /**
      * Clasifica la solicitud con un tipo específico.
      * Solo aplicable cuando la solicitud está en estado REGISTRADA.
@@ -174,14 +239,32 @@ public class Solicitud {
         registrarHistorial("CERRAR_SOLICITUD", responsable, observacionCierre);
     }
 
+    /**
+     * Crea una copia independiente de la solicitud con la versión indicada.
+     * La usa la capa de persistencia para no compartir instancias mutables entre
+     * operaciones concurrentes y para asignar la nueva versión tras un guardado.
+     * En la copia todo el historial cuenta como guardado.
+     */
+    public Solicitud copiaConVersion(long nuevaVersion) {
+        return new Solicitud(this, nuevaVersion);
+    }
+
+    /**
+     * Crea una copia independiente de la solicitud conservando su versión.
+     * En la copia todo el historial cuenta como guardado.
+     */
+    public Solicitud copia() {
+        return new Solicitud(this, version);
+    }
+
     private void asegurarNoCerrada() {
         if (estado == EstadoSolicitud.CERRADA)
             throw new BusinessRuleViolation("Una solicitud CERRADA no puede modificarse");
     }
 
     private void registrarHistorial(String accion, UsuarioReferencia usuario, String observacion) {
-        historial.add(new EntradaHistorial(
-                UUID.randomUUID(),
+        historial = historial.agregar(new EntradaHistorial(
+                Identificadores.nuevo(),
                 Instant.now(),
                 accion,
                 usuario,
@@ -199,5 +282,21 @@ public class Solicitud {
     public JustificacionPrioridad justificacionPrioridad() { return justificacionPrioridad; }
     public EstadoSolicitud estado() { return estado; }
     public UsuarioReferencia responsable() { return responsable; }
-    public List<EntradaHistorial> historial() { return List.copyOf(historial); }
+    /** Vista inmutable del historial; no copia las entradas. */
+    public List<EntradaHistorial> historial() { return historial.vista(); }
+    public int cantidadHistorial() { return historial.tamano(); }
+
+    /**
+     * Entradas del historial {@code [desde, desde + limite)}, sin copiar.
+     */
+    public List<EntradaHistorial> historial(int desde, int limite) { return historial.pagina(desde, limite); }
+
+    /**
+     * Entradas agregadas por transiciones desde que se obtuvo esta instancia del repositorio,
+     * en orden; vacía si no hubo transiciones. Son las que el próximo guardado hará persistentes.
+     */
+    public List<EntradaHistorial> historialSinGuardar() {
+        return historial.pagina(historialGuardado, historial.tamano() - historialGuardado);
+    }
+    public long version() { return version; }
 }
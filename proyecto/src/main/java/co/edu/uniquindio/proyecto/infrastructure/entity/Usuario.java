@@ -2,11 +2,10 @@ package co.edu.uniquindio.proyecto.infrastructure.entity;
 
 import co.edu.uniquindio.proyecto.domain.exception.DomainException;
 import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
 import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
 import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,6 +16,11 @@ import java.util.List;
  * - ESTUDIANTE: Puede crear solicitudes.
  * - DOCENTE: Puede ser asignado como responsable de solicitudes.
  * - COORDINADOR: Puede clasificar, priorizar y asignar responsables.
+ *
+ * Es inmutable: activar, desactivar o registrar una solicitud devuelve una copia con el cambio,
+ * así que la instancia que guarda un repositorio (o su caché) nunca cambia mientras otros la leen.
+ * Como en {@link Solicitud}, la versión es la almacenada (0 si nunca se guardó) y el repositorio
+ * la incrementa al guardar, solo si la copia parte de la versión vigente.
  * 
  * Sistema PQRS
  */
@@ -25,11 +29,17 @@ public class Usuario {
     private final IdentificacionUsuario id;
     private final String nombre;
     private final Rol rol;
-    private boolean activo;
+    private final boolean activo;
+    private final long version;
 
-    private final List<UsuarioReferencia> solicitudesRegistradas;
+    private final ReferenciasSolicitudes solicitudesRegistradas;
 
     public Usuario(IdentificacionUsuario id, String nombre, Rol rol, boolean activo) {
+        this(id, nombre, rol, activo, ReferenciasSolicitudes.VACIAS, 0);
+    }
+
+    private Usuario(IdentificacionUsuario id, String nombre, Rol rol, boolean activo,
+                    ReferenciasSolicitudes solicitudesRegistradas, long version) {
         if (id == null) throw new DomainException("Usuario.id no puede ser null");
         if (nombre == null || nombre.isBlank()) throw new DomainException("Usuario.nombre es obligatorio");
         if (rol == null) throw new DomainException("Usuario.rol es obligatorio");
@@ -38,7 +48,8 @@ public class Usuario {
         this.nombre = nombre;
         this.rol = rol;
         this.activo = activo;
-        this.solicitudesRegistradas = new ArrayList<>();
+        this.solicitudesRegistradas = solicitudesRegistradas;
+        this.version = version;
     }
 
     /**
@@ -51,38 +62,75 @@ public class Usuario {
         return new Usuario(IdentificacionUsuario.newId(), nombre, rol, true);
     }
 
+    /**
+     * Reconstruye un usuario desde almacenamiento durable con la versión que tenía.
+     */
+    public static Usuario reconstituir(IdentificacionUsuario id, String nombre, Rol rol, boolean activo,
+                                       List<SolicitudId> solicitudesRegistradas, long version) {
+        return new Usuario(id, nombre, rol, activo,
+                ReferenciasSolicitudes.VACIAS.con(solicitudesRegistradas), version);
+    }
+
+    /**
+     * Copia con otra versión; la usa el repositorio al guardar.
+     */
+    public Usuario copiaConVersion(long nuevaVersion) {
+        return new Usuario(id, nombre, rol, activo, solicitudesRegistradas, nuevaVersion);
+    }
+
     public IdentificacionUsuario id() { return id; }
     public String nombre() { return nombre; }
     public Rol rol() { return rol; }
     public boolean activo() { return activo; }
+    public long version() { return version; }
 
     /**
-     + Desactiva el usuario (no puede crear ni atender solicitudes).
+     + Copia desactivada del usuario (no puede crear ni atender solicitudes).
      */
-    public void desactivar() { this.activo = false; }
+    public Usuario desactivado() {
+        return activo ? new Usuario(id, nombre, rol, false, solicitudesRegistradas, version) : this;
+    }
 
     /**
-     + Activa el usuario para participar en el sistema.
+     + Copia activada del usuario para participar en el sistema.
      */
-    public void activar() { this.activo = true; }
+    public Usuario activado() {
+        return activo ? this : new Usuario(id, nombre, rol, true, solicitudesRegistradas, version);
+    }
 
     /**
-     + Agrega una referencia a una solicitud registrada por este usuario.
-     + Mantiene la trazabilidad de las solicitudes creadas.
-     + solicitudRef Referencia a la solicitud
+     + Copia con la solicitud agregada al final de las registradas por este usuario.
      */
-    public void agregarSolicitudRegistrada(UsuarioReferencia solicitudRef) {
-        if (solicitudRef == null) {
+    public Usuario conSolicitudRegistrada(SolicitudId solicitudId) {
+        if (solicitudId == null) {
             throw new DomainException("No se puede agregar una referencia de solicitud null");
         }
-        this.solicitudesRegistradas.add(solicitudRef);
+        return conSolicitudesRegistradas(List.of(solicitudId));
     }
 
-    public List<UsuarioReferencia> getSolicitudesRegistradas() {
-        return Collections.unmodifiableList(solicitudesRegistradas);
+    /**
+     + Copia con las solicitudes agregadas al final de las registradas por este usuario.
+     + Mantiene la trazabilidad de las solicitudes creadas; solo se guarda el id.
+     + solicitudIds Ids de las solicitudes, en orden de registro
+     */
+    public Usuario conSolicitudesRegistradas(List<SolicitudId> solicitudIds) {
+        for (SolicitudId solicitudId : solicitudIds) {
+            if (solicitudId == null) {
+                throw new DomainException("No se puede agregar una referencia de solicitud null");
+            }
+        }
+        return new Usuario(id, nombre, rol, activo, solicitudesRegistradas.con(solicitudIds), version);
+    }
+
+    /**
+     * Solicitudes registradas {@code [desde, desde + limite)} en orden de registro, recortadas al final.
+     * La etiqueta de cada referencia es "Solicitud #" más el inicio de su id.
+     */
+    public List<UsuarioReferencia> solicitudesRegistradas(int desde, int limite) {
+        return solicitudesRegistradas.pagina(desde, limite);
     }
 
     public int cantidadSolicitudesRegistradas() {
-        return solicitudesRegistradas.size();
+        return solicitudesRegistradas.cantidad();
     }
 }
@@ -0,0 +1,68 @@
+package co.edu.uniquindio.proyecto.infrastructure.estadisticas;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.util.function.Function;
+
+/**
+ * Dimensiones por las que se cuentan las solicitudes. Tipo y prioridad tienen una posición
+ * adicional, al final, para las solicitudes que aún no los tienen.
+ */
+public enum DimensionEstadistica {
+    ESTADO(EstadoSolicitud.values(), false, Solicitud::estado),
+    TIPO(TipoSolicitud.values(), true, Solicitud::tipoSolicitud),
+    PRIORIDAD(Prioridad.values(), true, Solicitud::prioridad),
+    CANAL(CanalOrigen.values(), false, Solicitud::canalOrigen);
+
+    /** Cantidad de celdas del cubo con todas las dimensiones */
+    static final int CELDAS;
+
+    static {
+        int celdas = 1;
+        for (DimensionEstadistica dimension : values()) {
+            dimension.paso = celdas;
+            celdas *= dimension.cardinalidad;
+        }
+        CELDAS = celdas;
+    }
+
+    private final Enum<?>[] valores;
+    private final int cardinalidad;
+    private final Function<Solicitud, Enum<?>> extractor;
+    /** Distancia entre celdas consecutivas de esta dimensión en el cubo */
+    private int paso;
+
+    DimensionEstadistica(Enum<?>[] valores, boolean admiteNulo, Function<Solicitud, Enum<?>> extractor) {
+        this.valores = valores;
+        this.cardinalidad = valores.length + (admiteNulo ? 1 : 0);
+        this.extractor = extractor;
+    }
+
+    /** Celda del cubo en la que cuenta la solicitud. */
+    static int celda(Solicitud solicitud) {
+        int celda = 0;
+        for (DimensionEstadistica dimension : values()) {
+            Enum<?> valor = dimension.extractor.apply(solicitud);
+            celda += (valor == null ? dimension.valores.length : valor.ordinal()) * dimension.paso;
+        }
+        return celda;
+    }
+
+    int cardinalidad() {
+        return cardinalidad;
+    }
+
+    /** Posición de esta dimensión dentro de la celda. */
+    int posicion(int celda) {
+        return celda / paso % cardinalidad;
+    }
+
+    /** Nombre del valor en la posición, o null para la posición de los que no lo tienen. */
+    String valor(int posicion) {
+        return posicion < valores.length ? valores[posicion].name() : null;
+    }
+}
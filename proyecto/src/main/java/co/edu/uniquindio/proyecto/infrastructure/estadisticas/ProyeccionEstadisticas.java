@@ -0,0 +1,94 @@
+package co.edu.uniquindio.proyecto.infrastructure.estadisticas;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.OyenteSolicitudes;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conteo de solicitudes por estado, tipo, prioridad y canal, actualizado en cada guardado.
+ *
+ * Guarda un cubo de {@link LongAdder} con una celda por combinación de las cuatro dimensiones;
+ * una transición resta en la celda anterior y suma en la nueva. Consultar recorre las celdas del
+ * cubo (cientos), no las solicitudes, así que no depende de cuántas haya. Las celdas se leen una
+ * a una: una consulta concurrente con una transición puede contarla en ambas celdas o en ninguna.
+ */
+@Component
+public class ProyeccionEstadisticas implements OyenteSolicitudes {
+
+    private static final int BITS_CELDA = 16;
+    private static final long MASCARA_CELDA = (1L << BITS_CELDA) - 1;
+
+    private final LongAdder[] celdas = new LongAdder[DimensionEstadistica.CELDAS];
+    /** Por solicitud: versión conocida en los bits altos y celda en los {@value #BITS_CELDA} bajos */
+    private final ConcurrentHashMap<SolicitudId, Long> conocidas = new ConcurrentHashMap<>();
+
+    public ProyeccionEstadisticas() {
+        Arrays.setAll(celdas, i -> new LongAdder());
+    }
+
+    @Override
+    public void solicitudGuardada(Solicitud guardada) {
+        int celda = DimensionEstadistica.celda(guardada);
+        long version = guardada.version();
+        conocidas.compute(guardada.id(), (id, previa) -> {
+            if (previa != null && (previa >>> BITS_CELDA) >= version) return previa;
+            celdas[celda].increment();
+            if (previa != null) celdas[(int) (previa & MASCARA_CELDA)].decrement();
+            return version << BITS_CELDA | celda;
+        });
+    }
+
+    @Override
+    public void solicitudEliminada(SolicitudId id) {
+        Long previa = conocidas.remove(id);
+        if (previa != null) celdas[(int) (previa & MASCARA_CELDA)].decrement();
+    }
+
+    /**
+     * Tabla cruzada por las dimensiones indicadas; sin dimensiones devuelve solo el total.
+     */
+    public TablaEstadisticas tabla(List<DimensionEstadistica> dimensiones) {
+        if (dimensiones.stream().distinct().count() != dimensiones.size()) {
+            throw new DomainException("Las dimensiones de la tabla no pueden repetirse");
+        }
+        int combinaciones = 1;
+        for (DimensionEstadistica dimension : dimensiones) {
+            combinaciones *= dimension.cardinalidad();
+        }
+
+        long[] conteos = new long[combinaciones];
+        long total = 0;
+        for (int celda = 0; celda < celdas.length; celda++) {
+            long cantidad = celdas[celda].sum();
+            if (cantidad == 0) continue;
+            total += cantidad;
+            int combinacion = 0;
+            for (DimensionEstadistica dimension : dimensiones) {
+                combinacion = combinacion * dimension.cardinalidad() + dimension.posicion(celda);
+            }
+            conteos[combinacion] += cantidad;
+        }
+
+        List<TablaEstadisticas.Fila> filas = new ArrayList<>();
+        for (int combinacion = 0; combinacion < combinaciones; combinacion++) {
+            if (conteos[combinacion] == 0) continue;
+            String[] valores = new String[dimensiones.size()];
+            int resto = combinacion;
+            for (int i = dimensiones.size() - 1; i >= 0; i--) {
+                DimensionEstadistica dimension = dimensiones.get(i);
+                valores[i] = dimension.valor(resto % dimension.cardinalidad());
+                resto /= dimension.cardinalidad();
+            }
+            filas.add(new TablaEstadisticas.Fila(Arrays.asList(valores), conteos[combinacion]));
+        }
+        return new TablaEstadisticas(List.copyOf(dimensiones), filas, total);
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.uniquindio.proyecto.infrastructure.estadisticas;
+
+import java.util.List;
+
+/**
+ * Conteo de solicitudes agrupado por las dimensiones pedidas; solo incluye combinaciones con solicitudes.
+ * @param dimensiones Dimensiones de la tabla, en el orden de los valores de cada fila
+ * @param filas Una fila por combinación de valores
+ * @param total Total de solicitudes
+ */
+public record TablaEstadisticas(List<DimensionEstadistica> dimensiones, List<Fila> filas, long total) {
+
+    /**
+     * @param valores Un valor por dimensión; null si la solicitud aún no lo tiene (tipo o prioridad)
+     */
+    public record Fila(List<String> valores, long cantidad) {
+    }
+}
@@ -0,0 +1,29 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exporta cada transición como una línea de auditoría en el logger {@value #BITACORA}, fuera del
+ * hilo de la petición.
+ */
+@Component
+public class BitacoraEventos implements ManejadorEventos {
+
+    static final String BITACORA = "auditoria.solicitudes";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BITACORA);
+
+    @Override
+    public void manejar(List<EventoSolicitud> lote) {
+        if (!LOG.isInfoEnabled()) return;
+        for (EventoSolicitud evento : lote) {
+            LOG.info("{} solicitud={} version={} usuario={} fecha={} observacion={}", evento.tipo(),
+                    evento.solicitudId().value(), evento.version(), evento.usuario().value(), evento.fecha(),
+                    evento.observacion());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bus de eventos en memoria sobre un anillo acotado sin candados, con un hilo por manejador.
+ *
+ * Los productores reclaman la siguiente secuencia del anillo con un compare-and-swap sobre el
+ * cursor, escriben el evento en su celda y lo marcan publicado guardando la secuencia en la celda
+ * con semántica release. Cada consumidor lleva su propia secuencia: lee en lote las celdas
+ * publicadas consecutivas desde la suya, invoca a su manejador y avanza, liberando esas celdas.
+ * Un productor solo puede reclamar una secuencia si el consumidor más atrasado ya liberó la celda
+ * que va a reutilizar; si no, aplica la {@link PoliticaSaturacion}. Así la publicación nunca espera
+ * a que un manejador termine, solo a que haya espacio.
+ *
+ * La secuencia mínima de los consumidores se guarda en caché y solo se recalcula cuando el anillo
+ * parece lleno. Los eventos publicados mientras el bus se cierra pueden perderse.
+ */
+public class BusEventos implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BusEventos.class);
+
+    private static final int GIROS_OCIOSOS = 100;
+    private static final int CEDER_OCIOSOS = 200;
+    private static final long ESPERA_OCIOSA_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long ESPERA_PRODUCTOR_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long ESPERA_CIERRE_MILIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final EventoSolicitud[] eventos;
+    /** Secuencia publicada en cada celda; -1 mientras no se ha publicado ninguna. */
+    private final AtomicLongArray publicadas;
+    private final int mascara;
+    private final int tamanoLote;
+    private final PoliticaSaturacion politica;
+    private final long esperaMaximaNanos;
+    private final List<Consumidor> consumidores;
+
+    /** Última secuencia reclamada por un productor. */
+    private final AtomicLong cursor = new AtomicLong(-1);
+    /** Secuencia mínima procesada por los consumidores la última vez que se calculó. */
+    private volatile long minimoConsumido = -1;
+    private final LongAdder publicados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private volatile boolean cerrado;
+
+    /**
+     * @param capacidad Celdas del anillo; se redondea a la siguiente potencia de dos
+     * @param tamanoLote Máximo de eventos que recibe un manejador por llamada
+     * @param esperaMaxima Cuánto puede esperar una publicación con {@link PoliticaSaturacion#ESPERAR}
+     */
+    public BusEventos(int capacidad, int tamanoLote, PoliticaSaturacion politica, Duration esperaMaxima,
+                      List<ManejadorEventos> manejadores) {
+        if (capacidad < 2 || capacidad > 1 << 30) throw new IllegalArgumentException("capacidad fuera de rango: " + capacidad);
+        if (tamanoLote < 1) throw new IllegalArgumentException("tamanoLote debe ser positivo");
+        int celdas = Integer.highestOneBit(capacidad - 1) << 1;
+        this.eventos = new EventoSolicitud[celdas];
+        this.publicadas = new AtomicLongArray(celdas);
+        for (int i = 0; i < celdas; i++) {
+            publicadas.set(i, -1);
+        }
+        this.mascara = celdas - 1;
+        this.tamanoLote = tamanoLote;
+        this.politica = politica;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+
+        List<Consumidor> creados = new ArrayList<>(manejadores.size());
+        for (ManejadorEventos manejador : manejadores) {
+            creados.add(new Consumidor(manejador));
+        }
+        this.consumidores = List.copyOf(creados);
+    }
+
+    /**
+     * Arranca un hilo por manejador.
+     */
+    public void iniciar() {
+        for (Consumidor consumidor : consumidores) {
+            consumidor.hilo.start();
+        }
+    }
+
+    /**
+     * Publica el evento para todos los manejadores.
+     * @return false si se descartó por falta de espacio o porque el bus está cerrado
+     */
+    public boolean publicar(EventoSolicitud evento) {
+        if (cerrado) return false;
+        long secuencia = reclamar();
+        if (secuencia < 0) {
+            descartados.increment();
+            return false;
+        }
+        int celda = (int) (secuencia & mascara);
+        eventos[celda] = evento;
+        publicadas.setRelease(celda, secuencia);
+        publicados.increment();
+        return true;
+    }
+
+    /**
+     * Reclama la siguiente secuencia, o -1 si la política de saturación manda descartar.
+     */
+    private long reclamar() {
+        long limite = 0;
+        while (true) {
+            long actual = cursor.get();
+            long siguiente = actual + 1;
+            // Celda que se reutiliza: la debe haber liberado el consumidor más atrasado
+            long envoltura = siguiente - eventos.length;
+            if (envoltura > minimoConsumido) {
+                long minimo = minimoProcesado(actual);
+                minimoConsumido = minimo;
+                if (envoltura > minimo) {
+                    if (politica == PoliticaSaturacion.DESCARTAR) return -1;
+                    long ahora = System.nanoTime();
+                    if (limite == 0) {
+                        limite = ahora + esperaMaximaNanos;
+                    } else if (ahora - limite >= 0) {
+                        return -1;
+                    }
+                    LockSupport.parkNanos(ESPERA_PRODUCTOR_NANOS);
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(actual, siguiente)) return siguiente;
+        }
+    }
+
+    private long minimoProcesado(long porDefecto) {
+        long minimo = porDefecto;
+        for (Consumidor consumidor : consumidores) {
+            minimo = Math.min(minimo, consumidor.secuencia.get());
+        }
+        return minimo;
+    }
+
+    public EstadisticasBus estadisticas() {
+        long ultimo = cursor.get();
+        List<EstadisticasConsumidor> porConsumidor = new ArrayList<>(consumidores.size());
+        for (Consumidor consumidor : consumidores) {
+            porConsumidor.add(new EstadisticasConsumidor(consumidor.manejador.nombre(), consumidor.procesados,
+                    consumidor.lotes, consumidor.errores, consumidor.mayorLote,
+                    Math.max(0, ultimo - consumidor.secuencia.get())));
+        }
+        return new EstadisticasBus(eventos.length, publicados.sum(), descartados.sum(), porConsumidor);
+    }
+
+    /**
+     * Deja de aceptar eventos y espera a que los manejadores procesen los ya publicados.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        for (Consumidor consumidor : consumidores) {
+            if (!consumidor.hilo.isAlive()) continue;
+            try {
+                consumidor.hilo.join(ESPERA_CIERRE_MILIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (consumidor.hilo.isAlive()) {
+                LOG.warn("El manejador {} no terminó de procesar los eventos pendientes", consumidor.manejador.nombre());
+                consumidor.hilo.interrupt();
+            }
+        }
+    }
+
+    /** Hilo y secuencia de un manejador; los contadores solo los escribe su propio hilo. */
+    private final class Consumidor implements Runnable {
+
+        private final ManejadorEventos manejador;
+        /** Última secuencia procesada; las celdas hasta ella quedan libres para los productores. */
+        private final AtomicLong secuencia = new AtomicLong(-1);
+        private final Thread hilo;
+        private volatile long procesados;
+        private volatile long lotes;
+        private volatile long errores;
+        private volatile int mayorLote;
+
+        private Consumidor(ManejadorEventos manejador) {
+            this.manejador = manejador;
+            this.hilo = new Thread(this, "eventos-" + manejador.nombre());
+            this.hilo.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<EventoSolicitud> lote = new ArrayList<>(tamanoLote);
+            int ociosas = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                long procesada = secuencia.get();
+                long siguiente = procesada + 1;
+                while (lote.size() < tamanoLote) {
+                    int celda = (int) (siguiente & mascara);
+                    if (publicadas.getAcquire(celda) != siguiente) break;
+                    lote.add(eventos[celda]);
+                    siguiente++;
+                }
+
+                if (lote.isEmpty()) {
+                    if (cerrado && procesada >= cursor.get()) return;
+                    esperar(ociosas++);
+                    continue;
+                }
+                ociosas = 0;
+                try {
+                    manejador.manejar(lote);
+                } catch (RuntimeException e) {
+                    errores++;
+                    LOG.warn("El manejador {} falló procesando {} eventos", manejador.nombre(), lote.size(), e);
+                }
+                procesados += lote.size();
+                lotes++;
+                if (lote.size() > mayorLote) mayorLote = lote.size();
+                lote.clear();
+                secuencia.set(siguiente - 1);
+            }
+        }
+
+        private void esperar(int ociosas) {
+            if (ociosas < GIROS_OCIOSOS) {
+                Thread.onSpinWait();
+            } else if (ociosas < CEDER_OCIOSOS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(ESPERA_OCIOSA_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import java.util.List;
+
+/**
+ * Contadores del bus de eventos desde el arranque.
+ * @param descartados Eventos que no entraron al bus por falta de espacio
+ */
+public record EstadisticasBus(int capacidad,
+                              long publicados,
+                              long descartados,
+                              List<EstadisticasConsumidor> consumidores) {
+}
@@ -0,0 +1,13 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+/**
+ * Contadores de un manejador del bus desde el arranque.
+ * @param retraso Eventos publicados que el manejador todavía no ha procesado
+ */
+public record EstadisticasConsumidor(String nombre,
+                                     long procesados,
+                                     long lotes,
+                                     long errores,
+                                     int mayorLote,
+                                     long retraso) {
+}
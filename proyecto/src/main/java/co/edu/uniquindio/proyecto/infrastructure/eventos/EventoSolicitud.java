@@ -0,0 +1,31 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Transición de una solicitud ya guardada.
+ * @param id Id de la entrada de historial que la registró; sirve para descartar repetidos
+ * @param version Versión de la solicitud en el guardado que incluyó la transición
+ * @param usuario Quien ejecutó la transición
+ */
+public record EventoSolicitud(UUID id,
+                              TipoEventoSolicitud tipo,
+                              SolicitudId solicitudId,
+                              UsuarioReferencia solicitante,
+                              long version,
+                              Instant fecha,
+                              UsuarioReferencia usuario,
+                              String observacion) {
+
+    public static EventoSolicitud de(Solicitud guardada, EntradaHistorial entrada) {
+        return new EventoSolicitud(entrada.id(), TipoEventoSolicitud.deAccion(entrada.accion()), guardada.id(),
+                guardada.solicitante(), guardada.version(), entrada.fechaHora(), entrada.usuarioResponsable(),
+                entrada.observacion());
+    }
+}
@@ -0,0 +1,27 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Crea el {@link BusEventos} con {@code proyecto.eventos.*} y un consumidor por cada
+ * {@link ManejadorEventos} registrado como bean. El repositorio de solicitudes publica en él
+ * cada transición guardada.
+ */
+@Configuration
+public class EventosConfiguracion {
+
+    @Bean(initMethod = "iniciar", destroyMethod = "close")
+    public BusEventos busEventos(
+            @Value("${proyecto.eventos.capacidad:8192}") int capacidad,
+            @Value("${proyecto.eventos.tamano-lote:256}") int tamanoLote,
+            @Value("${proyecto.eventos.politica:ESPERAR}") PoliticaSaturacion politica,
+            @Value("${proyecto.eventos.espera-maxima:10ms}") Duration esperaMaxima,
+            List<ManejadorEventos> manejadores) {
+        return new BusEventos(capacidad, tamanoLote, politica, esperaMaxima, manejadores);
+    }
+}
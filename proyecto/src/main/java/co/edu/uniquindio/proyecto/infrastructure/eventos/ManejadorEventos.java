@@ -0,0 +1,24 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import java.util.List;
+
+/**
+ * Trabajo en segundo plano sobre las transiciones de solicitudes. Cada manejador registrado como
+ * bean consume el {@link BusEventos} en su propio hilo, por lotes y en el orden de publicación.
+ *
+ * Los manejadores no pueden depender del repositorio de solicitudes, porque el repositorio
+ * depende del bus.
+ */
+public interface ManejadorEventos {
+
+    /** Nombre con el que aparece en las métricas del bus. */
+    default String nombre() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Procesa un lote de eventos consecutivos. La lista solo es válida durante la llamada.
+     * Una excepción se cuenta y se registra, y el lote se da por consumido.
+     */
+    void manejar(List<EventoSolicitud> lote);
+}
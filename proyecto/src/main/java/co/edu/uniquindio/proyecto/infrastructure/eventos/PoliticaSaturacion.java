@@ -0,0 +1,11 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+/**
+ * Qué hace la publicación cuando el consumidor más atrasado no ha liberado espacio en el bus.
+ */
+public enum PoliticaSaturacion {
+    /** Espera a que haya espacio hasta la espera máxima configurada y después descarta. */
+    ESPERAR,
+    /** Descarta el evento de inmediato. */
+    DESCARTAR
+}
@@ -0,0 +1,33 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+/**
+ * Transiciones de una solicitud, una por cada acción que registra en su historial.
+ */
+public enum TipoEventoSolicitud {
+    REGISTRADA("REGISTRAR_SOLICITUD"),
+    CLASIFICADA("CLASIFICAR_SOLICITUD"),
+    PRIORIZADA("PRIORIZAR_SOLICITUD"),
+    RESPONSABLE_ASIGNADO("ASIGNAR_RESPONSABLE"),
+    ATENDIDA("MARCAR_ATENDIDA"),
+    CERRADA("CERRAR_SOLICITUD");
+
+    private final String accion;
+
+    TipoEventoSolicitud(String accion) {
+        this.accion = accion;
+    }
+
+    public String accion() {
+        return accion;
+    }
+
+    /**
+     * Tipo de evento que corresponde a la acción de una entrada de historial.
+     */
+    public static TipoEventoSolicitud deAccion(String accion) {
+        for (TipoEventoSolicitud tipo : values()) {
+            if (tipo.accion.equals(accion)) return tipo;
+        }
+        throw new IllegalArgumentException("Acción de historial desconocida: " + accion);
+    }
+}
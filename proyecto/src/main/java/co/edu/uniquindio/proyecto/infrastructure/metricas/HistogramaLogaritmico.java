@@ -0,0 +1,92 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores no negativos con cubetas log-lineales, al estilo de HdrHistogram.
+ *
+ * Los valores menores que {@value #SUBCUBETAS} se cuentan de forma exacta; los demás se agrupan
+ * por potencia de dos, dividida en {@value #SUBCUBETAS} subcubetas, lo que acota el error
+ * relativo de los percentiles por debajo del 3,2 %. Registrar un valor es un incremento atómico
+ * sobre un arreglo fijo, sin asignar memoria ni tomar candados.
+ *
+ * Las lecturas no son atómicas respecto de las escrituras concurrentes: un resumen puede no
+ * incluir los valores que se registran mientras se calcula.
+ */
+public class HistogramaLogaritmico {
+
+    private static final int BITS_SUBCUBETA = 5;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    private static final int CUBETAS = (Long.SIZE - BITS_SUBCUBETA) * SUBCUBETAS;
+
+    private final AtomicLongArray conteos = new AtomicLongArray(CUBETAS);
+    private final LongAdder cantidad = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+    private final AtomicLong maximo = new AtomicLong();
+
+    /**
+     * Registra un valor; los negativos se cuentan como cero.
+     */
+    public void registrar(long valor) {
+        if (valor < 0) valor = 0;
+        conteos.getAndIncrement(indice(valor));
+        cantidad.increment();
+        suma.add(valor);
+        long actual = maximo.get();
+        while (valor > actual && !maximo.compareAndSet(actual, valor)) {
+            actual = maximo.get();
+        }
+    }
+
+    /**
+     * Resume el histograma dividiendo los valores por la escala indicada (p. ej. 1000 para
+     * pasar de nanosegundos a microsegundos).
+     */
+    public ResumenHistograma resumir(double escala) {
+        long[] copia = new long[CUBETAS];
+        long total = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            copia[i] = conteos.get(i);
+            total += copia[i];
+        }
+        long max = maximo.get();
+        if (total == 0) return ResumenHistograma.VACIO;
+
+        return new ResumenHistograma(
+                total,
+                suma.sum() / (double) cantidad.sum() / escala,
+                percentil(copia, total, 0.50, max) / escala,
+                percentil(copia, total, 0.90, max) / escala,
+                percentil(copia, total, 0.99, max) / escala,
+                percentil(copia, total, 0.999, max) / escala,
+                max / escala);
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) return (int) valor;
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int subcubeta = (int) (valor >>> (exponente - BITS_SUBCUBETA)) - SUBCUBETAS;
+        return (exponente - BITS_SUBCUBETA + 1) * SUBCUBETAS + subcubeta;
+    }
+
+    /** Mayor valor que cae en la cubeta indicada. */
+    static long limiteSuperior(int indice) {
+        if (indice < SUBCUBETAS) return indice;
+        int exponente = indice / SUBCUBETAS + BITS_SUBCUBETA - 1;
+        long subcubeta = SUBCUBETAS + indice % SUBCUBETAS;
+        int desplazamiento = exponente - BITS_SUBCUBETA;
+        return ((subcubeta + 1) << desplazamiento) - 1;
+    }
+
+    private static long percentil(long[] conteos, long total, double fraccion, long maximo) {
+        long objetivo = Math.max(1, (long) Math.ceil(total * fraccion));
+        long acumulado = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            acumulado += conteos[i];
+            if (acumulado >= objetivo) return Math.min(limiteSuperior(i), maximo);
+        }
+        return maximo;
+    }
+}
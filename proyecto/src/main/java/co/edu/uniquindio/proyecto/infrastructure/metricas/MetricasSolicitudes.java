@@ -0,0 +1,112 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Métricas de las operaciones sobre solicitudes: latencia, llamadas a repositorios por operación
+ * y rechazos por regla de negocio.
+ *
+ * Cada operación medida cuenta en una variable del hilo las llamadas que hacen los repositorios
+ * mientras se ejecuta; una operación que invoca a otra medida acumula también las de la interna.
+ * Con {@code proyecto.metricas.habilitadas=false} las operaciones se ejecutan sin medir.
+ */
+@Component
+public class MetricasSolicitudes {
+
+    private static final double NANOS_POR_MICRO = 1_000;
+
+    /** Llamadas a repositorios de la operación en curso en el hilo */
+    private static final ThreadLocal<int[]> LLAMADAS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final boolean habilitadas;
+    private final HistogramaLogaritmico[] latencias;
+    private final HistogramaLogaritmico[] llamadasRepositorio;
+    private final Map<OperacionSolicitud, ConcurrentHashMap<String, LongAdder>> rechazos =
+            new EnumMap<>(OperacionSolicitud.class);
+
+    public MetricasSolicitudes(@Value("${proyecto.metricas.habilitadas:true}") boolean habilitadas) {
+        this.habilitadas = habilitadas;
+        int operaciones = OperacionSolicitud.values().length;
+        this.latencias = new HistogramaLogaritmico[operaciones];
+        this.llamadasRepositorio = new HistogramaLogaritmico[operaciones];
+        for (OperacionSolicitud operacion : OperacionSolicitud.values()) {
+            latencias[operacion.ordinal()] = new HistogramaLogaritmico();
+            llamadasRepositorio[operacion.ordinal()] = new HistogramaLogaritmico();
+            rechazos.put(operacion, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Ejecuta la operación registrando su latencia, las llamadas a repositorios que hizo y,
+     * si la rechaza una regla de negocio, el rechazo.
+     */
+    public <T> T medir(OperacionSolicitud operacion, Supplier<T> accion) {
+        if (!habilitadas) return accion.get();
+
+        int[] llamadas = LLAMADAS.get();
+        int previas = llamadas[0];
+        llamadas[0] = 0;
+        long inicio = System.nanoTime();
+        try {
+            return accion.get();
+        } catch (BusinessRuleViolation e) {
+            registrarRechazo(operacion, e);
+            throw e;
+        } finally {
+            latencias[operacion.ordinal()].registrar(System.nanoTime() - inicio);
+            llamadasRepositorio[operacion.ordinal()].registrar(llamadas[0]);
+            llamadas[0] += previas;
+        }
+    }
+
+    /**
+     * Cuenta una llamada a un repositorio para la operación en curso en el hilo.
+     */
+    public void contarLlamadaRepositorio() {
+        if (habilitadas) LLAMADAS.get()[0]++;
+    }
+
+    /**
+     * Cuenta un rechazo por regla de negocio, identificada por su mensaje. Lo usan también los
+     * lotes, que informan los rechazos por elemento sin propagar la excepción.
+     */
+    public void registrarRechazo(OperacionSolicitud operacion, RuntimeException e) {
+        if (!habilitadas || !(e instanceof BusinessRuleViolation)) return;
+        rechazos.get(operacion).computeIfAbsent(e.getMessage(), regla -> new LongAdder()).increment();
+    }
+
+    /**
+     * Resumen de las operaciones que se han ejecutado al menos una vez, con latencias en microsegundos.
+     */
+    public Map<OperacionSolicitud, MetricasOperacion> resumen() {
+        Map<OperacionSolicitud, MetricasOperacion> resumen = new EnumMap<>(OperacionSolicitud.class);
+        for (OperacionSolicitud operacion : OperacionSolicitud.values()) {
+            ResumenHistograma latencia = latencias[operacion.ordinal()].resumir(NANOS_POR_MICRO);
+            if (latencia.cantidad() == 0) continue;
+
+            Map<String, Long> rechazosPorRegla = new TreeMap<>();
+            rechazos.get(operacion).forEach((regla, cantidad) -> rechazosPorRegla.put(regla, cantidad.sum()));
+            resumen.put(operacion, new MetricasOperacion(latencia,
+                    llamadasRepositorio[operacion.ordinal()].resumir(1), rechazosPorRegla));
+        }
+        return resumen;
+    }
+
+    /**
+     * @param latenciaMicros Latencia de la operación en microsegundos
+     * @param llamadasRepositorio Llamadas a repositorios por ejecución
+     * @param rechazos Rechazos por regla de negocio
+     */
+    public record MetricasOperacion(ResumenHistograma latenciaMicros, ResumenHistograma llamadasRepositorio,
+                                    Map<String, Long> rechazos) {
+    }
+}
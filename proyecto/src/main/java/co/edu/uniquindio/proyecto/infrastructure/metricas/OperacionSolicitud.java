@@ -0,0 +1,23 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+/**
+ * Operaciones de {@code SolicitudApplicationService} que se miden por separado.
+ */
+public enum OperacionSolicitud {
+    CREAR,
+    CREAR_LOTE,
+    CLASIFICAR,
+    PRIORIZAR,
+    ASIGNAR_RESPONSABLE,
+    ASIGNAR_AUTOMATICAMENTE,
+    TRANSICIONES_LOTE,
+    MARCAR_ATENDIDA,
+    CERRAR,
+    CONSULTAR,
+    CONSULTAR_VERSION,
+    CONSULTAR_HISTORIAL,
+    CONSULTAR_COLA,
+    CONSULTAR_VENCIDAS,
+    BUSCAR,
+    LISTAR
+}
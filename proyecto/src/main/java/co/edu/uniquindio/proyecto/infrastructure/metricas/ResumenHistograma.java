@@ -0,0 +1,10 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+/**
+ * Resumen de un {@link HistogramaLogaritmico} en la escala pedida.
+ */
+public record ResumenHistograma(long cantidad, double media, double p50, double p90,
+                                double p99, double p999, double maximo) {
+
+    public static final ResumenHistograma VACIO = new ResumenHistograma(0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,98 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.ArchivoSolicitudes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pone un {@link SolicitudRepositoryArchivado} delante del repositorio de solicitudes y archiva en
+ * segundo plano, cada {@code intervalo}, las solicitudes cerradas hace más de {@code edadMinima}.
+ *
+ * Archivar no pasa por el {@link SolicitudRepositoryObservado}: para los oyentes las solicitudes
+ * archivadas siguen existiendo, y al arrancar se les entregan junto con las activas.
+ */
+public class ArchivadorSolicitudes implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArchivadorSolicitudes.class);
+
+    private final ArchivoSolicitudes archivo;
+    private final Duration edadMinima;
+    private final Duration intervalo;
+    private volatile SolicitudRepositoryArchivado repositorio;
+    private ScheduledExecutorService programador;
+
+    public ArchivadorSolicitudes(ArchivoSolicitudes archivo, Duration edadMinima, Duration intervalo) {
+        if (edadMinima.isNegative()) throw new IllegalArgumentException("La edad mínima no puede ser negativa");
+        if (intervalo.isZero() || intervalo.isNegative()) throw new IllegalArgumentException("El intervalo debe ser positivo");
+        this.archivo = archivo;
+        this.edadMinima = edadMinima;
+        this.intervalo = intervalo;
+    }
+
+    /**
+     * Repositorio con el archivo detrás de {@code activas}. Entrega a los oyentes las solicitudes
+     * ya archivadas. Solo puede envolverse un repositorio.
+     */
+    public SolicitudRepository envolver(SolicitudRepository activas, List<OyenteSolicitudes> oyentes) {
+        if (repositorio != null) throw new IllegalStateException("El archivador ya tiene un repositorio");
+        repositorio = new SolicitudRepositoryArchivado(activas, archivo);
+        archivo.recorrer(solicitud -> {
+            for (OyenteSolicitudes oyente : oyentes) {
+                oyente.solicitudGuardada(solicitud);
+            }
+        });
+        return repositorio;
+    }
+
+    public void iniciar() {
+        programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "archivo-solicitudes");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long milisegundos = intervalo.toMillis();
+        programador.scheduleWithFixedDelay(this::archivoProgramado, milisegundos, milisegundos, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Archiva ahora las solicitudes cerradas hace más de la edad mínima.
+     * @return Cantidad de solicitudes que salieron del conjunto activo
+     */
+    public int archivar() throws IOException {
+        SolicitudRepositoryArchivado actual = repositorio;
+        if (actual == null) return 0;
+        return actual.archivarCerradas(Instant.now().minus(edadMinima));
+    }
+
+    private void archivoProgramado() {
+        try {
+            int archivadas = archivar();
+            if (archivadas > 0) LOG.info("Se archivaron {} solicitudes cerradas", archivadas);
+        } catch (IOException | UncheckedIOException e) {
+            // Se reintenta en el siguiente intervalo; las solicitudes siguen en el conjunto activo
+            LOG.warn("No fue posible archivar las solicitudes cerradas", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (programador != null) {
+            programador.shutdown();
+            try {
+                programador.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        archivo.close();
+    }
+}
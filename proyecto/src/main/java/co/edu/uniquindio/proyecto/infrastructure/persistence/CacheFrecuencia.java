@@ -0,0 +1,296 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caché acotada y concurrente con desalojo W-TinyLFU simplificado.
+ *
+ * Las claves se reparten en {@value #SEGMENTOS} segmentos, cada uno con su candado. Un segmento
+ * tiene una ventana LRU pequeña (1 % de su capacidad) donde entran las claves nuevas y una zona
+ * principal LRU con el resto. Cuando la ventana se llena, su clave más antigua solo pasa a la
+ * principal si se ha pedido más veces que la que tendría que desalojar, según un bosquejo de
+ * frecuencias (count-min de 4 filas con contadores de 4 bits que se reducen a la mitad
+ * periódicamente). Así un recorrido de claves que no se repiten no desplaza a las frecuentes.
+ *
+ * Las búsquedas no toman el candado: leen un {@link ConcurrentHashMap} y anotan la clave en un
+ * búfer circular del segmento. El búfer se vacía con el candado tomado, al llenarse a medias si
+ * nadie más lo tiene y antes de cada escritura, actualizando el bosquejo y el orden LRU. Si está
+ * lleno el acceso se descarta: el bosquejo es una estimación y tolera perder algunos.
+ *
+ * Los valores se comparten entre quienes los buscan, así que deben ser inmutables. Aun así el
+ * repositorio decorado puede cambiar, por lo que quien escribe invalida la clave; para que una
+ * carga lenta no guarde un valor ya invalidado, {@link #generacion} se lee antes de cargar y
+ * {@link #guardar} descarta el valor si entretanto hubo una invalidación en el segmento.
+ */
+final class CacheFrecuencia<K, V> {
+
+    private static final int SEGMENTOS = 16;
+    private static final int PORCENTAJE_VENTANA = 1;
+
+    private final Segmento<K, V>[] segmentos;
+    private final int capacidad;
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    CacheFrecuencia(int capacidad) {
+        if (capacidad < 1) throw new IllegalArgumentException("La capacidad de la caché debe ser positiva");
+        this.capacidad = capacidad;
+        int porSegmento = Math.ceilDiv(capacidad, SEGMENTOS);
+        segmentos = new Segmento[SEGMENTOS];
+        for (int i = 0; i < SEGMENTOS; i++) {
+            segmentos[i] = new Segmento<>(porSegmento);
+        }
+    }
+
+    /**
+     * Valor en caché, o null; cuenta el acceso como acierto o fallo y en el bosquejo de frecuencias.
+     */
+    V buscar(K clave) {
+        V valor = segmento(dispersar(clave)).buscar(clave);
+        (valor == null ? fallos : aciertos).increment();
+        return valor;
+    }
+
+    /**
+     * Si la clave está en caché, sin contar el acceso ni en las estadísticas ni en el bosquejo.
+     */
+    boolean contiene(K clave) {
+        return segmento(dispersar(clave)).valores.containsKey(clave);
+    }
+
+    /** Generación actual del segmento de la clave; se pasa a {@link #guardar} tras cargar. */
+    long generacion(K clave) {
+        return segmento(dispersar(clave)).generacion;
+    }
+
+    /**
+     * Guarda el valor cargado, salvo que el segmento se haya invalidado desde {@code generacion}.
+     */
+    void guardar(K clave, V valor, long generacion) {
+        if (segmento(dispersar(clave)).guardar(clave, valor, generacion)) desalojos.increment();
+    }
+
+    void invalidar(K clave) {
+        segmento(dispersar(clave)).invalidar(clave);
+    }
+
+    int tamano() {
+        int tamano = 0;
+        for (Segmento<K, V> segmento : segmentos) {
+            tamano += segmento.valores.size();
+        }
+        return tamano;
+    }
+
+    int capacidad() {
+        return capacidad;
+    }
+
+    long aciertos() {
+        return aciertos.sum();
+    }
+
+    long fallos() {
+        return fallos.sum();
+    }
+
+    long desalojos() {
+        return desalojos.sum();
+    }
+
+    private Segmento<K, V> segmento(int hash) {
+        return segmentos[hash >>> 28];
+    }
+
+    private static int dispersar(Object clave) {
+        int h = clave.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Segmento<K, V> {
+        private final ReentrantLock candado = new ReentrantLock();
+        private final ConcurrentHashMap<K, V> valores = new ConcurrentHashMap<>();
+        /** Orden LRU de las claves, de la más antigua a la más reciente; solo con el candado tomado */
+        private final LinkedHashSet<K> ventana = new LinkedHashSet<>();
+        private final LinkedHashSet<K> principal = new LinkedHashSet<>();
+        private final int capacidadVentana;
+        private final int capacidadPrincipal;
+        private final BosquejoFrecuencia frecuencias;
+        private final BuferAccesos<K> accesos = new BuferAccesos<>();
+        /** Se incrementa en cada invalidación; solo se escribe con el candado tomado */
+        private volatile long generacion;
+
+        private Segmento(int capacidad) {
+            this.capacidadVentana = Math.max(1, capacidad * PORCENTAJE_VENTANA / 100);
+            this.capacidadPrincipal = Math.max(1, capacidad - capacidadVentana);
+            this.frecuencias = new BosquejoFrecuencia(capacidad);
+        }
+
+        private V buscar(K clave) {
+            V valor = valores.get(clave);
+            if (accesos.anotar(clave) && candado.tryLock()) {
+                try {
+                    drenar();
+                } finally {
+                    candado.unlock();
+                }
+            }
+            return valor;
+        }
+
+        /** @return Si hubo que desalojar una clave */
+        private boolean guardar(K clave, V valor, long generacionCarga) {
+            candado.lock();
+            try {
+                drenar();
+                if (generacion != generacionCarga) return false;
+                if (principal.contains(clave)) {
+                    principal.addLast(clave);
+                    valores.put(clave, valor);
+                    return false;
+                }
+                ventana.addLast(clave);
+                valores.put(clave, valor);
+                if (ventana.size() <= capacidadVentana) return false;
+
+                K candidata = ventana.removeFirst();
+                if (principal.size() < capacidadPrincipal) {
+                    principal.addLast(candidata);
+                    return false;
+                }
+                K victima = principal.getFirst();
+                if (frecuencias.estimar(dispersar(candidata)) > frecuencias.estimar(dispersar(victima))) {
+                    principal.removeFirst();
+                    valores.remove(victima);
+                    principal.addLast(candidata);
+                } else {
+                    valores.remove(candidata);
+                }
+                return true;
+            } finally {
+                candado.unlock();
+            }
+        }
+
+        private void invalidar(K clave) {
+            candado.lock();
+            try {
+                generacion++;
+                if (valores.remove(clave) != null && !ventana.remove(clave)) principal.remove(clave);
+            } finally {
+                candado.unlock();
+            }
+        }
+
+        /** Aplica al bosquejo y al orden LRU los accesos anotados; con el candado tomado. */
+        private void drenar() {
+            K clave;
+            while ((clave = accesos.extraer()) != null) {
+                frecuencias.incrementar(dispersar(clave));
+                // addLast mueve la clave al final si ya estaba
+                if (ventana.contains(clave)) ventana.addLast(clave);
+                else if (principal.contains(clave)) principal.addLast(clave);
+            }
+        }
+    }
+
+    /**
+     * Búfer circular con pérdida de las claves buscadas: varios hilos anotan sin bloquearse y uno
+     * solo, con el candado del segmento, extrae. Si el búfer está lleno o otro hilo ganó la
+     * posición, el acceso se descarta.
+     */
+    private static final class BuferAccesos<K> {
+        private static final int TAMANO = 32;
+        private static final int UMBRAL_DRENADO = TAMANO / 2;
+
+        private final AtomicReferenceArray<K> claves = new AtomicReferenceArray<>(TAMANO);
+        private final AtomicLong escritas = new AtomicLong();
+        /** Solo se escribe con el candado del segmento tomado */
+        private volatile long leidas;
+
+        /** @return Si conviene drenar el búfer */
+        private boolean anotar(K clave) {
+            long posicion = escritas.get();
+            long pendientes = posicion - leidas;
+            if (pendientes < TAMANO && escritas.compareAndSet(posicion, posicion + 1)) {
+                claves.lazySet((int) (posicion & (TAMANO - 1)), clave);
+                pendientes++;
+            }
+            return pendientes >= UMBRAL_DRENADO;
+        }
+
+        /** Siguiente clave anotada, o null si no hay o la siguiente aún no se ha publicado. */
+        private K extraer() {
+            if (leidas == escritas.get()) return null;
+            int indice = (int) (leidas & (TAMANO - 1));
+            K clave = claves.get(indice);
+            if (clave == null) return null;
+            claves.lazySet(indice, null);
+            leidas++;
+            return clave;
+        }
+    }
+
+    /**
+     * Count-min de 4 filas con contadores de 4 bits (uno por byte, por simplicidad). Tras
+     * 10 incrementos por posición de capacidad, todos los contadores se reducen a la mitad para
+     * que las claves que dejaron de pedirse pierdan peso.
+     */
+    private static final class BosquejoFrecuencia {
+        private static final int FILAS = 4;
+        private static final int MAXIMO = 15;
+        private static final long[] SEMILLAS = {0x97CB3127A5E3D5C1L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+        private final byte[] contadores;
+        private final int bitsAncho;
+        private final int muestra;
+        private int incrementos;
+
+        private BosquejoFrecuencia(int capacidad) {
+            // Unas 8 posiciones por clave en caché mantienen bajas las colisiones del count-min
+            int ancho = Integer.highestOneBit(Math.max(64, 8 * capacidad - 1) << 1);
+            this.bitsAncho = Integer.numberOfTrailingZeros(ancho);
+            this.contadores = new byte[FILAS * ancho];
+            this.muestra = 10 * Math.max(16, capacidad);
+        }
+
+        private void incrementar(int hash) {
+            boolean incrementado = false;
+            for (int fila = 0; fila < FILAS; fila++) {
+                int indice = indice(hash, fila);
+                if (contadores[indice] < MAXIMO) {
+                    contadores[indice]++;
+                    incrementado = true;
+                }
+            }
+            if (incrementado && ++incrementos == muestra) reducir();
+        }
+
+        private int estimar(int hash) {
+            int minimo = MAXIMO;
+            for (int fila = 0; fila < FILAS; fila++) {
+                minimo = Math.min(minimo, contadores[indice(hash, fila)]);
+            }
+            return minimo;
+        }
+
+        private void reducir() {
+            for (int i = 0; i < contadores.length; i++) {
+                contadores[i] >>= 1;
+            }
+            incrementos /= 2;
+        }
+
+        private int indice(int hash, int fila) {
+            long mezcla = (hash & 0xFFFFFFFFL) * SEMILLAS[fila];
+            return (fila << bitsAncho) + (int) (mezcla >>> (64 - bitsAncho));
+        }
+    }
+}
@@ -0,0 +1,639 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementación en memoria de {@link SolicitudRepository} que guarda las solicitudes por columnas
+ * de tipos primitivos en lugar de grafos de objetos.
+ *
+ * Cada solicitud es una fila: los UUID se guardan como pares de long, los enums como el byte de su
+ * ordinal (-1 para null), las fechas como nanosegundos desde la época y los nombres, acciones,
+ * observaciones y justificaciones como códigos de un {@link DiccionarioTextos}. Las entradas de
+ * historial viven en su propio juego de columnas, enlazadas por fila. Los objetos {@link Solicitud}
+ * solo se materializan al entregarlos; los filtros y conteos se evalúan sobre las columnas.
+ *
+ * Un índice abierto por id da acceso a la fila y un arreglo de filas ordenado por {@link SolicitudId}
+ * sirve la paginación por cursor. El guardado es el mismo compare-and-swap sobre la versión que el
+ * del repositorio en memoria y solo agrega al historial las entradas que aún no estaban guardadas.
+ * Las escrituras se serializan con un candado de escritura. Las filas eliminadas no se compactan.
+ */
+public class ColumnarSolicitudRepository implements SolicitudRepository {
+
+    private static final int CAPACIDAD_INICIAL = 1024;
+    private static final int TAMANO_LOTE = 256;
+    private static final byte NINGUNO = -1;
+    private static final byte ELIMINADA = -2;
+    private static final int SIN_ENTRADA = -1;
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private static final CanalOrigen[] CANALES = CanalOrigen.values();
+    private static final TipoSolicitud[] TIPOS = TipoSolicitud.values();
+    private static final Prioridad[] PRIORIDADES = Prioridad.values();
+    private static final EstadoSolicitud[] ESTADOS = EstadoSolicitud.values();
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+
+    private final DiccionarioTextos nombres = new DiccionarioTextos();
+    private final DiccionarioTextos acciones = new DiccionarioTextos();
+    private final DiccionarioTextos textos = new DiccionarioTextos();
+
+    // Columnas por solicitud
+    private int filas;
+    private long[] idAlto = new long[CAPACIDAD_INICIAL];
+    private long[] idBajo = new long[CAPACIDAD_INICIAL];
+    private long[] versiones = new long[CAPACIDAD_INICIAL];
+    private long[] solicitanteAlto = new long[CAPACIDAD_INICIAL];
+    private long[] solicitanteBajo = new long[CAPACIDAD_INICIAL];
+    private int[] solicitanteNombre = new int[CAPACIDAD_INICIAL];
+    private byte[] canales = new byte[CAPACIDAD_INICIAL];
+    private long[] fechasRegistro = new long[CAPACIDAD_INICIAL];
+    private String[] descripciones = new String[CAPACIDAD_INICIAL];
+    private byte[] tipos = new byte[CAPACIDAD_INICIAL];
+    private byte[] prioridades = new byte[CAPACIDAD_INICIAL];
+    private int[] justificaciones = new int[CAPACIDAD_INICIAL];
+    private byte[] estados = new byte[CAPACIDAD_INICIAL];
+    private long[] responsableAlto = new long[CAPACIDAD_INICIAL];
+    private long[] responsableBajo = new long[CAPACIDAD_INICIAL];
+    private int[] responsableNombre = new int[CAPACIDAD_INICIAL];
+    private int[] primeraEntrada = new int[CAPACIDAD_INICIAL];
+    private int[] ultimaEntrada = new int[CAPACIDAD_INICIAL];
+    private int[] cantidadEntradas = new int[CAPACIDAD_INICIAL];
+
+    // Columnas por entrada de historial
+    private int entradas;
+    private long[] entradaIdAlto = new long[CAPACIDAD_INICIAL];
+    private long[] entradaIdBajo = new long[CAPACIDAD_INICIAL];
+    private long[] entradaFecha = new long[CAPACIDAD_INICIAL];
+    private int[] entradaAccion = new int[CAPACIDAD_INICIAL];
+    private long[] entradaUsuarioAlto = new long[CAPACIDAD_INICIAL];
+    private long[] entradaUsuarioBajo = new long[CAPACIDAD_INICIAL];
+    private int[] entradaUsuarioNombre = new int[CAPACIDAD_INICIAL];
+    private int[] entradaObservacion = new int[CAPACIDAD_INICIAL];
+    private int[] entradaSiguiente = new int[CAPACIDAD_INICIAL];
+
+    /** Índice por id con direccionamiento abierto; cada celda guarda fila + 1 y 0 si está vacía. */
+    private int[] tabla = new int[CAPACIDAD_INICIAL * 2];
+    /** Filas vivas ordenadas por id. */
+    private int[] orden = new int[CAPACIDAD_INICIAL];
+    private int vivas;
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        if (solicitud == null) throw new IllegalArgumentException("La solicitud no puede ser null");
+
+        candado.writeLock().lock();
+        try {
+            verificarVersion(solicitud, buscarFila(solicitud.id().value()));
+            return guardar(solicitud).copia();
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Verifica todas las versiones antes de escribir, de modo que un conflicto no deja
+     * guardada ninguna de las solicitudes.
+     */
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        Set<SolicitudId> ids = new HashSet<>();
+        for (Solicitud solicitud : solicitudes) {
+            if (solicitud == null) throw new IllegalArgumentException("La solicitud no puede ser null");
+            if (!ids.add(solicitud.id())) {
+                throw new IllegalArgumentException("La solicitud " + solicitud.id().value() + " está repetida");
+            }
+        }
+
+        candado.writeLock().lock();
+        try {
+            for (Solicitud solicitud : solicitudes) {
+                verificarVersion(solicitud, buscarFila(solicitud.id().value()));
+            }
+            List<Solicitud> guardadas = new ArrayList<>(solicitudes.size());
+            for (Solicitud solicitud : solicitudes) {
+                guardadas.add(guardar(solicitud).copia());
+            }
+            return guardadas;
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        candado.readLock().lock();
+        try {
+            int fila = buscarFila(id.value());
+            return fila < 0 ? Optional.empty() : Optional.of(materializar(fila));
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        candado.readLock().lock();
+        try {
+            int fila = buscarFila(id.value());
+            return fila < 0 ? OptionalLong.empty() : OptionalLong.of(versiones[fila]);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        return findPage(FiltroSolicitudes.todas(), null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        return findPage(FiltroSolicitudes.porSolicitante(solicitanteId), null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        long alto = responsableId.getMostSignificantBits();
+        long bajo = responsableId.getLeastSignificantBits();
+
+        candado.readLock().lock();
+        try {
+            List<Solicitud> resultado = new ArrayList<>();
+            for (int i = 0; i < vivas; i++) {
+                int fila = orden[i];
+                if (responsableNombre[fila] != DiccionarioTextos.NULO
+                        && responsableAlto[fila] == alto && responsableBajo[fila] == bajo) {
+                    resultado.add(materializar(fila));
+                }
+            }
+            return resultado;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        return findPage(new FiltroSolicitudes(estado, null, null, null, null), null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        Criterio criterio = Criterio.de(filtro);
+
+        candado.readLock().lock();
+        try {
+            int inicio = despuesDe == null ? 0 : posicionDespues(despuesDe.value());
+            List<Solicitud> resultado = new ArrayList<>(Math.min(limite, TAMANO_LOTE));
+            for (int i = inicio; i < vivas && resultado.size() < limite; i++) {
+                int fila = orden[i];
+                if (admite(fila, criterio)) resultado.add(materializar(fila));
+            }
+            return resultado;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recorre por lotes de {@value #TAMANO_LOTE}; cada lote es una página por cursor, así que el
+     * candado de lectura no se retiene mientras el consumidor procesa.
+     */
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        Iterator<Solicitud> iterador = new Iterator<>() {
+            private List<Solicitud> lote = List.of();
+            private int posicion;
+            private SolicitudId cursor;
+            private boolean agotado;
+
+            @Override
+            public boolean hasNext() {
+                if (posicion < lote.size()) return true;
+                if (agotado) return false;
+                lote = findPage(filtro, cursor, TAMANO_LOTE);
+                posicion = 0;
+                agotado = lote.size() < TAMANO_LOTE;
+                if (!lote.isEmpty()) cursor = lote.getLast().id();
+                return !lote.isEmpty();
+            }
+
+            @Override
+            public Solicitud next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return lote.get(posicion++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterador,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        if (solicitud == null) return;
+
+        candado.writeLock().lock();
+        try {
+            UUID id = solicitud.id().value();
+            int celda = buscarCelda(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (tabla[celda] == 0) return;
+
+            int fila = tabla[celda] - 1;
+            vaciarCelda(celda);
+            int posicion = posicionDespues(id) - 1;
+            System.arraycopy(orden, posicion + 1, orden, posicion, vivas - posicion - 1);
+            vivas--;
+            estados[fila] = ELIMINADA;
+            descripciones[fila] = null;
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        candado.readLock().lock();
+        try {
+            return buscarFila(id.value()) >= 0;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cantidad de solicitudes que cumplen el filtro, contada sobre las columnas sin materializar.
+     */
+    public long contar(FiltroSolicitudes filtro) {
+        Criterio criterio = Criterio.de(filtro);
+
+        candado.readLock().lock();
+        try {
+            long total = 0;
+            for (int fila = 0; fila < filas; fila++) {
+                if (estados[fila] != ELIMINADA && admite(fila, criterio)) total++;
+            }
+            return total;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cantidad de solicitudes por estado entre las que cumplen el filtro; solo aparecen los
+     * estados con al menos una.
+     */
+    public Map<EstadoSolicitud, Long> contarPorEstado(FiltroSolicitudes filtro) {
+        Criterio criterio = Criterio.de(filtro);
+        long[] conteos = new long[ESTADOS.length];
+
+        candado.readLock().lock();
+        try {
+            for (int fila = 0; fila < filas; fila++) {
+                byte estado = estados[fila];
+                if (estado >= 0 && admite(fila, criterio)) conteos[estado]++;
+            }
+        } finally {
+            candado.readLock().unlock();
+        }
+
+        Map<EstadoSolicitud, Long> resultado = new EnumMap<>(EstadoSolicitud.class);
+        for (int i = 0; i < conteos.length; i++) {
+            if (conteos[i] > 0) resultado.put(ESTADOS[i], conteos[i]);
+        }
+        return resultado;
+    }
+
+    private void verificarVersion(Solicitud solicitud, int fila) {
+        long versionActual = fila < 0 ? 0 : versiones[fila];
+        if (solicitud.version() != versionActual) {
+            throw new ConcurrencyConflict("La solicitud " + solicitud.id().value() + " fue modificada por otra operación");
+        }
+    }
+
+    /** Escribe la solicitud con la versión siguiente; la versión ya fue verificada. */
+    private Solicitud guardar(Solicitud solicitud) {
+        UUID id = solicitud.id().value();
+        int fila = buscarFila(id);
+        Solicitud guardada = solicitud.copiaConVersion(solicitud.version() + 1);
+
+        if (fila < 0) {
+            fila = agregarFila(guardada);
+        } else if (guardada.cantidadHistorial() < cantidadEntradas[fila]) {
+            throw new IllegalStateException("El historial de la solicitud " + id + " no puede acortarse");
+        }
+
+        versiones[fila] = guardada.version();
+        descripciones[fila] = guardada.descripcion().value();
+        tipos[fila] = ordinal(guardada.tipoSolicitud());
+        prioridades[fila] = ordinal(guardada.prioridad());
+        justificaciones[fila] = guardada.justificacionPrioridad() == null
+                ? DiccionarioTextos.NULO
+                : textos.codificar(guardada.justificacionPrioridad().value());
+        estados[fila] = ordinal(guardada.estado());
+
+        UsuarioReferencia responsable = guardada.responsable();
+        if (responsable == null) {
+            responsableAlto[fila] = 0;
+            responsableBajo[fila] = 0;
+            responsableNombre[fila] = DiccionarioTextos.NULO;
+        } else {
+            responsableAlto[fila] = responsable.value().getMostSignificantBits();
+            responsableBajo[fila] = responsable.value().getLeastSignificantBits();
+            responsableNombre[fila] = nombres.codificar(responsable.nombre());
+        }
+
+        int guardadas = cantidadEntradas[fila];
+        List<EntradaHistorial> nuevas = guardada.historial(guardadas, guardada.cantidadHistorial() - guardadas);
+        for (EntradaHistorial entrada : nuevas) {
+            agregarEntrada(fila, entrada);
+        }
+        return guardada;
+    }
+
+    private int agregarFila(Solicitud solicitud) {
+        if (filas == idAlto.length) crecerFilas();
+        int fila = filas++;
+
+        UUID id = solicitud.id().value();
+        idAlto[fila] = id.getMostSignificantBits();
+        idBajo[fila] = id.getLeastSignificantBits();
+        solicitanteAlto[fila] = solicitud.solicitante().value().getMostSignificantBits();
+        solicitanteBajo[fila] = solicitud.solicitante().value().getLeastSignificantBits();
+        solicitanteNombre[fila] = nombres.codificar(solicitud.solicitante().nombre());
+        canales[fila] = ordinal(solicitud.canalOrigen());
+        fechasRegistro[fila] = nanos(solicitud.fechaRegistro());
+        primeraEntrada[fila] = SIN_ENTRADA;
+        ultimaEntrada[fila] = SIN_ENTRADA;
+        cantidadEntradas[fila] = 0;
+
+        indexar(fila);
+        insertarEnOrden(fila);
+        return fila;
+    }
+
+    private void agregarEntrada(int fila, EntradaHistorial entrada) {
+        if (entradas == entradaIdAlto.length) crecerEntradas();
+        int indice = entradas++;
+
+        entradaIdAlto[indice] = entrada.id().getMostSignificantBits();
+        entradaIdBajo[indice] = entrada.id().getLeastSignificantBits();
+        entradaFecha[indice] = nanos(entrada.fechaHora());
+        entradaAccion[indice] = acciones.codificar(entrada.accion());
+        UsuarioReferencia usuario = entrada.usuarioResponsable();
+        entradaUsuarioAlto[indice] = usuario.value().getMostSignificantBits();
+        entradaUsuarioBajo[indice] = usuario.value().getLeastSignificantBits();
+        entradaUsuarioNombre[indice] = nombres.codificar(usuario.nombre());
+        entradaObservacion[indice] = textos.codificar(entrada.observacion());
+        entradaSiguiente[indice] = SIN_ENTRADA;
+
+        if (ultimaEntrada[fila] == SIN_ENTRADA) {
+            primeraEntrada[fila] = indice;
+        } else {
+            entradaSiguiente[ultimaEntrada[fila]] = indice;
+        }
+        ultimaEntrada[fila] = indice;
+        cantidadEntradas[fila]++;
+    }
+
+    private Solicitud materializar(int fila) {
+        List<EntradaHistorial> historial = new ArrayList<>(cantidadEntradas[fila]);
+        for (int i = primeraEntrada[fila]; i != SIN_ENTRADA; i = entradaSiguiente[i]) {
+            historial.add(new EntradaHistorial(
+                    new UUID(entradaIdAlto[i], entradaIdBajo[i]),
+                    instante(entradaFecha[i]),
+                    acciones.texto(entradaAccion[i]),
+                    new UsuarioReferencia(new UUID(entradaUsuarioAlto[i], entradaUsuarioBajo[i]),
+                            nombres.texto(entradaUsuarioNombre[i])),
+                    textos.texto(entradaObservacion[i])));
+        }
+
+        UsuarioReferencia responsable = responsableNombre[fila] == DiccionarioTextos.NULO
+                ? null
+                : new UsuarioReferencia(new UUID(responsableAlto[fila], responsableBajo[fila]),
+                        nombres.texto(responsableNombre[fila]));
+        JustificacionPrioridad justificacion = justificaciones[fila] == DiccionarioTextos.NULO
+                ? null
+                : new JustificacionPrioridad(textos.texto(justificaciones[fila]));
+
+        return Solicitud.reconstituir(
+                new SolicitudId(new UUID(idAlto[fila], idBajo[fila])),
+                new UsuarioReferencia(new UUID(solicitanteAlto[fila], solicitanteBajo[fila]),
+                        nombres.texto(solicitanteNombre[fila])),
+                CANALES[canales[fila]],
+                instante(fechasRegistro[fila]),
+                new DescripcionSolicitud(descripciones[fila]),
+                valor(TIPOS, tipos[fila]),
+                valor(PRIORIDADES, prioridades[fila]),
+                justificacion,
+                ESTADOS[estados[fila]],
+                responsable,
+                historial,
+                versiones[fila]);
+    }
+
+    private boolean admite(int fila, Criterio criterio) {
+        return (criterio.estado == NINGUNO || estados[fila] == criterio.estado)
+                && (criterio.tipo == NINGUNO || tipos[fila] == criterio.tipo)
+                && (criterio.prioridad == NINGUNO || prioridades[fila] == criterio.prioridad)
+                && (criterio.canal == NINGUNO || canales[fila] == criterio.canal)
+                && (!criterio.porSolicitante
+                        || (solicitanteAlto[fila] == criterio.solicitanteAlto
+                            && solicitanteBajo[fila] == criterio.solicitanteBajo));
+    }
+
+    /** Filtro traducido a ordinales y bits, para compararlo directamente con las columnas. */
+    private record Criterio(byte estado, byte tipo, byte prioridad, byte canal,
+                            boolean porSolicitante, long solicitanteAlto, long solicitanteBajo) {
+
+        static Criterio de(FiltroSolicitudes filtro) {
+            UUID solicitante = filtro.solicitanteId();
+            return new Criterio(ordinal(filtro.estado()), ordinal(filtro.tipo()), ordinal(filtro.prioridad()),
+                    ordinal(filtro.canalOrigen()), solicitante != null,
+                    solicitante == null ? 0 : solicitante.getMostSignificantBits(),
+                    solicitante == null ? 0 : solicitante.getLeastSignificantBits());
+        }
+    }
+
+    // Índice por id
+
+    private int buscarFila(UUID id) {
+        int valor = tabla[buscarCelda(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+        return valor - 1;
+    }
+
+    /** Celda que contiene el id, o la celda vacía donde terminó la búsqueda. */
+    private int buscarCelda(long alto, long bajo) {
+        int mascara = tabla.length - 1;
+        int celda = dispersar(alto, bajo) & mascara;
+        while (tabla[celda] != 0) {
+            int fila = tabla[celda] - 1;
+            if (idAlto[fila] == alto && idBajo[fila] == bajo) return celda;
+            celda = (celda + 1) & mascara;
+        }
+        return celda;
+    }
+
+    private void indexar(int fila) {
+        if ((vivas + 1) * 2 > tabla.length) redimensionarTabla();
+        tabla[buscarCelda(idAlto[fila], idBajo[fila])] = fila + 1;
+    }
+
+    private void redimensionarTabla() {
+        int[] anterior = tabla;
+        tabla = new int[anterior.length * 2];
+        for (int valor : anterior) {
+            if (valor != 0) tabla[buscarCelda(idAlto[valor - 1], idBajo[valor - 1])] = valor;
+        }
+    }
+
+    /**
+     * Vacía la celda desplazando hacia atrás las que quedaron después de ella en la misma racha,
+     * para que ninguna búsqueda se corte antes de tiempo.
+     */
+    private void vaciarCelda(int celda) {
+        int mascara = tabla.length - 1;
+        int hueco = celda;
+        int actual = celda;
+        while (true) {
+            actual = (actual + 1) & mascara;
+            int valor = tabla[actual];
+            if (valor == 0) break;
+            int ideal = dispersar(idAlto[valor - 1], idBajo[valor - 1]) & mascara;
+            boolean puedeMoverse = actual > hueco
+                    ? ideal <= hueco || ideal > actual
+                    : ideal <= hueco && ideal > actual;
+            if (puedeMoverse) {
+                tabla[hueco] = valor;
+                hueco = actual;
+            }
+        }
+        tabla[hueco] = 0;
+    }
+
+    private static int dispersar(long alto, long bajo) {
+        long h = alto * 0x9E3779B97F4A7C15L ^ bajo;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    // Orden por id
+
+    private void insertarEnOrden(int fila) {
+        if (vivas == orden.length) orden = Arrays.copyOf(orden, vivas * 2);
+        // Los ids versión 7 llegan casi siempre en orden: se agregan al final sin buscar
+        int posicion = vivas == 0 || comparar(orden[vivas - 1], idAlto[fila], idBajo[fila]) < 0
+                ? vivas
+                : posicionDespues(new UUID(idAlto[fila], idBajo[fila]));
+        System.arraycopy(orden, posicion, orden, posicion + 1, vivas - posicion);
+        orden[posicion] = fila;
+        vivas++;
+    }
+
+    /** Primera posición de {@link #orden} cuyo id es mayor que el dado. */
+    private int posicionDespues(UUID id) {
+        long alto = id.getMostSignificantBits();
+        long bajo = id.getLeastSignificantBits();
+        int bajoRango = 0;
+        int altoRango = vivas;
+        while (bajoRango < altoRango) {
+            int medio = (bajoRango + altoRango) >>> 1;
+            if (comparar(orden[medio], alto, bajo) <= 0) {
+                bajoRango = medio + 1;
+            } else {
+                altoRango = medio;
+            }
+        }
+        return bajoRango;
+    }
+
+    /** Mismo orden que {@link UUID#compareTo}: con signo, primero los bits altos. */
+    private int comparar(int fila, long alto, long bajo) {
+        int porAlto = Long.compare(idAlto[fila], alto);
+        return porAlto != 0 ? porAlto : Long.compare(idBajo[fila], bajo);
+    }
+
+    // Conversión de columnas
+
+    private static byte ordinal(Enum<?> valor) {
+        return valor == null ? NINGUNO : (byte) valor.ordinal();
+    }
+
+    private static <E> E valor(E[] valores, byte ordinal) {
+        return ordinal == NINGUNO ? null : valores[ordinal];
+    }
+
+    private static long nanos(Instant instante) {
+        return Math.addExact(Math.multiplyExact(instante.getEpochSecond(), NANOS_POR_SEGUNDO), instante.getNano());
+    }
+
+    private static Instant instante(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_POR_SEGUNDO), Math.floorMod(nanos, NANOS_POR_SEGUNDO));
+    }
+
+    private void crecerFilas() {
+        int capacidad = idAlto.length * 2;
+        idAlto = Arrays.copyOf(idAlto, capacidad);
+        idBajo = Arrays.copyOf(idBajo, capacidad);
+        versiones = Arrays.copyOf(versiones, capacidad);
+        solicitanteAlto = Arrays.copyOf(solicitanteAlto, capacidad);
+        solicitanteBajo = Arrays.copyOf(solicitanteBajo, capacidad);
+        solicitanteNombre = Arrays.copyOf(solicitanteNombre, capacidad);
+        canales = Arrays.copyOf(canales, capacidad);
+        fechasRegistro = Arrays.copyOf(fechasRegistro, capacidad);
+        descripciones = Arrays.copyOf(descripciones, capacidad);
+        tipos = Arrays.copyOf(tipos, capacidad);
+        prioridades = Arrays.copyOf(prioridades, capacidad);
+        justificaciones = Arrays.copyOf(justificaciones, capacidad);
+        estados = Arrays.copyOf(estados, capacidad);
+        responsableAlto = Arrays.copyOf(responsableAlto, capacidad);
+        responsableBajo = Arrays.copyOf(responsableBajo, capacidad);
+        responsableNombre = Arrays.copyOf(responsableNombre, capacidad);
+        primeraEntrada = Arrays.copyOf(primeraEntrada, capacidad);
+        ultimaEntrada = Arrays.copyOf(ultimaEntrada, capacidad);
+        cantidadEntradas = Arrays.copyOf(cantidadEntradas, capacidad);
+    }
+
+    private void crecerEntradas() {
+        int capacidad = entradaIdAlto.length * 2;
+        entradaIdAlto = Arrays.copyOf(entradaIdAlto, capacidad);
+        entradaIdBajo = Arrays.copyOf(entradaIdBajo, capacidad);
+        entradaFecha = Arrays.copyOf(entradaFecha, capacidad);
+        entradaAccion = Arrays.copyOf(entradaAccion, capacidad);
+        entradaUsuarioAlto = Arrays.copyOf(entradaUsuarioAlto, capacidad);
+        entradaUsuarioBajo = Arrays.copyOf(entradaUsuarioBajo, capacidad);
+        entradaUsuarioNombre = Arrays.copyOf(entradaUsuarioNombre, capacidad);
+        entradaObservacion = Arrays.copyOf(entradaObservacion, capacidad);
+        entradaSiguiente = Arrays.copyOf(entradaSiguiente, capacidad);
+    }
+}
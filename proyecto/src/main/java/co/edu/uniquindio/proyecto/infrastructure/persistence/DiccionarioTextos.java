@@ -0,0 +1,38 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codifica textos repetidos como enteros: cada texto distinto se guarda una vez y las columnas
+ * guardan su código. El código de null es {@value #NULO}. No es seguro entre hilos; quien lo usa
+ * debe sincronizar. Los textos no se liberan nunca.
+ */
+final class DiccionarioTextos {
+
+    static final int NULO = -1;
+
+    private final Map<String, Integer> codigos = new HashMap<>();
+    private String[] textos = new String[64];
+
+    int codificar(String texto) {
+        if (texto == null) return NULO;
+        Integer codigo = codigos.get(texto);
+        if (codigo != null) return codigo;
+
+        int nuevo = codigos.size();
+        if (nuevo == textos.length) textos = Arrays.copyOf(textos, nuevo * 2);
+        textos[nuevo] = texto;
+        codigos.put(texto, nuevo);
+        return nuevo;
+    }
+
+    String texto(int codigo) {
+        return codigo == NULO ? null : textos[codigo];
+    }
+
+    int tamano() {
+        return codigos.size();
+    }
+}
@@ -0,0 +1,15 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+/**
+ * Contadores de una caché.
+ * @param tasaAciertos Aciertos sobre búsquedas, entre 0 y 1; 0 si no hubo búsquedas
+ */
+public record EstadisticasCache(long aciertos, long fallos, long desalojos, int tamano, int capacidad,
+                                double tasaAciertos) {
+
+    static EstadisticasCache de(long aciertos, long fallos, long desalojos, int tamano, int capacidad) {
+        long busquedas = aciertos + fallos;
+        return new EstadisticasCache(aciertos, fallos, desalojos, tamano, capacidad,
+                busquedas == 0 ? 0 : (double) aciertos / busquedas);
+    }
+}
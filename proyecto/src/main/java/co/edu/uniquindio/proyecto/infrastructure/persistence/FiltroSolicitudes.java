@@ -0,0 +1,37 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.util.UUID;
+
+/**
+ * Criterios opcionales para listar solicitudes. Un campo null no filtra.
+ */
+public record FiltroSolicitudes(EstadoSolicitud estado,
+                                TipoSolicitud tipo,
+                                Prioridad prioridad,
+                                CanalOrigen canalOrigen,
+                                UUID solicitanteId) {
+
+    private static final FiltroSolicitudes TODAS = new FiltroSolicitudes(null, null, null, null, null);
+
+    public static FiltroSolicitudes todas() {
+        return TODAS;
+    }
+
+    public static FiltroSolicitudes porSolicitante(UUID solicitanteId) {
+        return new FiltroSolicitudes(null, null, null, null, solicitanteId);
+    }
+
+    public boolean admite(Solicitud solicitud) {
+        return (estado == null || solicitud.estado() == estado)
+                && (tipo == null || solicitud.tipoSolicitud() == tipo)
+                && (prioridad == null || solicitud.prioridad() == prioridad)
+                && (canalOrigen == null || solicitud.canalOrigen() == canalOrigen)
+                && (solicitanteId == null || solicitud.solicitante().value().equals(solicitanteId));
+    }
+}
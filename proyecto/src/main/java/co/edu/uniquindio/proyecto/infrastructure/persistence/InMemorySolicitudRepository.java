@@ -0,0 +1,321 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementación en memoria y concurrente de {@link SolicitudRepository}.
+ *
+ * Las solicitudes se guardan en un {@link ConcurrentHashMap} por {@link SolicitudId} y se
+ * mantienen índices secundarios por solicitante, responsable y estado. Los índices se
+ * actualizan dentro de la misma operación atómica que reemplaza la solicitud, de modo que
+ * dos escrituras sobre la misma solicitud nunca dejan el índice desfasado y las consultas
+ * por índice no recorren todas las solicitudes.
+ *
+ * Todos los índices son conjuntos ordenados por {@link SolicitudId}, lo que permite paginar
+ * por cursor y recorrer resultados en streaming directamente sobre el índice más selectivo.
+ *
+ * El guardado es un compare-and-swap sobre {@link Solicitud#version()}: solo se acepta si
+ * la versión recibida coincide con la almacenada. El repositorio guarda y entrega copias,
+ * de modo que ninguna operación modifica una instancia visible para otra.
+ *
+ * {@link #saveAll} comprueba todas las versiones antes de aplicar ninguna: o se guardan todas
+ * o ninguna. Para eso toma en exclusiva un candado que las escrituras individuales toman
+ * compartido, así que estas siguen en paralelo entre sí y solo esperan a los lotes.
+ */
+public class InMemorySolicitudRepository implements SolicitudRepository {
+
+    private final ConcurrentHashMap<SolicitudId, Registro> solicitudes = new ConcurrentHashMap<>();
+    private final NavigableSet<SolicitudId> orden = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<UUID, NavigableSet<SolicitudId>> porSolicitante = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, NavigableSet<SolicitudId>> porResponsable = new ConcurrentHashMap<>();
+    private final Map<EstadoSolicitud, NavigableSet<SolicitudId>> porEstado = new EnumMap<>(EstadoSolicitud.class);
+    /** Compartido por las escrituras individuales, exclusivo para los lotes. */
+    private final ReentrantReadWriteLock lotes = new ReentrantReadWriteLock();
+
+    public InMemorySolicitudRepository() {
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            porEstado.put(estado, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        if (solicitud == null) throw new IllegalArgumentException("La solicitud no puede ser null");
+
+        lotes.readLock().lock();
+        try {
+            return guardar(solicitud);
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        Set<SolicitudId> ids = new HashSet<>();
+        for (Solicitud solicitud : solicitudes) {
+            if (solicitud == null) throw new IllegalArgumentException("La solicitud no puede ser null");
+            if (!ids.add(solicitud.id())) {
+                throw new IllegalArgumentException("La solicitud " + solicitud.id().value() + " está repetida");
+            }
+        }
+
+        lotes.writeLock().lock();
+        try {
+            for (Solicitud solicitud : solicitudes) {
+                Registro actual = this.solicitudes.get(solicitud.id());
+                verificarVersion(solicitud, actual == null ? 0 : actual.solicitud().version());
+            }
+            List<Solicitud> guardadas = new ArrayList<>(solicitudes.size());
+            for (Solicitud solicitud : solicitudes) {
+                guardadas.add(guardar(solicitud));
+            }
+            return guardadas;
+        } finally {
+            lotes.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Carga una solicitud con la versión que ya trae, sin compare-and-swap.
+     * Uso exclusivo de la reconstrucción desde almacenamiento durable.
+     */
+    public void restaurar(Solicitud solicitud) {
+        lotes.readLock().lock();
+        try {
+            solicitudes.compute(solicitud.id(), (id, anterior) -> {
+                Registro nuevo = Registro.de(solicitud.copia());
+                reindexar(id, anterior, nuevo);
+                return nuevo;
+            });
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        Registro registro = solicitudes.get(id);
+        return registro == null ? Optional.empty() : Optional.of(registro.solicitud().copia());
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        Registro registro = solicitudes.get(id);
+        return registro == null ? OptionalLong.empty() : OptionalLong.of(registro.solicitud().version());
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        List<Solicitud> resultado = new ArrayList<>(solicitudes.size());
+        for (Registro registro : solicitudes.values()) {
+            resultado.add(registro.solicitud().copia());
+        }
+        return resultado;
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        Set<SolicitudId> ids = porSolicitante.get(solicitanteId);
+        if (ids == null) return List.of();
+
+        List<Solicitud> resultado = new ArrayList<>();
+        for (SolicitudId id : ids) {
+            Registro registro = solicitudes.get(id);
+            // Un lector concurrente puede ver el índice un instante antes que el mapa principal
+            if (registro != null && registro.solicitanteId().equals(solicitanteId)) {
+                resultado.add(registro.solicitud().copia());
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        Set<SolicitudId> ids = porResponsable.get(responsableId);
+        if (ids == null) return List.of();
+
+        List<Solicitud> resultado = new ArrayList<>();
+        for (SolicitudId id : ids) {
+            Registro registro = solicitudes.get(id);
+            if (registro != null && responsableId.equals(registro.responsableId())) {
+                resultado.add(registro.solicitud().copia());
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        Set<SolicitudId> ids = porEstado.get(estado);
+        if (ids == null) return List.of();
+
+        List<Solicitud> resultado = new ArrayList<>();
+        for (SolicitudId id : ids) {
+            Registro registro = solicitudes.get(id);
+            if (registro != null && registro.estado() == estado) {
+                resultado.add(registro.solicitud().copia());
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        NavigableSet<SolicitudId> indice = indicePara(filtro);
+        NavigableSet<SolicitudId> desde = despuesDe == null ? indice : indice.tailSet(despuesDe, false);
+
+        List<Solicitud> resultado = new ArrayList<>(Math.min(limite, 256));
+        Iterator<SolicitudId> ids = desde.iterator();
+        while (ids.hasNext() && resultado.size() < limite) {
+            Registro registro = solicitudes.get(ids.next());
+            if (registro != null && filtro.admite(registro.solicitud())) {
+                resultado.add(registro.solicitud().copia());
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        return indicePara(filtro).stream()
+                .map(solicitudes::get)
+                .filter(Objects::nonNull)
+                .map(Registro::solicitud)
+                .filter(filtro::admite)
+                .map(Solicitud::copia);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        if (solicitud == null) return;
+
+        lotes.readLock().lock();
+        try {
+            solicitudes.computeIfPresent(solicitud.id(), (id, anterior) -> {
+                reindexar(id, anterior, null);
+                return null;
+            });
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        return solicitudes.containsKey(id);
+    }
+
+    /**
+     * Compare-and-swap de una solicitud; quien llama ya tiene el candado de lotes.
+     */
+    private Solicitud guardar(Solicitud solicitud) {
+        Registro guardado = solicitudes.compute(solicitud.id(), (id, anterior) -> {
+            long versionActual = anterior == null ? 0 : anterior.solicitud().version();
+            verificarVersion(solicitud, versionActual);
+            Registro nuevo = Registro.de(solicitud.copiaConVersion(versionActual + 1));
+            reindexar(id, anterior, nuevo);
+            return nuevo;
+        });
+        return guardado.solicitud().copia();
+    }
+
+    private static void verificarVersion(Solicitud solicitud, long versionActual) {
+        if (solicitud.version() != versionActual) {
+            throw new ConcurrencyConflict("La solicitud " + solicitud.id().value() + " fue modificada por otra operación");
+        }
+    }
+
+    /**
+     * Elige el índice más selectivo para el filtro; el resto de criterios se evalúa
+     * sobre cada solicitud recorrida.
+     */
+    private NavigableSet<SolicitudId> indicePara(FiltroSolicitudes filtro) {
+        if (filtro.solicitanteId() != null) {
+            NavigableSet<SolicitudId> ids = porSolicitante.get(filtro.solicitanteId());
+            return ids == null ? Collections.emptyNavigableSet() : ids;
+        }
+        if (filtro.estado() != null) {
+            return porEstado.get(filtro.estado());
+        }
+        return orden;
+    }
+
+    /**
+     * Mueve la solicitud entre los índices secundarios según las claves con las que estaba
+     * indexada y las nuevas. Se invoca siempre dentro del compute de la solicitud, por lo que
+     * las escrituras sobre un mismo id quedan serializadas.
+     */
+    private void reindexar(SolicitudId id, Registro anterior, Registro nuevo) {
+        if (anterior == null) orden.add(id);
+        if (nuevo == null) orden.remove(id);
+
+        UUID solicitanteAnterior = anterior == null ? null : anterior.solicitanteId();
+        UUID solicitanteNuevo = nuevo == null ? null : nuevo.solicitanteId();
+        moverEnIndice(porSolicitante, id, solicitanteAnterior, solicitanteNuevo);
+
+        UUID responsableAnterior = anterior == null ? null : anterior.responsableId();
+        UUID responsableNuevo = nuevo == null ? null : nuevo.responsableId();
+        moverEnIndice(porResponsable, id, responsableAnterior, responsableNuevo);
+
+        EstadoSolicitud estadoAnterior = anterior == null ? null : anterior.estado();
+        EstadoSolicitud estadoNuevo = nuevo == null ? null : nuevo.estado();
+        if (estadoAnterior != estadoNuevo) {
+            if (estadoNuevo != null) porEstado.get(estadoNuevo).add(id);
+            if (estadoAnterior != null) porEstado.get(estadoAnterior).remove(id);
+        }
+    }
+
+    /**
+     * Los conjuntos que quedan vacíos se quitan del índice para que no crezca con cada usuario
+     * que tuvo solicitudes. Agregar y quitar se hacen dentro del compute de la clave, así que
+     * nunca se agrega un id a un conjunto que otra escritura acaba de quitar.
+     */
+    private static void moverEnIndice(ConcurrentHashMap<UUID, NavigableSet<SolicitudId>> indice,
+                                      SolicitudId id, UUID claveAnterior, UUID claveNueva) {
+        if (Objects.equals(claveAnterior, claveNueva)) return;
+        if (claveNueva != null) {
+            indice.compute(claveNueva, (k, ids) -> {
+                NavigableSet<SolicitudId> conjunto = ids != null ? ids : new ConcurrentSkipListSet<>();
+                conjunto.add(id);
+                return conjunto;
+            });
+        }
+        if (claveAnterior != null) {
+            indice.computeIfPresent(claveAnterior, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /** Solicitud almacenada junto con las claves con las que quedó indexada al guardarla. */
+    private record Registro(Solicitud solicitud, UUID solicitanteId, UUID responsableId, EstadoSolicitud estado) {
+
+        static Registro de(Solicitud solicitud) {
+            UUID responsableId = solicitud.responsable() == null ? null : solicitud.responsable().value();
+            return new Registro(solicitud, solicitud.solicitante().value(), responsableId, solicitud.estado());
+        }
+    }
+}
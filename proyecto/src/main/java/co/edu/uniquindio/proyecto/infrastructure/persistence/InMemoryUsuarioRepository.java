@@ -0,0 +1,123 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementación en memoria y concurrente de {@link UsuarioRepository},
+ * respaldada por un {@link ConcurrentHashMap} por {@link IdentificacionUsuario}.
+ *
+ * Como {@link Usuario} es inmutable, se guardan y entregan las mismas instancias sin copiarlas.
+ * El guardado es un compare-and-swap sobre la versión, igual que en
+ * {@link InMemorySolicitudRepository}, y {@link #saveAll} guarda todos o ninguno.
+ */
+public class InMemoryUsuarioRepository implements UsuarioRepository {
+
+    private final ConcurrentHashMap<IdentificacionUsuario, Usuario> usuarios = new ConcurrentHashMap<>();
+    /** Compartido por las escrituras individuales, exclusivo para los lotes. */
+    private final ReentrantReadWriteLock lotes = new ReentrantReadWriteLock();
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        if (usuario == null) throw new IllegalArgumentException("El usuario no puede ser null");
+
+        lotes.readLock().lock();
+        try {
+            return guardar(usuario);
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Usuario> lote) {
+        Set<IdentificacionUsuario> ids = new HashSet<>();
+        for (Usuario usuario : lote) {
+            if (usuario == null) throw new IllegalArgumentException("El usuario no puede ser null");
+            if (!ids.add(usuario.id())) {
+                throw new IllegalArgumentException("El usuario " + usuario.id().value() + " está repetido");
+            }
+        }
+
+        lotes.writeLock().lock();
+        try {
+            for (Usuario usuario : lote) {
+                verificarVersion(usuario, versionActual(usuario.id()));
+            }
+            lote.forEach(this::guardar);
+        } finally {
+            lotes.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Carga un usuario con la versión que ya trae, sin compare-and-swap.
+     * Uso exclusivo de la reconstrucción desde almacenamiento durable.
+     */
+    public void restaurar(Usuario usuario) {
+        lotes.readLock().lock();
+        try {
+            usuarios.put(usuario.id(), usuario);
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    /** Versión almacenada del usuario, o 0 si no existe. */
+    public long versionActual(IdentificacionUsuario id) {
+        Usuario actual = usuarios.get(id);
+        return actual == null ? 0 : actual.version();
+    }
+
+    @Override
+    public Optional<Usuario> findById(IdentificacionUsuario id) {
+        return Optional.ofNullable(usuarios.get(id));
+    }
+
+    @Override
+    public List<Usuario> findAll() {
+        return new ArrayList<>(usuarios.values());
+    }
+
+    @Override
+    public void delete(Usuario usuario) {
+        if (usuario == null) return;
+
+        lotes.readLock().lock();
+        try {
+            usuarios.remove(usuario.id());
+        } finally {
+            lotes.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(IdentificacionUsuario id) {
+        return usuarios.containsKey(id);
+    }
+
+    /** Compare-and-swap de un usuario; quien llama ya tiene el candado de lotes. */
+    private Usuario guardar(Usuario usuario) {
+        return usuarios.compute(usuario.id(), (id, anterior) -> {
+            long versionActual = anterior == null ? 0 : anterior.version();
+            verificarVersion(usuario, versionActual);
+            return usuario.copiaConVersion(versionActual + 1);
+        });
+    }
+
+    private static void verificarVersion(Usuario usuario, long versionActual) {
+        if (usuario.version() != versionActual) {
+            throw new ConcurrencyConflict("El usuario " + usuario.id().value() + " fue modificado por otra operación");
+        }
+    }
+}
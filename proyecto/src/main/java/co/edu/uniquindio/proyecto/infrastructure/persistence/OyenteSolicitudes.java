@@ -0,0 +1,21 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+/**
+ * Recibe cada cambio de solicitud una vez que el repositorio lo aceptó; lo usan las proyecciones
+ * de lectura para mantenerse al día sin consultar el repositorio.
+ *
+ * Se invoca en el hilo que guardó. Dos guardados de la misma solicitud pueden notificarse en
+ * desorden, así que cada oyente debe descartar versiones anteriores a la que ya conoce.
+ */
+public interface OyenteSolicitudes {
+
+    /**
+     * @param guardada Copia persistida, con la versión que quedó almacenada
+     */
+    void solicitudGuardada(Solicitud guardada);
+
+    void solicitudEliminada(SolicitudId id);
+}
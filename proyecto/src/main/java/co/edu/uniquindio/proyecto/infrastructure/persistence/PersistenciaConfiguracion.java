@@ -0,0 +1,120 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.infrastructure.eventos.BusEventos;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.AlmacenDiario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.ArchivoSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.PoliticaSincronizacion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Selecciona la implementación de los repositorios según {@code proyecto.persistencia.modo}:
+ * - memoria (por defecto): repositorios en memoria, sin durabilidad.
+ * - diario: diario de eventos en disco, reconstruido al arrancar.
+ * - columnar: solicitudes en columnas primitivas ({@link ColumnarSolicitudRepository}), sin durabilidad;
+ *   para mantener en memoria volúmenes grandes. Los usuarios se guardan como en el modo memoria.
+ * En todos los modos los repositorios cuentan sus llamadas en {@link MetricasSolicitudes} y el de
+ * solicitudes notifica sus cambios a los {@link OyenteSolicitudes} registrados como beans y publica
+ * cada transición guardada en el {@link BusEventos}.
+ * El de usuarios tiene delante una {@link UsuarioRepositoryCacheado} de
+ * {@code proyecto.persistencia.capacidad-cache-usuarios} usuarios; sus aciertos no cuentan como llamadas.
+ * Con {@code proyecto.archivo.habilitado=true} las solicitudes cerradas antiguas pasan a un
+ * {@link ArchivoSolicitudes} en disco mediante el {@link ArchivadorSolicitudes}.
+ */
+@Configuration
+public class PersistenciaConfiguracion {
+
+    private static final String MODO = "proyecto.persistencia.modo";
+    private static final String CAPACIDAD_CACHE_USUARIOS = "${proyecto.persistencia.capacidad-cache-usuarios:10000}";
+
+    @Bean(initMethod = "iniciar", destroyMethod = "close")
+    @ConditionalOnProperty(name = "proyecto.archivo.habilitado", havingValue = "true")
+    public ArchivadorSolicitudes archivadorSolicitudes(
+            @Value("${proyecto.archivo.directorio:datos/archivo}") Path directorio,
+            @Value("${proyecto.archivo.solicitudes-por-bloque:64}") int solicitudesPorBloque,
+            @Value("${proyecto.archivo.edad-minima:30d}") Duration edadMinima,
+            @Value("${proyecto.archivo.intervalo:1h}") Duration intervalo) throws IOException {
+        return new ArchivadorSolicitudes(ArchivoSolicitudes.abrir(directorio, solicitudesPorBloque), edadMinima, intervalo);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "memoria", matchIfMissing = true)
+    public SolicitudRepository solicitudRepositoryEnMemoria(MetricasSolicitudes metricas,
+                                                            List<OyenteSolicitudes> oyentes, BusEventos bus,
+                                                            Optional<ArchivadorSolicitudes> archivador) {
+        SolicitudRepository solicitudes = conArchivo(new InMemorySolicitudRepository(), archivador, oyentes);
+        return envolver(solicitudes, oyentes, bus, metricas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "memoria", matchIfMissing = true)
+    public UsuarioRepositoryCacheado usuarioRepositoryEnMemoria(MetricasSolicitudes metricas,
+                                                                @Value(CAPACIDAD_CACHE_USUARIOS) int capacidadCache) {
+        return new UsuarioRepositoryCacheado(
+                new UsuarioRepositoryMedido(new InMemoryUsuarioRepository(), metricas), capacidadCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "columnar")
+    public SolicitudRepository solicitudRepositoryColumnar(MetricasSolicitudes metricas,
+                                                           List<OyenteSolicitudes> oyentes, BusEventos bus,
+                                                           Optional<ArchivadorSolicitudes> archivador) {
+        SolicitudRepository solicitudes = conArchivo(new ColumnarSolicitudRepository(), archivador, oyentes);
+        return envolver(solicitudes, oyentes, bus, metricas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "columnar")
+    public UsuarioRepositoryCacheado usuarioRepositoryColumnar(MetricasSolicitudes metricas,
+                                                               @Value(CAPACIDAD_CACHE_USUARIOS) int capacidadCache) {
+        return new UsuarioRepositoryCacheado(
+                new UsuarioRepositoryMedido(new InMemoryUsuarioRepository(), metricas), capacidadCache);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = MODO, havingValue = "diario")
+    public AlmacenDiario almacenDiario(
+            @Value("${proyecto.persistencia.directorio:datos/diario}") Path directorio,
+            @Value("${proyecto.persistencia.tamano-segmento:67108864}") int tamanoSegmento,
+            @Value("${proyecto.persistencia.sincronizacion:SIEMPRE}") PoliticaSincronizacion politica,
+            @Value("${proyecto.persistencia.intervalo-sincronizacion:100ms}") Duration intervaloSincronizacion,
+            @Value("${proyecto.persistencia.intervalo-instantaneas:5m}") Duration intervaloInstantaneas) throws IOException {
+        return AlmacenDiario.abrir(directorio, tamanoSegmento, politica, intervaloSincronizacion, intervaloInstantaneas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "diario")
+    public SolicitudRepository solicitudRepositoryDiario(AlmacenDiario almacen, MetricasSolicitudes metricas,
+                                                         List<OyenteSolicitudes> oyentes, BusEventos bus,
+                                                         Optional<ArchivadorSolicitudes> archivador) {
+        SolicitudRepository solicitudes = conArchivo(almacen.solicitudes(), archivador, oyentes);
+        return envolver(solicitudes, oyentes, bus, metricas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODO, havingValue = "diario")
+    public UsuarioRepositoryCacheado usuarioRepositoryDiario(AlmacenDiario almacen, MetricasSolicitudes metricas,
+                                                             @Value(CAPACIDAD_CACHE_USUARIOS) int capacidadCache) {
+        return new UsuarioRepositoryCacheado(new UsuarioRepositoryMedido(almacen.usuarios(), metricas), capacidadCache);
+    }
+
+    private static SolicitudRepository envolver(SolicitudRepository solicitudes, List<OyenteSolicitudes> oyentes,
+                                                BusEventos bus, MetricasSolicitudes metricas) {
+        return new SolicitudRepositoryMedido(
+                new SolicitudRepositoryPublicador(new SolicitudRepositoryObservado(solicitudes, oyentes), bus), metricas);
+    }
+
+    private static SolicitudRepository conArchivo(SolicitudRepository activas, Optional<ArchivadorSolicitudes> archivador,
+                                                  List<OyenteSolicitudes> oyentes) {
+        return archivador.map(a -> a.envolver(activas, oyentes)).orElse(activas);
+    }
+}
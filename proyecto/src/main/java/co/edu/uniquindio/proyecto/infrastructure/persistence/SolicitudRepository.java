@@ -2,18 +2,59 @@ package co.edu.uniquindio.proyecto.infrastructure.persistence;
 
 import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
 import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SolicitudRepository {
+    /**
+     * Guarda la solicitud solo si su versión coincide con la versión almacenada
+     * (0 para solicitudes nuevas) y devuelve la copia persistida con la versión incrementada.
+     * @throws co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict si otra operación la modificó antes
+     */
     Solicitud save(Solicitud solicitud);
+    /**
+     * Guarda varias solicitudes con las mismas reglas de versión que {@link #save}, en el mismo orden.
+     * Las implementaciones durables las escriben como una sola unidad: o se guardan todas o ninguna.
+     */
+    default List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        List<Solicitud> guardadas = new ArrayList<>(solicitudes.size());
+        for (Solicitud solicitud : solicitudes) {
+            guardadas.add(save(solicitud));
+        }
+        return guardadas;
+    }
     Optional<Solicitud> findById(SolicitudId id);
+    /**
+     * Versión almacenada de la solicitud, o vacío si no existe. Las implementaciones la leen
+     * sin materializar la solicitud; sirve para decidir si un cliente ya tiene la última versión.
+     */
+    default OptionalLong findVersionById(SolicitudId id) {
+        return findById(id).map(solicitud -> OptionalLong.of(solicitud.version())).orElse(OptionalLong.empty());
+    }
     List<Solicitud> findAll();
     List<Solicitud> findBySolicitanteId(UUID solicitanteId);
+    List<Solicitud> findByResponsableId(UUID responsableId);
+    List<Solicitud> findByEstado(EstadoSolicitud estado);
+    /**
+     * Página de solicitudes que cumplen el filtro, en orden de {@link SolicitudId},
+     * empezando después del cursor indicado (keyset pagination).
+     * @param despuesDe Último id de la página anterior, o null para la primera página
+     * @param limite Cantidad máxima de solicitudes a devolver
+     */
+    List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite);
+    /**
+     * Recorre perezosamente las solicitudes que cumplen el filtro en orden de {@link SolicitudId},
+     * sin materializar la lista completa.
+     */
+    Stream<Solicitud> stream(FiltroSolicitudes filtro);
     void delete(Solicitud solicitud);
     boolean existsById(SolicitudId id);
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.ArchivoSolicitudes;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repositorio de dos niveles: las solicitudes activas viven en el repositorio decorado y las
+ * CERRADA antiguas se mueven a un {@link ArchivoSolicitudes} en disco.
+ *
+ * Los listados, búsquedas por índice y recorridos solo ven el conjunto activo; {@link #findById}
+ * y {@link #existsById} consultan el archivo cuando la solicitud no está en él. Una solicitud
+ * cerrada no puede cambiar, así que archivarla no compite con ninguna escritura: primero se
+ * escribe y sincroniza el segmento y después se elimina del conjunto activo. Si algo falla en
+ * medio, la solicitud queda en ambos lados y el siguiente paso solo la elimina.
+ */
+public class SolicitudRepositoryArchivado implements SolicitudRepository {
+
+    /** Máximo de solicitudes por segmento, para no retener en memoria todo un primer archivado. */
+    static final int SOLICITUDES_POR_SEGMENTO = 50_000;
+
+    private static final FiltroSolicitudes CERRADAS =
+            new FiltroSolicitudes(EstadoSolicitud.CERRADA, null, null, null, null);
+
+    private final SolicitudRepository delegado;
+    private final ArchivoSolicitudes archivo;
+
+    public SolicitudRepositoryArchivado(SolicitudRepository delegado, ArchivoSolicitudes archivo) {
+        this.delegado = delegado;
+        this.archivo = archivo;
+    }
+
+    /**
+     * Mueve al archivo las solicitudes cerradas antes del instante indicado.
+     * @return Cantidad de solicitudes que salieron del conjunto activo
+     */
+    public int archivarCerradas(Instant cerradasAntesDe) throws IOException {
+        int archivadas = 0;
+        List<Solicitud> lote;
+        do {
+            try (Stream<Solicitud> cerradas = delegado.stream(CERRADAS)) {
+                lote = cerradas.filter(solicitud -> fechaCierre(solicitud).isBefore(cerradasAntesDe))
+                        .limit(SOLICITUDES_POR_SEGMENTO)
+                        .toList();
+            }
+            archivo.archivar(lote.stream().filter(solicitud -> !archivo.contiene(solicitud.id())).toList());
+            for (Solicitud solicitud : lote) {
+                delegado.delete(solicitud);
+            }
+            archivadas += lote.size();
+        } while (lote.size() == SOLICITUDES_POR_SEGMENTO);
+        return archivadas;
+    }
+
+    private static Instant fechaCierre(Solicitud solicitud) {
+        return solicitud.historial().getLast().fechaHora();
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        return delegado.save(solicitud);
+    }
+
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        return delegado.saveAll(solicitudes);
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        Optional<Solicitud> activa = delegado.findById(id);
+        return activa.isPresent() ? activa : archivo.buscar(id);
+    }
+
+    /**
+     * Las archivadas ya no cambian, pero su versión solo está en el bloque comprimido que la contiene.
+     */
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        OptionalLong activa = delegado.findVersionById(id);
+        return activa.isPresent() ? activa
+                : archivo.buscar(id).map(solicitud -> OptionalLong.of(solicitud.version())).orElse(OptionalLong.empty());
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        return delegado.findBySolicitanteId(solicitanteId);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        return delegado.findByResponsableId(responsableId);
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        return delegado.findByEstado(estado);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        return delegado.findPage(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        return delegado.stream(filtro);
+    }
+
+    /**
+     * Elimina la solicitud del conjunto activo; los segmentos del archivo son inmutables.
+     */
+    @Override
+    public void delete(Solicitud solicitud) {
+        delegado.delete(solicitud);
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        return delegado.existsById(id) || archivo.contiene(id);
+    }
+}
@@ -0,0 +1,99 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Cuenta en {@link MetricasSolicitudes} cada llamada al repositorio decorado.
+ * Un {@code saveAll} cuenta como una sola llamada.
+ */
+public class SolicitudRepositoryMedido implements SolicitudRepository {
+
+    private final SolicitudRepository delegado;
+    private final MetricasSolicitudes metricas;
+
+    public SolicitudRepositoryMedido(SolicitudRepository delegado, MetricasSolicitudes metricas) {
+        this.delegado = delegado;
+        this.metricas = metricas;
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.save(solicitud);
+    }
+
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.saveAll(solicitudes);
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findById(id);
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findVersionById(id);
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findBySolicitanteId(solicitanteId);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findByResponsableId(responsableId);
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findByEstado(estado);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findPage(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.stream(filtro);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        metricas.contarLlamadaRepositorio();
+        delegado.delete(solicitud);
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.existsById(id);
+    }
+}
@@ -0,0 +1,102 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Notifica a los {@link OyenteSolicitudes} cada guardado y eliminación exitosos del repositorio decorado.
+ * Al construirse entrega a los oyentes las solicitudes que ya estaban almacenadas.
+ */
+public class SolicitudRepositoryObservado implements SolicitudRepository {
+
+    private final SolicitudRepository delegado;
+    private final List<OyenteSolicitudes> oyentes;
+
+    public SolicitudRepositoryObservado(SolicitudRepository delegado, List<OyenteSolicitudes> oyentes) {
+        this.delegado = delegado;
+        this.oyentes = List.copyOf(oyentes);
+        try (Stream<Solicitud> existentes = delegado.stream(FiltroSolicitudes.todas())) {
+            existentes.forEach(this::notificarGuardada);
+        }
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        Solicitud guardada = delegado.save(solicitud);
+        notificarGuardada(guardada);
+        return guardada;
+    }
+
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        List<Solicitud> guardadas = delegado.saveAll(solicitudes);
+        guardadas.forEach(this::notificarGuardada);
+        return guardadas;
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        return delegado.findById(id);
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        return delegado.findVersionById(id);
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        return delegado.findBySolicitanteId(solicitanteId);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        return delegado.findByResponsableId(responsableId);
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        return delegado.findByEstado(estado);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        return delegado.findPage(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        return delegado.stream(filtro);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        delegado.delete(solicitud);
+        for (OyenteSolicitudes oyente : oyentes) {
+            oyente.solicitudEliminada(solicitud.id());
+        }
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        return delegado.existsById(id);
+    }
+
+    private void notificarGuardada(Solicitud guardada) {
+        for (OyenteSolicitudes oyente : oyentes) {
+            oyente.solicitudGuardada(guardada);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.eventos.BusEventos;
+import co.edu.uniquindio.proyecto.infrastructure.eventos.EventoSolicitud;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Publica en el {@link BusEventos} un {@link EventoSolicitud} por cada transición que un guardado
+ * exitoso hace persistente: las entradas de {@link Solicitud#historialSinGuardar()} de la solicitud
+ * recibida. Si el guardado falla no se publica nada.
+ */
+public class SolicitudRepositoryPublicador implements SolicitudRepository {
+
+    private final SolicitudRepository delegado;
+    private final BusEventos bus;
+
+    public SolicitudRepositoryPublicador(SolicitudRepository delegado, BusEventos bus) {
+        this.delegado = delegado;
+        this.bus = bus;
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        Solicitud guardada = delegado.save(solicitud);
+        publicar(solicitud, guardada);
+        return guardada;
+    }
+
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        List<Solicitud> guardadas = delegado.saveAll(solicitudes);
+        for (int i = 0; i < guardadas.size(); i++) {
+            publicar(solicitudes.get(i), guardadas.get(i));
+        }
+        return guardadas;
+    }
+
+    private void publicar(Solicitud recibida, Solicitud guardada) {
+        for (EntradaHistorial entrada : recibida.historialSinGuardar()) {
+            bus.publicar(EventoSolicitud.de(guardada, entrada));
+        }
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        return delegado.findById(id);
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        return delegado.findVersionById(id);
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        return delegado.findBySolicitanteId(solicitanteId);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        return delegado.findByResponsableId(responsableId);
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        return delegado.findByEstado(estado);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        return delegado.findPage(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        return delegado.stream(filtro);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        delegado.delete(solicitud);
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        return delegado.existsById(id);
+    }
+}
@@ -4,13 +4,40 @@ import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
 import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public interface UsuarioRepository {
+    /**
+     * Guarda el usuario solo si su versión coincide con la almacenada (0 para usuarios nuevos)
+     * y devuelve la copia guardada, con la versión incrementada.
+     * @throws co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict si otra operación lo modificó antes
+     */
     Usuario save(Usuario usuario);
+    /**
+     * Guarda varios usuarios con las mismas reglas de versión que {@link #save}; las
+     * implementaciones durables los escriben como una sola unidad: o se guardan todos o ninguno.
+     */
+    default void saveAll(Collection<Usuario> usuarios) {
+        for (Usuario usuario : usuarios) {
+            save(usuario);
+        }
+    }
     Optional<Usuario> findById(IdentificacionUsuario id);
+    /**
+     * Busca varios usuarios en una sola pasada; los ids inexistentes no aparecen en el resultado.
+     */
+    default Map<IdentificacionUsuario, Usuario> findAllById(Collection<IdentificacionUsuario> ids) {
+        Map<IdentificacionUsuario, Usuario> encontrados = new HashMap<>();
+        for (IdentificacionUsuario id : ids) {
+            findById(id).ifPresent(usuario -> encontrados.put(id, usuario));
+        }
+        return encontrados;
+    }
     List<Usuario> findAll();
     void delete(Usuario usuario);
     boolean existsById(IdentificacionUsuario id);
@@ -0,0 +1,109 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caché acotada de usuarios por id delante de otro {@link UsuarioRepository}.
+ *
+ * Las búsquedas por id consultan primero la caché; las que fallan van al repositorio decorado
+ * y guardan el resultado. Guardar o eliminar un usuario lo invalida después de escribir, así
+ * que activar o desactivar un usuario se ve en la siguiente búsqueda. {@code findAll} no pasa
+ * por la caché. Los usuarios inexistentes no se guardan.
+ */
+public class UsuarioRepositoryCacheado implements UsuarioRepository {
+
+    private final UsuarioRepository delegado;
+    private final CacheFrecuencia<IdentificacionUsuario, Usuario> cache;
+
+    public UsuarioRepositoryCacheado(UsuarioRepository delegado, int capacidad) {
+        this.delegado = delegado;
+        this.cache = new CacheFrecuencia<>(capacidad);
+    }
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        try {
+            return delegado.save(usuario);
+        } finally {
+            if (usuario != null) cache.invalidar(usuario.id());
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Usuario> usuarios) {
+        try {
+            delegado.saveAll(usuarios);
+        } finally {
+            for (Usuario usuario : usuarios) {
+                cache.invalidar(usuario.id());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Usuario> findById(IdentificacionUsuario id) {
+        Usuario enCache = cache.buscar(id);
+        if (enCache != null) return Optional.of(enCache);
+
+        long generacion = cache.generacion(id);
+        Optional<Usuario> encontrado = delegado.findById(id);
+        encontrado.ifPresent(usuario -> cache.guardar(id, usuario, generacion));
+        return encontrado;
+    }
+
+    @Override
+    public Map<IdentificacionUsuario, Usuario> findAllById(Collection<IdentificacionUsuario> ids) {
+        Map<IdentificacionUsuario, Usuario> encontrados = new HashMap<>();
+        List<IdentificacionUsuario> faltantes = new ArrayList<>();
+        for (IdentificacionUsuario id : ids) {
+            Usuario enCache = cache.buscar(id);
+            if (enCache != null) encontrados.put(id, enCache);
+            else faltantes.add(id);
+        }
+        if (faltantes.isEmpty()) return encontrados;
+
+        Map<IdentificacionUsuario, Long> generaciones = new HashMap<>();
+        for (IdentificacionUsuario id : faltantes) {
+            generaciones.put(id, cache.generacion(id));
+        }
+        delegado.findAllById(faltantes).forEach((id, usuario) -> {
+            cache.guardar(id, usuario, generaciones.get(id));
+            encontrados.put(id, usuario);
+        });
+        return encontrados;
+    }
+
+    @Override
+    public List<Usuario> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public void delete(Usuario usuario) {
+        try {
+            delegado.delete(usuario);
+        } finally {
+            if (usuario != null) cache.invalidar(usuario.id());
+        }
+    }
+
+    @Override
+    public boolean existsById(IdentificacionUsuario id) {
+        return cache.contiene(id) || delegado.existsById(id);
+    }
+
+    /**
+     * Aciertos, fallos y desalojos desde el arranque, y ocupación actual.
+     */
+    public EstadisticasCache estadisticas() {
+        return EstadisticasCache.de(cache.aciertos(), cache.fallos(), cache.desalojos(), cache.tamano(), cache.capacidad());
+    }
+}
@@ -0,0 +1,67 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cuenta en {@link MetricasSolicitudes} cada llamada al repositorio decorado.
+ * Las operaciones por lotes cuentan como una sola llamada.
+ */
+public class UsuarioRepositoryMedido implements UsuarioRepository {
+
+    private final UsuarioRepository delegado;
+    private final MetricasSolicitudes metricas;
+
+    public UsuarioRepositoryMedido(UsuarioRepository delegado, MetricasSolicitudes metricas) {
+        this.delegado = delegado;
+        this.metricas = metricas;
+    }
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.save(usuario);
+    }
+
+    @Override
+    public void saveAll(Collection<Usuario> usuarios) {
+        metricas.contarLlamadaRepositorio();
+        delegado.saveAll(usuarios);
+    }
+
+    @Override
+    public Optional<Usuario> findById(IdentificacionUsuario id) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findById(id);
+    }
+
+    @Override
+    public Map<IdentificacionUsuario, Usuario> findAllById(Collection<IdentificacionUsuario> ids) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findAllById(ids);
+    }
+
+    @Override
+    public List<Usuario> findAll() {
+        metricas.contarLlamadaRepositorio();
+        return delegado.findAll();
+    }
+
+    @Override
+    public void delete(Usuario usuario) {
+        metricas.contarLlamadaRepositorio();
+        delegado.delete(usuario);
+    }
+
+    @Override
+    public boolean existsById(IdentificacionUsuario id) {
+        metricas.contarLlamadaRepositorio();
+        return delegado.existsById(id);
+    }
+}
@@ -0,0 +1,171 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.FiltroSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Almacenamiento durable basado en el diario de eventos.
+ *
+ * Al abrirse carga la instantánea válida más reciente y reproduce solo los eventos del diario
+ * posteriores a ella; sin instantánea reproduce el diario completo. Expone los repositorios de
+ * solicitudes y usuarios que escriben en el diario antes de aplicar cada cambio.
+ *
+ * Las instantáneas se toman en segundo plano cada cierto intervalo y al cerrar; con intervalo
+ * cero solo se toman al invocar {@link #tomarInstantanea()}. Las escrituras
+ * toman la barrera de forma compartida entre anexar un evento y aplicarlo en memoria; la
+ * instantánea la toma en exclusiva solo para fijar su posición, de modo que todo evento anterior
+ * a esa posición ya está en memoria cuando se recorre el estado. Los eventos posteriores que
+ * alcancen a quedar en la instantánea se ignoran al reproducir, porque aplicar un evento es
+ * idempotente por versión.
+ */
+public class AlmacenDiario implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlmacenDiario.class);
+
+    private final DiarioEventos diario;
+    private final InstantaneasDiario instantaneas;
+    private final InMemorySolicitudRepository solicitudesEnMemoria = new InMemorySolicitudRepository();
+    private final InMemoryUsuarioRepository usuariosEnMemoria = new InMemoryUsuarioRepository();
+    private final ReentrantReadWriteLock barrera = new ReentrantReadWriteLock();
+    private final ReentrantLock tomandoInstantanea = new ReentrantLock();
+    private final DiarioSolicitudRepository solicitudes;
+    private final DiarioUsuarioRepository usuarios;
+    private final ScheduledExecutorService programador;
+    private final long eventosReproducidos;
+
+    private volatile PosicionDiario ultimaInstantanea;
+
+    private AlmacenDiario(DiarioEventos diario, Path directorio, Duration intervaloInstantaneas) throws IOException {
+        this.diario = diario;
+        this.instantaneas = new InstantaneasDiario(directorio);
+
+        PosicionDiario desde = instantaneas.cargarUltima(solicitudesEnMemoria, usuariosEnMemoria)
+                .orElse(PosicionDiario.INICIO);
+        this.ultimaInstantanea = desde;
+        this.eventosReproducidos = new ReconstructorDiario(solicitudesEnMemoria, usuariosEnMemoria)
+                .reproducir(diario, desde);
+
+        this.solicitudes = new DiarioSolicitudRepository(diario, solicitudesEnMemoria, barrera.readLock());
+        this.usuarios = new DiarioUsuarioRepository(diario, usuariosEnMemoria, barrera.readLock());
+
+        if (intervaloInstantaneas != null && !intervaloInstantaneas.isZero() && !intervaloInstantaneas.isNegative()) {
+            long milisegundos = intervaloInstantaneas.toMillis();
+            programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+                Thread hilo = new Thread(tarea, "diario-instantaneas");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+            programador.scheduleWithFixedDelay(this::instantaneaProgramada, milisegundos, milisegundos, TimeUnit.MILLISECONDS);
+        } else {
+            programador = null;
+        }
+    }
+
+    /**
+     * Abre el almacenamiento en el directorio indicado y reconstruye su estado.
+     * @param intervaloInstantaneas Cada cuánto tomar una instantánea en segundo plano; cero para desactivarlas
+     */
+    public static AlmacenDiario abrir(Path directorio, int tamanoSegmento, PoliticaSincronizacion politica,
+                                      Duration intervaloSincronizacion, Duration intervaloInstantaneas)
+            throws IOException {
+        DiarioEventos diario = new DiarioEventos(directorio, tamanoSegmento, politica, intervaloSincronizacion);
+        try {
+            return new AlmacenDiario(diario, directorio, intervaloInstantaneas);
+        } catch (IOException | RuntimeException e) {
+            diario.close();
+            throw e;
+        }
+    }
+
+    public SolicitudRepository solicitudes() {
+        return solicitudes;
+    }
+
+    public UsuarioRepository usuarios() {
+        return usuarios;
+    }
+
+    /**
+     * Cantidad de eventos del diario reproducidos al abrir, después de cargar la instantánea.
+     */
+    public long eventosReproducidos() {
+        return eventosReproducidos;
+    }
+
+    /**
+     * Toma una instantánea del estado actual y descarta los segmentos del diario que ya no hacen falta.
+     * No hace nada si no hubo eventos desde la última instantánea.
+     * @return Posición del diario cubierta por la instantánea
+     */
+    public PosicionDiario tomarInstantanea() throws IOException {
+        tomandoInstantanea.lock();
+        try {
+            PosicionDiario posicion;
+            barrera.writeLock().lock();
+            try {
+                posicion = diario.posicionActual();
+            } finally {
+                barrera.writeLock().unlock();
+            }
+            if (posicion.equals(ultimaInstantanea)) return posicion;
+            // La instantánea no puede apuntar más allá de lo que el diario tiene en disco
+            diario.sincronizar();
+
+            try (Stream<Solicitud> estado = solicitudesEnMemoria.stream(FiltroSolicitudes.todas())) {
+                instantaneas.escribir(posicion, usuariosEnMemoria.findAll(), estado.iterator());
+            }
+            ultimaInstantanea = posicion;
+
+            PosicionDiario masAntigua = instantaneas.posicionMasAntigua().orElse(PosicionDiario.INICIO);
+            diario.descartarAnteriores(masAntigua.segmento());
+            return posicion;
+        } finally {
+            tomandoInstantanea.unlock();
+        }
+    }
+
+    private void instantaneaProgramada() {
+        try {
+            tomarInstantanea();
+        } catch (IOException | UncheckedIOException e) {
+            // Se reintenta en el siguiente intervalo; el diario sigue siendo la fuente de verdad
+            LOG.warn("No fue posible tomar la instantánea del diario", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (programador == null) {
+            diario.close();
+            return;
+        }
+        programador.shutdown();
+        try {
+            programador.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            tomarInstantanea();
+        } finally {
+            diario.close();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Archivo en disco de solicitudes que ya no pueden cambiar, en segmentos inmutables y comprimidos
+ * de solo agregado (ver {@link SegmentoArchivo}).
+ *
+ * Cada llamada a {@link #archivar} escribe un segmento nuevo; los existentes no se modifican nunca.
+ * Los índices dispersos de todos los segmentos se cargan al abrir, así que buscar un id cuesta una
+ * búsqueda binaria por segmento cuyo rango lo incluye y la lectura de un bloque.
+ */
+public final class ArchivoSolicitudes implements AutoCloseable {
+
+    private static final String PREFIJO = "archivo-";
+    private static final String EXTENSION = ".seg";
+
+    private final Path directorio;
+    private final int solicitudesPorBloque;
+    private final List<SegmentoArchivo> segmentos = new CopyOnWriteArrayList<>();
+    private final ReentrantLock escribiendo = new ReentrantLock();
+    private long siguienteSegmento;
+
+    private ArchivoSolicitudes(Path directorio, int solicitudesPorBloque) {
+        this.directorio = directorio;
+        this.solicitudesPorBloque = solicitudesPorBloque;
+    }
+
+    /**
+     * Abre el archivo en el directorio indicado, creándolo si no existe. Los temporales que dejó
+     * una escritura interrumpida se eliminan.
+     * @throws IOException si algún segmento está dañado
+     */
+    public static ArchivoSolicitudes abrir(Path directorio, int solicitudesPorBloque) throws IOException {
+        if (solicitudesPorBloque < 1) throw new IllegalArgumentException("solicitudesPorBloque debe ser positivo");
+        Files.createDirectories(directorio);
+        ArchivoSolicitudes archivo = new ArchivoSolicitudes(directorio, solicitudesPorBloque);
+
+        List<Path> rutas = new ArrayList<>();
+        try (Stream<Path> listado = Files.list(directorio)) {
+            for (Path ruta : listado.toList()) {
+                String nombre = ruta.getFileName().toString();
+                if (!nombre.startsWith(PREFIJO)) continue;
+                if (nombre.endsWith(EXTENSION)) {
+                    rutas.add(ruta);
+                } else {
+                    Files.deleteIfExists(ruta);
+                }
+            }
+        }
+        rutas.sort(Comparator.comparingLong(ArchivoSolicitudes::numeroDe));
+        try {
+            for (Path ruta : rutas) {
+                archivo.segmentos.add(SegmentoArchivo.abrir(ruta));
+                archivo.siguienteSegmento = numeroDe(ruta) + 1;
+            }
+        } catch (IOException | RuntimeException e) {
+            archivo.close();
+            throw e;
+        }
+        return archivo;
+    }
+
+    /**
+     * Escribe las solicitudes en un segmento nuevo y las deja visibles para {@link #buscar}.
+     * Cuando retorna, el segmento ya está sincronizado en disco.
+     */
+    public void archivar(List<Solicitud> solicitudes) throws IOException {
+        if (solicitudes.isEmpty()) return;
+        List<Solicitud> ordenadas = new ArrayList<>(solicitudes);
+        ordenadas.sort(Comparator.comparing(Solicitud::id));
+        for (int i = 1; i < ordenadas.size(); i++) {
+            if (ordenadas.get(i).id().equals(ordenadas.get(i - 1).id())) {
+                throw new IllegalArgumentException("La solicitud " + ordenadas.get(i).id().value() + " está repetida");
+            }
+        }
+
+        escribiendo.lock();
+        try {
+            Path destino = directorio.resolve(String.format("%s%010d%s", PREFIJO, siguienteSegmento, EXTENSION));
+            segmentos.add(SegmentoArchivo.escribir(destino, ordenadas, solicitudesPorBloque));
+            siguienteSegmento++;
+        } finally {
+            escribiendo.unlock();
+        }
+    }
+
+    /**
+     * Busca la solicitud archivada, del segmento más reciente al más antiguo.
+     */
+    public Optional<Solicitud> buscar(SolicitudId id) {
+        try {
+            for (int i = segmentos.size() - 1; i >= 0; i--) {
+                Optional<Solicitud> encontrada = segmentos.get(i).buscar(id);
+                if (encontrada.isPresent()) return encontrada;
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean contiene(SolicitudId id) {
+        return buscar(id).isPresent();
+    }
+
+    /**
+     * Entrega todas las solicitudes archivadas, segmento por segmento.
+     */
+    public void recorrer(Consumer<Solicitud> destino) {
+        try {
+            for (SegmentoArchivo segmento : segmentos) {
+                segmento.recorrer(destino);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long cantidad() {
+        long total = 0;
+        for (SegmentoArchivo segmento : segmentos) {
+            total += segmento.cantidad();
+        }
+        return total;
+    }
+
+    public int cantidadSegmentos() {
+        return segmentos.size();
+    }
+
+    public long bytesEnDisco() throws IOException {
+        long total = 0;
+        for (SegmentoArchivo segmento : segmentos) {
+            total += segmento.tamano();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException primera = null;
+        for (SegmentoArchivo segmento : segmentos) {
+            try {
+                segmento.close();
+            } catch (IOException e) {
+                if (primera == null) primera = e;
+            }
+        }
+        segmentos.clear();
+        if (primera != null) throw primera;
+    }
+
+    private static long numeroDe(Path segmento) {
+        String nombre = segmento.getFileName().toString();
+        return Long.parseLong(nombre.substring(PREFIJO.length(), nombre.length() - EXTENSION.length()));
+    }
+}
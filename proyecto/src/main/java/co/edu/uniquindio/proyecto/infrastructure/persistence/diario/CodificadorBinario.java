@@ -0,0 +1,277 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Codificación binaria compacta del estado de solicitudes y usuarios.
+ *
+ * Los UUID se escriben como dos long, los enums como su ordinal en un byte (-1 para null),
+ * los textos como longitud (int, -1 para null) seguida de sus bytes UTF-8 y los instantes
+ * como segundos y nanosegundos. Las enumeraciones solo admiten agregar valores al final.
+ */
+final class CodificadorBinario {
+
+    private static final byte NULO = -1;
+
+    private CodificadorBinario() {
+    }
+
+    /**
+     * Escritor secuencial sobre un flujo de salida.
+     */
+    static final class Escritor {
+
+        private final ByteArrayOutputStream memoria;
+        private final DataOutputStream salida;
+
+        /** Escritor que acumula los bytes en memoria; ver {@link #bytes()}. */
+        Escritor() {
+            this.memoria = new ByteArrayOutputStream(256);
+            this.salida = new DataOutputStream(memoria);
+        }
+
+        Escritor(OutputStream destino) {
+            this.memoria = null;
+            this.salida = new DataOutputStream(destino);
+        }
+
+        Escritor octeto(int valor) {
+            try {
+                salida.writeByte(valor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        Escritor entero(int valor) {
+            try {
+                salida.writeInt(valor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        Escritor largo(long valor) {
+            try {
+                salida.writeLong(valor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        Escritor booleano(boolean valor) {
+            return octeto(valor ? 1 : 0);
+        }
+
+        Escritor uuid(UUID valor) {
+            return largo(valor.getMostSignificantBits()).largo(valor.getLeastSignificantBits());
+        }
+
+        Escritor enumeracion(Enum<?> valor) {
+            return octeto(valor == null ? NULO : valor.ordinal());
+        }
+
+        Escritor texto(String valor) {
+            if (valor == null) return entero(-1);
+            byte[] utf8 = valor.getBytes(StandardCharsets.UTF_8);
+            entero(utf8.length);
+            try {
+                salida.write(utf8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        Escritor instante(Instant valor) {
+            return largo(valor.getEpochSecond()).entero(valor.getNano());
+        }
+
+        Escritor referencia(UsuarioReferencia valor) {
+            if (valor == null) return booleano(false);
+            return booleano(true).uuid(valor.value()).texto(valor.nombre());
+        }
+
+        void flush() {
+            try {
+                salida.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        byte[] bytes() {
+            return memoria.toByteArray();
+        }
+    }
+
+    static UUID leerUuid(ByteBuffer entrada) {
+        return new UUID(entrada.getLong(), entrada.getLong());
+    }
+
+    static <E extends Enum<E>> E leerEnumeracion(ByteBuffer entrada, E[] valores) {
+        byte ordinal = entrada.get();
+        return ordinal == NULO ? null : valores[ordinal];
+    }
+
+    static String leerTexto(ByteBuffer entrada) {
+        int longitud = entrada.getInt();
+        if (longitud < 0) return null;
+        byte[] utf8 = new byte[longitud];
+        entrada.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    static Instant leerInstante(ByteBuffer entrada) {
+        return Instant.ofEpochSecond(entrada.getLong(), entrada.getInt());
+    }
+
+    static boolean leerBooleano(ByteBuffer entrada) {
+        return entrada.get() != 0;
+    }
+
+    static UsuarioReferencia leerReferencia(ByteBuffer entrada) {
+        if (!leerBooleano(entrada)) return null;
+        return new UsuarioReferencia(leerUuid(entrada), leerTexto(entrada));
+    }
+
+    static void escribirHistorial(Escritor escritor, EntradaHistorial entrada) {
+        escritor.uuid(entrada.id())
+                .instante(entrada.fechaHora())
+                .texto(entrada.accion())
+                .referencia(entrada.usuarioResponsable())
+                .texto(entrada.observacion());
+    }
+
+    static EntradaHistorial leerHistorial(ByteBuffer entrada) {
+        return new EntradaHistorial(leerUuid(entrada), leerInstante(entrada), leerTexto(entrada),
+                leerReferencia(entrada), leerTexto(entrada));
+    }
+
+    static void escribirHistoriales(Escritor escritor, List<EntradaHistorial> entradas) {
+        escritor.entero(entradas.size());
+        for (EntradaHistorial entrada : entradas) {
+            escribirHistorial(escritor, entrada);
+        }
+    }
+
+    static List<EntradaHistorial> leerHistoriales(ByteBuffer entrada) {
+        int cantidad = entrada.getInt();
+        List<EntradaHistorial> entradas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            entradas.add(leerHistorial(entrada));
+        }
+        return entradas;
+    }
+
+    /**
+     * Escribe el estado completo de la solicitud, incluida su versión e historial.
+     */
+    static void escribirSolicitud(Escritor escritor, Solicitud solicitud) {
+        escritor.uuid(solicitud.id().value())
+                .largo(solicitud.version())
+                .referencia(solicitud.solicitante())
+                .enumeracion(solicitud.canalOrigen())
+                .instante(solicitud.fechaRegistro())
+                .texto(solicitud.descripcion().value());
+        escribirEstadoMutable(escritor, solicitud);
+        escribirHistoriales(escritor, solicitud.historial());
+    }
+
+    static Solicitud leerSolicitud(ByteBuffer entrada) {
+        SolicitudId id = new SolicitudId(leerUuid(entrada));
+        long version = entrada.getLong();
+        UsuarioReferencia solicitante = leerReferencia(entrada);
+        CanalOrigen canalOrigen = leerEnumeracion(entrada, CanalOrigen.values());
+        Instant fechaRegistro = leerInstante(entrada);
+        DescripcionSolicitud descripcion = new DescripcionSolicitud(leerTexto(entrada));
+        EstadoMutable estado = leerEstadoMutable(entrada);
+        List<EntradaHistorial> historial = leerHistoriales(entrada);
+        return Solicitud.reconstituir(id, solicitante, canalOrigen, fechaRegistro, descripcion,
+                estado.tipo(), estado.prioridad(), estado.justificacion(), estado.estado(), estado.responsable(),
+                historial, version);
+    }
+
+    /**
+     * Escribe los campos que cambian con las transiciones de la solicitud.
+     */
+    static void escribirEstadoMutable(Escritor escritor, Solicitud solicitud) {
+        escritor.enumeracion(solicitud.tipoSolicitud())
+                .enumeracion(solicitud.prioridad())
+                .texto(solicitud.justificacionPrioridad() == null ? null : solicitud.justificacionPrioridad().value())
+                .enumeracion(solicitud.estado())
+                .referencia(solicitud.responsable());
+    }
+
+    static EstadoMutable leerEstadoMutable(ByteBuffer entrada) {
+        TipoSolicitud tipo = leerEnumeracion(entrada, TipoSolicitud.values());
+        Prioridad prioridad = leerEnumeracion(entrada, Prioridad.values());
+        String justificacion = leerTexto(entrada);
+        EstadoSolicitud estado = leerEnumeracion(entrada, EstadoSolicitud.values());
+        UsuarioReferencia responsable = leerReferencia(entrada);
+        return new EstadoMutable(tipo, prioridad,
+                justificacion == null ? null : new JustificacionPrioridad(justificacion), estado, responsable);
+    }
+
+    /**
+     * Escribe el estado del usuario, los ids de sus solicitudes registradas y su versión.
+     */
+    static void escribirUsuario(Escritor escritor, Usuario usuario) {
+        escritor.uuid(usuario.id().value())
+                .texto(usuario.nombre())
+                .enumeracion(usuario.rol())
+                .booleano(usuario.activo());
+        List<UsuarioReferencia> registradas = usuario.solicitudesRegistradas(0, usuario.cantidadSolicitudesRegistradas());
+        escritor.entero(registradas.size());
+        for (UsuarioReferencia referencia : registradas) {
+            escritor.uuid(referencia.value());
+        }
+        escritor.largo(usuario.version());
+    }
+
+    static Usuario leerUsuario(ByteBuffer entrada) {
+        IdentificacionUsuario id = new IdentificacionUsuario(leerUuid(entrada));
+        String nombre = leerTexto(entrada);
+        Rol rol = leerEnumeracion(entrada, Rol.values());
+        boolean activo = leerBooleano(entrada);
+        int cantidad = entrada.getInt();
+        List<SolicitudId> registradas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            registradas.add(new SolicitudId(leerUuid(entrada)));
+        }
+        long version = entrada.getLong();
+        return Usuario.reconstituir(id, nombre, rol, activo, registradas, version);
+    }
+
+    /** Campos de la solicitud que cambian con las transiciones. */
+    record EstadoMutable(TipoSolicitud tipo, Prioridad prioridad, JustificacionPrioridad justificacion,
+                         EstadoSolicitud estado, UsuarioReferencia responsable) {
+    }
+}
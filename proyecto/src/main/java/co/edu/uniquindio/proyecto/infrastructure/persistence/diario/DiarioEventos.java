@@ -0,0 +1,394 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diario de eventos de solo anexado (append-only), segmentado y mapeado en memoria.
+ *
+ * Cada segmento es un archivo de tamaño fijo mapeado con {@link MappedByteBuffer}. Formato binario:
+ * - Cabecera del segmento: número mágico (int) y versión de formato (int).
+ * - Registros consecutivos: longitud de la carga (int), CRC32C de longitud y carga (int), carga.
+ * Una longitud 0 marca el final de los datos del segmento y un registro nunca cruza segmentos,
+ * por lo que toda escritura es secuencial.
+ *
+ * Cada llamada a {@link #agregar(List)} escribe un solo registro con todo el lote: cantidad de
+ * eventos (int) y cada evento como longitud (int) y bytes. Como el CRC cubre el lote completo,
+ * tras una caída el lote se reproduce entero o no se reproduce.
+ *
+ * Al abrir, el último segmento se recorre validando el CRC de cada registro; lo que sigue al último
+ * registro válido (por ejemplo, un registro a medio escribir cuando el proceso cayó) se descarta
+ * y se sobrescribe con ceros. Antes de pasar al segmento siguiente el actual siempre se fuerza a
+ * disco, de modo que solo el último segmento puede quedar incompleto tras una caída.
+ */
+public class DiarioEventos implements AutoCloseable {
+
+    static final int MAGICO = 0x50515253;
+    static final int VERSION_FORMATO = 1;
+    static final int CABECERA_SEGMENTO = 8;
+    static final int CABECERA_REGISTRO = 8;
+
+    private static final String PREFIJO = "segmento-";
+    private static final String EXTENSION = ".diario";
+
+    /**
+     * Recibe cada registro del diario durante un recorrido.
+     */
+    @FunctionalInterface
+    public interface ConsumidorRegistro {
+        /**
+         * @param carga Carga del registro, de solo lectura
+         * @param siguiente Posición inmediatamente posterior al registro; los eventos de un mismo
+         *                  lote comparten la posición que sigue al lote
+         */
+        void aceptar(ByteBuffer carga, PosicionDiario siguiente);
+    }
+
+    private final Path directorio;
+    private final int tamanoSegmento;
+    private final PoliticaSincronizacion politica;
+    private final ReentrantLock escritura = new ReentrantLock();
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService sincronizador;
+
+    private long segmentoActual;
+    private FileChannel canal;
+    private MappedByteBuffer buffer;
+    private boolean pendienteSincronizar;
+    private boolean cerrado;
+
+    /**
+     * Abre (o crea) el diario en el directorio indicado, recuperando el último segmento si quedó truncado.
+     * @param directorio Directorio de los segmentos
+     * @param tamanoSegmento Tamaño en bytes de cada segmento nuevo
+     * @param politica Política de sincronización a disco
+     * @param intervaloSincronizacion Intervalo de sincronización para {@link PoliticaSincronizacion#PERIODICA}
+     */
+    public DiarioEventos(Path directorio, int tamanoSegmento, PoliticaSincronizacion politica,
+                         Duration intervaloSincronizacion) throws IOException {
+        if (tamanoSegmento <= CABECERA_SEGMENTO + CABECERA_REGISTRO) {
+            throw new IllegalArgumentException("El tamaño de segmento es demasiado pequeño: " + tamanoSegmento);
+        }
+        if (politica == null) throw new IllegalArgumentException("La política de sincronización es obligatoria");
+
+        this.directorio = directorio;
+        this.tamanoSegmento = tamanoSegmento;
+        this.politica = politica;
+
+        Files.createDirectories(directorio);
+        List<Long> existentes = segmentos();
+        if (existentes.isEmpty()) {
+            abrirSegmento(0);
+        } else {
+            abrirSegmento(existentes.get(existentes.size() - 1));
+            int fin = finDeDatos(buffer, CABECERA_SEGMENTO, buffer.capacity());
+            limpiarDesde(fin);
+            buffer.position(fin);
+        }
+
+        if (politica == PoliticaSincronizacion.PERIODICA) {
+            long milisegundos = Math.max(1, intervaloSincronizacion.toMillis());
+            sincronizador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+                Thread hilo = new Thread(tarea, "diario-sincronizacion");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+            sincronizador.scheduleWithFixedDelay(this::sincronizar, milisegundos, milisegundos, TimeUnit.MILLISECONDS);
+        } else {
+            sincronizador = null;
+        }
+    }
+
+    /**
+     * Anexa un registro al final del diario.
+     * @return Posición inmediatamente posterior al registro escrito
+     */
+    public PosicionDiario agregar(byte[] carga) throws IOException {
+        return agregar(List.of(carga));
+    }
+
+    /**
+     * Anexa varios eventos como una sola unidad, con una sola sincronización a disco:
+     * al reabrir se reproducen todos o ninguno.
+     * @return Posición inmediatamente posterior al lote escrito
+     * @throws IllegalArgumentException si el lote no cabe en un segmento; en ese caso no se escribe nada
+     */
+    public PosicionDiario agregar(List<byte[]> cargas) throws IOException {
+        long tamanoLote = Integer.BYTES;
+        for (byte[] carga : cargas) {
+            tamanoLote += Integer.BYTES + carga.length;
+        }
+        if (CABECERA_REGISTRO + tamanoLote > tamanoSegmento - CABECERA_SEGMENTO) {
+            throw new IllegalArgumentException("El lote de " + cargas.size() + " eventos y " + tamanoLote
+                    + " bytes no cabe en un segmento");
+        }
+
+        escritura.lock();
+        try {
+            if (cerrado) throw new IOException("El diario está cerrado");
+            if (cargas.isEmpty()) return new PosicionDiario(segmentoActual, buffer.position());
+            escribir(cargas, (int) tamanoLote);
+            pendienteSincronizar = true;
+            if (politica == PoliticaSincronizacion.SIEMPRE) {
+                forzar();
+            }
+            return new PosicionDiario(segmentoActual, buffer.position());
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Recorre en orden los registros válidos a partir de una posición.
+     * @param desde Posición desde la cual leer; {@link PosicionDiario#INICIO} para todo el diario
+     * @throws IOException si un segmento anterior al último contiene un registro corrupto
+     */
+    public void recorrer(PosicionDiario desde, ConsumidorRegistro consumidor) throws IOException {
+        long ultimo;
+        int limiteUltimo;
+        ByteBuffer vistaUltimo;
+        escritura.lock();
+        try {
+            // Vista y límite del mismo segmento: una rotación posterior reemplaza el buffer
+            ultimo = segmentoActual;
+            limiteUltimo = buffer.position();
+            vistaUltimo = buffer.duplicate();
+        } finally {
+            escritura.unlock();
+        }
+
+        for (long segmento : segmentos()) {
+            if (segmento < desde.segmento() || segmento > ultimo) continue;
+
+            ByteBuffer datos;
+            int limite;
+            if (segmento == ultimo) {
+                datos = vistaUltimo;
+                limite = limiteUltimo;
+            } else {
+                datos = mapearLectura(segmento);
+                limite = datos.capacity();
+            }
+
+            int posicion = segmento == desde.segmento()
+                    ? Math.max(desde.desplazamiento(), CABECERA_SEGMENTO)
+                    : CABECERA_SEGMENTO;
+            int fin = finDeDatos(datos, posicion, limite);
+            if (segmento != ultimo && !esFinLimpio(datos, fin, limite)) {
+                throw new IOException("Registro corrupto en " + archivo(segmento) + " en la posición " + fin);
+            }
+
+            while (posicion < fin) {
+                int longitud = datos.getInt(posicion);
+                int inicio = posicion + CABECERA_REGISTRO;
+                posicion = inicio + longitud;
+                PosicionDiario siguiente = new PosicionDiario(segmento, posicion);
+                int eventos = datos.getInt(inicio);
+                int desplazamiento = inicio + Integer.BYTES;
+                for (int i = 0; i < eventos; i++) {
+                    int longitudEvento = datos.getInt(desplazamiento);
+                    desplazamiento += Integer.BYTES;
+                    consumidor.aceptar(datos.slice(desplazamiento, longitudEvento).asReadOnlyBuffer(), siguiente);
+                    desplazamiento += longitudEvento;
+                }
+            }
+        }
+    }
+
+    /**
+     * Posición donde se escribirá el siguiente registro.
+     */
+    public PosicionDiario posicionActual() {
+        escritura.lock();
+        try {
+            return new PosicionDiario(segmentoActual, buffer.position());
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Elimina los segmentos anteriores al indicado, cuyos eventos ya están cubiertos por una instantánea.
+     * El segmento en escritura nunca se elimina.
+     * @return Cantidad de segmentos eliminados
+     */
+    public int descartarAnteriores(long segmento) throws IOException {
+        long limite;
+        escritura.lock();
+        try {
+            limite = Math.min(segmento, segmentoActual);
+        } finally {
+            escritura.unlock();
+        }
+
+        int eliminados = 0;
+        for (long existente : segmentos()) {
+            if (existente >= limite) break;
+            if (Files.deleteIfExists(archivo(existente))) eliminados++;
+        }
+        return eliminados;
+    }
+
+    /**
+     * Fuerza a disco lo escrito desde la última sincronización.
+     */
+    public void sincronizar() {
+        escritura.lock();
+        try {
+            if (!cerrado && pendienteSincronizar) forzar();
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sincronizador != null) sincronizador.shutdownNow();
+        escritura.lock();
+        try {
+            if (cerrado) return;
+            forzar();
+            canal.close();
+            cerrado = true;
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Escribe el lote como un solo registro; el tamaño ya se validó contra el del segmento.
+     */
+    private void escribir(List<byte[]> cargas, int tamanoLote) throws IOException {
+        if (buffer.remaining() < CABECERA_REGISTRO + tamanoLote) {
+            rotar();
+        }
+        int inicio = buffer.position();
+        buffer.putInt(tamanoLote);
+        buffer.putInt(0);
+        buffer.putInt(cargas.size());
+        for (byte[] carga : cargas) {
+            buffer.putInt(carga.length);
+            buffer.put(carga);
+        }
+        // El CRC se escribe al final: hasta entonces el registro no es válido
+        buffer.putInt(inicio + 4, crc(crc, tamanoLote, buffer, inicio + CABECERA_REGISTRO));
+    }
+
+    private void rotar() throws IOException {
+        forzar();
+        canal.close();
+        abrirSegmento(segmentoActual + 1);
+    }
+
+    private void forzar() {
+        buffer.force();
+        pendienteSincronizar = false;
+    }
+
+    private void abrirSegmento(long segmento) throws IOException {
+        FileChannel nuevoCanal = FileChannel.open(archivo(segmento),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long tamano = Math.max(nuevoCanal.size(), tamanoSegmento);
+        MappedByteBuffer nuevoBuffer = nuevoCanal.map(FileChannel.MapMode.READ_WRITE, 0, tamano);
+
+        int magico = nuevoBuffer.getInt(0);
+        if (magico == 0) {
+            // Segmento nuevo, o creado justo antes de una caída
+            nuevoBuffer.putInt(0, MAGICO);
+            nuevoBuffer.putInt(4, VERSION_FORMATO);
+        } else if (magico != MAGICO || nuevoBuffer.getInt(4) != VERSION_FORMATO) {
+            nuevoCanal.close();
+            throw new IOException("Formato de segmento no reconocido: " + archivo(segmento));
+        }
+        nuevoBuffer.position(CABECERA_SEGMENTO);
+
+        this.segmentoActual = segmento;
+        this.canal = nuevoCanal;
+        this.buffer = nuevoBuffer;
+    }
+
+    /**
+     * Devuelve la posición que sigue al último registro válido a partir de {@code desde}.
+     */
+    private int finDeDatos(ByteBuffer datos, int desde, int limite) {
+        int posicion = desde;
+        while (posicion + CABECERA_REGISTRO <= limite) {
+            int longitud = datos.getInt(posicion);
+            if (longitud <= 0 || longitud > limite - posicion - CABECERA_REGISTRO) break;
+            if (datos.getInt(posicion + 4) != crc(new CRC32C(), longitud, datos, posicion + CABECERA_REGISTRO)) break;
+            posicion += CABECERA_REGISTRO + longitud;
+        }
+        return posicion;
+    }
+
+    private static boolean esFinLimpio(ByteBuffer datos, int fin, int limite) {
+        return fin + CABECERA_REGISTRO > limite || datos.getInt(fin) == 0;
+    }
+
+    /**
+     * Sobrescribe con ceros lo que queda después del último registro válido, para que un
+     * registro truncado no se confunda con datos al seguir escribiendo.
+     */
+    private void limpiarDesde(int fin) {
+        int posicion = fin;
+        int limite = buffer.capacity();
+        while (posicion + Long.BYTES <= limite) {
+            if (buffer.getLong(posicion) != 0) buffer.putLong(posicion, 0);
+            posicion += Long.BYTES;
+        }
+        while (posicion < limite) {
+            buffer.put(posicion++, (byte) 0);
+        }
+        if (fin < limite) buffer.force();
+    }
+
+    /**
+     * CRC32C de la longitud y la carga. Al escribir se reutiliza el del diario bajo el candado;
+     * los recorridos usan uno propio.
+     */
+    private static int crc(CRC32C calculo, int longitud, ByteBuffer datos, int desde) {
+        calculo.reset();
+        calculo.update(longitud >>> 24);
+        calculo.update(longitud >>> 16);
+        calculo.update(longitud >>> 8);
+        calculo.update(longitud);
+        calculo.update(datos.slice(desde, longitud));
+        return (int) calculo.getValue();
+    }
+
+    private ByteBuffer mapearLectura(long segmento) throws IOException {
+        try (FileChannel lectura = FileChannel.open(archivo(segmento), StandardOpenOption.READ)) {
+            return lectura.map(FileChannel.MapMode.READ_ONLY, 0, lectura.size());
+        }
+    }
+
+    private List<Long> segmentos() throws IOException {
+        List<Long> numeros = new ArrayList<>();
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            archivos.map(ruta -> ruta.getFileName().toString())
+                    .filter(nombre -> nombre.startsWith(PREFIJO) && nombre.endsWith(EXTENSION))
+                    .forEach(nombre -> numeros.add(Long.parseLong(
+                            nombre.substring(PREFIJO.length(), nombre.length() - EXTENSION.length()))));
+        }
+        numeros.sort(null);
+        return numeros;
+    }
+
+    Path archivo(long segmento) {
+        return directorio.resolve(String.format("%s%020d%s", PREFIJO, segmento, EXTENSION));
+    }
+}
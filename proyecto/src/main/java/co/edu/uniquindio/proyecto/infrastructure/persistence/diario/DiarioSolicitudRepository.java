@@ -0,0 +1,218 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.FiltroSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * {@link SolicitudRepository} durable respaldado por el {@link DiarioEventos}.
+ *
+ * Cada guardado anexa un evento al diario y después lo aplica al repositorio en memoria,
+ * que atiende todas las lecturas. Un cambio solo se vuelve visible cuando ya está en el
+ * diario, y las escrituras sobre una misma solicitud se serializan con un candado por franja
+ * para que el orden de sus eventos en el diario coincida con el orden en que se aplicaron.
+ */
+public class DiarioSolicitudRepository implements SolicitudRepository {
+
+    private static final int FRANJAS = 64;
+
+    private final DiarioEventos diario;
+    private final InMemorySolicitudRepository memoria;
+    private final Lock barrera;
+    private final ReentrantLock[] candados = new ReentrantLock[FRANJAS];
+
+    DiarioSolicitudRepository(DiarioEventos diario, InMemorySolicitudRepository memoria, Lock barrera) {
+        this.diario = diario;
+        this.memoria = memoria;
+        this.barrera = barrera;
+        for (int i = 0; i < FRANJAS; i++) {
+            candados[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Solicitud save(Solicitud solicitud) {
+        if (solicitud == null) throw new IllegalArgumentException("La solicitud no puede ser null");
+
+        ReentrantLock candado = candadoPara(solicitud.id());
+        candado.lock();
+        try {
+            Optional<Solicitud> anterior = memoria.findById(solicitud.id());
+            long versionActual = anterior.map(Solicitud::version).orElse(0L);
+            if (solicitud.version() != versionActual) {
+                throw new ConcurrencyConflict("La solicitud " + solicitud.id().value() + " fue modificada por otra operación");
+            }
+
+            Solicitud guardada = solicitud.copiaConVersion(versionActual + 1);
+            byte[] evento = anterior.isEmpty()
+                    ? EventosDiario.solicitudRegistrada(guardada)
+                    : EventosDiario.solicitudActualizada(anterior.get().historial().size(), guardada);
+            return anexarYAplicar(List.of(evento), () -> memoria.save(solicitud));
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Verifica las versiones de todo el lote y lo anexa al diario en una sola escritura
+     * (una sola sincronización a disco); si alguna versión está desactualizada no se guarda ninguna.
+     */
+    @Override
+    public List<Solicitud> saveAll(List<Solicitud> lote) {
+        if (lote.isEmpty()) return List.of();
+
+        List<ReentrantLock> tomados = candadosPara(lote);
+        tomados.forEach(ReentrantLock::lock);
+        try {
+            List<byte[]> eventos = new ArrayList<>(lote.size());
+            Set<SolicitudId> vistas = new HashSet<>();
+            for (Solicitud solicitud : lote) {
+                if (!vistas.add(solicitud.id())) {
+                    throw new IllegalArgumentException("La solicitud " + solicitud.id().value() + " aparece más de una vez en el lote");
+                }
+                Optional<Solicitud> anterior = memoria.findById(solicitud.id());
+                long versionActual = anterior.map(Solicitud::version).orElse(0L);
+                if (solicitud.version() != versionActual) {
+                    throw new ConcurrencyConflict("La solicitud " + solicitud.id().value() + " fue modificada por otra operación");
+                }
+                Solicitud guardada = solicitud.copiaConVersion(versionActual + 1);
+                eventos.add(anterior.isEmpty()
+                        ? EventosDiario.solicitudRegistrada(guardada)
+                        : EventosDiario.solicitudActualizada(anterior.get().historial().size(), guardada));
+            }
+
+            return anexarYAplicar(eventos, () -> {
+                List<Solicitud> guardadas = new ArrayList<>(lote.size());
+                for (Solicitud solicitud : lote) {
+                    guardadas.add(memoria.save(solicitud));
+                }
+                return guardadas;
+            });
+        } finally {
+            for (int i = tomados.size() - 1; i >= 0; i--) {
+                tomados.get(i).unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Solicitud> findById(SolicitudId id) {
+        return memoria.findById(id);
+    }
+
+    @Override
+    public OptionalLong findVersionById(SolicitudId id) {
+        return memoria.findVersionById(id);
+    }
+
+    @Override
+    public List<Solicitud> findAll() {
+        return memoria.findAll();
+    }
+
+    @Override
+    public List<Solicitud> findBySolicitanteId(UUID solicitanteId) {
+        return memoria.findBySolicitanteId(solicitanteId);
+    }
+
+    @Override
+    public List<Solicitud> findByResponsableId(UUID responsableId) {
+        return memoria.findByResponsableId(responsableId);
+    }
+
+    @Override
+    public List<Solicitud> findByEstado(EstadoSolicitud estado) {
+        return memoria.findByEstado(estado);
+    }
+
+    @Override
+    public List<Solicitud> findPage(FiltroSolicitudes filtro, SolicitudId despuesDe, int limite) {
+        return memoria.findPage(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public Stream<Solicitud> stream(FiltroSolicitudes filtro) {
+        return memoria.stream(filtro);
+    }
+
+    @Override
+    public void delete(Solicitud solicitud) {
+        if (solicitud == null) return;
+
+        ReentrantLock candado = candadoPara(solicitud.id());
+        candado.lock();
+        try {
+            if (!memoria.existsById(solicitud.id())) return;
+            anexarYAplicar(List.of(EventosDiario.solicitudEliminada(solicitud.id())), () -> {
+                memoria.delete(solicitud);
+                return null;
+            });
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(SolicitudId id) {
+        return memoria.existsById(id);
+    }
+
+    /**
+     * Anexa el evento y aplica el cambio en memoria dentro de la barrera de instantáneas, de modo
+     * que una instantánea nunca toma una posición del diario cuyo evento aún no se ve en memoria.
+     */
+    private <T> T anexarYAplicar(List<byte[]> eventos, Supplier<T> aplicar) {
+        barrera.lock();
+        try {
+            diario.agregar(eventos);
+            return aplicar.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible escribir en el diario de eventos", e);
+        } finally {
+            barrera.unlock();
+        }
+    }
+
+    private ReentrantLock candadoPara(SolicitudId id) {
+        return candados[franja(id)];
+    }
+
+    /**
+     * Candados de las franjas que toca el lote, sin repetir y en orden de franja para que dos
+     * lotes concurrentes los tomen siempre en el mismo orden y no se bloqueen mutuamente.
+     */
+    private List<ReentrantLock> candadosPara(List<Solicitud> lote) {
+        BitSet franjas = new BitSet(FRANJAS);
+        for (Solicitud solicitud : lote) {
+            franjas.set(franja(solicitud.id()));
+        }
+        List<ReentrantLock> tomados = new ArrayList<>(franjas.cardinality());
+        for (int i = franjas.nextSetBit(0); i >= 0; i = franjas.nextSetBit(i + 1)) {
+            tomados.add(candados[i]);
+        }
+        return tomados;
+    }
+
+    private static int franja(SolicitudId id) {
+        return Math.floorMod(id.hashCode(), FRANJAS);
+    }
+}
@@ -0,0 +1,164 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link UsuarioRepository} durable respaldado por el {@link DiarioEventos}.
+ *
+ * Cada guardado anexa el estado completo del usuario; se codifica bajo un candado por franja
+ * para que el último evento de un usuario en el diario refleje siempre su último estado.
+ * Como en {@link DiarioSolicitudRepository}, la versión se verifica antes de anexar y la nueva
+ * instancia solo reemplaza a la anterior en memoria cuando el evento ya está en el diario.
+ */
+public class DiarioUsuarioRepository implements UsuarioRepository {
+
+    private static final int FRANJAS = 16;
+
+    private final DiarioEventos diario;
+    private final InMemoryUsuarioRepository memoria;
+    private final Lock barrera;
+    private final ReentrantLock[] candados = new ReentrantLock[FRANJAS];
+
+    DiarioUsuarioRepository(DiarioEventos diario, InMemoryUsuarioRepository memoria, Lock barrera) {
+        this.diario = diario;
+        this.memoria = memoria;
+        this.barrera = barrera;
+        for (int i = 0; i < FRANJAS; i++) {
+            candados[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        if (usuario == null) throw new IllegalArgumentException("El usuario no puede ser null");
+
+        ReentrantLock candado = candadoPara(usuario.id());
+        candado.lock();
+        try {
+            byte[] evento = EventosDiario.usuarioGuardado(conVersionSiguiente(usuario));
+            return anexarYAplicar(List.of(evento), () -> memoria.save(usuario));
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Verifica las versiones de todo el lote y anexa el estado de todos los usuarios en una sola
+     * escritura del diario; si alguna versión está desactualizada no se guarda ninguno.
+     */
+    @Override
+    public void saveAll(Collection<Usuario> lote) {
+        if (lote.isEmpty()) return;
+
+        BitSet franjas = new BitSet(FRANJAS);
+        for (Usuario usuario : lote) {
+            franjas.set(franja(usuario.id()));
+        }
+        // En orden de franja, como en DiarioSolicitudRepository, para no bloquearse con otro lote
+        List<ReentrantLock> tomados = new ArrayList<>(franjas.cardinality());
+        for (int i = franjas.nextSetBit(0); i >= 0; i = franjas.nextSetBit(i + 1)) {
+            candados[i].lock();
+            tomados.add(candados[i]);
+        }
+        try {
+            List<byte[]> eventos = new ArrayList<>(lote.size());
+            Set<IdentificacionUsuario> vistos = new HashSet<>();
+            for (Usuario usuario : lote) {
+                if (!vistos.add(usuario.id())) {
+                    throw new IllegalArgumentException("El usuario " + usuario.id().value() + " aparece más de una vez en el lote");
+                }
+                eventos.add(EventosDiario.usuarioGuardado(conVersionSiguiente(usuario)));
+            }
+            anexarYAplicar(eventos, () -> {
+                memoria.saveAll(lote);
+                return null;
+            });
+        } finally {
+            for (int i = tomados.size() - 1; i >= 0; i--) {
+                tomados.get(i).unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Usuario> findById(IdentificacionUsuario id) {
+        return memoria.findById(id);
+    }
+
+    @Override
+    public List<Usuario> findAll() {
+        return memoria.findAll();
+    }
+
+    @Override
+    public void delete(Usuario usuario) {
+        if (usuario == null) return;
+
+        ReentrantLock candado = candadoPara(usuario.id());
+        candado.lock();
+        try {
+            if (!memoria.existsById(usuario.id())) return;
+            anexarYAplicar(List.of(EventosDiario.usuarioEliminado(usuario.id())), () -> {
+                memoria.delete(usuario);
+                return null;
+            });
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(IdentificacionUsuario id) {
+        return memoria.existsById(id);
+    }
+
+    /** Igual que en {@link DiarioSolicitudRepository}: evento y cambio dentro de la barrera. */
+    private <T> T anexarYAplicar(List<byte[]> eventos, Supplier<T> aplicar) {
+        barrera.lock();
+        try {
+            diario.agregar(eventos);
+            return aplicar.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible escribir en el diario de eventos", e);
+        } finally {
+            barrera.unlock();
+        }
+    }
+
+    /**
+     * Usuario con la versión que tendrá una vez guardado; quien llama ya tiene su candado.
+     * @throws ConcurrencyConflict si la versión no es la almacenada
+     */
+    private Usuario conVersionSiguiente(Usuario usuario) {
+        long versionActual = memoria.versionActual(usuario.id());
+        if (usuario.version() != versionActual) {
+            throw new ConcurrencyConflict("El usuario " + usuario.id().value() + " fue modificado por otra operación");
+        }
+        return usuario.copiaConVersion(versionActual + 1);
+    }
+
+    private ReentrantLock candadoPara(IdentificacionUsuario id) {
+        return candados[franja(id)];
+    }
+
+    private static int franja(IdentificacionUsuario id) {
+        return Math.floorMod(id.hashCode(), FRANJAS);
+    }
+}
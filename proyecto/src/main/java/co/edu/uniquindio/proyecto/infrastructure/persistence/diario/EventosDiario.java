@@ -0,0 +1,66 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+
+import java.util.List;
+
+/**
+ * Eventos que se anexan al diario. Cada carga empieza con un byte que identifica el tipo.
+ *
+ * Un alta escribe el estado completo de la solicitud; una transición solo escribe los campos
+ * que cambian con las transiciones y las entradas de historial nuevas, de modo que el costo
+ * de cada escritura no crece con el historial acumulado.
+ */
+final class EventosDiario {
+
+    static final byte SOLICITUD_REGISTRADA = 1;
+    static final byte SOLICITUD_ACTUALIZADA = 2;
+    static final byte SOLICITUD_ELIMINADA = 3;
+    static final byte USUARIO_GUARDADO = 4;
+    static final byte USUARIO_ELIMINADO = 5;
+
+    private EventosDiario() {
+    }
+
+    /**
+     * @param guardada Solicitud con la versión que tendrá una vez guardada
+     */
+    static byte[] solicitudRegistrada(Solicitud guardada) {
+        CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor().octeto(SOLICITUD_REGISTRADA);
+        CodificadorBinario.escribirSolicitud(escritor, guardada);
+        return escritor.bytes();
+    }
+
+    /**
+     * @param historialPrevio Cantidad de entradas de historial que ya estaban persistidas
+     * @param guardada Solicitud con la versión que tendrá una vez guardada
+     */
+    static byte[] solicitudActualizada(int historialPrevio, Solicitud guardada) {
+        CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor()
+                .octeto(SOLICITUD_ACTUALIZADA)
+                .uuid(guardada.id().value())
+                .largo(guardada.version());
+        CodificadorBinario.escribirEstadoMutable(escritor, guardada);
+        List<EntradaHistorial> historial = guardada.historial();
+        CodificadorBinario.escribirHistoriales(escritor, historial.subList(historialPrevio, historial.size()));
+        return escritor.bytes();
+    }
+
+    static byte[] solicitudEliminada(SolicitudId id) {
+        return new CodificadorBinario.Escritor().octeto(SOLICITUD_ELIMINADA).uuid(id.value()).bytes();
+    }
+
+    static byte[] usuarioGuardado(Usuario usuario) {
+        CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor().octeto(USUARIO_GUARDADO);
+        CodificadorBinario.escribirUsuario(escritor, usuario);
+        return escritor.bytes();
+    }
+
+    static byte[] usuarioEliminado(IdentificacionUsuario id) {
+        return new CodificadorBinario.Escritor().octeto(USUARIO_ELIMINADO).uuid(id.value()).bytes();
+    }
+}
@@ -0,0 +1,168 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Instantáneas binarias del estado completo, usadas para no reproducir todo el diario al arrancar.
+ *
+ * Formato: número mágico (int), versión de formato (int), posición del diario desde la cual
+ * reproducir (long, int), usuarios y solicitudes precedidos cada uno por un byte 1 y terminados
+ * con un byte 0, y al final el CRC32C (int) de todo lo anterior. Se codifican con
+ * {@link CodificadorBinario}: enums como ordinal y UUID como dos long.
+ *
+ * Cada instantánea se escribe en un archivo temporal y se renombra de forma atómica al terminar,
+ * por lo que una caída durante la escritura nunca deja una instantánea a medias con nombre válido.
+ * Se conservan las {@value #CONSERVAR} más recientes.
+ */
+final class InstantaneasDiario {
+
+    static final int MAGICO = 0x50515349;
+    static final int VERSION_FORMATO = 1;
+    static final int CONSERVAR = 2;
+
+    private static final String PREFIJO = "instantanea-";
+    private static final String EXTENSION = ".bin";
+    private static final String TEMPORAL = ".tmp";
+
+    private final Path directorio;
+
+    InstantaneasDiario(Path directorio) {
+        this.directorio = directorio;
+    }
+
+    /**
+     * Escribe una instantánea del estado y elimina las que ya no se conservan.
+     * @param posicion Posición del diario hasta la cual el estado ya incluye todos los eventos
+     */
+    void escribir(PosicionDiario posicion, Collection<Usuario> usuarios, Iterator<Solicitud> solicitudes)
+            throws IOException {
+        Path destino = archivo(posicion);
+        Path temporal = destino.resolveSibling(destino.getFileName() + TEMPORAL);
+
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            OutputStream salida = new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(canal), crc), 64 * 1024);
+            CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor(salida)
+                    .entero(MAGICO)
+                    .entero(VERSION_FORMATO)
+                    .largo(posicion.segmento())
+                    .entero(posicion.desplazamiento());
+            for (Usuario usuario : usuarios) {
+                CodificadorBinario.escribirUsuario(escritor.octeto(1), usuario);
+            }
+            escritor.octeto(0);
+            while (solicitudes.hasNext()) {
+                CodificadorBinario.escribirSolicitud(escritor.octeto(1), solicitudes.next());
+            }
+            escritor.octeto(0);
+            escritor.flush();
+
+            canal.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) crc.getValue()));
+            canal.force(true);
+        }
+        Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> existentes = instantaneas();
+        for (int i = 0; i < existentes.size() - CONSERVAR; i++) {
+            Files.deleteIfExists(existentes.get(i));
+        }
+    }
+
+    /**
+     * Carga la instantánea válida más reciente en los repositorios indicados.
+     * Una instantánea con CRC inválido se ignora y se intenta con la anterior.
+     * @return Posición desde la cual reproducir el diario, o vacío si no hay instantánea válida
+     */
+    Optional<PosicionDiario> cargarUltima(InMemorySolicitudRepository solicitudes, InMemoryUsuarioRepository usuarios)
+            throws IOException {
+        List<Path> existentes = instantaneas();
+        for (int i = existentes.size() - 1; i >= 0; i--) {
+            ByteBuffer datos = leerValida(existentes.get(i));
+            if (datos == null) continue;
+
+            PosicionDiario posicion = new PosicionDiario(datos.getLong(), datos.getInt());
+            while (datos.get() != 0) {
+                usuarios.restaurar(CodificadorBinario.leerUsuario(datos));
+            }
+            while (datos.get() != 0) {
+                solicitudes.restaurar(CodificadorBinario.leerSolicitud(datos));
+            }
+            return Optional.of(posicion);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Posición de la instantánea conservada más antigua: el diario anterior a ella ya no se necesita.
+     */
+    Optional<PosicionDiario> posicionMasAntigua() throws IOException {
+        List<Path> existentes = instantaneas();
+        return existentes.isEmpty() ? Optional.empty() : Optional.of(posicionDe(existentes.get(0)));
+    }
+
+    /**
+     * Mapea la instantánea y verifica cabecera y CRC; devuelve el buffer posicionado tras la cabecera.
+     */
+    private static ByteBuffer leerValida(Path instantanea) throws IOException {
+        ByteBuffer datos;
+        try (FileChannel canal = FileChannel.open(instantanea, StandardOpenOption.READ)) {
+            if (canal.size() < 20 + Integer.BYTES) return null;
+            datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        int finDatos = datos.capacity() - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(datos.slice(0, finDatos));
+        if ((int) crc.getValue() != datos.getInt(finDatos)) return null;
+        if (datos.getInt(0) != MAGICO || datos.getInt(4) != VERSION_FORMATO) return null;
+
+        return datos.limit(finDatos).position(8);
+    }
+
+    private List<Path> instantaneas() throws IOException {
+        List<Path> archivos = new ArrayList<>();
+        try (Stream<Path> listado = Files.list(directorio)) {
+            listado.filter(ruta -> {
+                String nombre = ruta.getFileName().toString();
+                return nombre.startsWith(PREFIJO) && nombre.endsWith(EXTENSION);
+            }).forEach(archivos::add);
+        }
+        archivos.sort(Comparator.comparing(InstantaneasDiario::posicionDe));
+        return archivos;
+    }
+
+    private Path archivo(PosicionDiario posicion) {
+        return directorio.resolve(String.format("%s%020d-%010d%s",
+                PREFIJO, posicion.segmento(), posicion.desplazamiento(), EXTENSION));
+    }
+
+    private static PosicionDiario posicionDe(Path instantanea) {
+        String nombre = instantanea.getFileName().toString();
+        String[] partes = nombre.substring(PREFIJO.length(), nombre.length() - EXTENSION.length()).split("-");
+        return new PosicionDiario(Long.parseLong(partes[0]), Integer.parseInt(partes[1]));
+    }
+}
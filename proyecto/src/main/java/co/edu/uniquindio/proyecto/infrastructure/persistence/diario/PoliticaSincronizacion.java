@@ -0,0 +1,13 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+/**
+ * Cuándo se fuerza a disco (fsync) lo escrito en el diario de eventos.
+ */
+public enum PoliticaSincronizacion {
+    /** Después de cada escritura: no se pierde ningún evento confirmado, a costa de latencia. */
+    SIEMPRE,
+    /** En segundo plano cada cierto intervalo: una caída puede perder los últimos eventos de ese intervalo. */
+    PERIODICA,
+    /** Nunca de forma explícita: el sistema operativo decide cuándo escribir las páginas. */
+    NUNCA
+}
@@ -0,0 +1,15 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+/**
+ * Posición dentro del diario de eventos: número de segmento y desplazamiento en bytes.
+ */
+public record PosicionDiario(long segmento, int desplazamiento) implements Comparable<PosicionDiario> {
+
+    public static final PosicionDiario INICIO = new PosicionDiario(0, 0);
+
+    @Override
+    public int compareTo(PosicionDiario otra) {
+        int porSegmento = Long.compare(segmento, otra.segmento);
+        return porSegmento != 0 ? porSegmento : Integer.compare(desplazamiento, otra.desplazamiento);
+    }
+}
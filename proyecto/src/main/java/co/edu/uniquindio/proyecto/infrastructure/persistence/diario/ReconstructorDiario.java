@@ -0,0 +1,100 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.HistorialSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reconstruye los agregados en memoria reproduciendo los eventos del diario.
+ *
+ * Aplicar un evento es idempotente: un evento de solicitud cuya versión no es posterior a la
+ * ya cargada se ignora, de modo que se puede reproducir el diario sobre un estado que ya
+ * incluye parte de los eventos.
+ */
+class ReconstructorDiario {
+
+    private final InMemorySolicitudRepository solicitudes;
+    private final InMemoryUsuarioRepository usuarios;
+
+    ReconstructorDiario(InMemorySolicitudRepository solicitudes, InMemoryUsuarioRepository usuarios) {
+        this.solicitudes = solicitudes;
+        this.usuarios = usuarios;
+    }
+
+    /**
+     * Reproduce el diario desde la posición indicada.
+     * @return Cantidad de eventos leídos
+     */
+    long reproducir(DiarioEventos diario, PosicionDiario desde) throws IOException {
+        long[] eventos = {0};
+        diario.recorrer(desde, (carga, siguiente) -> {
+            aplicar(carga);
+            eventos[0]++;
+        });
+        return eventos[0];
+    }
+
+    void aplicar(ByteBuffer carga) {
+        byte tipo = carga.get();
+        switch (tipo) {
+            case EventosDiario.SOLICITUD_REGISTRADA -> {
+                Solicitud solicitud = CodificadorBinario.leerSolicitud(carga);
+                if (versionCargada(solicitud.id()) < solicitud.version()) {
+                    solicitudes.restaurar(solicitud);
+                }
+            }
+            case EventosDiario.SOLICITUD_ACTUALIZADA -> aplicarActualizacion(carga);
+            case EventosDiario.SOLICITUD_ELIMINADA -> {
+                SolicitudId id = new SolicitudId(CodificadorBinario.leerUuid(carga));
+                solicitudes.findById(id).ifPresent(solicitudes::delete);
+            }
+            case EventosDiario.USUARIO_GUARDADO -> restaurarUsuario(CodificadorBinario.leerUsuario(carga));
+            case EventosDiario.USUARIO_ELIMINADO -> {
+                IdentificacionUsuario id = new IdentificacionUsuario(CodificadorBinario.leerUuid(carga));
+                usuarios.findById(id).ifPresent(usuarios::delete);
+            }
+            default -> throw new IllegalStateException("Tipo de evento desconocido en el diario: " + tipo);
+        }
+    }
+
+    /** Como con las solicitudes, un evento anterior a lo ya cargado no se aplica. */
+    private void restaurarUsuario(Usuario usuario) {
+        if (usuarios.versionActual(usuario.id()) < usuario.version()) {
+            usuarios.restaurar(usuario);
+        }
+    }
+
+    private void aplicarActualizacion(ByteBuffer carga) {
+        SolicitudId id = new SolicitudId(CodificadorBinario.leerUuid(carga));
+        long version = carga.getLong();
+        Optional<Solicitud> cargada = solicitudes.findById(id);
+        if (cargada.isPresent() && cargada.get().version() >= version) return;
+        if (cargada.isEmpty()) {
+            throw new IllegalStateException("El diario actualiza la solicitud " + id.value() + " sin haberla registrado");
+        }
+
+        Solicitud anterior = cargada.get();
+        CodificadorBinario.EstadoMutable estado = CodificadorBinario.leerEstadoMutable(carga);
+        // Agrega sobre el historial ya cargado sin copiarlo: reproducir no crece con su longitud
+        List<EntradaHistorial> historial = HistorialSolicitud.de(anterior.historial())
+                .agregarTodas(CodificadorBinario.leerHistoriales(carga)).vista();
+
+        solicitudes.restaurar(Solicitud.reconstituir(anterior.id(), anterior.solicitante(), anterior.canalOrigen(),
+                anterior.fechaRegistro(), anterior.descripcion(), estado.tipo(), estado.prioridad(),
+                estado.justificacion(), estado.estado(), estado.responsable(), historial, version));
+    }
+
+    private long versionCargada(SolicitudId id) {
+        return solicitudes.findById(id).map(Solicitud::version).orElse(0L);
+    }
+}
@@ -0,0 +1,294 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Un segmento inmutable del archivo de solicitudes cerradas.
+ *
+ * Formato: número mágico (int) y versión de formato (int); después los bloques, cada uno con su
+ * longitud comprimida (int), longitud original (int), CRC32C de los bytes comprimidos (int) y los
+ * bytes comprimidos con Deflate. Un bloque descomprimido son hasta {@code solicitudesPorBloque}
+ * solicitudes en orden de id, cada una precedida por su longitud (int) y codificada con
+ * {@link CodificadorBinario}. Luego el índice disperso: cantidad de bloques (int), el primer id y
+ * la posición de cada bloque (tres long), el último id del segmento (dos long) y la cantidad de
+ * solicitudes (int). Al final, la posición del índice (long), su CRC32C (int) y el número mágico.
+ *
+ * El índice se mantiene en memoria: buscar un id lee y descomprime un solo bloque.
+ */
+final class SegmentoArchivo implements AutoCloseable {
+
+    static final int MAGICO = 0x50515341;
+    static final int VERSION_FORMATO = 1;
+
+    private static final int CABECERA = 2 * Integer.BYTES;
+    private static final int CABECERA_BLOQUE = 3 * Integer.BYTES;
+    private static final int PIE = Long.BYTES + 2 * Integer.BYTES;
+    private static final String TEMPORAL = ".tmp";
+
+    private final Path ruta;
+    private final FileChannel canal;
+    private final long[] primerAlto;
+    private final long[] primerBajo;
+    private final long[] posiciones;
+    private final long ultimoAlto;
+    private final long ultimoBajo;
+    private final int cantidad;
+
+    private SegmentoArchivo(Path ruta, FileChannel canal, long[] primerAlto, long[] primerBajo, long[] posiciones,
+                            long ultimoAlto, long ultimoBajo, int cantidad) {
+        this.ruta = ruta;
+        this.canal = canal;
+        this.primerAlto = primerAlto;
+        this.primerBajo = primerBajo;
+        this.posiciones = posiciones;
+        this.ultimoAlto = ultimoAlto;
+        this.ultimoBajo = ultimoBajo;
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Escribe un segmento con las solicitudes dadas, ya ordenadas por id y sin repetidos. Se escribe
+     * en un archivo temporal que se renombra de forma atómica al terminar.
+     */
+    static SegmentoArchivo escribir(Path destino, List<Solicitud> ordenadas, int solicitudesPorBloque) throws IOException {
+        int bloques = (ordenadas.size() + solicitudesPorBloque - 1) / solicitudesPorBloque;
+        long[] primerAlto = new long[bloques];
+        long[] primerBajo = new long[bloques];
+        long[] posiciones = new long[bloques];
+        Path temporal = destino.resolveSibling(destino.getFileName() + TEMPORAL);
+
+        Deflater compresor = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (FileChannel salida = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            escribirTodo(salida, ByteBuffer.allocate(CABECERA).putInt(MAGICO).putInt(VERSION_FORMATO).flip());
+
+            for (int bloque = 0; bloque < bloques; bloque++) {
+                int desde = bloque * solicitudesPorBloque;
+                List<Solicitud> contenido = ordenadas.subList(desde, Math.min(ordenadas.size(), desde + solicitudesPorBloque));
+                UUID primero = contenido.getFirst().id().value();
+                primerAlto[bloque] = primero.getMostSignificantBits();
+                primerBajo[bloque] = primero.getLeastSignificantBits();
+                posiciones[bloque] = salida.position();
+                escribirBloque(salida, compresor, contenido);
+            }
+
+            long posicionIndice = salida.position();
+            UUID ultimo = ordenadas.getLast().id().value();
+            ByteBuffer indice = ByteBuffer.allocate(Integer.BYTES + bloques * 3 * Long.BYTES + 2 * Long.BYTES + Integer.BYTES);
+            indice.putInt(bloques);
+            for (int i = 0; i < bloques; i++) {
+                indice.putLong(primerAlto[i]).putLong(primerBajo[i]).putLong(posiciones[i]);
+            }
+            indice.putLong(ultimo.getMostSignificantBits()).putLong(ultimo.getLeastSignificantBits())
+                    .putInt(ordenadas.size()).flip();
+            CRC32C crc = new CRC32C();
+            crc.update(indice.duplicate());
+            escribirTodo(salida, indice);
+            escribirTodo(salida, ByteBuffer.allocate(PIE)
+                    .putLong(posicionIndice).putInt((int) crc.getValue()).putInt(MAGICO).flip());
+            salida.force(true);
+        } finally {
+            compresor.end();
+        }
+        Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return abrir(destino);
+    }
+
+    private static void escribirBloque(FileChannel salida, Deflater compresor, List<Solicitud> contenido)
+            throws IOException {
+        ByteArrayOutputStream original = new ByteArrayOutputStream(contenido.size() * 512);
+        for (Solicitud solicitud : contenido) {
+            CodificadorBinario.Escritor escritor = new CodificadorBinario.Escritor();
+            CodificadorBinario.escribirSolicitud(escritor, solicitud);
+            byte[] bytes = escritor.bytes();
+            original.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            original.writeBytes(bytes);
+        }
+        byte[] entrada = original.toByteArray();
+
+        compresor.reset();
+        compresor.setInput(entrada);
+        compresor.finish();
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream(entrada.length / 2);
+        byte[] trozo = new byte[8192];
+        while (!compresor.finished()) {
+            comprimido.write(trozo, 0, compresor.deflate(trozo));
+        }
+        byte[] bytes = comprimido.toByteArray();
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        escribirTodo(salida, ByteBuffer.allocate(CABECERA_BLOQUE)
+                .putInt(bytes.length).putInt(entrada.length).putInt((int) crc.getValue()).flip());
+        escribirTodo(salida, ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Abre un segmento y carga su índice disperso, verificando cabecera, pie y CRC del índice.
+     * @throws IOException si el segmento está dañado
+     */
+    static SegmentoArchivo abrir(Path ruta) throws IOException {
+        FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ);
+        try {
+            long tamano = canal.size();
+            if (tamano < CABECERA + PIE) throw new IOException("Segmento de archivo incompleto: " + ruta);
+            ByteBuffer cabecera = leer(canal, 0, CABECERA);
+            if (cabecera.getInt() != MAGICO || cabecera.getInt() != VERSION_FORMATO) {
+                throw new IOException("Segmento de archivo con formato desconocido: " + ruta);
+            }
+            ByteBuffer pie = leer(canal, tamano - PIE, PIE);
+            long posicionIndice = pie.getLong();
+            int crcEsperado = pie.getInt();
+            if (pie.getInt() != MAGICO || posicionIndice < CABECERA || posicionIndice > tamano - PIE) {
+                throw new IOException("Segmento de archivo sin índice válido: " + ruta);
+            }
+
+            ByteBuffer indice = leer(canal, posicionIndice, (int) (tamano - PIE - posicionIndice));
+            CRC32C crc = new CRC32C();
+            crc.update(indice.duplicate());
+            if ((int) crc.getValue() != crcEsperado) throw new IOException("Índice de segmento dañado: " + ruta);
+
+            int bloques = indice.getInt();
+            long[] primerAlto = new long[bloques];
+            long[] primerBajo = new long[bloques];
+            long[] posiciones = new long[bloques];
+            for (int i = 0; i < bloques; i++) {
+                primerAlto[i] = indice.getLong();
+                primerBajo[i] = indice.getLong();
+                posiciones[i] = indice.getLong();
+            }
+            return new SegmentoArchivo(ruta, canal, primerAlto, primerBajo, posiciones,
+                    indice.getLong(), indice.getLong(), indice.getInt());
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Busca la solicitud en el único bloque que puede contenerla; descomprime el bloque pero
+     * decodifica solo la solicitud encontrada.
+     */
+    Optional<Solicitud> buscar(SolicitudId id) throws IOException {
+        long alto = id.value().getMostSignificantBits();
+        long bajo = id.value().getLeastSignificantBits();
+        if (primerAlto.length == 0 || comparar(primerAlto[0], primerBajo[0], alto, bajo) > 0
+                || comparar(ultimoAlto, ultimoBajo, alto, bajo) < 0) {
+            return Optional.empty();
+        }
+
+        // Último bloque cuyo primer id es menor o igual al buscado
+        int bajoRango = 0;
+        int altoRango = primerAlto.length - 1;
+        while (bajoRango < altoRango) {
+            int medio = (bajoRango + altoRango + 1) >>> 1;
+            if (comparar(primerAlto[medio], primerBajo[medio], alto, bajo) <= 0) {
+                bajoRango = medio;
+            } else {
+                altoRango = medio - 1;
+            }
+        }
+
+        ByteBuffer bloque = leerBloque(bajoRango);
+        while (bloque.hasRemaining()) {
+            int longitud = bloque.getInt();
+            int inicio = bloque.position();
+            int porId = comparar(bloque.getLong(inicio), bloque.getLong(inicio + Long.BYTES), alto, bajo);
+            if (porId == 0) return Optional.of(CodificadorBinario.leerSolicitud(bloque));
+            if (porId > 0) break;
+            bloque.position(inicio + longitud);
+        }
+        return Optional.empty();
+    }
+
+    /** Entrega todas las solicitudes del segmento en orden de id. */
+    void recorrer(Consumer<Solicitud> destino) throws IOException {
+        for (int i = 0; i < posiciones.length; i++) {
+            ByteBuffer bloque = leerBloque(i);
+            while (bloque.hasRemaining()) {
+                bloque.getInt();
+                destino.accept(CodificadorBinario.leerSolicitud(bloque));
+            }
+        }
+    }
+
+    private ByteBuffer leerBloque(int bloque) throws IOException {
+        ByteBuffer cabecera = leer(canal, posiciones[bloque], CABECERA_BLOQUE);
+        int longitudComprimida = cabecera.getInt();
+        int longitudOriginal = cabecera.getInt();
+        int crcEsperado = cabecera.getInt();
+        ByteBuffer comprimido = leer(canal, posiciones[bloque] + CABECERA_BLOQUE, longitudComprimida);
+
+        CRC32C crc = new CRC32C();
+        crc.update(comprimido.duplicate());
+        if ((int) crc.getValue() != crcEsperado) {
+            throw new IOException("Bloque " + bloque + " dañado en el segmento " + ruta);
+        }
+
+        Inflater descompresor = new Inflater(true);
+        try {
+            descompresor.setInput(comprimido);
+            byte[] original = new byte[longitudOriginal];
+            int leidos = descompresor.inflate(original);
+            if (leidos != longitudOriginal) throw new IOException("Bloque " + bloque + " incompleto en " + ruta);
+            return ByteBuffer.wrap(original);
+        } catch (DataFormatException e) {
+            throw new IOException("Bloque " + bloque + " dañado en el segmento " + ruta, e);
+        } finally {
+            descompresor.end();
+        }
+    }
+
+    int cantidad() {
+        return cantidad;
+    }
+
+    long tamano() throws IOException {
+        return canal.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /** Mismo orden que {@link UUID#compareTo}: con signo, primero los bits altos. */
+    private static int comparar(long altoA, long bajoA, long altoB, long bajoB) {
+        int porAlto = Long.compare(altoA, altoB);
+        return porAlto != 0 ? porAlto : Long.compare(bajoA, bajoB);
+    }
+
+    private static ByteBuffer leer(FileChannel canal, long posicion, int longitud) throws IOException {
+        ByteBuffer destino = ByteBuffer.allocate(longitud);
+        while (destino.hasRemaining()) {
+            if (canal.read(destino, posicion + destino.position()) < 0) {
+                throw new IOException("Fin inesperado del segmento de archivo");
+            }
+        }
+        return destino.flip();
+    }
+
+    private static void escribirTodo(FileChannel canal, ByteBuffer datos) throws IOException {
+        while (datos.hasRemaining()) {
+            canal.write(datos);
+        }
+    }
+}
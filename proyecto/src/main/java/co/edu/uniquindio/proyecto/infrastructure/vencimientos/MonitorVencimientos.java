@@ -0,0 +1,240 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.OyenteSolicitudes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Detecta las solicitudes que llevan demasiado tiempo en REGISTRADA, CLASIFICADA o EN_ATENCION
+ * según los {@link PlazosAtencion} de su prioridad.
+ *
+ * En cada guardado programa en una {@link RuedaTemporizadores} el vencimiento del estado actual,
+ * contado desde la entrada del historial con que la solicitud llegó a él (priorizar no cambia el
+ * estado, así que solo recalcula el plazo), y cancela el anterior. Avanzar la rueda cuesta según
+ * los temporizadores que vencen, no según las solicitudes pendientes: no se recorre el repositorio.
+ *
+ * Cada solicitud ocupa un nodo de la rueda y una posición en arreglos paralelos; las eliminadas
+ * se conservan marcadas para descartar avisos atrasados.
+ */
+public class MonitorVencimientos implements OyenteSolicitudes, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MonitorVencimientos.class);
+
+    /** Acción del historial que no cambia el estado; ver {@link Solicitud#priorizar} */
+    private static final String ACCION_PRIORIZAR = "PRIORIZAR_SOLICITUD";
+    private static final byte ELIMINADO = -1;
+    private static final byte SIN_PRIORIDAD = -1;
+    private static final int CAPACIDAD_INICIAL = 1024;
+    private static final EstadoSolicitud[] ESTADOS = EstadoSolicitud.values();
+    private static final Prioridad[] PRIORIDADES = Prioridad.values();
+
+    private final PlazosAtencion plazos;
+    private final long resolucionMilis;
+    private final List<OyenteVencimientos> oyentes;
+    private final ReentrantLock candado = new ReentrantLock();
+    private final RuedaTemporizadores rueda;
+    private final Map<SolicitudId, Integer> nodos = new HashMap<>();
+
+    private SolicitudId[] ids = new SolicitudId[CAPACIDAD_INICIAL];
+    private long[] versiones = new long[CAPACIDAD_INICIAL];
+    private long[] vencenEn = new long[CAPACIDAD_INICIAL];
+    private byte[] estados = new byte[CAPACIDAD_INICIAL];
+    private byte[] prioridades = new byte[CAPACIDAD_INICIAL];
+    private int cantidad;
+
+    private ScheduledExecutorService programador;
+
+    /**
+     * @param resolucion Granularidad de la rueda: un vencimiento se detecta hasta esta duración tarde
+     * @param inicio Momento desde el que empieza a avanzar la rueda
+     */
+    public MonitorVencimientos(PlazosAtencion plazos, Duration resolucion, Instant inicio,
+                               List<OyenteVencimientos> oyentes) {
+        if (resolucion == null || resolucion.toMillis() < 1) {
+            throw new DomainException("La resolución de los vencimientos debe ser de al menos 1 ms");
+        }
+        this.plazos = plazos;
+        this.resolucionMilis = resolucion.toMillis();
+        this.oyentes = List.copyOf(oyentes);
+        this.rueda = new RuedaTemporizadores(Math.floorDiv(inicio.toEpochMilli(), resolucionMilis), CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Avanza la rueda con el reloj del sistema cada vez que pasa la resolución, en un hilo propio.
+     */
+    public synchronized void iniciar() {
+        if (programador != null) return;
+        programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "monitor-vencimientos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        programador.scheduleWithFixedDelay(() -> avanzarHasta(Instant.now()),
+                resolucionMilis, resolucionMilis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (programador != null) {
+            programador.shutdownNow();
+            programador = null;
+        }
+    }
+
+    @Override
+    public void solicitudGuardada(Solicitud guardada) {
+        candado.lock();
+        try {
+            Integer existente = nodos.get(guardada.id());
+            int nodo;
+            if (existente == null) {
+                nodo = registrar(guardada.id());
+            } else {
+                nodo = existente;
+                if (versiones[nodo] >= guardada.version() || estados[nodo] == ELIMINADO) return;
+            }
+            versiones[nodo] = guardada.version();
+            estados[nodo] = (byte) guardada.estado().ordinal();
+            prioridades[nodo] = guardada.prioridad() == null ? SIN_PRIORIDAD : (byte) guardada.prioridad().ordinal();
+
+            if (!monitoreado(guardada.estado())) {
+                rueda.cancelar(nodo);
+                return;
+            }
+            long vence = inicioEstado(guardada).plus(plazos.plazo(guardada.prioridad())).toEpochMilli();
+            if (vence == vencenEn[nodo] && (rueda.pendiente(nodo) || rueda.vencido(nodo))) return;
+            vencenEn[nodo] = vence;
+            rueda.programar(nodo, Math.ceilDiv(vence, resolucionMilis));
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    @Override
+    public void solicitudEliminada(SolicitudId id) {
+        candado.lock();
+        try {
+            Integer nodo = nodos.get(id);
+            if (nodo == null) return;
+            estados[nodo] = ELIMINADO;
+            rueda.cancelar(nodo);
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Detecta los vencimientos cumplidos hasta {@code momento} y los informa a los oyentes, en orden
+     * de vencimiento. Lo llama el hilo de {@link #iniciar()}; las pruebas lo llaman directamente.
+     * @return Cantidad de solicitudes que vencieron
+     */
+    public int avanzarHasta(Instant momento) {
+        List<Vencimiento> nuevos = new ArrayList<>();
+        candado.lock();
+        try {
+            rueda.avanzarHasta(Math.floorDiv(momento.toEpochMilli(), resolucionMilis),
+                    nodo -> nuevos.add(vencimiento(nodo)));
+        } finally {
+            candado.unlock();
+        }
+        for (Vencimiento vencimiento : nuevos) {
+            for (OyenteVencimientos oyente : oyentes) {
+                try {
+                    oyente.solicitudVencida(vencimiento);
+                } catch (RuntimeException e) {
+                    LOG.warn("Un oyente falló al procesar el vencimiento de {}", vencimiento.id(), e);
+                }
+            }
+        }
+        return nuevos.size();
+    }
+
+    /**
+     * Solicitudes vencidas que siguen en el mismo estado, en el orden en que vencieron.
+     */
+    public List<Vencimiento> vencidas(int limite) {
+        List<Vencimiento> vencidas = new ArrayList<>(Math.min(limite, CAPACIDAD_INICIAL));
+        candado.lock();
+        try {
+            rueda.recorrerVencidos(nodo -> {
+                vencidas.add(vencimiento(nodo));
+                return vencidas.size() < limite;
+            });
+        } finally {
+            candado.unlock();
+        }
+        return vencidas;
+    }
+
+    /** Solicitudes con un plazo en curso que aún no vence. */
+    public int cantidadPendientes() {
+        candado.lock();
+        try {
+            return rueda.programados();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    public int cantidadVencidas() {
+        candado.lock();
+        try {
+            return rueda.vencidos();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    private Vencimiento vencimiento(int nodo) {
+        return new Vencimiento(ids[nodo], ESTADOS[estados[nodo]],
+                prioridades[nodo] == SIN_PRIORIDAD ? null : PRIORIDADES[prioridades[nodo]],
+                Instant.ofEpochMilli(vencenEn[nodo]));
+    }
+
+    private int registrar(SolicitudId id) {
+        int nodo = cantidad++;
+        if (nodo == ids.length) {
+            int capacidad = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacidad);
+            versiones = Arrays.copyOf(versiones, capacidad);
+            vencenEn = Arrays.copyOf(vencenEn, capacidad);
+            estados = Arrays.copyOf(estados, capacidad);
+            prioridades = Arrays.copyOf(prioridades, capacidad);
+        }
+        ids[nodo] = id;
+        nodos.put(id, nodo);
+        return nodo;
+    }
+
+    private static boolean monitoreado(EstadoSolicitud estado) {
+        return estado == EstadoSolicitud.REGISTRADA || estado == EstadoSolicitud.CLASIFICADA
+                || estado == EstadoSolicitud.EN_ATENCION;
+    }
+
+    /** Momento en que la solicitud llegó a su estado actual: la última entrada que no sea priorizar. */
+    private static Instant inicioEstado(Solicitud solicitud) {
+        List<EntradaHistorial> historial = solicitud.historial();
+        for (int i = historial.size() - 1; i > 0; i--) {
+            if (!ACCION_PRIORIZAR.equals(historial.get(i).accion())) return historial.get(i).fechaHora();
+        }
+        return historial.isEmpty() ? solicitud.fechaRegistro() : historial.get(0).fechaHora();
+    }
+}
@@ -0,0 +1,10 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+/**
+ * Recibe cada solicitud que supera su plazo de atención. Se invoca en el hilo del monitor, fuera
+ * de su candado, y debe volver rápido: mientras tanto no se procesan otros vencimientos.
+ */
+public interface OyenteVencimientos {
+
+    void solicitudVencida(Vencimiento vencimiento);
+}
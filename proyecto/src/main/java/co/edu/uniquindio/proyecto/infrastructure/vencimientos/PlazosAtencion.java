@@ -0,0 +1,30 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+
+import java.time.Duration;
+
+/**
+ * Tiempo máximo que una solicitud puede permanecer en un estado por atender, según su prioridad.
+ * @param sinPrioridad Plazo de las solicitudes que aún no tienen prioridad
+ */
+public record PlazosAtencion(Duration alta, Duration media, Duration baja, Duration sinPrioridad) {
+
+    public PlazosAtencion {
+        for (Duration plazo : new Duration[]{alta, media, baja, sinPrioridad}) {
+            if (plazo == null || plazo.isNegative() || plazo.isZero()) {
+                throw new DomainException("Los plazos de atención deben ser positivos");
+            }
+        }
+    }
+
+    public Duration plazo(Prioridad prioridad) {
+        if (prioridad == null) return sinPrioridad;
+        return switch (prioridad) {
+            case ALTA -> alta;
+            case MEDIA -> media;
+            case BAJA -> baja;
+        };
+    }
+}
@@ -0,0 +1,231 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Rueda de temporizadores jerárquica sobre nodos enteros, con un temporizador como máximo por nodo.
+ *
+ * Hay {@value #NIVELES} niveles de {@value #RANURAS} ranuras; el nivel n cubre los vencimientos a
+ * menos de 64^(n+1) ticks. Programar y cancelar cuestan O(1). Avanzar un tick vence la ranura
+ * actual del nivel 0 y, cada 64 ticks, redistribuye una ranura del nivel siguiente hacia abajo,
+ * así que cada temporizador se mueve a lo sumo una vez por nivel. Los vencimientos más lejanos que
+ * el último nivel se guardan en él y se reprograman al llegar.
+ *
+ * Los nodos viven en arreglos paralelos (vencimiento, enlaces y situación): 17 bytes por
+ * temporizador, sin objetos. Las ranuras son listas circulares doblemente enlazadas con un nodo
+ * centinela cada una, así que cancelar no necesita saber en qué ranura está el nodo. Los nodos
+ * vencidos pasan a una lista propia, en orden de vencimiento, hasta que se cancelan.
+ *
+ * No es segura entre hilos; quien la usa debe sincronizar.
+ */
+final class RuedaTemporizadores {
+
+    private static final int BITS_NIVEL = 6;
+    private static final int RANURAS = 1 << BITS_NIVEL;
+    private static final int MASCARA_RANURA = RANURAS - 1;
+    private static final int NIVELES = 4;
+    private static final long ALCANCE = 1L << (BITS_NIVEL * NIVELES);
+    /** Centinela de la lista de vencidos; las ranuras usan los centinelas siguientes */
+    private static final int VENCIDOS = 0;
+    private static final int CENTINELAS = 1 + NIVELES * RANURAS;
+    private static final byte LIBRE = 0;
+    private static final byte PENDIENTE = 1;
+    private static final byte VENCIDO = 2;
+
+    private long[] vencimientos;
+    private int[] siguiente;
+    private int[] anterior;
+    private byte[] situaciones;
+    /** Próximo tick a procesar */
+    private long ahora;
+    private int programados;
+    private int vencidos;
+
+    RuedaTemporizadores(long tickInicial, int capacidadInicial) {
+        int capacidad = CENTINELAS + Math.max(capacidadInicial, 16);
+        vencimientos = new long[capacidad];
+        siguiente = new int[capacidad];
+        anterior = new int[capacidad];
+        situaciones = new byte[capacidad];
+        for (int centinela = 0; centinela < CENTINELAS; centinela++) {
+            siguiente[centinela] = centinela;
+            anterior[centinela] = centinela;
+        }
+        ahora = tickInicial;
+    }
+
+    /**
+     * Programa el nodo para vencer en el tick indicado, reemplazando su temporizador anterior si lo
+     * tenía. Un tick ya pasado vence en el próximo avance.
+     */
+    void programar(int nodo, long tick) {
+        int posicion = posicion(nodo);
+        if (posicion >= vencimientos.length) crecer(posicion);
+        cancelarPosicion(posicion);
+        vencimientos[posicion] = tick;
+        situaciones[posicion] = PENDIENTE;
+        insertar(posicion);
+        programados++;
+    }
+
+    /**
+     * Quita el temporizador del nodo, esté pendiente o vencido.
+     * @return Si el nodo tenía temporizador
+     */
+    boolean cancelar(int nodo) {
+        int posicion = posicion(nodo);
+        return posicion < situaciones.length && cancelarPosicion(posicion);
+    }
+
+    boolean pendiente(int nodo) {
+        int posicion = posicion(nodo);
+        return posicion < situaciones.length && situaciones[posicion] == PENDIENTE;
+    }
+
+    boolean vencido(int nodo) {
+        int posicion = posicion(nodo);
+        return posicion < situaciones.length && situaciones[posicion] == VENCIDO;
+    }
+
+    long vencimiento(int nodo) {
+        return vencimientos[posicion(nodo)];
+    }
+
+    /**
+     * Procesa los ticks hasta {@code tick} inclusive; cada nodo vencido pasa a la lista de vencidos
+     * y se informa a {@code alVencer}, en orden de vencimiento.
+     */
+    void avanzarHasta(long tick, IntConsumer alVencer) {
+        while (ahora <= tick) {
+            if (programados == 0) {
+                // Nada pendiente: los ticks intermedios no tienen nada que vencer
+                ahora = tick + 1;
+                return;
+            }
+            int ranura = (int) (ahora & MASCARA_RANURA);
+            if (ranura == 0) {
+                for (int nivel = 1; nivel < NIVELES && redistribuir(nivel) == 0; nivel++) {
+                    // Se sigue subiendo mientras el nivel inferior acabe de dar la vuelta
+                }
+            }
+            int centinela = centinela(0, ranura);
+            int posicion = siguiente[centinela];
+            while (posicion != centinela) {
+                int proxima = siguiente[posicion];
+                desenlazar(posicion);
+                if (vencimientos[posicion] > ahora) {
+                    // Venía del último nivel con un vencimiento más allá de su alcance
+                    insertar(posicion);
+                } else {
+                    programados--;
+                    situaciones[posicion] = VENCIDO;
+                    enlazarAlFinal(VENCIDOS, posicion);
+                    vencidos++;
+                    alVencer.accept(posicion - CENTINELAS);
+                }
+                posicion = proxima;
+            }
+            ahora++;
+        }
+    }
+
+    /**
+     * Recorre los nodos vencidos del más antiguo al más reciente hasta que {@code visitar} devuelva false.
+     */
+    void recorrerVencidos(NodoVisitado visitar) {
+        for (int posicion = siguiente[VENCIDOS]; posicion != VENCIDOS; posicion = siguiente[posicion]) {
+            if (!visitar.visitar(posicion - CENTINELAS)) return;
+        }
+    }
+
+    /** Último tick procesado. */
+    long tickActual() {
+        return ahora - 1;
+    }
+
+    int programados() {
+        return programados;
+    }
+
+    int vencidos() {
+        return vencidos;
+    }
+
+    @FunctionalInterface
+    interface NodoVisitado {
+        boolean visitar(int nodo);
+    }
+
+    /** Mueve los nodos de la ranura actual del nivel hacia niveles inferiores. */
+    private int redistribuir(int nivel) {
+        int ranura = (int) ((ahora >>> (BITS_NIVEL * nivel)) & MASCARA_RANURA);
+        int centinela = centinela(nivel, ranura);
+        int posicion = siguiente[centinela];
+        siguiente[centinela] = centinela;
+        anterior[centinela] = centinela;
+        while (posicion != centinela) {
+            int proxima = siguiente[posicion];
+            insertar(posicion);
+            posicion = proxima;
+        }
+        return ranura;
+    }
+
+    private void insertar(int posicion) {
+        long vencimiento = vencimientos[posicion];
+        long distancia = vencimiento - ahora;
+        int centinela;
+        if (distancia < 0) {
+            centinela = centinela(0, (int) (ahora & MASCARA_RANURA));
+        } else if (distancia >= ALCANCE) {
+            long limite = ahora + ALCANCE - 1;
+            centinela = centinela(NIVELES - 1, (int) ((limite >>> (BITS_NIVEL * (NIVELES - 1))) & MASCARA_RANURA));
+        } else {
+            int nivel = 0;
+            while (distancia >= 1L << (BITS_NIVEL * (nivel + 1))) nivel++;
+            centinela = centinela(nivel, (int) ((vencimiento >>> (BITS_NIVEL * nivel)) & MASCARA_RANURA));
+        }
+        enlazarAlFinal(centinela, posicion);
+    }
+
+    private boolean cancelarPosicion(int posicion) {
+        byte situacion = situaciones[posicion];
+        if (situacion == LIBRE) return false;
+        if (situacion == PENDIENTE) programados--;
+        else vencidos--;
+        desenlazar(posicion);
+        situaciones[posicion] = LIBRE;
+        return true;
+    }
+
+    private void enlazarAlFinal(int centinela, int posicion) {
+        int ultimo = anterior[centinela];
+        siguiente[ultimo] = posicion;
+        anterior[posicion] = ultimo;
+        siguiente[posicion] = centinela;
+        anterior[centinela] = posicion;
+    }
+
+    private void desenlazar(int posicion) {
+        siguiente[anterior[posicion]] = siguiente[posicion];
+        anterior[siguiente[posicion]] = anterior[posicion];
+    }
+
+    private void crecer(int posicion) {
+        int capacidad = Math.max(posicion + 1, vencimientos.length + (vencimientos.length >> 1));
+        vencimientos = Arrays.copyOf(vencimientos, capacidad);
+        siguiente = Arrays.copyOf(siguiente, capacidad);
+        anterior = Arrays.copyOf(anterior, capacidad);
+        situaciones = Arrays.copyOf(situaciones, capacidad);
+    }
+
+    private static int posicion(int nodo) {
+        if (nodo < 0) throw new IllegalArgumentException("El nodo no puede ser negativo: " + nodo);
+        return nodo + CENTINELAS;
+    }
+
+    private static int centinela(int nivel, int ranura) {
+        return 1 + nivel * RANURAS + ranura;
+    }
+}
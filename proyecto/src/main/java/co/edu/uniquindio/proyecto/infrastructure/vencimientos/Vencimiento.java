@@ -0,0 +1,15 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+
+import java.time.Instant;
+
+/**
+ * Solicitud que superó el plazo de atención del estado en que está.
+ * @param prioridad Prioridad con la que se calculó el plazo; null si no tenía
+ * @param venceEn Momento en que se cumplió el plazo
+ */
+public record Vencimiento(SolicitudId id, EstadoSolicitud estado, Prioridad prioridad, Instant venceEn) {
+}
@@ -0,0 +1,30 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Crea el {@link MonitorVencimientos} con los plazos de {@code proyecto.vencimientos.*} y lo pone a
+ * avanzar con el reloj del sistema. Como es un {@code OyenteSolicitudes}, el repositorio le avisa
+ * cada guardado.
+ */
+@Configuration
+public class VencimientosConfiguracion {
+
+    @Bean(initMethod = "iniciar", destroyMethod = "close")
+    public MonitorVencimientos monitorVencimientos(
+            @Value("${proyecto.vencimientos.plazo-alta:8h}") Duration plazoAlta,
+            @Value("${proyecto.vencimientos.plazo-media:24h}") Duration plazoMedia,
+            @Value("${proyecto.vencimientos.plazo-baja:72h}") Duration plazoBaja,
+            @Value("${proyecto.vencimientos.plazo-sin-prioridad:24h}") Duration plazoSinPrioridad,
+            @Value("${proyecto.vencimientos.resolucion:1s}") Duration resolucion,
+            List<OyenteVencimientos> oyentes) {
+        return new MonitorVencimientos(new PlazosAtencion(plazoAlta, plazoMedia, plazoBaja, plazoSinPrioridad),
+                resolucion, Instant.now(), oyentes);
+    }
+}
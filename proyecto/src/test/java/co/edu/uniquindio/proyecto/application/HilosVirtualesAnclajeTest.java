@@ -0,0 +1,107 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.AlmacenDiario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.PoliticaSincronizacion;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica con JFR que las rutas de escritura no anclan el hilo portador cuando se ejecutan en
+ * hilos virtuales: los candados del diario, de los repositorios y de los contadores de carga
+ * deben poder esperar sin bloquear al portador.
+ */
+class HilosVirtualesAnclajeTest {
+
+    private static final int TAREAS = 400;
+    private static final int SOLICITANTES = 8;
+    private static final int DOCENTES = 4;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void lasRutasDeEscrituraNoAnclanElHiloPortador() throws Exception {
+        Path grabacionJfr = directorio.resolve("anclaje.jfr");
+        try (Recording grabacion = new Recording();
+             AlmacenDiario almacen = AlmacenDiario.abrir(directorio.resolve("diario"), 1024 * 1024,
+                     PoliticaSincronizacion.SIEMPRE, Duration.ofMillis(100), Duration.ZERO)) {
+            grabacion.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            grabacion.start();
+
+            ejecutarCarga(almacen);
+
+            grabacion.stop();
+            grabacion.dump(grabacionJfr);
+        }
+
+        List<String> anclajes = new ArrayList<>();
+        for (RecordedEvent evento : RecordingFile.readAllEvents(grabacionJfr)) {
+            anclajes.add(evento.getStackTrace() == null ? "sin pila" : evento.getStackTrace().getFrames().stream()
+                    .map(RecordedFrame::getMethod)
+                    .map(metodo -> metodo.getType().getName() + "." + metodo.getName())
+                    .collect(Collectors.joining(" <- ")));
+        }
+        assertEquals(List.of(), anclajes);
+    }
+
+    private static void ejecutarCarga(AlmacenDiario almacen) throws Exception {
+        SolicitudApplicationService service = new SolicitudApplicationService(almacen.solicitudes(), almacen.usuarios(),
+                new SolicitudDomainService(), new RegistroCargaTrabajo(almacen.solicitudes(), almacen.usuarios()), new MetricasSolicitudes(true));
+        UUID coordinador = almacen.usuarios().save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+        UUID[] solicitantes = new UUID[SOLICITANTES];
+        for (int i = 0; i < SOLICITANTES; i++) {
+            solicitantes[i] = almacen.usuarios().save(Usuario.crear("Estudiante " + i, Rol.ESTUDIANTE)).id().value();
+        }
+        UUID[] docentes = new UUID[DOCENTES];
+        for (int i = 0; i < DOCENTES; i++) {
+            docentes[i] = almacen.usuarios().save(Usuario.crear("Docente " + i, Rol.DOCENTE)).id().value();
+        }
+
+        // Pocos usuarios para muchas tareas: se fuerza la espera en los candados y en los contadores
+        List<Future<?>> tareas = new ArrayList<>();
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < TAREAS; i++) {
+                UUID solicitante = solicitantes[i % SOLICITANTES];
+                UUID docente = docentes[i % DOCENTES];
+                tareas.add(hilos.submit(() -> {
+                    try {
+                        UUID id = service.crearSolicitud(solicitante, "Estudiante", CanalOrigen.SAC,
+                                "Solicitud registrada desde un hilo virtual").id().value();
+                        service.clasificarSolicitud(id, TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+                        service.asignarResponsable(id, docente, coordinador);
+                        service.marcarAtendida(id, docente, "Atendida desde un hilo virtual");
+                    } catch (DomainException e) {
+                        // Los límites de negocio rechazan parte de la carga; lo que importa es la espera
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+    }
+}
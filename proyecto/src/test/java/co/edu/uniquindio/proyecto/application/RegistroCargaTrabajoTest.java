@@ -0,0 +1,141 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService.MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroCargaTrabajoTest {
+
+    private static final int MAX_PENDIENTES = 5;
+
+    private final SolicitudDomainService domainService = new SolicitudDomainService();
+    private final RegistroCargaTrabajo registro =
+            new RegistroCargaTrabajo(new InMemorySolicitudRepository(), new InMemoryUsuarioRepository());
+
+    @Test
+    void losLimitesAdmitenHastaElMaximoYRechazanElSiguienteSinContarlo() {
+        Usuario estudiante = Usuario.crear("Estudiante", Rol.ESTUDIANTE);
+        UUID solicitante = estudiante.id().value();
+        for (int i = 0; i < MAX_PENDIENTES; i++) {
+            registro.reservarPendiente(solicitante, pendientes -> domainService.validarCrearSolicitud(estudiante, pendientes));
+        }
+        assertThrows(BusinessRuleViolation.class, () -> registro.reservarPendiente(solicitante,
+                pendientes -> domainService.validarCrearSolicitud(estudiante, pendientes)));
+        assertEquals(MAX_PENDIENTES, registro.pendientesDe(solicitante));
+
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        UUID docenteId = docente.id().value();
+        for (int i = 0; i < MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE; i++) {
+            registro.reservarEnAtencion(docenteId, enAtencion -> domainService.validarAsignarResponsable(docente, enAtencion));
+        }
+        assertThrows(BusinessRuleViolation.class, () -> registro.reservarEnAtencion(docenteId,
+                enAtencion -> domainService.validarAsignarResponsable(docente, enAtencion)));
+        assertEquals(MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE, registro.enAtencionDe(docenteId));
+
+        // Las sobrecargas por conteo aplican las mismas reglas que las que recorren solicitudes
+        assertDoesNotThrow(() -> domainService.validarCrearSolicitud(estudiante, MAX_PENDIENTES - 1));
+        assertThrows(BusinessRuleViolation.class,
+                () -> domainService.validarAsignarResponsable(estudiante, 0));
+        assertThrows(BusinessRuleViolation.class, () -> domainService.validarAsignarResponsable(docente.desactivado(), 0));
+    }
+
+    @Test
+    void liberarSinReservaNoAmpliaElLimite() {
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        UUID docenteId = docente.id().value();
+        registro.habilitarDocente(docenteId);
+        registro.liberarEnAtencion(docenteId);
+        registro.liberarPendiente(docenteId);
+        assertEquals(0, registro.enAtencionDe(docenteId));
+        assertEquals(0, registro.pendientesDe(docenteId));
+
+        for (int i = 0; i < MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE; i++) {
+            assertEquals(Optional.of(docenteId), registro.reservarDocenteMenosCargado(id -> true));
+        }
+        assertEquals(Optional.empty(), registro.reservarDocenteMenosCargado(id -> true));
+        assertThrows(BusinessRuleViolation.class, () -> registro.reservarEnAtencion(docenteId,
+                enAtencion -> domainService.validarAsignarResponsable(docente, enAtencion)));
+    }
+
+    @Test
+    void unDocenteQueYaNoEstaDisponibleSeRetiraSinReservarle() {
+        UUID inactivo = Usuario.crear("Docente inactivo", Rol.DOCENTE).id().value();
+        UUID activo = Usuario.crear("Docente activo", Rol.DOCENTE).id().value();
+        registro.habilitarDocente(inactivo);
+        registro.habilitarDocente(activo);
+        registro.reservarEnAtencion(activo, enAtencion -> { });
+
+        // El menos cargado es el inactivo, pero la comprobación dentro de la reserva lo descarta
+        assertEquals(Optional.of(activo), registro.reservarDocenteMenosCargado(id -> !id.equals(inactivo)));
+        assertEquals(0, registro.enAtencionDe(inactivo));
+        assertEquals(Optional.of(activo), registro.reservarDocenteMenosCargado(id -> true));
+    }
+
+    @Test
+    void reservasYLiberacionesConcurrentesNoSuperanElLimiteNiPierdenCupos() throws Exception {
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        UUID docenteId = docente.id().value();
+        registro.habilitarDocente(docenteId);
+        int hilos = 8;
+        int intentos = 2000;
+        AtomicInteger excedido = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        List<Callable<Integer>> tareas = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            boolean automatica = h % 2 == 0;
+            tareas.add(() -> {
+                largada.await();
+                int exitosas = 0;
+                for (int i = 0; i < intentos; i++) {
+                    try {
+                        if (automatica) {
+                            if (registro.reservarDocenteMenosCargado(id -> true).isEmpty()) continue;
+                        } else {
+                            registro.reservarEnAtencion(docenteId,
+                                    enAtencion -> domainService.validarAsignarResponsable(docente, enAtencion));
+                        }
+                    } catch (BusinessRuleViolation e) {
+                        continue;
+                    }
+                    if (registro.enAtencionDe(docenteId) > MAX_SOLICITUDES_EN_ATENCION_POR_DOCENTE) excedido.incrementAndGet();
+                    exitosas++;
+                    registro.liberarEnAtencion(docenteId);
+                }
+                return exitosas;
+            });
+        }
+        int exitosas = 0;
+        try (ExecutorService ejecutor = Executors.newFixedThreadPool(hilos)) {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (Callable<Integer> tarea : tareas) resultados.add(ejecutor.submit(tarea));
+            largada.countDown();
+            for (Future<Integer> resultado : resultados) exitosas += resultado.get(1, TimeUnit.MINUTES);
+        }
+
+        assertTrue(exitosas > 0);
+        assertEquals(0, excedido.get());
+        assertEquals(0, registro.enAtencionDe(docenteId));
+        // El docente volvió a la cubeta sin carga: sigue disponible para asignación automática
+        assertEquals(Optional.of(docenteId), registro.reservarDocenteMenosCargado(id -> true));
+    }
+}
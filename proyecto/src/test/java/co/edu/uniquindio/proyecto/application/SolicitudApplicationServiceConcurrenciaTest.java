@@ -0,0 +1,214 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolicitudApplicationServiceConcurrenciaTest {
+
+    private static final int HILOS = 16;
+    private static final int MAX_EN_ATENCION = 10;
+
+    private InMemorySolicitudRepository solicitudRepository;
+    private InMemoryUsuarioRepository usuarioRepository;
+    private RegistroCargaTrabajo cargaTrabajo;
+    private SolicitudApplicationService service;
+    private Usuario coordinador;
+
+    @BeforeEach
+    void setUp() {
+        solicitudRepository = new InMemorySolicitudRepository();
+        usuarioRepository = new InMemoryUsuarioRepository();
+        cargaTrabajo = new RegistroCargaTrabajo(solicitudRepository, usuarioRepository);
+        service = new SolicitudApplicationService(
+                solicitudRepository, usuarioRepository, new SolicitudDomainService(), cargaTrabajo,
+                new MetricasSolicitudes(true));
+        coordinador = usuarioRepository.save(Usuario.crear("Coordinadora", Rol.COORDINADOR));
+    }
+
+    @Test
+    void unDocenteNoSuperaElLimiteBajoContencion() throws Exception {
+        Usuario docente = usuarioRepository.save(Usuario.crear("Docente", Rol.DOCENTE));
+        List<Solicitud> clasificadas = crearClasificadas(HILOS * 4);
+
+        AtomicInteger asignadas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (Solicitud solicitud : clasificadas) {
+            tareas.add(() -> {
+                try {
+                    service.asignarResponsable(solicitud.id().value(), docente.id().value(), coordinador.id().value());
+                    asignadas.incrementAndGet();
+                } catch (BusinessRuleViolation e) {
+                    rechazadas.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        ejecutarEnParalelo(tareas);
+
+        assertEquals(MAX_EN_ATENCION, asignadas.get());
+        assertEquals(clasificadas.size() - MAX_EN_ATENCION, rechazadas.get());
+        assertEquals(MAX_EN_ATENCION, cargaTrabajo.enAtencionDe(docente.id().value()));
+        assertEquals(MAX_EN_ATENCION, solicitudRepository.findByResponsableId(docente.id().value()).stream()
+                .filter(s -> s.estado() == EstadoSolicitud.EN_ATENCION)
+                .count());
+    }
+
+    @Test
+    void unaSolicitudSoloSeAsignaUnaVezAunqueVariosCoordinadoresCompitan() throws Exception {
+        Solicitud solicitud = crearClasificadas(1).get(0);
+        List<Usuario> docentes = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            docentes.add(usuarioRepository.save(Usuario.crear("Docente " + i, Rol.DOCENTE)));
+        }
+
+        AtomicInteger asignadas = new AtomicInteger();
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (Usuario docente : docentes) {
+            tareas.add(() -> {
+                try {
+                    service.asignarResponsable(solicitud.id().value(), docente.id().value(), coordinador.id().value());
+                    asignadas.incrementAndGet();
+                } catch (ConcurrencyConflict | BusinessRuleViolation e) {
+                    // Otro coordinador ganó la asignación
+                }
+                return null;
+            });
+        }
+        ejecutarEnParalelo(tareas);
+
+        assertEquals(1, asignadas.get());
+        Solicitud asignada = service.obtenerSolicitud(solicitud.id().value());
+        assertEquals(EstadoSolicitud.EN_ATENCION, asignada.estado());
+        int cuposTomados = 0;
+        for (Usuario docente : docentes) {
+            cuposTomados += cargaTrabajo.enAtencionDe(docente.id().value());
+        }
+        assertEquals(1, cuposTomados, "Los cupos de los coordinadores que perdieron deben liberarse");
+        assertEquals(1, cargaTrabajo.enAtencionDe(asignada.responsable().value()));
+    }
+
+    @Test
+    void unSolicitanteNoSuperaElLimiteDePendientesBajoContencion() throws Exception {
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+
+        AtomicInteger creadas = new AtomicInteger();
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            tareas.add(() -> {
+                try {
+                    service.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                            "Solicitud concurrente del estudiante");
+                    creadas.incrementAndGet();
+                } catch (BusinessRuleViolation e) {
+                    // Límite de pendientes alcanzado
+                }
+                return null;
+            });
+        }
+        ejecutarEnParalelo(tareas);
+
+        assertEquals(5, creadas.get());
+        assertEquals(5, solicitudRepository.findBySolicitanteId(estudiante.id().value()).size());
+        assertEquals(5, cargaTrabajo.pendientesDe(estudiante.id().value()));
+    }
+
+    @Test
+    void laAsignacionAutomaticaRepartePorCargaSinSuperarElLimite() throws Exception {
+        List<Usuario> docentes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Usuario docente = usuarioRepository.save(Usuario.crear("Docente " + i, Rol.DOCENTE));
+            cargaTrabajo.habilitarDocente(docente.id().value());
+            docentes.add(docente);
+        }
+        Usuario inactivo = usuarioRepository.save(Usuario.crear("Docente inactivo", Rol.DOCENTE));
+        cargaTrabajo.habilitarDocente(inactivo.id().value());
+        cargaTrabajo.deshabilitarDocente(inactivo.id().value());
+
+        // El primer docente ya tiene dos solicitudes: las siguientes van a los otros
+        for (Solicitud solicitud : crearClasificadas(2)) {
+            service.asignarResponsable(solicitud.id().value(), docentes.get(0).id().value(), coordinador.id().value());
+        }
+        Solicitud siguiente = service.asignarAutomaticamente(crearClasificadas(1).get(0).id().value(),
+                coordinador.id().value());
+        assertNotEquals(docentes.get(0).id().value(), siguiente.responsable().value());
+
+        AtomicInteger asignadas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (Solicitud solicitud : crearClasificadas(3 * MAX_EN_ATENCION)) {
+            tareas.add(() -> {
+                try {
+                    service.asignarAutomaticamente(solicitud.id().value(), coordinador.id().value());
+                    asignadas.incrementAndGet();
+                } catch (BusinessRuleViolation e) {
+                    rechazadas.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        ejecutarEnParalelo(tareas);
+
+        assertEquals(3 * MAX_EN_ATENCION - 3, asignadas.get());
+        assertEquals(3, rechazadas.get());
+        for (Usuario docente : docentes) {
+            assertEquals(MAX_EN_ATENCION, cargaTrabajo.enAtencionDe(docente.id().value()));
+        }
+        assertEquals(0, cargaTrabajo.enAtencionDe(inactivo.id().value()));
+    }
+
+    private List<Solicitud> crearClasificadas(int cantidad) {
+        List<Solicitud> solicitudes = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante " + i, Rol.ESTUDIANTE));
+            Solicitud solicitud = service.crearSolicitud(estudiante.id().value(), estudiante.nombre(),
+                    CanalOrigen.SAC, "Solicitud para pruebas de concurrencia");
+            solicitudes.add(service.clasificarSolicitud(solicitud.id().value(),
+                    TipoSolicitud.SOLICITUD_CUPOS, coordinador.id().value()));
+        }
+        return solicitudes;
+    }
+
+    private static void ejecutarEnParalelo(List<Callable<Void>> tareas) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futuros = new ArrayList<>();
+            for (Callable<Void> tarea : tareas) {
+                futuros.add(executor.submit(() -> {
+                    inicio.await();
+                    return tarea.call();
+                }));
+            }
+            inicio.countDown();
+            for (Future<Void> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.exception.DomainException;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolicitudApplicationServiceLoteTest {
+
+    private static final int MAX_PENDIENTES = 5;
+
+    private InMemorySolicitudRepository solicitudRepository;
+    private InMemoryUsuarioRepository usuarioRepository;
+    private RegistroCargaTrabajo cargaTrabajo;
+    private SolicitudApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        solicitudRepository = new InMemorySolicitudRepository();
+        usuarioRepository = new InMemoryUsuarioRepository();
+        cargaTrabajo = new RegistroCargaTrabajo(solicitudRepository, usuarioRepository);
+        service = new SolicitudApplicationService(
+                solicitudRepository, usuarioRepository, new SolicitudDomainService(), cargaTrabajo,
+                new MetricasSolicitudes(true));
+    }
+
+    @Test
+    void elLimiteDePendientesSeAcumulaDentroDelLote() {
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        service.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.SAC,
+                "Solicitud registrada antes del lote");
+
+        List<NuevaSolicitud> lote = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            lote.add(nueva(estudiante.id().value(), "Solicitud del lote número " + i));
+        }
+        List<ResultadoLote<Solicitud>> resultados = service.crearSolicitudesEnLote(lote);
+
+        assertEquals(lote.size(), resultados.size());
+        for (int i = 0; i < resultados.size(); i++) {
+            assertEquals(i, resultados.get(i).indice());
+            assertEquals(i < MAX_PENDIENTES - 1, resultados.get(i).exitoso());
+        }
+        assertEquals(MAX_PENDIENTES, solicitudRepository.findBySolicitanteId(estudiante.id().value()).size());
+        assertEquals(MAX_PENDIENTES, cargaTrabajo.pendientesDe(estudiante.id().value()));
+        assertEquals(MAX_PENDIENTES, usuarioRepository.findById(estudiante.id()).orElseThrow()
+                .cantidadSolicitudesRegistradas());
+    }
+
+    @Test
+    void unElementoInvalidoNoImpideRegistrarLosDemas() {
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        Usuario docente = usuarioRepository.save(Usuario.crear("Docente", Rol.DOCENTE));
+
+        List<ResultadoLote<Solicitud>> resultados = service.crearSolicitudesEnLote(List.of(
+                nueva(estudiante.id().value(), "Solicitud de homologación válida"),
+                nueva(UUID.randomUUID(), "Solicitante que no existe en el sistema"),
+                nueva(docente.id().value(), "corta"),
+                nueva(docente.id().value(), "Solicitud de un docente válida")));
+
+        assertTrue(resultados.get(0).exitoso());
+        assertEquals("Solicitante no encontrado", resultados.get(1).error());
+        assertFalse(resultados.get(2).exitoso());
+        assertTrue(resultados.get(3).exitoso());
+        assertEquals(2, solicitudRepository.findAll().size());
+        assertEquals(1, resultados.get(3).valor().version());
+    }
+
+    @Test
+    void siElGuardadoDelLoteFallaNoQuedaNadaRegistradoNiReservado() {
+        InMemorySolicitudRepository solicitudesQueFallan = new InMemorySolicitudRepository() {
+            @Override
+            public List<Solicitud> saveAll(List<Solicitud> solicitudes) {
+                throw new IllegalStateException("Fallo de almacenamiento");
+            }
+        };
+        RegistroCargaTrabajo carga = new RegistroCargaTrabajo(solicitudesQueFallan, usuarioRepository);
+        SolicitudApplicationService conFallo = new SolicitudApplicationService(solicitudesQueFallan, usuarioRepository,
+                new SolicitudDomainService(), carga, new MetricasSolicitudes(true));
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        long version = estudiante.version();
+
+        assertThrows(IllegalStateException.class, () -> conFallo.crearSolicitudesEnLote(List.of(
+                nueva(estudiante.id().value(), "Primera solicitud del lote fallido"),
+                nueva(estudiante.id().value(), "Segunda solicitud del lote fallido"))));
+
+        assertEquals(0, carga.pendientesDe(estudiante.id().value()));
+        // El solicitante compartido no se modifica si las solicitudes no llegaron a guardarse
+        assertEquals(0, estudiante.cantidadSolicitudesRegistradas());
+        assertEquals(version, estudiante.version());
+    }
+
+    @Test
+    void siElSolicitanteNoSePuedeGuardarLaSolicitudIndividualSeDescarta() {
+        InMemoryUsuarioRepository usuariosQueFallan = new InMemoryUsuarioRepository() {
+            @Override
+            public void saveAll(Collection<Usuario> usuarios) {
+                throw new IllegalStateException("Fallo de almacenamiento");
+            }
+        };
+        RegistroCargaTrabajo carga = new RegistroCargaTrabajo(solicitudRepository, usuariosQueFallan);
+        SolicitudApplicationService conFallo = new SolicitudApplicationService(solicitudRepository, usuariosQueFallan,
+                new SolicitudDomainService(), carga, new MetricasSolicitudes(true));
+        Usuario estudiante = usuariosQueFallan.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+
+        assertThrows(IllegalStateException.class, () -> conFallo.crearSolicitud(estudiante.id().value(),
+                estudiante.nombre(), CanalOrigen.SAC, "Solicitud cuyo solicitante no se guarda"));
+
+        assertTrue(solicitudRepository.findAll().isEmpty());
+        assertEquals(0, carga.pendientesDe(estudiante.id().value()));
+        assertEquals(0, usuariosQueFallan.findById(estudiante.id()).orElseThrow().cantidadSolicitudesRegistradas());
+    }
+
+    @Test
+    void aplicaVariasTransicionesSobreLaMismaSolicitudYGuardaUnaVez() {
+        Usuario coordinador = usuarioRepository.save(Usuario.crear("Coordinadora", Rol.COORDINADOR));
+        Usuario docente = usuarioRepository.save(Usuario.crear("Docente", Rol.DOCENTE));
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        UUID primera = service.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                "Primera solicitud a clasificar").id().value();
+        UUID segunda = service.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                "Segunda solicitud a clasificar").id().value();
+
+        List<ResultadoLote<Solicitud>> resultados = service.aplicarTransicionesEnLote(coordinador.id().value(), List.of(
+                new ComandoTransicion.Clasificar(primera, TipoSolicitud.HOMOLOGACION),
+                new ComandoTransicion.Priorizar(primera, Prioridad.ALTA, "Cierre de semestre cercano"),
+                new ComandoTransicion.AsignarResponsable(primera, docente.id().value()),
+                new ComandoTransicion.Priorizar(segunda, Prioridad.BAJA, "Sin clasificar todavía"),
+                new ComandoTransicion.Clasificar(UUID.randomUUID(), TipoSolicitud.CONSULTA_ACADEMICA)));
+
+        assertTrue(resultados.get(0).exitoso());
+        assertTrue(resultados.get(1).exitoso());
+        assertTrue(resultados.get(2).exitoso());
+        assertFalse(resultados.get(3).exitoso());
+        assertEquals("Solicitud no encontrada", resultados.get(4).error());
+
+        Solicitud guardada = solicitudRepository.findById(new SolicitudId(primera)).orElseThrow();
+        assertEquals(EstadoSolicitud.EN_ATENCION, guardada.estado());
+        assertEquals(Prioridad.ALTA, guardada.prioridad());
+        assertEquals(2, guardada.version(), "Las tres transiciones se guardan con una sola escritura");
+        assertEquals(guardada.version(), resultados.get(0).valor().version());
+        assertEquals(1, cargaTrabajo.enAtencionDe(docente.id().value()));
+        assertEquals(EstadoSolicitud.REGISTRADA,
+                solicitudRepository.findById(new SolicitudId(segunda)).orElseThrow().estado());
+    }
+
+    @Test
+    void unaSolicitudModificadaPorOtraOperacionFallaSinAfectarAlRestoDelLote() {
+        Usuario coordinador = usuarioRepository.save(Usuario.crear("Coordinadora", Rol.COORDINADOR));
+        Usuario docente = usuarioRepository.save(Usuario.crear("Docente", Rol.DOCENTE));
+        Usuario estudiante = usuarioRepository.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        UsuarioReferencia otroCoordinador = new UsuarioReferencia(UUID.randomUUID(), "Otro coordinador");
+        SolicitudId[] desactualizada = new SolicitudId[1];
+        // Otra operación guarda la solicitud justo después de que el lote compruebe su versión
+        InMemorySolicitudRepository concurrente = new InMemorySolicitudRepository() {
+            @Override
+            public OptionalLong findVersionById(SolicitudId id) {
+                OptionalLong version = super.findVersionById(id);
+                if (id.equals(desactualizada[0])) {
+                    desactualizada[0] = null;
+                    Solicitud otra = findById(id).orElseThrow();
+                    otra.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, otroCoordinador);
+                    save(otra);
+                }
+                return version;
+            }
+        };
+        RegistroCargaTrabajo carga = new RegistroCargaTrabajo(concurrente, usuarioRepository);
+        SolicitudApplicationService conConcurrencia = new SolicitudApplicationService(concurrente, usuarioRepository,
+                new SolicitudDomainService(), carga, new MetricasSolicitudes(true));
+        UUID primera = conConcurrencia.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                "Primera solicitud del lote").id().value();
+        UUID segunda = conConcurrencia.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                "Segunda solicitud del lote").id().value();
+        desactualizada[0] = new SolicitudId(segunda);
+
+        List<ResultadoLote<Solicitud>> resultados = conConcurrencia.aplicarTransicionesEnLote(coordinador.id().value(), List.of(
+                new ComandoTransicion.Clasificar(primera, TipoSolicitud.HOMOLOGACION),
+                new ComandoTransicion.AsignarResponsable(primera, docente.id().value()),
+                new ComandoTransicion.Clasificar(segunda, TipoSolicitud.SOLICITUD_CUPOS),
+                new ComandoTransicion.AsignarResponsable(segunda, docente.id().value())));
+
+        assertTrue(resultados.get(0).exitoso());
+        assertTrue(resultados.get(1).exitoso());
+        assertEquals("La solicitud fue modificada por otra operación", resultados.get(2).error());
+        assertEquals("La solicitud fue modificada por otra operación", resultados.get(3).error());
+
+        assertEquals(EstadoSolicitud.EN_ATENCION, concurrente.findById(new SolicitudId(primera)).orElseThrow().estado());
+        Solicitud intacta = concurrente.findById(new SolicitudId(segunda)).orElseThrow();
+        assertEquals(EstadoSolicitud.CLASIFICADA, intacta.estado());
+        assertEquals(TipoSolicitud.CONSULTA_ACADEMICA, intacta.tipoSolicitud());
+        assertNull(intacta.responsable());
+        assertEquals(1, carga.enAtencionDe(docente.id().value()));
+    }
+
+    @Test
+    void rechazaUnLoteVacio() {
+        assertThrows(DomainException.class, () -> service.crearSolicitudesEnLote(List.of()));
+    }
+
+    private static NuevaSolicitud nueva(UUID solicitanteId, String descripcion) {
+        return new NuevaSolicitud(solicitanteId, "Solicitante", CanalOrigen.CSU, descripcion);
+    }
+}
@@ -0,0 +1,89 @@
+package co.edu.uniquindio.proyecto.application;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepositoryObservado;
+import co.edu.uniquindio.proyecto.infrastructure.vencimientos.MonitorVencimientos;
+import co.edu.uniquindio.proyecto.infrastructure.vencimientos.PlazosAtencion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriajeApplicationServiceTest {
+
+    private static final UsuarioReferencia COORDINADOR = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+
+    private ColaTriaje cola;
+    private SolicitudRepository repositorio;
+    private TriajeApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        cola = new ColaTriaje();
+        repositorio = new SolicitudRepositoryObservado(new InMemorySolicitudRepository(), List.of(cola));
+        MonitorVencimientos monitor = new MonitorVencimientos(new PlazosAtencion(Duration.ofHours(8), Duration.ofHours(24),
+                Duration.ofHours(72), Duration.ofHours(24)), Duration.ofSeconds(1), Instant.now(), List.of());
+        service = new TriajeApplicationService(repositorio, cola, monitor, new MetricasSolicitudes(true));
+    }
+
+    @Test
+    void ordenaPorPrioridadYLuegoPorAntiguedad() {
+        Solicitud sinPrioridad = repositorio.save(nueva("Registrada más antigua"));
+        Solicitud media = priorizar(repositorio.save(nueva("Media")), Prioridad.MEDIA);
+        Solicitud altaAntigua = priorizar(repositorio.save(nueva("Alta antigua")), Prioridad.ALTA);
+        Solicitud altaReciente = priorizar(repositorio.save(nueva("Alta reciente")), Prioridad.ALTA);
+
+        assertEquals(List.of(altaAntigua.id(), altaReciente.id(), media.id(), sinPrioridad.id()), ids(service.consultarCola(10)));
+        assertEquals(List.of(altaAntigua.id(), altaReciente.id()), ids(service.consultarCola(2)));
+    }
+
+    @Test
+    void sacaDeLaColaLasQueAvanzanOSeEliminanYDescartaAvisosAtrasados() {
+        Solicitud alta = priorizar(repositorio.save(nueva("Alta")), Prioridad.ALTA);
+        Solicitud registrada = repositorio.save(nueva("Registrada"));
+
+        Solicitud clasificada = alta.copia();
+        alta.asignarResponsable(Usuario.crear("Docente", Rol.DOCENTE), COORDINADOR);
+        repositorio.save(alta);
+        assertEquals(List.of(registrada.id()), ids(service.consultarCola(10)));
+
+        // Un aviso de una versión anterior que llega tarde no la devuelve a la cola
+        cola.solicitudGuardada(clasificada);
+        assertEquals(List.of(registrada.id()), ids(service.consultarCola(10)));
+
+        repositorio.delete(registrada);
+        assertTrue(service.consultarCola(10).isEmpty());
+    }
+
+    private Solicitud priorizar(Solicitud solicitud, Prioridad prioridad) {
+        solicitud.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, COORDINADOR);
+        solicitud = repositorio.save(solicitud);
+        solicitud.priorizar(prioridad, new JustificacionPrioridad("Prioridad para la cola"), COORDINADOR);
+        return repositorio.save(solicitud);
+    }
+
+    private static Solicitud nueva(String descripcion) {
+        return Solicitud.crear(COORDINADOR, CanalOrigen.CSU, new DescripcionSolicitud("Solicitud " + descripcion));
+    }
+
+    private static List<SolicitudId> ids(List<Solicitud> solicitudes) {
+        return solicitudes.stream().map(Solicitud::id).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package co.edu.uniquindio.proyecto.domain.identificador;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneradorUuidV7Test {
+
+    @Test
+    void generaUuidVersion7ConElInstanteEnLosBitsAltos() {
+        long antes = System.currentTimeMillis();
+        UUID uuid = new GeneradorUuidV7().siguiente();
+        long despues = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long milisegundo = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(milisegundo >= antes && milisegundo <= despues);
+    }
+
+    @Test
+    void esEstrictamenteCrecienteDentroDeUnMismoMilisegundoYSiElRelojRetrocede() {
+        AtomicLong reloj = new AtomicLong(1_700_000_000_000L);
+        GeneradorUuidV7 generador = new GeneradorUuidV7(reloj::get);
+
+        UUID anterior = generador.siguiente();
+        for (int i = 0; i < 100_000; i++) {
+            if (i == 50_000) reloj.addAndGet(-5_000);
+            UUID actual = generador.siguiente();
+            assertTrue(anterior.compareTo(actual) < 0, "Debe crecer en la iteración " + i);
+            anterior = actual;
+        }
+    }
+
+    @Test
+    void noRepiteValoresEntreHilos() throws Exception {
+        GeneradorUuidV7 generador = new GeneradorUuidV7();
+        Set<UUID> generados = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < 8; h++) {
+                tareas.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        generados.add(generador.siguiente());
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(8 * 20_000, generados.size());
+    }
+}
@@ -0,0 +1,101 @@
+package co.edu.uniquindio.proyecto.infrastructure.api;
+
+import co.edu.uniquindio.proyecto.application.RegistroCargaTrabajo;
+import co.edu.uniquindio.proyecto.application.SolicitudApplicationService;
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.exception.VersionMismatch;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.metricas.MetricasSolicitudes;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.ColumnarSolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EtiquetasVersionTest {
+
+    @Test
+    void comparaLasEtiquetasDeLasCabecerasCondicionales() {
+        assertEquals("\"7\"", EtiquetasVersion.de(7));
+        assertTrue(EtiquetasVersion.coincide("\"7\"", 7));
+        assertTrue(EtiquetasVersion.coincide("W/\"7\"", 7));
+        assertTrue(EtiquetasVersion.coincide("\"3\", W/\"7\"", 7));
+        assertTrue(EtiquetasVersion.coincide("*", 7));
+        assertFalse(EtiquetasVersion.coincide("\"6\"", 7));
+        assertFalse(EtiquetasVersion.coincide("7", 7));
+        assertFalse(EtiquetasVersion.coincide("\"\"", 0));
+        assertFalse(EtiquetasVersion.coincide(null, 7));
+
+        assertNull(EtiquetasVersion.versionExigida(null));
+        assertNull(EtiquetasVersion.versionExigida(" * "));
+        assertEquals(7L, (long) EtiquetasVersion.versionExigida("\"7\""));
+        // If-Match usa la comparación fuerte
+        assertThrows(VersionMismatch.class, () -> EtiquetasVersion.versionExigida("W/\"7\""));
+        assertThrows(VersionMismatch.class, () -> EtiquetasVersion.versionExigida("\"99999999999999999999\""));
+    }
+
+    @Test
+    void unaTransicionConIfMatchSoloSeAplicaSobreEsaVersion() {
+        InMemorySolicitudRepository solicitudes = new InMemorySolicitudRepository();
+        InMemoryUsuarioRepository usuarios = new InMemoryUsuarioRepository();
+        SolicitudApplicationService service = new SolicitudApplicationService(solicitudes, usuarios,
+                new SolicitudDomainService(), new RegistroCargaTrabajo(solicitudes, usuarios), new MetricasSolicitudes(true));
+        Usuario estudiante = usuarios.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        UUID coordinador = usuarios.save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+
+        Solicitud creada = service.crearSolicitud(estudiante.id().value(), estudiante.nombre(), CanalOrigen.CSU,
+                "Solicitud de homologación de asignaturas");
+        UUID id = creada.id().value();
+        assertEquals(1, service.consultarVersion(id));
+        // Guardar el usuario nuevo deja la versión 1 y registrar la solicitud la sube a 2
+        assertEquals(1, estudiante.version());
+        assertEquals(2, usuarios.findById(estudiante.id()).orElseThrow().version());
+
+        assertThrows(VersionMismatch.class,
+                () -> service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador, 2L));
+        assertEquals(EstadoSolicitud.REGISTRADA, service.obtenerSolicitud(id).estado());
+
+        Solicitud clasificada = service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador, 1L);
+        assertEquals(2, clasificada.version());
+        assertEquals(2, service.consultarVersion(id));
+    }
+
+    @Test
+    void laVersionSeLeeSinMaterializarEnCadaRepositorio() {
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        for (SolicitudRepository repository : List.of(new InMemorySolicitudRepository(), new ColumnarSolicitudRepository())) {
+            Solicitud solicitud = repository.save(Solicitud.crear(coordinador, CanalOrigen.SAC,
+                    new DescripcionSolicitud("Solicitud para consultar su versión")));
+            solicitud.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+            repository.save(solicitud);
+
+            assertEquals(OptionalLong.of(2), repository.findVersionById(solicitud.id()));
+            assertEquals(OptionalLong.empty(), repository.findVersionById(new SolicitudId(UUID.randomUUID())));
+        }
+
+        // Los cambios del usuario se hacen sobre una copia; la versión solo sube al guardarla
+        InMemoryUsuarioRepository usuarios = new InMemoryUsuarioRepository();
+        Usuario docente = usuarios.save(Usuario.crear("Docente", Rol.DOCENTE));
+        assertSame(docente, docente.activado());
+        Usuario inactivo = docente.desactivado();
+        assertEquals(1, inactivo.version());
+        assertTrue(docente.activo());
+        assertEquals(2, usuarios.save(inactivo).version());
+        assertThrows(ConcurrencyConflict.class, () -> usuarios.save(docente.desactivado()));
+    }
+}
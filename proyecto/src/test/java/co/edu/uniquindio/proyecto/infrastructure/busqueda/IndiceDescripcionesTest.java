@@ -0,0 +1,74 @@
+package co.edu.uniquindio.proyecto.infrastructure.busqueda;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceDescripcionesTest {
+
+    private static final UsuarioReferencia COORDINADOR = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+
+    private final IndiceDescripciones indice = new IndiceDescripciones();
+
+    @Test
+    void normalizaMayusculasTildesYPalabrasVacias() {
+        assertEquals(List.of("homologacion", "calculo", "diferencial", "año", "2024"),
+                NormalizadorTexto.terminos("Homologación de CÁLCULO diferencial, año 2024 y a"));
+    }
+
+    @Test
+    void exigeTodosLosTerminosYOrdenaPorRelevancia() {
+        Solicitud poco = guardar("Solicitud de homologación de la materia de cálculo y de otros cursos pendientes");
+        Solicitud mucho = guardar("Homologación de cálculo");
+        guardar("Cancelación de cálculo");
+
+        assertEquals(List.of(mucho.id(), poco.id()), ids(indice.buscar("homologacion CALCULO", null, null, 10)));
+        assertEquals(List.of(mucho.id()), ids(indice.buscar("homologacion calculo", null, null, 1)));
+        assertTrue(indice.buscar("homologacion inexistente", null, null, 10).isEmpty());
+        assertTrue(indice.buscar("de la y", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void filtraPorEstadoYTipoSegunLaUltimaVersion() {
+        Solicitud registrada = guardar("Cupo en electiva");
+        Solicitud clasificada = Solicitud.crear(COORDINADOR, CanalOrigen.CSU, new DescripcionSolicitud("Cupo en laboratorio"));
+        clasificada.clasificar(TipoSolicitud.SOLICITUD_CUPOS, COORDINADOR);
+        indice.solicitudGuardada(clasificada.copiaConVersion(1));
+
+        assertEquals(List.of(registrada.id()), ids(indice.buscar("cupo", EstadoSolicitud.REGISTRADA, null, 10)));
+        assertEquals(List.of(clasificada.id()), ids(indice.buscar("cupo", null, TipoSolicitud.SOLICITUD_CUPOS, 10)));
+        assertEquals(List.of(clasificada.id()),
+                ids(indice.buscar("cupo", EstadoSolicitud.CLASIFICADA, TipoSolicitud.SOLICITUD_CUPOS, 10)));
+    }
+
+    @Test
+    void noDevuelveEliminadasNiLasReindexaConAvisosAtrasados() {
+        Solicitud solicitud = guardar("Certificado de notas");
+        indice.solicitudEliminada(solicitud.id());
+        indice.solicitudGuardada(solicitud);
+
+        assertTrue(indice.buscar("certificado", null, null, 10).isEmpty());
+        assertEquals(0, indice.cantidadDocumentos());
+    }
+
+    private Solicitud guardar(String descripcion) {
+        Solicitud solicitud = Solicitud.crear(COORDINADOR, CanalOrigen.CSU, new DescripcionSolicitud(descripcion))
+                .copiaConVersion(1);
+        indice.solicitudGuardada(solicitud);
+        return solicitud;
+    }
+
+    private static List<SolicitudId> ids(List<Coincidencia> coincidencias) {
+        return coincidencias.stream().map(Coincidencia::id).toList();
+    }
+}
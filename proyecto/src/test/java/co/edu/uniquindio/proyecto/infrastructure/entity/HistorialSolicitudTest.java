@@ -0,0 +1,63 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistorialSolicitudTest {
+
+    private static final UsuarioReferencia USUARIO = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+
+    @Test
+    void lasCopiasQueDivergenNoVenLasEntradasDeLaOtra() {
+        HistorialSolicitud base = HistorialSolicitud.vacio().agregar(entrada("REGISTRAR")).agregar(entrada("CLASIFICAR"));
+        List<EntradaHistorial> vistaBase = base.vista();
+
+        HistorialSolicitud primera = base.agregar(entrada("PRIORIZAR"));
+        HistorialSolicitud segunda = base.agregar(entrada("ASIGNAR"));
+
+        assertEquals(List.of("REGISTRAR", "CLASIFICAR"), acciones(vistaBase));
+        assertEquals(List.of("REGISTRAR", "CLASIFICAR", "PRIORIZAR"), acciones(primera.vista()));
+        assertEquals(List.of("REGISTRAR", "CLASIFICAR", "ASIGNAR"), acciones(segunda.vista()));
+        assertEquals(List.of("REGISTRAR", "CLASIFICAR", "PRIORIZAR", "CERRAR"),
+                acciones(primera.agregar(entrada("CERRAR")).vista()));
+    }
+
+    @Test
+    void leerYCopiarUnaSolicitudNoCopiaElHistorial() {
+        Solicitud solicitud = Solicitud.crear(USUARIO, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud con historial compartido"));
+
+        assertSame(solicitud.historial(), solicitud.copia().historial());
+        assertSame(solicitud.historial(), HistorialSolicitud.de(solicitud.historial()).vista());
+        assertThrows(UnsupportedOperationException.class, () -> solicitud.historial().add(entrada("OTRA")));
+    }
+
+    @Test
+    void paginaRecortaAlFinalDelHistorial() {
+        HistorialSolicitud historial = HistorialSolicitud.vacio();
+        for (int i = 0; i < 20; i++) {
+            historial = historial.agregar(entrada("ACCION_" + i));
+        }
+
+        assertEquals(List.of("ACCION_5", "ACCION_6"), acciones(historial.pagina(5, 2)));
+        assertEquals(List.of("ACCION_18", "ACCION_19"), acciones(historial.pagina(18, 50)));
+        assertTrue(historial.pagina(25, 10).isEmpty());
+        assertEquals(20, historial.pagina(0, Integer.MAX_VALUE).size());
+    }
+
+    private static EntradaHistorial entrada(String accion) {
+        return new EntradaHistorial(UUID.randomUUID(), Instant.now(), accion, USUARIO, "");
+    }
+
+    private static List<String> acciones(List<EntradaHistorial> historial) {
+        return historial.stream().map(EntradaHistorial::accion).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package co.edu.uniquindio.proyecto.infrastructure.entity;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenciasSolicitudesTest {
+
+    @Test
+    void paginaEnOrdenDeRegistroConEtiquetaDerivadaDelId() {
+        List<SolicitudId> ids = new ArrayList<>();
+        Usuario registrado = Usuario.crear("Estudiante", Rol.ESTUDIANTE);
+        for (int i = 0; i < 25; i++) {
+            SolicitudId id = SolicitudId.newId();
+            ids.add(id);
+            registrado = registrado.conSolicitudRegistrada(id);
+        }
+        Usuario estudiante = registrado;
+
+        assertEquals(25, estudiante.cantidadSolicitudesRegistradas());
+        List<UsuarioReferencia> pagina = estudiante.solicitudesRegistradas(20, 10);
+        assertEquals(5, pagina.size());
+        assertEquals(ids.get(20).value(), pagina.getFirst().value());
+        assertEquals("Solicitud #" + ids.get(20).value().toString().substring(0, 8), pagina.getFirst().nombre());
+        assertTrue(estudiante.solicitudesRegistradas(25, 10).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> estudiante.solicitudesRegistradas(-1, 10));
+    }
+
+    @Test
+    void lasCopiasQueAgreganDesdeElMismoUsuarioNoSePisan() throws Exception {
+        Usuario base = Usuario.crear("Estudiante", Rol.ESTUDIANTE);
+        for (int i = 0; i < 10; i++) {
+            base = base.conSolicitudRegistrada(SolicitudId.newId());
+        }
+        Usuario estudiante = base;
+        List<UsuarioReferencia> previas = estudiante.solicitudesRegistradas(0, 10);
+
+        // Cada hilo agrega sobre la misma instancia: una reclama el espacio libre y las demás copian
+        List<Callable<Boolean>> tareas = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            tareas.add(() -> {
+                SolicitudId id = SolicitudId.newId();
+                Usuario copia = estudiante.conSolicitudRegistrada(id).conSolicitudRegistrada(SolicitudId.newId());
+                List<UsuarioReferencia> registradas = copia.solicitudesRegistradas(0, 20);
+                return copia.cantidadSolicitudesRegistradas() == 12
+                        && registradas.subList(0, 10).equals(previas)
+                        && registradas.get(10).value().equals(id.value());
+            });
+        }
+        ExecutorService hilos = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Boolean> resultado : hilos.invokeAll(tareas)) {
+                assertTrue(resultado.get());
+            }
+        } finally {
+            hilos.shutdown();
+        }
+        assertEquals(10, estudiante.cantidadSolicitudesRegistradas());
+        assertEquals(previas, estudiante.solicitudesRegistradas(0, 20));
+    }
+}
@@ -0,0 +1,79 @@
+package co.edu.uniquindio.proyecto.infrastructure.estadisticas;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepositoryObservado;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static co.edu.uniquindio.proyecto.infrastructure.estadisticas.DimensionEstadistica.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProyeccionEstadisticasTest {
+
+    private static final UsuarioReferencia COORDINADOR = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+
+    @Test
+    void mueveLaSolicitudDeCeldaEnCadaTransicion() {
+        ProyeccionEstadisticas proyeccion = new ProyeccionEstadisticas();
+        SolicitudRepository repositorio = new SolicitudRepositoryObservado(new InMemorySolicitudRepository(), List.of(proyeccion));
+
+        Solicitud primera = repositorio.save(nueva(CanalOrigen.CSU));
+        repositorio.save(nueva(CanalOrigen.CORREO));
+        primera.clasificar(TipoSolicitud.HOMOLOGACION, COORDINADOR);
+        primera = repositorio.save(primera);
+        primera.priorizar(Prioridad.ALTA, new JustificacionPrioridad("Cierre de semestre cercano"), COORDINADOR);
+        repositorio.save(primera);
+
+        TablaEstadisticas tabla = proyeccion.tabla(List.of(ESTADO, PRIORIDAD));
+        assertEquals(2, tabla.total());
+        assertEquals(List.of(fila(1, "REGISTRADA", null), fila(1, "CLASIFICADA", "ALTA")), tabla.filas());
+        assertEquals(List.of(fila(1, "CSU"), fila(1, "CORREO")), proyeccion.tabla(List.of(CANAL)).filas());
+    }
+
+    @Test
+    void descartaVersionesAnterioresYContabilizaLasEliminaciones() {
+        ProyeccionEstadisticas proyeccion = new ProyeccionEstadisticas();
+        Solicitud registrada = nueva(CanalOrigen.SAC).copiaConVersion(1);
+        Solicitud clasificada = registrada.copia();
+        clasificada.clasificar(TipoSolicitud.SOLICITUD_CUPOS, COORDINADOR);
+        clasificada = clasificada.copiaConVersion(2);
+
+        // Notificaciones en desorden: la versión 1 llega después de la 2
+        proyeccion.solicitudGuardada(clasificada);
+        proyeccion.solicitudGuardada(registrada);
+        assertEquals(List.of(fila(1, "SOLICITUD_CUPOS")), proyeccion.tabla(List.of(TIPO)).filas());
+
+        proyeccion.solicitudEliminada(clasificada.id());
+        assertEquals(0, proyeccion.tabla(List.of()).total());
+    }
+
+    @Test
+    void cargaLasSolicitudesExistentesAlConstruirElRepositorio() {
+        InMemorySolicitudRepository existente = new InMemorySolicitudRepository();
+        existente.save(nueva(CanalOrigen.PRESENCIAL));
+        ProyeccionEstadisticas proyeccion = new ProyeccionEstadisticas();
+
+        new SolicitudRepositoryObservado(existente, List.of(proyeccion));
+
+        assertEquals(List.of(fila(1, "REGISTRADA", "PRESENCIAL")), proyeccion.tabla(List.of(ESTADO, CANAL)).filas());
+    }
+
+    private static Solicitud nueva(CanalOrigen canal) {
+        return Solicitud.crear(COORDINADOR, canal, new DescripcionSolicitud("Solicitud para las estadísticas"));
+    }
+
+    private static TablaEstadisticas.Fila fila(long cantidad, String... valores) {
+        return new TablaEstadisticas.Fila(Arrays.asList(valores), cantidad);
+    }
+}
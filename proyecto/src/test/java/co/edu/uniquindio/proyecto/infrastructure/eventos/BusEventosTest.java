@@ -0,0 +1,183 @@
+package co.edu.uniquindio.proyecto.infrastructure.eventos;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepositoryPublicador;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusEventosTest {
+
+    private static final UsuarioReferencia USUARIO = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+
+    @Test
+    void entregaTodosLosEventosEnOrdenACadaManejadorPorLotes() throws Exception {
+        int productores = 4;
+        int porProductor = 5000;
+        Recolector rapido = new Recolector("rapido", 0);
+        Recolector lento = new Recolector("lento", 1);
+        BusEventos bus = new BusEventos(64, 16, PoliticaSaturacion.ESPERAR, Duration.ofSeconds(30), List.of(rapido, lento));
+        bus.iniciar();
+
+        try (ExecutorService ejecutor = Executors.newFixedThreadPool(productores)) {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int p = 0; p < productores; p++) {
+                int productor = p;
+                tareas.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < porProductor; i++) {
+                        assertTrue(bus.publicar(evento(productor + ":" + i)));
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) tarea.get(1, TimeUnit.MINUTES);
+        }
+        bus.close();
+
+        for (Recolector recolector : List.of(rapido, lento)) {
+            assertEquals(productores * porProductor, recolector.recibidos.size(), recolector.nombre());
+            assertTrue(recolector.mayorLote <= 16);
+            // Dentro de cada productor el orden de publicación se conserva
+            int[] ultimo = new int[productores];
+            Arrays.fill(ultimo, -1);
+            for (String observacion : recolector.recibidos) {
+                String[] partes = observacion.split(":");
+                int productor = Integer.parseInt(partes[0]);
+                int numero = Integer.parseInt(partes[1]);
+                assertEquals(ultimo[productor] + 1, numero);
+                ultimo[productor] = numero;
+            }
+        }
+
+        EstadisticasBus estadisticas = bus.estadisticas();
+        assertEquals(productores * porProductor, estadisticas.publicados());
+        assertEquals(0, estadisticas.descartados());
+        for (EstadisticasConsumidor consumidor : estadisticas.consumidores()) {
+            assertEquals(productores * porProductor, consumidor.procesados());
+            assertEquals(0, consumidor.retraso());
+        }
+    }
+
+    @Test
+    void conElAnilloLlenoDescartaSinBloquearYElRetrasoLoMuestra() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch recibio = new CountDownLatch(1);
+        List<String> recibidos = Collections.synchronizedList(new ArrayList<>());
+        ManejadorEventos bloqueado = lote -> {
+            recibio.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lote.forEach(evento -> recibidos.add(evento.observacion()));
+        };
+        BusEventos bus = new BusEventos(8, 4, PoliticaSaturacion.DESCARTAR, Duration.ZERO, List.of(bloqueado));
+        bus.iniciar();
+
+        assertTrue(bus.publicar(evento("primero")));
+        assertTrue(recibio.await(10, TimeUnit.SECONDS));
+        int aceptados = 1;
+        for (int i = 0; i < 20; i++) {
+            if (bus.publicar(evento("e" + i))) aceptados++;
+        }
+        // El manejador retiene la celda del primero: solo caben las 7 restantes
+        assertEquals(8, aceptados);
+        EstadisticasBus saturado = bus.estadisticas();
+        assertEquals(13, saturado.descartados());
+        assertEquals(8, saturado.consumidores().getFirst().retraso());
+
+        liberar.countDown();
+        bus.close();
+        assertEquals(8, recibidos.size());
+        assertEquals(0, bus.estadisticas().consumidores().getFirst().retraso());
+        assertFalse(bus.publicar(evento("cerrado")));
+    }
+
+    @Test
+    void elRepositorioPublicaUnEventoPorTransicionGuardada() {
+        Recolector recolector = new Recolector("recolector", 0);
+        BusEventos bus = new BusEventos(64, 16, PoliticaSaturacion.ESPERAR, Duration.ofSeconds(5), List.of(recolector));
+        bus.iniciar();
+        SolicitudRepositoryPublicador repository = new SolicitudRepositoryPublicador(new InMemorySolicitudRepository(), bus);
+
+        Solicitud solicitud = repository.save(Solicitud.crear(USUARIO, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud de prueba para el bus de eventos")));
+        Solicitud desactualizada = repository.findById(solicitud.id()).orElseThrow();
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, USUARIO);
+        solicitud.priorizar(Prioridad.ALTA, new JustificacionPrioridad("Afecta la matrícula"), USUARIO);
+        Solicitud guardada = repository.save(solicitud);
+        // Un guardado rechazado no publica nada
+        desactualizada.clasificar(TipoSolicitud.SOLICITUD_CUPOS, USUARIO);
+        assertThrows(ConcurrencyConflict.class, () -> repository.save(desactualizada));
+        assertTrue(guardada.historialSinGuardar().isEmpty());
+        bus.close();
+
+        assertEquals(List.of(TipoEventoSolicitud.REGISTRADA, TipoEventoSolicitud.CLASIFICADA, TipoEventoSolicitud.PRIORIZADA),
+                recolector.eventos.stream().map(EventoSolicitud::tipo).toList());
+        assertEquals(List.of(1L, 2L, 2L), recolector.eventos.stream().map(EventoSolicitud::version).toList());
+        assertEquals(guardada.historial().stream().map(e -> e.id()).toList(),
+                recolector.eventos.stream().map(EventoSolicitud::id).toList());
+    }
+
+    private static EventoSolicitud evento(String observacion) {
+        return new EventoSolicitud(UUID.randomUUID(), TipoEventoSolicitud.REGISTRADA, new SolicitudId(UUID.randomUUID()),
+                USUARIO, 1, Instant.now(), USUARIO, observacion);
+    }
+
+    /** Manejador que guarda lo recibido; solo lo toca su hilo hasta que el bus se cierra. */
+    private static final class Recolector implements ManejadorEventos {
+        private final String nombre;
+        private final long pausaMilis;
+        private final List<String> recibidos = new ArrayList<>();
+        private final List<EventoSolicitud> eventos = new ArrayList<>();
+        private int mayorLote;
+
+        private Recolector(String nombre, long pausaMilis) {
+            this.nombre = nombre;
+            this.pausaMilis = pausaMilis;
+        }
+
+        @Override
+        public String nombre() {
+            return nombre;
+        }
+
+        @Override
+        public void manejar(List<EventoSolicitud> lote) {
+            mayorLote = Math.max(mayorLote, lote.size());
+            for (EventoSolicitud evento : lote) {
+                recibidos.add(evento.observacion());
+                eventos.add(evento);
+            }
+            if (pausaMilis > 0 && recibidos.size() % 1000 < lote.size()) {
+                try {
+                    Thread.sleep(pausaMilis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package co.edu.uniquindio.proyecto.infrastructure.metricas;
+
+import co.edu.uniquindio.proyecto.application.RegistroCargaTrabajo;
+import co.edu.uniquindio.proyecto.application.SolicitudApplicationService;
+import co.edu.uniquindio.proyecto.domain.exception.BusinessRuleViolation;
+import co.edu.uniquindio.proyecto.domain.service.SolicitudDomainService;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemorySolicitudRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.InMemoryUsuarioRepository;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.SolicitudRepositoryMedido;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.UsuarioRepositoryMedido;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasSolicitudesTest {
+
+    @Test
+    void losPercentilesRespetanElErrorRelativoDeLasCubetas() {
+        HistogramaLogaritmico histograma = new HistogramaLogaritmico();
+        for (long valor = 1; valor <= 100_000; valor++) {
+            histograma.registrar(valor);
+        }
+
+        ResumenHistograma resumen = histograma.resumir(1);
+        assertEquals(100_000, resumen.cantidad());
+        assertEquals(50_000.5, resumen.media(), 1e-9);
+        assertEquals(50_000, resumen.p50(), 50_000 * 0.032);
+        assertEquals(99_000, resumen.p99(), 99_000 * 0.032);
+        assertEquals(100_000, resumen.maximo());
+        assertTrue(resumen.p999() <= resumen.maximo());
+    }
+
+    @Test
+    void cuentaLlamadasARepositoriosYRechazosPorOperacion() {
+        MetricasSolicitudes metricas = new MetricasSolicitudes(true);
+        InMemorySolicitudRepository solicitudes = new InMemorySolicitudRepository();
+        InMemoryUsuarioRepository usuarios = new InMemoryUsuarioRepository();
+        SolicitudApplicationService service = new SolicitudApplicationService(
+                new SolicitudRepositoryMedido(solicitudes, metricas), new UsuarioRepositoryMedido(usuarios, metricas),
+                new SolicitudDomainService(), new RegistroCargaTrabajo(solicitudes, usuarios), metricas);
+        UUID estudiante = usuarios.save(Usuario.crear("Estudiante", Rol.ESTUDIANTE)).id().value();
+        UUID coordinador = usuarios.save(Usuario.crear("Coordinadora", Rol.COORDINADOR)).id().value();
+
+        UUID id = null;
+        for (int i = 0; i < 5; i++) {
+            id = service.crearSolicitud(estudiante, "Estudiante", CanalOrigen.CSU, "Solicitud número " + i).id().value();
+        }
+        assertThrows(BusinessRuleViolation.class,
+                () -> service.crearSolicitud(estudiante, "Estudiante", CanalOrigen.CSU, "Solicitud que supera el límite"));
+        service.clasificarSolicitud(id, TipoSolicitud.HOMOLOGACION, coordinador);
+
+        Map<OperacionSolicitud, MetricasSolicitudes.MetricasOperacion> resumen = metricas.resumen();
+        MetricasSolicitudes.MetricasOperacion crear = resumen.get(OperacionSolicitud.CREAR);
+        assertEquals(6, crear.latenciaMicros().cantidad());
+        // Buscar el solicitante, guardarlo y guardar la solicitud
+        assertEquals(3, crear.llamadasRepositorio().maximo());
+        assertEquals(1, crear.rechazos().size());
+        assertEquals(Long.valueOf(1), crear.rechazos().values().iterator().next());
+
+        // Clasificar incluye la consulta interna de la solicitud: buscarla, buscar al coordinador y guardar
+        assertEquals(3, resumen.get(OperacionSolicitud.CLASIFICAR).llamadasRepositorio().maximo());
+        assertEquals(1, resumen.get(OperacionSolicitud.CONSULTAR).llamadasRepositorio().maximo());
+        assertFalse(resumen.containsKey(OperacionSolicitud.CERRAR));
+    }
+}
@@ -0,0 +1,181 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarSolicitudRepositoryTest {
+
+    private final UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+
+    @Test
+    void materializaLaMismaSolicitudQueSeGuardo() {
+        ColumnarSolicitudRepository repository = new ColumnarSolicitudRepository();
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+
+        Solicitud solicitud = repository.save(nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Ana")));
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        solicitud = repository.save(solicitud);
+        solicitud.priorizar(Prioridad.ALTA, new JustificacionPrioridad("Afecta la matrícula del semestre"), coordinador);
+        solicitud.asignarResponsable(docente, coordinador);
+        Solicitud guardada = repository.save(solicitud);
+
+        Solicitud leida = repository.findById(guardada.id()).orElseThrow();
+        assertIguales(guardada, leida);
+        assertEquals(3, leida.version());
+        assertEquals(4, leida.cantidadHistorial());
+    }
+
+    @Test
+    void rechazaVersionesDesactualizadasSinEscribirNada() {
+        ColumnarSolicitudRepository repository = new ColumnarSolicitudRepository();
+        Solicitud guardada = repository.save(nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Ana")));
+
+        Solicitud primera = repository.findById(guardada.id()).orElseThrow();
+        Solicitud segunda = repository.findById(guardada.id()).orElseThrow();
+        primera.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        segunda.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+        assertEquals(2, repository.save(primera).version());
+        assertThrows(ConcurrencyConflict.class, () -> repository.save(segunda));
+
+        Solicitud nueva = nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Luis"));
+        assertThrows(ConcurrencyConflict.class, () -> repository.saveAll(List.of(nueva, segunda)));
+        assertFalse(repository.existsById(nueva.id()));
+
+        Solicitud leida = repository.findById(guardada.id()).orElseThrow();
+        assertEquals(TipoSolicitud.HOMOLOGACION, leida.tipoSolicitud());
+        assertEquals(2, leida.cantidadHistorial());
+    }
+
+    @Test
+    void filtraPaginaYCuentaIgualQueElRepositorioEnMemoria() {
+        ColumnarSolicitudRepository columnar = new ColumnarSolicitudRepository();
+        InMemorySolicitudRepository memoria = new InMemorySolicitudRepository();
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+        List<UsuarioReferencia> solicitantes = List.of(
+                new UsuarioReferencia(UUID.randomUUID(), "Ana"),
+                new UsuarioReferencia(UUID.randomUUID(), "Luis"),
+                new UsuarioReferencia(UUID.randomUUID(), "Marta"));
+        Random random = new Random(7);
+
+        List<Solicitud> eliminadas = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // Ids aleatorios para ejercitar la inserción fuera de orden
+            UsuarioReferencia solicitante = solicitantes.get(random.nextInt(solicitantes.size()));
+            Instant registro = Instant.now();
+            Solicitud solicitud = Solicitud.reconstituir(new SolicitudId(UUID.randomUUID()), solicitante,
+                    CanalOrigen.values()[i % 3], registro, new DescripcionSolicitud("Solicitud de prueba número " + i),
+                    null, null, null, EstadoSolicitud.REGISTRADA, null,
+                    List.of(new EntradaHistorial(UUID.randomUUID(), registro, "REGISTRAR_SOLICITUD", solicitante, null)), 0);
+            Solicitud guardada = columnar.save(solicitud);
+            memoria.save(solicitud);
+            int pasos = random.nextInt(4);
+            if (pasos > 0) guardada.clasificar(TipoSolicitud.values()[i % TipoSolicitud.values().length], coordinador);
+            if (pasos > 1) guardada.asignarResponsable(docente, coordinador);
+            if (pasos > 2) guardada.marcarAtendida(guardada.responsable(), "Atendida");
+            memoria.save(guardada);
+            guardada = columnar.save(guardada);
+            if (i % 10 == 0) eliminadas.add(guardada);
+        }
+        for (Solicitud eliminada : eliminadas) {
+            columnar.delete(eliminada);
+            memoria.delete(eliminada);
+        }
+
+        List<FiltroSolicitudes> filtros = List.of(
+                FiltroSolicitudes.todas(),
+                FiltroSolicitudes.porSolicitante(solicitantes.get(1).value()),
+                new FiltroSolicitudes(EstadoSolicitud.EN_ATENCION, null, null, CanalOrigen.CSU, null),
+                new FiltroSolicitudes(null, TipoSolicitud.HOMOLOGACION, null, null, solicitantes.get(0).value()));
+        for (FiltroSolicitudes filtro : filtros) {
+            List<UUID> esperados;
+            try (Stream<Solicitud> todas = memoria.stream(filtro)) {
+                esperados = todas.map(s -> s.id().value()).toList();
+            }
+            assertEquals(esperados, paginar(columnar, filtro, 37), filtro.toString());
+            try (Stream<Solicitud> todas = columnar.stream(filtro)) {
+                assertEquals(esperados, todas.map(s -> s.id().value()).toList());
+            }
+            assertEquals(esperados.size(), columnar.contar(filtro));
+            long porEstado = columnar.contarPorEstado(filtro).values().stream().mapToLong(Long::longValue).sum();
+            assertEquals(esperados.size(), porEstado);
+        }
+
+        assertFalse(columnar.existsById(eliminadas.getFirst().id()));
+        assertEquals(ids(memoria.findByResponsableId(docente.id().value())),
+                ids(columnar.findByResponsableId(docente.id().value())));
+        Map<EstadoSolicitud, Long> conteos = columnar.contarPorEstado(FiltroSolicitudes.todas());
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            assertEquals(memoria.findByEstado(estado).size(), (long) conteos.getOrDefault(estado, 0L), estado.name());
+        }
+        for (Solicitud enMemoria : memoria.findAll()) {
+            assertIguales(enMemoria, columnar.findById(enMemoria.id()).orElseThrow());
+        }
+    }
+
+    private static List<UUID> paginar(ColumnarSolicitudRepository repository, FiltroSolicitudes filtro, int limite) {
+        List<UUID> ids = new ArrayList<>();
+        SolicitudId cursor = null;
+        List<Solicitud> pagina;
+        do {
+            pagina = repository.findPage(filtro, cursor, limite);
+            pagina.forEach(s -> ids.add(s.id().value()));
+            if (!pagina.isEmpty()) cursor = pagina.getLast().id();
+        } while (pagina.size() == limite);
+        return ids;
+    }
+
+    private static List<UUID> ids(List<Solicitud> solicitudes) {
+        return solicitudes.stream().map(s -> s.id().value()).sorted().toList();
+    }
+
+    private static void assertIguales(Solicitud esperada, Solicitud actual) {
+        assertEquals(esperada.id(), actual.id());
+        assertEquals(esperada.solicitante(), actual.solicitante());
+        assertEquals(esperada.canalOrigen(), actual.canalOrigen());
+        assertEquals(esperada.fechaRegistro(), actual.fechaRegistro());
+        assertEquals(esperada.descripcion(), actual.descripcion());
+        assertEquals(esperada.tipoSolicitud(), actual.tipoSolicitud());
+        assertEquals(esperada.prioridad(), actual.prioridad());
+        assertEquals(esperada.justificacionPrioridad(), actual.justificacionPrioridad());
+        assertEquals(esperada.estado(), actual.estado());
+        assertEquals(esperada.responsable(), actual.responsable());
+        assertEquals(esperada.version(), actual.version());
+        assertEquals(esperada.cantidadHistorial(), actual.cantidadHistorial());
+        for (int i = 0; i < esperada.cantidadHistorial(); i++) {
+            EntradaHistorial a = esperada.historial().get(i);
+            EntradaHistorial b = actual.historial().get(i);
+            assertEquals(a.id(), b.id());
+            assertEquals(a.fechaHora(), b.fechaHora());
+            assertEquals(a.accion(), b.accion());
+            assertEquals(a.usuarioResponsable(), b.usuarioResponsable());
+            assertEquals(a.observacion(), b.observacion());
+        }
+    }
+
+    private static Solicitud nuevaSolicitud(UsuarioReferencia solicitante) {
+        return Solicitud.crear(solicitante, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud de prueba para el repositorio"));
+    }
+}
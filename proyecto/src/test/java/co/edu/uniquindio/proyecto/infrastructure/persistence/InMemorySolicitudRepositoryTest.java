@@ -0,0 +1,209 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySolicitudRepositoryTest {
+
+    private static final int HILOS = 8;
+    private static final int SOLICITUDES_POR_HILO = 500;
+
+    private final UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+
+    @Test
+    void actualizaLosIndicesEnCadaTransicion() {
+        InMemorySolicitudRepository repository = new InMemorySolicitudRepository();
+        UsuarioReferencia solicitante = new UsuarioReferencia(UUID.randomUUID(), "Ana");
+        Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+
+        Solicitud solicitud = repository.save(nuevaSolicitud(solicitante));
+        Set<UUID> esperado = Set.of(solicitud.id().value());
+        assertEquals(esperado, ids(repository.findByEstado(EstadoSolicitud.REGISTRADA)));
+        assertEquals(esperado, ids(repository.findBySolicitanteId(solicitante.value())));
+
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        solicitud.asignarResponsable(docente, coordinador);
+        solicitud = repository.save(solicitud);
+
+        assertTrue(repository.findByEstado(EstadoSolicitud.REGISTRADA).isEmpty());
+        assertEquals(esperado, ids(repository.findByEstado(EstadoSolicitud.EN_ATENCION)));
+        assertEquals(esperado, ids(repository.findByResponsableId(docente.id().value())));
+
+        repository.delete(solicitud);
+        assertFalse(repository.existsById(solicitud.id()));
+        assertTrue(repository.findByEstado(EstadoSolicitud.EN_ATENCION).isEmpty());
+        assertTrue(repository.findBySolicitanteId(solicitante.value()).isEmpty());
+        assertTrue(repository.findByResponsableId(docente.id().value()).isEmpty());
+    }
+
+    @Test
+    void rechazaGuardarUnaVersionDesactualizada() {
+        InMemorySolicitudRepository repository = new InMemorySolicitudRepository();
+        Solicitud guardada = repository.save(nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Ana")));
+        assertEquals(1, guardada.version());
+
+        Solicitud primera = repository.findById(guardada.id()).orElseThrow();
+        Solicitud segunda = repository.findById(guardada.id()).orElseThrow();
+        primera.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        segunda.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+
+        assertEquals(2, repository.save(primera).version());
+        assertThrows(ConcurrencyConflict.class, () -> repository.save(segunda));
+        assertEquals(TipoSolicitud.HOMOLOGACION, repository.findById(guardada.id()).orElseThrow().tipoSolicitud());
+
+        // Un lote con una versión desactualizada no guarda ninguna de sus solicitudes
+        Solicitud nueva = nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Luis"));
+        assertThrows(ConcurrencyConflict.class, () -> repository.saveAll(List.of(nueva, segunda)));
+        assertFalse(repository.existsById(nueva.id()));
+        assertTrue(repository.findBySolicitanteId(nueva.solicitante().value()).isEmpty());
+        assertEquals(2, repository.findById(guardada.id()).orElseThrow().version());
+    }
+
+    @Test
+    void paginaPorCursorSinRepetirNiOmitirSolicitudes() {
+        InMemorySolicitudRepository repository = new InMemorySolicitudRepository();
+        Set<UUID> clasificadas = new HashSet<>();
+        for (int i = 0; i < 120; i++) {
+            Solicitud solicitud = repository.save(nuevaSolicitud(new UsuarioReferencia(UUID.randomUUID(), "Ana")));
+            if (i % 3 == 0) {
+                solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+                clasificadas.add(repository.save(solicitud).id().value());
+            }
+        }
+
+        FiltroSolicitudes filtro = new FiltroSolicitudes(EstadoSolicitud.CLASIFICADA, TipoSolicitud.HOMOLOGACION, null, null, null);
+        List<UUID> recorridas = new ArrayList<>();
+        SolicitudId cursor = null;
+        List<Solicitud> pagina;
+        do {
+            pagina = repository.findPage(filtro, cursor, 7);
+            for (Solicitud solicitud : pagina) {
+                recorridas.add(solicitud.id().value());
+                cursor = solicitud.id();
+            }
+        } while (!pagina.isEmpty());
+
+        assertEquals(clasificadas.size(), recorridas.size());
+        assertEquals(clasificadas, new HashSet<>(recorridas));
+        assertEquals(recorridas, recorridas.stream().sorted().toList(), "Las páginas deben seguir el orden del id");
+        assertEquals(clasificadas.size(), repository.stream(filtro).count());
+    }
+
+    @Test
+    void losIndicesQuedanConsistentesConEscritoresConcurrentes() throws Exception {
+        InMemorySolicitudRepository repository = new InMemorySolicitudRepository();
+        List<UsuarioReferencia> solicitantes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            solicitantes.add(new UsuarioReferencia(UUID.randomUUID(), "Solicitante " + i));
+        }
+        List<Usuario> docentes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            docentes.add(Usuario.crear("Docente " + i, Rol.DOCENTE));
+        }
+
+        AtomicInteger eliminadas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Future<?>> tareas = new ArrayList<>();
+        try {
+            for (int h = 0; h < HILOS; h++) {
+                tareas.add(executor.submit(() -> {
+                    inicio.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < SOLICITUDES_POR_HILO; i++) {
+                        Solicitud solicitud = repository.save(
+                                nuevaSolicitud(solicitantes.get(random.nextInt(solicitantes.size()))));
+                        if (avanzar(solicitud, repository, docentes.get(random.nextInt(docentes.size())), random.nextInt(6))) {
+                            eliminadas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            inicio.countDown();
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Solicitud> todas = repository.findAll();
+        assertEquals(HILOS * SOLICITUDES_POR_HILO - eliminadas.get(), todas.size());
+
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            assertEquals(ids(todas.stream().filter(s -> s.estado() == estado).toList()),
+                    ids(repository.findByEstado(estado)), "Índice de estado " + estado);
+        }
+        for (UsuarioReferencia solicitante : solicitantes) {
+            assertEquals(ids(todas.stream().filter(s -> s.solicitante().equals(solicitante)).toList()),
+                    ids(repository.findBySolicitanteId(solicitante.value())), "Índice de solicitante");
+        }
+        for (Usuario docente : docentes) {
+            UUID docenteId = docente.id().value();
+            assertEquals(ids(todas.stream()
+                            .filter(s -> s.responsable() != null && s.responsable().value().equals(docenteId))
+                            .toList()),
+                    ids(repository.findByResponsableId(docenteId)), "Índice de responsable");
+        }
+    }
+
+    /**
+     * Avanza la solicitud hasta el paso indicado guardando después de cada transición.
+     * El paso 5 elimina la solicitud para ejercitar también el borrado de los índices.
+     * @return true si la solicitud quedó eliminada
+     */
+    private boolean avanzar(Solicitud solicitud, InMemorySolicitudRepository repository, Usuario docente, int pasos) {
+        if (pasos < 1) return false;
+        solicitud.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+        solicitud = repository.save(solicitud);
+        if (pasos < 2) return false;
+        solicitud.priorizar(Prioridad.MEDIA, new JustificacionPrioridad("Prioridad de prueba"), coordinador);
+        solicitud = repository.save(solicitud);
+        if (pasos < 3) return false;
+        solicitud.asignarResponsable(docente, coordinador);
+        solicitud = repository.save(solicitud);
+        if (pasos < 4) return false;
+        UsuarioReferencia responsable = solicitud.responsable();
+        solicitud.marcarAtendida(responsable, "Atendida en prueba");
+        solicitud = repository.save(solicitud);
+        if (pasos < 5) return false;
+        repository.delete(solicitud);
+        return true;
+    }
+
+    private static Set<UUID> ids(List<Solicitud> solicitudes) {
+        return solicitudes.stream().map(s -> s.id().value()).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static Solicitud nuevaSolicitud(UsuarioReferencia solicitante) {
+        return Solicitud.crear(solicitante, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud de prueba para el repositorio"));
+    }
+}
@@ -0,0 +1,106 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import co.edu.uniquindio.proyecto.infrastructure.persistence.diario.ArchivoSolicitudes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolicitudRepositoryArchivadoTest {
+
+    @TempDir
+    Path directorio;
+
+    private final UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinador");
+    private final Usuario docente = Usuario.crear("Docente", Rol.DOCENTE);
+
+    @Test
+    void sacaLasCerradasDelConjuntoActivoPeroLasSigueEncontrandoPorId() throws Exception {
+        InMemorySolicitudRepository activas = new InMemorySolicitudRepository();
+        List<Solicitud> cerradas = new ArrayList<>();
+        List<Solicitud> abiertas = new ArrayList<>();
+        try (ArchivoSolicitudes archivo = ArchivoSolicitudes.abrir(directorio, 8)) {
+            SolicitudRepositoryArchivado repository = new SolicitudRepositoryArchivado(activas, archivo);
+            for (int i = 0; i < 100; i++) {
+                Solicitud solicitud = repository.save(nuevaSolicitud(i));
+                if (i % 3 == 0) abiertas.add(solicitud);
+                else cerradas.add(cerrar(repository, solicitud));
+            }
+
+            // Ninguna se cerró antes del instante de corte: no se archiva nada
+            assertEquals(0, repository.archivarCerradas(Instant.EPOCH));
+            assertEquals(cerradas.size(), repository.archivarCerradas(Instant.now().plusSeconds(1)));
+
+            assertEquals(abiertas.size(), repository.findAll().size());
+            assertTrue(repository.findByEstado(EstadoSolicitud.CERRADA).isEmpty());
+            assertEquals(cerradas.size(), archivo.cantidad());
+            assertEquals(1, archivo.cantidadSegmentos());
+            for (Solicitud cerrada : cerradas) {
+                Solicitud archivada = repository.findById(cerrada.id()).orElseThrow();
+                assertEquals(EstadoSolicitud.CERRADA, archivada.estado());
+                assertEquals(cerrada.version(), archivada.version());
+                assertEquals(cerrada.cantidadHistorial(), archivada.cantidadHistorial());
+                assertEquals(cerrada.descripcion(), archivada.descripcion());
+                assertTrue(repository.existsById(cerrada.id()));
+            }
+            assertTrue(repository.findById(new SolicitudId(UUID.randomUUID())).isEmpty());
+        }
+
+        // Al reabrir, el índice disperso se carga desde los segmentos
+        try (ArchivoSolicitudes archivo = ArchivoSolicitudes.abrir(directorio, 8)) {
+            assertEquals(cerradas.size(), archivo.cantidad());
+            for (Solicitud cerrada : cerradas) {
+                assertTrue(archivo.contiene(cerrada.id()));
+            }
+            Set<SolicitudId> recorridas = new HashSet<>();
+            archivo.recorrer(solicitud -> recorridas.add(solicitud.id()));
+            assertEquals(cerradas.size(), recorridas.size());
+        }
+    }
+
+    @Test
+    void unaCerradaQueQuedoEnAmbosLadosSoloSeEliminaDelConjuntoActivo() throws Exception {
+        InMemorySolicitudRepository activas = new InMemorySolicitudRepository();
+        try (ArchivoSolicitudes archivo = ArchivoSolicitudes.abrir(directorio, 4)) {
+            SolicitudRepositoryArchivado repository = new SolicitudRepositoryArchivado(activas, archivo);
+            Solicitud cerrada = cerrar(repository, repository.save(nuevaSolicitud(0)));
+            // Como si se hubiera caído después de escribir el segmento y antes de eliminarla
+            archivo.archivar(List.of(cerrada));
+
+            assertEquals(1, repository.archivarCerradas(Instant.now().plusSeconds(1)));
+            assertFalse(activas.existsById(cerrada.id()));
+            assertEquals(1, archivo.cantidad());
+            assertTrue(repository.findById(cerrada.id()).isPresent());
+        }
+    }
+
+    private Solicitud cerrar(SolicitudRepository repository, Solicitud solicitud) {
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        solicitud.asignarResponsable(docente, coordinador);
+        solicitud.marcarAtendida(solicitud.responsable(), "Atendida en prueba");
+        solicitud.cerrar(solicitud.responsable(), "Cerrada en prueba");
+        return repository.save(solicitud);
+    }
+
+    private static Solicitud nuevaSolicitud(int numero) {
+        return Solicitud.crear(new UsuarioReferencia(UUID.randomUUID(), "Estudiante " + numero), CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud de prueba número " + numero + " para el archivo"));
+    }
+}
@@ -0,0 +1,108 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsuarioRepositoryCacheadoTest {
+
+    /** Repositorio que cuenta las búsquedas por id y devuelve copias, como uno respaldado en disco */
+    private static final class RepositorioContado extends InMemoryUsuarioRepository {
+        private int busquedas;
+        private Runnable antesDeResponder = () -> { };
+
+        @Override
+        public Optional<Usuario> findById(IdentificacionUsuario id) {
+            busquedas++;
+            Optional<Usuario> copia = super.findById(id)
+                    .map(usuario -> usuario.copiaConVersion(usuario.version()));
+            antesDeResponder.run();
+            return copia;
+        }
+    }
+
+    private final RepositorioContado delegado = new RepositorioContado();
+    private final UsuarioRepositoryCacheado repositorio = new UsuarioRepositoryCacheado(delegado, 1_000);
+
+    @Test
+    void lasBusquedasRepetidasNoLleganAlRepositorio() {
+        Usuario docente = repositorio.save(Usuario.crear("Docente", Rol.DOCENTE));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(docente.id(), repositorio.findById(docente.id()).orElseThrow().id());
+        }
+        assertTrue(repositorio.findAllById(List.of(docente.id())).containsKey(docente.id()));
+        assertEquals(1, delegado.busquedas);
+
+        EstadisticasCache estadisticas = repositorio.estadisticas();
+        assertEquals(10, estadisticas.aciertos());
+        assertEquals(1, estadisticas.fallos());
+        assertEquals(1, estadisticas.tamano());
+    }
+
+    @Test
+    void existsByIdNoCuentaComoAcierto() {
+        Usuario docente = repositorio.save(Usuario.crear("Docente", Rol.DOCENTE));
+        repositorio.findById(docente.id());
+
+        assertTrue(repositorio.existsById(docente.id()));
+        assertEquals(0, repositorio.estadisticas().aciertos());
+        assertEquals(1, repositorio.estadisticas().fallos());
+    }
+
+    @Test
+    void guardarInvalidaYLaSiguienteBusquedaVeElCambio() {
+        Usuario docente = repositorio.save(Usuario.crear("Docente", Rol.DOCENTE));
+        assertTrue(repositorio.findById(docente.id()).orElseThrow().activo());
+
+        Usuario inactivo = docente.desactivado();
+        inactivo = repositorio.save(inactivo);
+        assertFalse(repositorio.findById(docente.id()).orElseThrow().activo());
+
+        repositorio.delete(inactivo);
+        assertTrue(repositorio.findById(docente.id()).isEmpty());
+    }
+
+    @Test
+    void unaCargaQueSeCruzaConUnaInvalidacionNoQuedaEnCache() {
+        Usuario docente = repositorio.save(Usuario.crear("Docente", Rol.DOCENTE));
+        Usuario inactivo = docente.desactivado();
+        // El usuario se desactiva mientras la búsqueda ya leyó la versión activa
+        delegado.antesDeResponder = () -> {
+            delegado.antesDeResponder = () -> { };
+            repositorio.save(inactivo);
+        };
+
+        assertTrue(repositorio.findById(docente.id()).orElseThrow().activo());
+        assertFalse(repositorio.findById(docente.id()).orElseThrow().activo());
+    }
+
+    @Test
+    void unRecorridoDeUsuariosNuevosNoDesplazaALosFrecuentes() {
+        UsuarioRepositoryCacheado pequeno = new UsuarioRepositoryCacheado(delegado, 160);
+        List<Usuario> frecuentes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            frecuentes.add(delegado.save(Usuario.crear("Frecuente " + i, Rol.COORDINADOR)));
+        }
+        // Los frecuentes se piden en cada vuelta; entre vuelta y vuelta pasan 500 usuarios que no se repiten
+        for (int vuelta = 0; vuelta < 10; vuelta++) {
+            frecuentes.forEach(usuario -> pequeno.findById(usuario.id()));
+            for (int i = 0; i < 500; i++) {
+                pequeno.findById(delegado.save(Usuario.crear("Estudiante " + i, Rol.ESTUDIANTE)).id());
+            }
+        }
+
+        int antes = delegado.busquedas;
+        frecuentes.forEach(usuario -> pequeno.findById(usuario.id()));
+        assertTrue(delegado.busquedas - antes < 20, "se perdieron " + (delegado.busquedas - antes) + " frecuentes");
+        assertTrue(pequeno.estadisticas().tamano() <= 160 + 16);
+        assertTrue(pequeno.estadisticas().desalojos() > 0);
+    }
+}
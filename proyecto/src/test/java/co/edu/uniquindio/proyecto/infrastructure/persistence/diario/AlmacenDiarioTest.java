@@ -0,0 +1,240 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import co.edu.uniquindio.proyecto.domain.exception.ConcurrencyConflict;
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.IdentificacionUsuario;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Rol;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.EntradaHistorial;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlmacenDiarioTest {
+
+    /** Eventos que escribe {@link #poblar}. */
+    private static final int EVENTOS_POBLAR = 11;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void reconstruyeSolicitudesYUsuariosTrasUnaCaida() throws IOException {
+        // Sin close: ni instantánea ni cierre ordenado, como tras una caída del proceso
+        Poblado poblado = poblar(abrir());
+
+        try (AlmacenDiario almacen = abrir()) {
+            assertEquals(EVENTOS_POBLAR, almacen.eventosReproducidos());
+            verificar(almacen, poblado);
+        }
+    }
+
+    @Test
+    void alCerrarTomaUnaInstantaneaYNoReproduceElDiario() throws IOException {
+        Poblado poblado;
+        try (AlmacenDiario almacen = abrir()) {
+            poblado = poblar(almacen);
+        }
+
+        try (AlmacenDiario almacen = abrir()) {
+            assertEquals(0, almacen.eventosReproducidos());
+            verificar(almacen, poblado);
+        }
+    }
+
+    @Test
+    void soloReproduceLosEventosPosterioresALaInstantanea() throws IOException {
+        AlmacenDiario almacen = abrir();
+        Poblado poblado = poblar(almacen);
+        almacen.tomarInstantanea();
+
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        Solicitud posterior = almacen.solicitudes().save(Solicitud.crear(coordinador, CanalOrigen.PRESENCIAL,
+                new DescripcionSolicitud("Solicitud registrada después de la instantánea")));
+        posterior.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, coordinador);
+        posterior = almacen.solicitudes().save(posterior);
+
+        try (AlmacenDiario reabierto = abrir()) {
+            assertEquals(2, reabierto.eventosReproducidos());
+            verificar(reabierto, poblado);
+            Solicitud recuperada = reabierto.solicitudes().findById(posterior.id()).orElseThrow();
+            assertEquals(EstadoSolicitud.CLASIFICADA, recuperada.estado());
+            assertEquals(posterior.version(), recuperada.version());
+        }
+    }
+
+    @Test
+    void ignoraUnaInstantaneaCorruptaYReproduceElDiario() throws IOException {
+        Poblado poblado;
+        try (AlmacenDiario almacen = abrir()) {
+            poblado = poblar(almacen);
+        }
+        Path instantanea;
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            instantanea = archivos.filter(ruta -> ruta.getFileName().toString().startsWith("instantanea-"))
+                    .findFirst().orElseThrow();
+        }
+        try (FileChannel canal = FileChannel.open(instantanea, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{0x7F}), 40);
+        }
+
+        try (AlmacenDiario almacen = abrir()) {
+            assertEquals(EVENTOS_POBLAR, almacen.eventosReproducidos());
+            verificar(almacen, poblado);
+        }
+    }
+
+    @Test
+    void unaVersionDesactualizadaNoLlegaAlDiario() throws IOException {
+        AlmacenDiario almacen = abrir();
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        Solicitud guardada = almacen.solicitudes().save(Solicitud.crear(coordinador, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud con escrituras en conflicto")));
+        Solicitud primera = almacen.solicitudes().findById(guardada.id()).orElseThrow();
+        Solicitud segunda = almacen.solicitudes().findById(guardada.id()).orElseThrow();
+        primera.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        segunda.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+
+        almacen.solicitudes().save(primera);
+        assertThrows(ConcurrencyConflict.class, () -> almacen.solicitudes().save(segunda));
+
+        try (AlmacenDiario reabierto = abrir()) {
+            assertEquals(2, reabierto.eventosReproducidos());
+            assertEquals(TipoSolicitud.HOMOLOGACION, reabierto.solicitudes().findAll().get(0).tipoSolicitud());
+        }
+    }
+
+    @Test
+    void unUsuarioQueNoLlegaAlDiarioQuedaSinCambiosEnMemoria() throws IOException {
+        AlmacenDiario almacen = abrir();
+        Usuario docente = almacen.usuarios().save(Usuario.crear("Docente", Rol.DOCENTE));
+        // Con el diario cerrado toda escritura falla al anexar el evento
+        almacen.close();
+
+        assertThrows(UncheckedIOException.class, () -> almacen.usuarios().save(docente.desactivado()));
+        assertThrows(UncheckedIOException.class, () -> almacen.usuarios().saveAll(
+                List.of(docente.conSolicitudRegistrada(SolicitudId.newId()))));
+
+        Usuario leido = almacen.usuarios().findById(docente.id()).orElseThrow();
+        assertSame(docente, leido);
+        assertTrue(leido.activo());
+        assertEquals(0, leido.cantidadSolicitudesRegistradas());
+        assertEquals(1, leido.version());
+        try (AlmacenDiario reabierto = abrir()) {
+            assertTrue(reabierto.usuarios().findById(docente.id()).orElseThrow().activo());
+        }
+    }
+
+    @Test
+    void unLoteConUnaVersionDesactualizadaNoEscribeNinguno() throws IOException {
+        AlmacenDiario almacen = abrir();
+        UsuarioReferencia coordinador = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+        Solicitud existente = almacen.solicitudes().save(Solicitud.crear(coordinador, CanalOrigen.CSU,
+                new DescripcionSolicitud("Solicitud que otra operación modifica")));
+        Solicitud desactualizada = almacen.solicitudes().findById(existente.id()).orElseThrow();
+        Solicitud vigente = almacen.solicitudes().findById(existente.id()).orElseThrow();
+        vigente.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        almacen.solicitudes().save(vigente);
+        desactualizada.clasificar(TipoSolicitud.SOLICITUD_CUPOS, coordinador);
+
+        Solicitud nueva = Solicitud.crear(coordinador, CanalOrigen.SAC, new DescripcionSolicitud("Solicitud nueva del lote"));
+        assertThrows(ConcurrencyConflict.class, () -> almacen.solicitudes().saveAll(List.of(nueva, desactualizada)));
+        assertTrue(almacen.solicitudes().findById(nueva.id()).isEmpty());
+
+        List<Solicitud> guardadas = almacen.solicitudes().saveAll(List.of(nueva,
+                Solicitud.crear(coordinador, CanalOrigen.SAC, new DescripcionSolicitud("Otra solicitud del lote"))));
+        assertEquals(List.of(1L, 1L), guardadas.stream().map(Solicitud::version).toList());
+
+        try (AlmacenDiario reabierto = abrir()) {
+            assertEquals(4, reabierto.eventosReproducidos());
+            assertEquals(3, reabierto.solicitudes().findAll().size());
+        }
+    }
+
+    /** Instantáneas automáticas con un intervalo que no se cumple durante la prueba: solo se toman al cerrar. */
+    private AlmacenDiario abrir() throws IOException {
+        return AlmacenDiario.abrir(directorio, 64 * 1024, PoliticaSincronizacion.NUNCA,
+                Duration.ofMillis(100), Duration.ofHours(1));
+    }
+
+    /**
+     * Registra usuarios y solicitudes recorriendo las transiciones; escribe {@value #EVENTOS_POBLAR} eventos.
+     */
+    private static Poblado poblar(AlmacenDiario almacen) {
+        Usuario estudiante = almacen.usuarios().save(Usuario.crear("Estudiante", Rol.ESTUDIANTE));
+        Usuario docente = almacen.usuarios().save(Usuario.crear("Docente", Rol.DOCENTE));
+        Usuario retirado = almacen.usuarios().save(Usuario.crear("Retirado", Rol.DOCENTE));
+        almacen.usuarios().delete(retirado);
+        UsuarioReferencia coordinador = new UsuarioReferencia(docente.id().value(), "Coordinadora");
+
+        Solicitud solicitud = almacen.solicitudes().save(Solicitud.crear(
+                new UsuarioReferencia(estudiante.id().value(), estudiante.nombre()), CanalOrigen.CORREO,
+                new DescripcionSolicitud("Solicitud de homologación de asignaturas")));
+        almacen.usuarios().save(estudiante.conSolicitudRegistrada(solicitud.id()));
+
+        solicitud.clasificar(TipoSolicitud.HOMOLOGACION, coordinador);
+        solicitud = almacen.solicitudes().save(solicitud);
+        solicitud.priorizar(Prioridad.ALTA, new JustificacionPrioridad("Cierre de semestre cercano"), coordinador);
+        solicitud = almacen.solicitudes().save(solicitud);
+        solicitud.asignarResponsable(docente, coordinador);
+        solicitud = almacen.solicitudes().save(solicitud);
+
+        Solicitud eliminada = almacen.solicitudes().save(Solicitud.crear(coordinador, CanalOrigen.SAC,
+                new DescripcionSolicitud("Solicitud que se eliminará")));
+        almacen.solicitudes().delete(eliminada);
+        return new Poblado(solicitud, docente, retirado);
+    }
+
+    private static void verificar(AlmacenDiario almacen, Poblado poblado) {
+        Solicitud original = poblado.solicitud();
+        Solicitud recuperada = almacen.solicitudes().findById(original.id()).orElseThrow();
+        assertEquals(original.version(), recuperada.version());
+        assertEquals(EstadoSolicitud.EN_ATENCION, recuperada.estado());
+        assertEquals(TipoSolicitud.HOMOLOGACION, recuperada.tipoSolicitud());
+        assertEquals(Prioridad.ALTA, recuperada.prioridad());
+        assertEquals(original.justificacionPrioridad(), recuperada.justificacionPrioridad());
+        assertEquals(original.responsable(), recuperada.responsable());
+        assertEquals(original.fechaRegistro(), recuperada.fechaRegistro());
+        assertEquals(acciones(original.historial()), acciones(recuperada.historial()));
+        assertEquals(original.historial().get(3).id(), recuperada.historial().get(3).id());
+        assertEquals(List.of(recuperada.id().value()),
+                almacen.solicitudes().findByResponsableId(poblado.docente().id().value()).stream()
+                        .map(s -> s.id().value()).toList());
+
+        assertFalse(almacen.usuarios().existsById(poblado.retirado().id()));
+        Usuario estudiante = almacen.usuarios()
+                .findById(new IdentificacionUsuario(original.solicitante().value())).orElseThrow();
+        assertEquals(1, estudiante.cantidadSolicitudesRegistradas());
+        // Creado y con una solicitud registrada: la versión sobrevive al diario y a la instantánea
+        assertEquals(2, estudiante.version());
+        assertTrue(almacen.usuarios().existsById(poblado.docente().id()));
+    }
+
+    private static List<String> acciones(List<EntradaHistorial> historial) {
+        return historial.stream().map(EntradaHistorial::accion).toList();
+    }
+
+    private record Poblado(Solicitud solicitud, Usuario docente, Usuario retirado) {
+    }
+}
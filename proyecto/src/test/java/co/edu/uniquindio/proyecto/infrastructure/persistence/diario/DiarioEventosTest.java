@@ -0,0 +1,182 @@
+package co.edu.uniquindio.proyecto.infrastructure.persistence.diario;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiarioEventosTest {
+
+    private static final int TAMANO_SEGMENTO = 4096;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void reproduceLosRegistrosEnOrdenAlReabrir() throws IOException {
+        try (DiarioEventos diario = abrir()) {
+            diario.agregar(texto("uno"));
+            diario.agregar(List.of(texto("dos"), texto("tres")));
+        }
+
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(List.of("uno", "dos", "tres"), leer(diario, PosicionDiario.INICIO));
+        }
+    }
+
+    @Test
+    void rotaDeSegmentoSinPartirRegistros() throws IOException {
+        List<String> esperados = new ArrayList<>();
+        try (DiarioEventos diario = abrir()) {
+            for (int i = 0; i < 200; i++) {
+                String valor = "registro-" + i + "-" + "x".repeat(i % 50);
+                esperados.add(valor);
+                diario.agregar(texto(valor));
+            }
+            assertTrue(diario.posicionActual().segmento() > 0, "Debe haber usado más de un segmento");
+        }
+
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(esperados, leer(diario, PosicionDiario.INICIO));
+        }
+    }
+
+    @Test
+    void recorreDesdeUnaPosicionIntermedia() throws IOException {
+        try (DiarioEventos diario = abrir()) {
+            diario.agregar(texto("antes"));
+            PosicionDiario posicion = diario.agregar(texto("marca"));
+            diario.agregar(texto("despues"));
+
+            assertEquals(List.of("despues"), leer(diario, posicion));
+        }
+    }
+
+    @Test
+    void descartaUnRegistroTruncadoPorUnaCaida() throws IOException {
+        PosicionDiario finValido;
+        try (DiarioEventos diario = abrir()) {
+            diario.agregar(texto("completo"));
+            finValido = diario.agregar(texto("tambien completo"));
+        }
+        // Simula una caída a mitad de escritura: cabecera de un registro cuya carga no llegó a disco
+        escribirEn(finValido, ByteBuffer.allocate(12).putInt(200).putInt(0x1234).putInt(0x7777).flip());
+
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(List.of("completo", "tambien completo"), leer(diario, PosicionDiario.INICIO));
+            assertEquals(finValido, diario.posicionActual());
+
+            diario.agregar(texto("tras la recuperacion"));
+        }
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(List.of("completo", "tambien completo", "tras la recuperacion"),
+                    leer(diario, PosicionDiario.INICIO));
+        }
+    }
+
+    @Test
+    void descartaUnRegistroConCrcInvalido() throws IOException {
+        PosicionDiario finPrimero;
+        try (DiarioEventos diario = abrir()) {
+            finPrimero = diario.agregar(texto("intacto"));
+            diario.agregar(texto("corrompido"));
+        }
+        // Altera un byte de la carga del segundo registro
+        escribirEn(new PosicionDiario(finPrimero.segmento(), finPrimero.desplazamiento() + DiarioEventos.CABECERA_REGISTRO),
+                ByteBuffer.wrap(new byte[]{'C'}));
+
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(List.of("intacto"), leer(diario, PosicionDiario.INICIO));
+            assertEquals(finPrimero, diario.posicionActual());
+        }
+    }
+
+    @Test
+    void descartaSegmentosAnterioresSinTocarElActual() throws IOException {
+        try (DiarioEventos diario = abrir()) {
+            for (int i = 0; i < 200; i++) {
+                diario.agregar(texto("registro-" + i + "-" + "x".repeat(40)));
+            }
+            PosicionDiario actual = diario.posicionActual();
+
+            assertEquals(actual.segmento(), diario.descartarAnteriores(Long.MAX_VALUE));
+            List<String> restantes = leer(diario, PosicionDiario.INICIO);
+            assertFalse(restantes.isEmpty());
+            assertEquals("registro-199-" + "x".repeat(40), restantes.get(restantes.size() - 1));
+        }
+    }
+
+    @Test
+    void rechazaRegistrosMasGrandesQueUnSegmento() throws IOException {
+        try (DiarioEventos diario = abrir()) {
+            assertThrows(IllegalArgumentException.class, () -> diario.agregar(new byte[TAMANO_SEGMENTO]));
+        }
+    }
+
+    @Test
+    void unLoteQueNoCabeNoEscribeNingunRegistro() throws IOException {
+        try (DiarioEventos diario = abrir()) {
+            PosicionDiario antes = diario.agregar(texto("previo"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> diario.agregar(List.of(texto("pequeno"), new byte[TAMANO_SEGMENTO / 2], new byte[TAMANO_SEGMENTO / 2])));
+
+            assertEquals(antes, diario.posicionActual());
+            assertEquals(List.of("previo"), leer(diario, PosicionDiario.INICIO));
+        }
+    }
+
+    @Test
+    void unLoteAMediasNoSeReproduceParcialmente() throws IOException {
+        PosicionDiario finPrimero;
+        PosicionDiario finLote;
+        try (DiarioEventos diario = abrir()) {
+            finPrimero = diario.agregar(texto("antes"));
+            finLote = diario.agregar(List.of(texto("uno"), texto("dos"), texto("tres")));
+            diario.recorrer(finPrimero, (carga, siguiente) -> assertEquals(finLote, siguiente));
+        }
+        // Simula una caída antes de que el último evento del lote llegara a disco
+        escribirEn(new PosicionDiario(finLote.segmento(), finLote.desplazamiento() - 4), ByteBuffer.allocate(4));
+
+        try (DiarioEventos diario = abrir()) {
+            assertEquals(List.of("antes"), leer(diario, PosicionDiario.INICIO));
+            assertEquals(finPrimero, diario.posicionActual());
+        }
+    }
+
+    private DiarioEventos abrir() throws IOException {
+        return new DiarioEventos(directorio, TAMANO_SEGMENTO, PoliticaSincronizacion.SIEMPRE, Duration.ofMillis(100));
+    }
+
+    private void escribirEn(PosicionDiario posicion, ByteBuffer datos) throws IOException {
+        Path segmento = directorio.resolve(String.format("segmento-%020d.diario", posicion.segmento()));
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+            canal.write(datos, posicion.desplazamiento());
+        }
+        assertTrue(Files.size(segmento) >= TAMANO_SEGMENTO);
+    }
+
+    private static List<String> leer(DiarioEventos diario, PosicionDiario desde) throws IOException {
+        List<String> valores = new ArrayList<>();
+        diario.recorrer(desde, (carga, siguiente) -> {
+            byte[] bytes = new byte[carga.remaining()];
+            carga.get(bytes);
+            valores.add(new String(bytes, StandardCharsets.UTF_8));
+        });
+        return valores;
+    }
+
+    private static byte[] texto(String valor) {
+        return valor.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import co.edu.uniquindio.proyecto.domain.valueObject.DescripcionSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.JustificacionPrioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.SolicitudId;
+import co.edu.uniquindio.proyecto.domain.valueObject.UsuarioReferencia;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.CanalOrigen;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.EstadoSolicitud;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.Prioridad;
+import co.edu.uniquindio.proyecto.domain.valueObject.enums.TipoSolicitud;
+import co.edu.uniquindio.proyecto.infrastructure.entity.Solicitud;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonitorVencimientosTest {
+
+    private static final UsuarioReferencia COORDINADOR = new UsuarioReferencia(UUID.randomUUID(), "Coordinadora");
+    private static final PlazosAtencion PLAZOS = new PlazosAtencion(Duration.ofHours(1), Duration.ofHours(4),
+            Duration.ofHours(12), Duration.ofHours(2));
+
+    private final List<Vencimiento> avisados = new ArrayList<>();
+    private Instant inicio;
+    private MonitorVencimientos monitor;
+
+    @BeforeEach
+    void setUp() {
+        inicio = Instant.now();
+        monitor = new MonitorVencimientos(PLAZOS, Duration.ofSeconds(1), inicio, List.of(avisados::add));
+    }
+
+    @Test
+    void venceSegunElPlazoDeLaPrioridadContadoDesdeElCambioDeEstado() {
+        Solicitud sinPrioridad = guardar(nueva("Sin prioridad"), 1);
+        Solicitud alta = nueva("Alta");
+        alta.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, COORDINADOR);
+        alta.priorizar(Prioridad.ALTA, new JustificacionPrioridad("Urgente para el semestre"), COORDINADOR);
+        alta = guardar(alta, 1);
+
+        assertEquals(0, monitor.avanzarHasta(inicio.plus(Duration.ofMinutes(59))));
+        assertEquals(1, monitor.avanzarHasta(inicio.plus(Duration.ofMinutes(61))));
+        assertEquals(1, monitor.avanzarHasta(inicio.plus(Duration.ofMinutes(121))));
+
+        assertEquals(List.of(alta.id(), sinPrioridad.id()), ids(avisados));
+        assertEquals(List.of(alta.id(), sinPrioridad.id()), ids(monitor.vencidas(10)));
+        Vencimiento vencimiento = monitor.vencidas(1).getFirst();
+        assertEquals(EstadoSolicitud.CLASIFICADA, vencimiento.estado());
+        assertEquals(Prioridad.ALTA, vencimiento.prioridad());
+        assertEquals(0, monitor.cantidadPendientes());
+    }
+
+    @Test
+    void unaTransicionCancelaElPlazoYLosAvisosAtrasadosSeDescartan() {
+        Solicitud registrada = guardar(nueva("Registrada"), 1);
+        Solicitud clasificada = registrada.copia();
+        clasificada.clasificar(TipoSolicitud.CONSULTA_ACADEMICA, COORDINADOR);
+        guardar(clasificada, 2);
+        monitor.solicitudGuardada(registrada);
+
+        // El nuevo plazo se cuenta desde la clasificación, no desde el registro
+        assertEquals(1, monitor.cantidadPendientes());
+        monitor.avanzarHasta(inicio.plus(Duration.ofHours(3)));
+        assertEquals(1, monitor.cantidadVencidas());
+
+        Solicitud priorizada = clasificada.copiaConVersion(2);
+        priorizada.priorizar(Prioridad.BAJA, new JustificacionPrioridad("Puede esperar al cierre"), COORDINADOR);
+        guardar(priorizada, 3);
+        assertEquals(0, monitor.cantidadVencidas());
+        assertEquals(1, monitor.cantidadPendientes());
+
+        monitor.solicitudEliminada(priorizada.id());
+        monitor.solicitudGuardada(priorizada.copiaConVersion(4));
+        assertEquals(0, monitor.cantidadPendientes());
+        assertTrue(monitor.vencidas(10).isEmpty());
+    }
+
+    private Solicitud guardar(Solicitud solicitud, long version) {
+        Solicitud guardada = solicitud.copiaConVersion(version);
+        monitor.solicitudGuardada(guardada);
+        return guardada;
+    }
+
+    private static Solicitud nueva(String descripcion) {
+        return Solicitud.crear(COORDINADOR, CanalOrigen.CSU, new DescripcionSolicitud("Solicitud " + descripcion));
+    }
+
+    private static List<SolicitudId> ids(List<Vencimiento> vencimientos) {
+        return vencimientos.stream().map(Vencimiento::id).toList();
+    }
+}
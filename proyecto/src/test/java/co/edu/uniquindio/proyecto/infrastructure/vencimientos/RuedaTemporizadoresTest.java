@@ -0,0 +1,83 @@
+package co.edu.uniquindio.proyecto.infrastructure.vencimientos;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuedaTemporizadoresTest {
+
+    @Test
+    void venceCadaNodoEnSuTickEnTodosLosNiveles() {
+        SplittableRandom azar = new SplittableRandom(7);
+        RuedaTemporizadores rueda = new RuedaTemporizadores(1_000, 4);
+        Map<Integer, Long> esperados = new HashMap<>();
+        for (int nodo = 0; nodo < 5_000; nodo++) {
+            // Distancias de cada nivel y más allá del alcance de la rueda (64^4 ticks)
+            long distancia = switch (nodo % 5) {
+                case 0 -> azar.nextLong(64);
+                case 1 -> azar.nextLong(4_096);
+                case 2 -> azar.nextLong(262_144);
+                case 3 -> azar.nextLong(16_777_216);
+                default -> 16_777_216 + azar.nextLong(1_000_000);
+            };
+            rueda.programar(nodo, 1_000 + distancia);
+            esperados.put(nodo, 1_000 + distancia);
+        }
+        // Reprogramar y cancelar reemplazan el temporizador anterior
+        rueda.programar(1, 1_010);
+        esperados.put(1, 1_010L);
+        rueda.cancelar(2);
+        esperados.remove(2);
+
+        Map<Integer, Long> vencidos = new HashMap<>();
+        long tick = 999;
+        while (rueda.programados() > 0) {
+            tick += 1 + azar.nextLong(50_000);
+            long hasta = tick;
+            rueda.avanzarHasta(hasta, nodo -> {
+                assertTrue(esperados.get(nodo) <= hasta, "venció antes de tiempo");
+                assertNull(vencidos.put(nodo, hasta));
+            });
+        }
+        assertEquals(esperados.keySet(), vencidos.keySet());
+        for (Map.Entry<Integer, Long> vencido : vencidos.entrySet()) {
+            // Se detecta en el primer avance que alcanza su tick
+            assertTrue(vencido.getValue() - esperados.get(vencido.getKey()) < 50_001);
+        }
+        assertEquals(esperados.size(), rueda.vencidos());
+    }
+
+    @Test
+    void losVencidosQuedanEnOrdenHastaCancelarse() {
+        RuedaTemporizadores rueda = new RuedaTemporizadores(0, 4);
+        rueda.programar(0, 300);
+        rueda.programar(1, 5);
+        rueda.programar(2, 70);
+        rueda.programar(3, 100_000);
+
+        List<Integer> vencidosAlAvanzar = new ArrayList<>();
+        rueda.avanzarHasta(300, vencidosAlAvanzar::add);
+        assertEquals(List.of(1, 2, 0), vencidosAlAvanzar);
+        assertTrue(rueda.vencido(2));
+        assertTrue(rueda.pendiente(3));
+
+        assertTrue(rueda.cancelar(2));
+        assertFalse(rueda.cancelar(2));
+        List<Integer> vencidos = new ArrayList<>();
+        rueda.recorrerVencidos(vencidos::add);
+        assertEquals(List.of(1, 0), vencidos);
+        assertEquals(2, rueda.vencidos());
+        assertEquals(1, rueda.programados());
+
+        // Un tick ya pasado vence en el próximo avance
+        rueda.programar(2, 10);
+        rueda.avanzarHasta(301, nodo -> assertEquals(2, nodo));
+        assertTrue(rueda.vencido(2));
+    }
+}